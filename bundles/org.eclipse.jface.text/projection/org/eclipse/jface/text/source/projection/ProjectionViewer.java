@@ -232,6 +232,11 @@ public class ProjectionViewer extends SourceViewer implements ITextViewerExtensi
 
 		final static int REDRAW_COSTS= 15;
 		final static int INVALIDATION_COSTS= 10;
+		/**
+		 * Number of commands above which the projection document is rebuilt instead of being
+		 * changed command by command.
+		 */
+		final static int REINITIALIZATION_COSTS= 200;
 
 		List<ProjectionCommand> fList= new ArrayList<>(15);
 		int fExpectedExecutionCosts= -1;
@@ -264,6 +269,10 @@ public class ProjectionViewer extends SourceViewer implements ITextViewerExtensi
 			return fExpectedExecutionCosts > INVALIDATION_COSTS;
 		}
 
+		boolean passedReinitializationCostsThreshold() {
+			return fList.size() > REINITIALIZATION_COSTS;
+		}
+
 		private void computeExpectedExecutionCosts() {
 			int max_costs= Math.max(REDRAW_COSTS, INVALIDATION_COSTS);
 			fExpectedExecutionCosts= fList.size();
@@ -340,6 +349,16 @@ public class ProjectionViewer extends SourceViewer implements ITextViewerExtensi
 	private int fDeletedLines;
 
 	private final UpdateDocumentListener fUpdateDocumentListener;
+	/**
+	 * The nesting depth of {@link #runInProjectionTransaction(Runnable) projection transactions}.
+	 * @since 3.29
+	 */
+	private int fProjectionTransactionDepth;
+	/**
+	 * The projection annotation model events received during the current projection transaction.
+	 * @since 3.29
+	 */
+	private final List<AnnotationModelEvent> fTransactionEvents= new ArrayList<>();
 
 	/**
 	 * Creates a new projection source viewer.
@@ -397,6 +416,7 @@ public class ProjectionViewer extends SourceViewer implements ITextViewerExtensi
 		synchronized (fLock) {
 			fPendingRequests.clear();
 		}
+		fTransactionEvents.clear();
 
 		if (fProjectionAnnotationModel != null) {
 			wasProjectionEnabled= removeProjectionAnnotationModel(getVisualAnnotationModel()) != null;
@@ -1083,6 +1103,11 @@ public class ProjectionViewer extends SourceViewer implements ITextViewerExtensi
 	 */
 	protected final void processCatchupRequest(AnnotationModelEvent event) {
 		if (Display.getCurrent() != null) {
+			if (fProjectionTransactionDepth > 0) {
+				fTransactionEvents.add(event);
+				return;
+			}
+
 			boolean run= false;
 			synchronized (fLock) {
 				run= fPendingRequests.isEmpty();
@@ -1221,7 +1246,16 @@ public class ProjectionViewer extends SourceViewer implements ITextViewerExtensi
 			ProjectionCommandQueue commandQueue= fCommandQueue;
 			fCommandQueue= null;
 
-			if (commandQueue.passedRedrawCostsThreshold()) {
+			if (commandQueue.passedReinitializationCostsThreshold() && fConfiguredVisibleRegion == null && isVisibleMasterDocumentSameAsDocument()) {
+				// rebuild the projection document off-screen instead of changing the visible one many times
+				commandQueue.clear();
+				setRedraw(false);
+				try {
+					reinitializeProjection();
+				} finally {
+					setRedraw(true, topIndex);
+				}
+			} else if (commandQueue.passedRedrawCostsThreshold()) {
 				setRedraw(false);
 				try {
 					executeProjectionCommands(commandQueue, false);
@@ -1484,6 +1518,79 @@ public class ProjectionViewer extends SourceViewer implements ITextViewerExtensi
 		replaceVisibleDocument(projection);
 	}
 
+	/**
+	 * Runs the given runnable as one projection transaction. Changes of the projection annotation
+	 * model made by the runnable, e.g. collapsing or expanding many annotations one by one, are not
+	 * applied to the visible document immediately. When the outermost transaction ends, they are
+	 * applied together and the text widget is redrawn once. If many annotations have changed, the
+	 * projection document is rebuilt in one pass instead of being changed region by region.
+	 * <p>
+	 * This method must be called in the UI thread. Transactions may be nested.
+	 * </p>
+	 *
+	 * @param runnable the runnable changing the projection annotation model
+	 * @since 3.29
+	 */
+	public void runInProjectionTransaction(Runnable runnable) {
+		fProjectionTransactionDepth++;
+		try {
+			runnable.run();
+		} finally {
+			fProjectionTransactionDepth--;
+			if (fProjectionTransactionDepth == 0) {
+				applyProjectionTransaction();
+			}
+		}
+	}
+
+	/**
+	 * Applies the projection annotation model changes collected during a projection transaction.
+	 *
+	 * @since 3.29
+	 */
+	private void applyProjectionTransaction() {
+		if (fTransactionEvents.isEmpty()) {
+			return;
+		}
+
+		List<AnnotationModelEvent> events= new ArrayList<>(fTransactionEvents);
+		fTransactionEvents.clear();
+
+		boolean reinitialize= fConfiguredVisibleRegion == null && isVisibleMasterDocumentSameAsDocument() && !fPendingAnnotationWorldChange;
+		if (reinitialize) {
+			int changes= 0;
+			for (AnnotationModelEvent event : events) {
+				if (event == null || event.isWorldChange()) {
+					// handled like any other catch up request
+					reinitialize= false;
+					break;
+				}
+				changes+= event.getAddedAnnotations().length + event.getChangedAnnotations().length + event.getRemovedAnnotations().length;
+			}
+			reinitialize= reinitialize && changes > ProjectionCommandQueue.REDRAW_COSTS;
+		}
+
+		int topIndex= redraws() ? getTopIndex() : -1;
+		setRedraw(false);
+		try {
+			if (reinitialize) {
+				reinitializeProjection();
+			} else {
+				for (AnnotationModelEvent event : events) {
+					catchupWithProjectionAnnotationModel(event);
+				}
+			}
+		} catch (BadLocationException x) {
+			try {
+				catchupWithProjectionAnnotationModel(null);
+			} catch (BadLocationException x1) {
+				throw new IllegalArgumentException(x1);
+			}
+		} finally {
+			setRedraw(true, topIndex);
+		}
+	}
+
 	@Override
 	protected void handleVerifyEvent(VerifyEvent e) {
 		if (getTextWidget().getBlockSelection()) {
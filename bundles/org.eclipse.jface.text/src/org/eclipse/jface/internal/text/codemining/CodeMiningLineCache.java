@@ -0,0 +1,318 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jface.internal.text.codemining;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+
+import org.eclipse.jface.text.BadLocationException;
+import org.eclipse.jface.text.DocumentEvent;
+import org.eclipse.jface.text.IDocument;
+import org.eclipse.jface.text.IDocumentListener;
+import org.eclipse.jface.text.Position;
+import org.eclipse.jface.text.codemining.ICodeMining;
+import org.eclipse.jface.text.codemining.ICodeMiningProviderExtension;
+
+/**
+ * Caches the code minings computed by
+ * {@link org.eclipse.jface.text.codemining.ICodeMiningProviderExtension ranged providers} per
+ * document line.
+ * <p>
+ * The cache listens to the document: lines touched by a change are evicted and the entries of the
+ * following lines are moved by the number of added or removed lines. The cache keeps its own copy
+ * of the position of each mining and shifts the copy, the positions of the providers are never
+ * modified. Cached minings keep their resolved labels, so scrolling back to lines which were
+ * visible before does not resolve the minings again.
+ * </p>
+ * <p>
+ * The cache owns the minings of ranged providers. Minings which are evicted, superseded by a newer
+ * result or outside of the retained lines may still be rendered by an annotation, so they are only
+ * disposed by {@link #disposeEvicted(Set)} once the annotations have been updated. The annotations
+ * which render the minings must not dispose them, see {@link #isOwned(ICodeMining)}.
+ * </p>
+ *
+ * @since 3.29
+ */
+public class CodeMiningLineCache implements IDocumentListener {
+
+	/**
+	 * A cached mining together with the cache's copy of its position.
+	 */
+	private static final class Entry {
+
+		final ICodeMining fMining;
+		final Position fPosition;
+
+		Entry(ICodeMining mining) {
+			fMining= mining;
+			Position position= mining.getPosition();
+			fPosition= new Position(position.getOffset(), position.getLength());
+		}
+	}
+
+	/** The cached minings by line, guarded by <code>this</code>. */
+	private final NavigableMap<Integer, List<Entry>> fLines= new TreeMap<>();
+
+	/** The evicted minings which have not been disposed yet, guarded by <code>this</code>. */
+	private final List<ICodeMining> fEvicted= new ArrayList<>();
+
+	/** The first and last line which are kept in the cache, guarded by <code>this</code>. */
+	private int fRetainedFirstLine= 0, fRetainedLastLine= Integer.MAX_VALUE;
+
+	private IDocument fDocument;
+
+	/** First line of the pending document change. */
+	private int fChangeStartLine;
+
+	/** Last line of the pending document change. */
+	private int fChangeEndLine;
+
+	/**
+	 * Connects the cache to the given document. If the document differs from the current one, the
+	 * cache is cleared.
+	 *
+	 * @param document the document, may be <code>null</code>
+	 */
+	public void connect(IDocument document) {
+		if (fDocument == document) {
+			return;
+		}
+		disconnect();
+		fDocument= document;
+		if (document != null) {
+			document.addDocumentListener(this);
+		}
+	}
+
+	/**
+	 * Disconnects the cache from its document and clears it.
+	 */
+	public void disconnect() {
+		if (fDocument != null) {
+			fDocument.removeDocumentListener(this);
+			fDocument= null;
+		}
+		clear();
+	}
+
+	/**
+	 * Returns whether the given mining is owned, and disposed, by the cache, which is the case for
+	 * the minings of ranged providers.
+	 *
+	 * @param mining the mining
+	 * @return <code>true</code> if the mining must not be disposed by the annotation rendering it
+	 */
+	public static boolean isOwned(ICodeMining mining) {
+		return mining.getProvider() instanceof ICodeMiningProviderExtension;
+	}
+
+	/**
+	 * Evicts all cached minings.
+	 */
+	public synchronized void clear() {
+		evict(fLines.values());
+		fLines.clear();
+		fRetainedFirstLine= 0;
+		fRetainedLastLine= Integer.MAX_VALUE;
+	}
+
+	/**
+	 * Evicts the cached minings outside of the lines <code>firstLine</code> to
+	 * <code>lastLine</code> (inclusive). Minings which are put later for lines outside of this
+	 * range are not cached.
+	 *
+	 * @param firstLine the first line to keep
+	 * @param lastLine the last line to keep
+	 */
+	public synchronized void retain(int firstLine, int lastLine) {
+		fRetainedFirstLine= firstLine;
+		fRetainedLastLine= lastLine;
+		Map<Integer, List<Entry>> above= fLines.headMap(Integer.valueOf(firstLine), false);
+		evict(above.values());
+		above.clear();
+		Map<Integer, List<Entry>> below= fLines.tailMap(Integer.valueOf(lastLine), false);
+		evict(below.values());
+		below.clear();
+	}
+
+	/**
+	 * Replaces the cached minings of the lines <code>firstLine</code> to <code>lastLine</code>
+	 * (inclusive) with the given minings.
+	 *
+	 * @param firstLine the first line of the computed range
+	 * @param lastLine the last line of the computed range
+	 * @param minings the minings computed for the range
+	 */
+	public void put(int firstLine, int lastLine, List<? extends ICodeMining> minings) {
+		IDocument document= fDocument;
+		if (document == null) {
+			return;
+		}
+		NavigableMap<Integer, List<Entry>> computed= new TreeMap<>();
+		List<ICodeMining> outside= new ArrayList<>();
+		for (ICodeMining mining : minings) {
+			Position position= mining.getPosition();
+			try {
+				int line= document.getLineOfOffset(position.getOffset());
+				if (firstLine <= line && line <= lastLine) {
+					computed.computeIfAbsent(Integer.valueOf(line), l -> new ArrayList<>()).add(new Entry(mining));
+					continue;
+				}
+			} catch (BadLocationException e) {
+				// position is outdated, skip it
+			}
+			outside.add(mining);
+		}
+		synchronized (this) {
+			fEvicted.addAll(outside);
+			int first= Math.max(firstLine, fRetainedFirstLine);
+			int last= Math.min(lastLine, fRetainedLastLine);
+			Map<Integer, List<Entry>> replaced= fLines.subMap(Integer.valueOf(firstLine), true, Integer.valueOf(lastLine), true);
+			evict(replaced.values());
+			replaced.clear();
+			if (first <= last) {
+				fLines.putAll(computed.subMap(Integer.valueOf(first), true, Integer.valueOf(last), true));
+			}
+			evict(computed.headMap(Integer.valueOf(first), false).values());
+			evict(computed.tailMap(Integer.valueOf(last), false).values());
+		}
+	}
+
+	// guarded by this
+	private void evict(Collection<List<Entry>> lines) {
+		for (List<Entry> entries : lines) {
+			for (Entry entry : entries) {
+				fEvicted.add(entry.fMining);
+			}
+		}
+	}
+
+	/**
+	 * Disposes the evicted minings which are neither cached nor rendered anymore. Must be called
+	 * after the annotations have been updated with the given minings.
+	 *
+	 * @param rendered the minings which are rendered by the annotations
+	 */
+	public void disposeEvicted(Set<ICodeMining> rendered) {
+		List<ICodeMining> disposable= new ArrayList<>();
+		synchronized (this) {
+			Set<ICodeMining> cached= Collections.newSetFromMap(new IdentityHashMap<>());
+			for (List<Entry> entries : fLines.values()) {
+				for (Entry entry : entries) {
+					cached.add(entry.fMining);
+				}
+			}
+			Set<ICodeMining> kept= Collections.newSetFromMap(new IdentityHashMap<>());
+			for (ICodeMining mining : fEvicted) {
+				if (cached.contains(mining)) {
+					// handed in again by a newer result
+					continue;
+				}
+				if (rendered.contains(mining)) {
+					// still shown, dispose it after the next update
+					kept.add(mining);
+				} else {
+					disposable.add(mining);
+				}
+			}
+			fEvicted.clear();
+			fEvicted.addAll(kept);
+		}
+		Set<ICodeMining> disposed= Collections.newSetFromMap(new IdentityHashMap<>());
+		for (ICodeMining mining : disposable) {
+			if (disposed.add(mining)) {
+				mining.dispose();
+			}
+		}
+	}
+
+	/**
+	 * Returns all cached minings with the cache's positions of the minings.
+	 *
+	 * @return the positions of the cached minings
+	 */
+	public synchronized Map<ICodeMining, Position> getAll() {
+		Map<ICodeMining, Position> minings= new IdentityHashMap<>();
+		for (List<Entry> entries : fLines.values()) {
+			for (Entry entry : entries) {
+				minings.put(entry.fMining, new Position(entry.fPosition.getOffset(), entry.fPosition.getLength()));
+			}
+		}
+		return minings;
+	}
+
+	@Override
+	public void documentAboutToBeChanged(DocumentEvent event) {
+		try {
+			fChangeStartLine= event.fDocument.getLineOfOffset(event.fOffset);
+			fChangeEndLine= event.fDocument.getLineOfOffset(event.fOffset + event.fLength);
+		} catch (BadLocationException e) {
+			fChangeStartLine= -1;
+		}
+	}
+
+	@Override
+	public void documentChanged(DocumentEvent event) {
+		if (fChangeStartLine == -1) {
+			clear();
+			return;
+		}
+		int textLength= event.fText == null ? 0 : event.fText.length();
+		int newEndLine;
+		try {
+			newEndLine= event.fDocument.getLineOfOffset(event.fOffset + textLength);
+		} catch (BadLocationException e) {
+			clear();
+			return;
+		}
+		int lineDelta= newEndLine - fChangeEndLine;
+		int offsetDelta= textLength - event.fLength;
+
+		synchronized (this) {
+			Map<Integer, List<Entry>> changed= fLines.subMap(Integer.valueOf(fChangeStartLine), true, Integer.valueOf(fChangeEndLine), true);
+			evict(changed.values());
+			changed.clear();
+			if (lineDelta != 0 || offsetDelta != 0) {
+				shift(lineDelta, offsetDelta);
+			}
+		}
+	}
+
+	/**
+	 * Moves the entries after the changed lines by the given number of lines and shifts the
+	 * cached positions of their minings.
+	 *
+	 * @param lineDelta the number of added, or removed if negative, lines
+	 * @param offsetDelta the number of added, or removed if negative, characters
+	 */
+	// guarded by this
+	private void shift(int lineDelta, int offsetDelta) {
+		NavigableMap<Integer, List<Entry>> tail= fLines.tailMap(Integer.valueOf(fChangeEndLine), false);
+		NavigableMap<Integer, List<Entry>> moved= new TreeMap<>(tail);
+		tail.clear();
+		for (Map.Entry<Integer, List<Entry>> line : moved.entrySet()) {
+			for (Entry entry : line.getValue()) {
+				entry.fPosition.setOffset(entry.fPosition.getOffset() + offsetDelta);
+			}
+			fLines.put(Integer.valueOf(line.getKey().intValue() + lineDelta), line.getValue());
+		}
+	}
+}
@@ -118,7 +118,7 @@ public class CodeMiningLineContentAnnotation extends LineContentAnnotation imple
 				fResolvedMinings[i]= mining;
 			}
 		}
-		disposeMinings();
+		CodeMiningLineHeaderAnnotation.disposeMinings(fMinings, minings);
 		fMonitor= monitor;
 		fMinings.addAll(minings);
 	}
@@ -133,8 +133,7 @@ public class CodeMiningLineContentAnnotation extends LineContentAnnotation imple
 	}
 
 	private void disposeMinings() {
-		fMinings.stream().forEach(ICodeMining::dispose);
-		fMinings.clear();
+		CodeMiningLineHeaderAnnotation.disposeMinings(fMinings);
 	}
 
 	@Override
@@ -14,7 +14,10 @@
 package org.eclipse.jface.internal.text.codemining;
 
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Set;
 import java.util.function.Consumer;
 import java.util.stream.Stream;
 
@@ -182,7 +185,7 @@ public class CodeMiningLineHeaderAnnotation extends LineHeaderAnnotation impleme
 				fResolvedMinings[i]= mining;
 			}
 		}
-		disposeMinings(fMinings);
+		disposeMinings(fMinings, minings);
 		fMonitor= monitor;
 		fMinings.addAll(minings);
 	}
@@ -196,8 +199,28 @@ public class CodeMiningLineHeaderAnnotation extends LineHeaderAnnotation impleme
 		}
 	}
 
+	/**
+	 * Disposes the given minings except the ones owned by the code mining line cache, which
+	 * disposes them itself.
+	 *
+	 * @param minings the minings to dispose, the list is cleared
+	 */
 	static void disposeMinings(List<ICodeMining> minings) {
-		minings.stream().forEach(ICodeMining::dispose);
+		minings.stream().filter(mining -> !CodeMiningLineCache.isOwned(mining)).forEach(ICodeMining::dispose);
+		minings.clear();
+	}
+
+	/**
+	 * Disposes the given minings except the ones which are handed in again and the ones owned by
+	 * the code mining line cache, so that these keep their resolved state.
+	 *
+	 * @param minings the minings to dispose, the list is cleared
+	 * @param reused the minings which are still in use
+	 */
+	static void disposeMinings(List<ICodeMining> minings, List<ICodeMining> reused) {
+		Set<ICodeMining> inUse= Collections.newSetFromMap(new IdentityHashMap<>());
+		inUse.addAll(reused);
+		minings.stream().filter(mining -> !inUse.contains(mining) && !CodeMiningLineCache.isOwned(mining)).forEach(ICodeMining::dispose);
 		minings.clear();
 	}
 
@@ -14,6 +14,7 @@
  */
 package org.eclipse.jface.internal.text.codemining;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashSet;
@@ -24,12 +25,15 @@ import java.util.Objects;
 import java.util.Set;
 import java.util.concurrent.CancellationException;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Consumer;
 import java.util.function.Function;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
 import org.osgi.framework.Bundle;
 
+import org.eclipse.swt.events.ControlListener;
 import org.eclipse.swt.events.MouseEvent;
 import org.eclipse.swt.graphics.Rectangle;
 
@@ -40,12 +44,17 @@ import org.eclipse.core.runtime.IStatus;
 import org.eclipse.core.runtime.Platform;
 import org.eclipse.core.runtime.Status;
 
+import org.eclipse.jface.text.BadLocationException;
 import org.eclipse.jface.text.IDocument;
+import org.eclipse.jface.text.IRegion;
 import org.eclipse.jface.text.ITextViewer;
+import org.eclipse.jface.text.IViewportListener;
 import org.eclipse.jface.text.Position;
+import org.eclipse.jface.text.Region;
 import org.eclipse.jface.text.codemining.DocumentFooterCodeMining;
 import org.eclipse.jface.text.codemining.ICodeMining;
 import org.eclipse.jface.text.codemining.ICodeMiningProvider;
+import org.eclipse.jface.text.codemining.ICodeMiningProviderExtension;
 import org.eclipse.jface.text.codemining.LineContentCodeMining;
 import org.eclipse.jface.text.codemining.LineHeaderCodeMining;
 import org.eclipse.jface.text.source.Annotation;
@@ -55,11 +64,83 @@ import org.eclipse.jface.text.source.inlined.InlinedAnnotationSupport;
 
 /**
  * Code Mining manager implementation.
+ * <p>
+ * Providers implementing {@link ICodeMiningProviderExtension} are only asked for the minings of the
+ * visible lines and a margin of one page above and below them. Their results are kept in a
+ * {@link CodeMiningLineCache}. Scrolling only asks these providers for the lines which are scrolled
+ * into view, the other providers are not asked again. Requests which are superseded by a newer
+ * update are cancelled. The latency of each provider is recorded and can be retrieved with
+ * {@link #getProviderLatencies()}.
+ * </p>
  *
  * @since 3.13
  */
 public class CodeMiningManager implements Runnable {
 
+	/**
+	 * Latency statistics of a code mining provider.
+	 *
+	 * @since 3.29
+	 */
+	public static final class ProviderLatency {
+
+		private long fCount;
+		private long fTotalNanos;
+		private long fMaxNanos;
+		private long fLastNanos;
+
+		synchronized void record(long nanos) {
+			fCount++;
+			fTotalNanos+= nanos;
+			fLastNanos= nanos;
+			if (nanos > fMaxNanos) {
+				fMaxNanos= nanos;
+			}
+		}
+
+		/**
+		 * Returns the number of completed requests.
+		 *
+		 * @return the number of completed requests
+		 */
+		public synchronized long getCount() {
+			return fCount;
+		}
+
+		/**
+		 * Returns the average latency in milliseconds.
+		 *
+		 * @return the average latency in milliseconds
+		 */
+		public synchronized double getAverageMillis() {
+			return fCount == 0 ? 0 : fTotalNanos / (fCount * 1_000_000d);
+		}
+
+		/**
+		 * Returns the maximal latency in milliseconds.
+		 *
+		 * @return the maximal latency in milliseconds
+		 */
+		public synchronized double getMaxMillis() {
+			return fMaxNanos / 1_000_000d;
+		}
+
+		/**
+		 * Returns the latency of the last completed request in milliseconds.
+		 *
+		 * @return the latency of the last request in milliseconds
+		 */
+		public synchronized double getLastMillis() {
+			return fLastNanos / 1_000_000d;
+		}
+
+		@Override
+		public synchronized String toString() {
+			return String.format("count=%d, avg=%.2fms, max=%.2fms, last=%.2fms", //$NON-NLS-1$
+					Long.valueOf(fCount), Double.valueOf(getAverageMillis()), Double.valueOf(getMaxMillis()), Double.valueOf(getLastMillis()));
+		}
+	}
+
 	/**
 	 * The source viewer
 	 */
@@ -80,6 +161,47 @@ public class CodeMiningManager implements Runnable {
 	 */
 	private IProgressMonitor fMonitor;
 
+	/**
+	 * The provider requests of the current update, cancelled when a newer update starts.
+	 */
+	private final List<CompletableFuture<?>> fPendingRequests= new ArrayList<>();
+
+	/**
+	 * The per line cache of the minings of range aware providers.
+	 */
+	private final CodeMiningLineCache fLineCache= new CodeMiningLineCache();
+
+	/**
+	 * The minings of the providers which are not range aware, computed by the last update.
+	 */
+	private volatile List<? extends ICodeMining> fFullMinings= Collections.emptyList();
+
+	/**
+	 * The latency statistics per provider.
+	 */
+	private final Map<ICodeMiningProvider, ProviderLatency> fLatencies= new ConcurrentHashMap<>();
+
+	/**
+	 * The first and last visible model lines, <code>-1</code> if unknown. Updated in the UI thread.
+	 */
+	private volatile int fTopLine= -1, fBottomLine= -1;
+
+	/**
+	 * The first and last line requested from range aware providers, by the last update and the
+	 * scrolling since then.
+	 */
+	private volatile int fRequestedFirstLine= -1, fRequestedLastLine= -1;
+
+	/**
+	 * Requests the minings of newly visible lines when the viewer is scrolled.
+	 */
+	private final IViewportListener fViewportListener= verticalOffset -> visibleLinesChanged();
+
+	/**
+	 * Requests the minings of newly visible lines when the viewer is resized.
+	 */
+	private final ControlListener fResizeListener= ControlListener.controlResizedAdapter(e -> visibleLinesChanged());
+
 	/**
 	 * Constructor of codemining manager with the given arguments.
 	 *
@@ -95,6 +217,11 @@ public class CodeMiningManager implements Runnable {
 		fViewer= viewer;
 		fInlinedAnnotationSupport= inlinedAnnotationSupport;
 		setCodeMiningProviders(codeMiningProviders);
+		if (fViewer.getTextWidget() != null) {
+			fViewer.addViewportListener(fViewportListener);
+			fViewer.getTextWidget().addControlListener(fResizeListener);
+			updateVisibleLines();
+		}
 	}
 
 	/**
@@ -108,6 +235,10 @@ public class CodeMiningManager implements Runnable {
 			fCodeMiningProviders.stream().forEach(ICodeMiningProvider::dispose);
 		}
 		fCodeMiningProviders= Arrays.asList(codeMiningProviders);
+		fLineCache.clear();
+		fFullMinings= Collections.emptyList();
+		fLatencies.clear();
+		fRequestedFirstLine= fRequestedLastLine= -1;
 	}
 
 	/**
@@ -115,9 +246,15 @@ public class CodeMiningManager implements Runnable {
 	 */
 	public void uninstall() {
 		cancel();
+		fViewer.removeViewportListener(fViewportListener);
+		if (fViewer.getTextWidget() != null && !fViewer.getTextWidget().isDisposed()) {
+			fViewer.getTextWidget().removeControlListener(fResizeListener);
+		}
+		fLineCache.disconnect();
 		if (fInlinedAnnotationSupport != null) {
 			fInlinedAnnotationSupport.updateAnnotations(Collections.emptySet());
 		}
+		fLineCache.disposeEvicted(Collections.emptySet());
 	}
 
 	/**
@@ -125,8 +262,7 @@ public class CodeMiningManager implements Runnable {
 	 */
 	@Override
 	public void run() {
-		if (fViewer == null || fInlinedAnnotationSupport == null || fCodeMiningProviders == null
-				|| fCodeMiningProviders.isEmpty() || fViewer.getAnnotationModel() == null) {
+		if (!canUpdate()) {
 			return;
 		}
 		// Cancel the last progress monitor to cancel last resolve and render of code
@@ -143,17 +279,233 @@ public class CodeMiningManager implements Runnable {
 		// Refresh the code minings by using the new progress monitor.
 		fMonitor= new CancellationExceptionMonitor();
 		IProgressMonitor monitor= fMonitor;
+		IDocument document= fViewer.getDocument();
+		fLineCache.connect(document);
+		int[] lines= computeRequestedLines(document);
+		IRegion region= toRegion(document, lines);
+		fRequestedFirstLine= lines[0];
+		fRequestedLastLine= lines[1];
+		retainLines(lines);
 		// Collect the code minings for the viewer
-		getCodeMinings(fViewer, fCodeMiningProviders, monitor).thenAccept(symbols -> {
+		List<CompletableFuture<List<? extends ICodeMining>>> fullRequests= new ArrayList<>();
+		List<CompletableFuture<List<? extends ICodeMining>>> rangeRequests= new ArrayList<>();
+		for (ICodeMiningProvider provider : fCodeMiningProviders) {
+			if (provider instanceof ICodeMiningProviderExtension extension) {
+				if (region != null) {
+					addRequest(rangeRequests, provider, () -> extension.provideCodeMinings(fViewer, region, monitor));
+				}
+			} else {
+				addRequest(fullRequests, provider, () -> provider.provideCodeMinings(fViewer, monitor));
+			}
+		}
+		CompletableFuture<List<? extends ICodeMining>> rangeMinings= collect(rangeRequests);
+		CompletableFuture<List<? extends ICodeMining>> fullMinings= collect(fullRequests);
+		rangeMinings.thenAcceptBoth(fullMinings, (ranged, full) -> {
 			// check if request was canceled.
 			monitor.isCanceled();
-			// then group code minings by lines position
-			Map<Position, List<ICodeMining>> groups= groupByLines(symbols, fCodeMiningProviders);
-			// resolve and render code minings
-			renderCodeMinings(groups, fViewer, monitor);
+			if (region != null) {
+				fLineCache.put(lines[0], lines[1], ranged);
+			}
+			fFullMinings= full;
+			renderCodeMinings(monitor);
 		});
 	}
 
+	private boolean canUpdate() {
+		return fViewer != null && fInlinedAnnotationSupport != null && fCodeMiningProviders != null
+				&& !fCodeMiningProviders.isEmpty() && fViewer.getAnnotationModel() != null;
+	}
+
+	/**
+	 * Requests the minings of the lines which have been scrolled into view from the range aware
+	 * providers. The requests of the last update are not cancelled and the other providers are not
+	 * asked again, their last minings are rendered together with the new ones.
+	 */
+	private void updateExposedLines() {
+		IProgressMonitor monitor= fMonitor;
+		if (monitor == null || monitor.isCanceled()) {
+			run();
+			return;
+		}
+		IDocument document= fViewer.getDocument();
+		int[] lines= computeRequestedLines(document);
+		int requestedFirstLine= fRequestedFirstLine;
+		int requestedLastLine= fRequestedLastLine;
+		List<int[]> exposed= new ArrayList<>(2);
+		if (requestedFirstLine == -1 || lines[1] < requestedFirstLine - 1 || lines[0] > requestedLastLine + 1) {
+			// no requested line is near the visible ones anymore
+			exposed.add(lines);
+			requestedFirstLine= lines[0];
+			requestedLastLine= lines[1];
+		} else {
+			if (lines[0] < requestedFirstLine) {
+				exposed.add(new int[] { lines[0], requestedFirstLine - 1 });
+				requestedFirstLine= lines[0];
+			}
+			if (lines[1] > requestedLastLine) {
+				exposed.add(new int[] { requestedLastLine + 1, lines[1] });
+				requestedLastLine= lines[1];
+			}
+		}
+		int[] retained= retainLines(lines);
+		fRequestedFirstLine= Math.max(requestedFirstLine, retained[0]);
+		fRequestedLastLine= Math.min(requestedLastLine, retained[1]);
+		for (int[] exposedLines : exposed) {
+			IRegion region= toRegion(document, exposedLines);
+			if (region == null) {
+				continue;
+			}
+			List<CompletableFuture<List<? extends ICodeMining>>> rangeRequests= new ArrayList<>();
+			for (ICodeMiningProvider provider : fCodeMiningProviders) {
+				if (provider instanceof ICodeMiningProviderExtension extension) {
+					addRequest(rangeRequests, provider, () -> extension.provideCodeMinings(fViewer, region, monitor));
+				}
+			}
+			collect(rangeRequests).thenAccept(ranged -> {
+				// check if request was canceled.
+				monitor.isCanceled();
+				fLineCache.put(exposedLines[0], exposedLines[1], ranged);
+				renderCodeMinings(monitor);
+			});
+		}
+	}
+
+	/**
+	 * Lets the line cache keep the given lines and as many lines above and below.
+	 *
+	 * @param lines the first and last requested line
+	 * @return the first and last line kept by the cache
+	 */
+	private int[] retainLines(int[] lines) {
+		int margin= lines[1] - lines[0] + 1;
+		int[] retained= new int[] { Math.max(0, lines[0] - margin), lines[1] + margin };
+		fLineCache.retain(retained[0], retained[1]);
+		return retained;
+	}
+
+	/**
+	 * Renders the cached minings of the range aware providers and the last minings of the other
+	 * providers, then disposes the cached minings which are not rendered anymore.
+	 *
+	 * @param monitor the progress monitor
+	 */
+	private void renderCodeMinings(IProgressMonitor monitor) {
+		Map<ICodeMining, Position> positions= fLineCache.getAll();
+		List<ICodeMining> symbols= new ArrayList<>(positions.keySet());
+		for (ICodeMining mining : fFullMinings) {
+			positions.put(mining, mining.getPosition());
+			symbols.add(mining);
+		}
+		// then group code minings by lines position
+		Map<Position, List<ICodeMining>> groups= groupByLines(symbols, positions, fCodeMiningProviders);
+		// resolve and render code minings
+		renderCodeMinings(groups, fViewer, monitor);
+		fLineCache.disposeEvicted(positions.keySet());
+	}
+
+	/**
+	 * Requests the minings of the given provider, records its latency and registers the request so
+	 * that it can be cancelled by the next update.
+	 *
+	 * @param requests the list to add the request to
+	 * @param provider the provider
+	 * @param request the request
+	 */
+	private void addRequest(List<CompletableFuture<List<? extends ICodeMining>>> requests, ICodeMiningProvider provider,
+			Supplier<CompletableFuture<List<? extends ICodeMining>>> request) {
+		long start= System.nanoTime();
+		CompletableFuture<List<? extends ICodeMining>> future= request.get();
+		if (future == null) {
+			return;
+		}
+		synchronized (fPendingRequests) {
+			fPendingRequests.add(future);
+		}
+		future.whenComplete((minings, e) -> {
+			if (!future.isCancelled()) {
+				fLatencies.computeIfAbsent(provider, p -> new ProviderLatency()).record(System.nanoTime() - start);
+			}
+		});
+		requests.add(future.exceptionally(e -> {
+			logCodeMiningProviderException(e);
+			return Collections.emptyList();
+		}));
+	}
+
+	/**
+	 * Returns the latency statistics of the code mining providers, measured from the call to the
+	 * provider until its future completes.
+	 *
+	 * @return the latency statistics per provider
+	 * @since 3.29
+	 */
+	public Map<ICodeMiningProvider, ProviderLatency> getProviderLatencies() {
+		return Collections.unmodifiableMap(fLatencies);
+	}
+
+	private boolean hasRangeProviders() {
+		List<ICodeMiningProvider> providers= fCodeMiningProviders;
+		return providers != null && providers.stream().anyMatch(ICodeMiningProviderExtension.class::isInstance);
+	}
+
+	private void visibleLinesChanged() {
+		updateVisibleLines();
+		if (hasRangeProviders() && !isVisibleRangeRequested() && canUpdate()) {
+			updateExposedLines();
+		}
+	}
+
+	/**
+	 * Updates the visible lines of the viewer, must be called in the UI thread.
+	 */
+	private void updateVisibleLines() {
+		if (fViewer.getTextWidget() == null || fViewer.getTextWidget().isDisposed()) {
+			return;
+		}
+		fTopLine= fViewer.getTopIndex();
+		fBottomLine= fViewer.getBottomIndex();
+	}
+
+	private boolean isVisibleRangeRequested() {
+		return fTopLine >= fRequestedFirstLine && fBottomLine <= fRequestedLastLine;
+	}
+
+	/**
+	 * Returns the first and last line to request from range aware providers: the visible lines and
+	 * one page above and below, or the whole document if the visible lines are unknown.
+	 *
+	 * @param document the document
+	 * @return the first and last line
+	 */
+	private int[] computeRequestedLines(IDocument document) {
+		int lastLine= document == null ? 0 : document.getNumberOfLines() - 1;
+		int top= fTopLine;
+		int bottom= fBottomLine;
+		if (top < 0 || bottom < top) {
+			return new int[] { 0, lastLine };
+		}
+		int margin= bottom - top + 1;
+		return new int[] { Math.max(0, top - margin), Math.min(lastLine, bottom + margin) };
+	}
+
+	private static IRegion toRegion(IDocument document, int[] lines) {
+		if (document == null) {
+			return null;
+		}
+		try {
+			int start= document.getLineOffset(lines[0]);
+			IRegion last= document.getLineInformation(lines[1]);
+			return new Region(start, last.getOffset() + last.getLength() - start);
+		} catch (BadLocationException e) {
+			return null;
+		}
+	}
+
+	private static CompletableFuture<List<? extends ICodeMining>> collect(List<CompletableFuture<List<? extends ICodeMining>>> com) {
+		return CompletableFuture.allOf(com.toArray(new CompletableFuture[com.size()])).thenApply(
+				v -> com.stream().map(CompletableFuture::join).filter(Objects::nonNull).flatMap(java.util.Collection::stream).collect(Collectors.toList()));
+	}
+
 	/**
 	 * Cancel the codemining process.
 	 */
@@ -162,6 +514,11 @@ public class CodeMiningManager implements Runnable {
 		if (fMonitor != null) {
 			fMonitor.setCanceled(true);
 		}
+		// Cancel the requests which did not complete yet.
+		synchronized (fPendingRequests) {
+			fPendingRequests.forEach(future -> future.cancel(true));
+			fPendingRequests.clear();
+		}
 	}
 
 	private static void logCodeMiningProviderException(Throwable e) {
@@ -180,44 +537,21 @@ public class CodeMiningManager implements Runnable {
 		}
 	}
 
-	/**
-	 * Return the list of {@link CompletableFuture} which provides the list of {@link ICodeMining}
-	 * for the given <code>viewer</code> by using the given providers.
-	 *
-	 * @param viewer    the text viewer.
-	 * @param providers the CodeMining list providers.
-	 * @param monitor   the progress monitor.
-	 * @return the list of {@link CompletableFuture} which provides the list of {@link ICodeMining}
-	 *         for the given <code>viewer</code> by using the given providers.
-	 */
-	private static CompletableFuture<List<? extends ICodeMining>> getCodeMinings(ITextViewer viewer,
-			List<ICodeMiningProvider> providers, IProgressMonitor monitor) {
-		List<CompletableFuture<List<? extends ICodeMining>>> com= providers.stream()
-				.map(provider -> provider.provideCodeMinings(viewer, monitor))
-				.filter(c -> c != null)
-				.map(future -> future.exceptionally(e -> {
-					logCodeMiningProviderException(e);
-					return Collections.emptyList();
-				}))
-				.collect(Collectors.toList());
-		return CompletableFuture.allOf(com.toArray(new CompletableFuture[com.size()])).thenApply(
-				v -> com.stream().map(CompletableFuture::join).filter(Objects::nonNull).flatMap(java.util.Collection::stream).collect(Collectors.toList()));
-	}
-
 	/**
 	 * Returns a sorted Map which groups the given code minings by same position line.
 	 *
 	 * @param codeMinings list of code minings to group.
+	 * @param positions   the positions of the code minings.
 	 * @param providers   CodeMining providers used to retrieve code minings.
 	 * @return a sorted Map which groups the given code minings by same position line.
 	 */
-	private static Map<Position, List<ICodeMining>> groupByLines(List<? extends ICodeMining> codeMinings,
-			List<ICodeMiningProvider> providers) {
+	private static Map<Position, List<ICodeMining>> groupByLines(List<ICodeMining> codeMinings,
+			Map<ICodeMining, Position> positions, List<ICodeMiningProvider> providers) {
 		// sort code minings by lineNumber and provider-rank if
 		Collections.sort(codeMinings, (a, b) -> {
-			if (a.getPosition().offset < b.getPosition().offset) {
+			if (positions.get(a).offset < positions.get(b).offset) {
 				return -1;
-			} else if (a.getPosition().offset > b.getPosition().offset) {
+			} else if (positions.get(a).offset > positions.get(b).offset) {
 				return 1;
 			} else if (providers.indexOf(a.getProvider()) < providers.indexOf(b.getProvider())) {
 				return -1;
@@ -227,7 +561,7 @@ public class CodeMiningManager implements Runnable {
 				return 0;
 			}
 		});
-		return codeMinings.stream().collect(Collectors.groupingBy(ICodeMining::getPosition, LinkedHashMap::new,
+		return codeMinings.stream().collect(Collectors.groupingBy(positions::get, LinkedHashMap::new,
 				Collectors.mapping(Function.identity(), Collectors.toList())));
 	}
 
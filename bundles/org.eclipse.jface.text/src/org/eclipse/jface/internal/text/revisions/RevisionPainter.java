@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2006, 2018 IBM Corporation and others.
+ * Copyright (c) 2006, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -17,6 +17,7 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.ListIterator;
 import java.util.Map;
@@ -139,9 +140,14 @@ public final class RevisionPainter {
 
 
 		/**
-		 * A list of {@link Long}, storing the age of each revision in a sorted list.
+		 * The age of each revision, sorted.
 		 */
-		private List<Long> fRevisions;
+		private long[] fRevisions;
+		/**
+		 * The cached gradient from the most recent to the oldest revision, <code>null</code> if
+		 * not computed yet.
+		 */
+		private RGB[] fGradient;
 		/**
 		 * The stored shaded colors.
 		 */
@@ -167,15 +173,49 @@ public final class RevisionPainter {
 			fFocusColors.clear();
 			fGradientStart= null;
 			fGradientStop= null;
+			fGradient= null;
 			if (info == null) {
 				return;
 			}
-			List<Long> revisions= new ArrayList<>();
-			for (Revision revision : info.getRevisions()) {
-				revisions.add(Long.valueOf(computeAge(revision)));
+			List<Revision> revisions= info.getRevisions();
+			long[] ages= new long[revisions.size()];
+			for (int i= 0; i < ages.length; i++) {
+				ages[i]= computeAge(revisions.get(i));
+			}
+			Arrays.sort(ages);
+			fRevisions= ages;
+		}
+
+		/**
+		 * Adds the given revisions of the revision information to the sorted ages, without
+		 * computing the ages of the other revisions again.
+		 *
+		 * @param revisions the revisions added to the revision information
+		 * @since 3.29
+		 */
+		public void addRevisions(List<Revision> revisions) {
+			if (fRevisions == null || revisions.isEmpty()) {
+				return;
+			}
+			long[] added= new long[revisions.size()];
+			for (int i= 0; i < added.length; i++) {
+				added[i]= computeAge(revisions.get(i));
 			}
-			Collections.sort(revisions);
-			fRevisions= revisions;
+			Arrays.sort(added);
+			long[] ages= new long[fRevisions.length + added.length];
+			int i= 0;
+			int j= 0;
+			int k= 0;
+			while (i < fRevisions.length && j < added.length) {
+				ages[k++]= added[j] < fRevisions[i] ? added[j++] : fRevisions[i++];
+			}
+			System.arraycopy(fRevisions, i, ages, k, fRevisions.length - i);
+			System.arraycopy(added, j, ages, k + fRevisions.length - i, added.length - j);
+			fRevisions= ages;
+			// the colors depend on the relative age of the revisions
+			fColors.clear();
+			fFocusColors.clear();
+			fGradient= null;
 		}
 
 		private RGB getRGB(String key, RGB defaultValue) {
@@ -188,7 +228,7 @@ public final class RevisionPainter {
 			float scale;
 			if (fRenderingMode == IRevisionRulerColumnExtension.AGE) {
 				int index= computeAgeIndex(revision);
-				if (index == -1 || fRevisions.isEmpty()) {
+				if (index == -1 || fRevisions.length == 0) {
 					rgb= getBackground().getRGB();
 				} else {
 					if (fGradientStart == null) {
@@ -198,8 +238,10 @@ public final class RevisionPainter {
 						fGradientStop= getRGB(JFacePreferences.REVISION_OLDEST_COLOR, BY_DATE_END_COLOR);
 					}
 					// gradient from most recent to oldest
-					RGB[] gradient= Colors.palette(fGradientStart, fGradientStop, fRevisions.size());
-					rgb= gradient[gradient.length - index - 1];
+					if (fGradient == null) {
+						fGradient= Colors.palette(fGradientStart, fGradientStop, fRevisions.length);
+					}
+					rgb= fGradient[fGradient.length - index - 1];
 				}
 				scale= 0.99f;
 			} else if (fRenderingMode == IRevisionRulerColumnExtension.AUTHOR) {
@@ -210,7 +252,7 @@ public final class RevisionPainter {
 				rgb= revision.getColor();
 				rgb= Colors.adjustBrightness(rgb, AVERAGE_INTENSITY);
 				int index= computeAgeIndex(revision);
-				int size= fRevisions.size();
+				int size= fRevisions.length;
 				// relative age: newest is 0, oldest is 1
 				// if there is only one revision, use an intermediate value to avoid extreme coloring
 				if (index == -1 || size < 2) {
@@ -228,7 +270,14 @@ public final class RevisionPainter {
 
 		private int computeAgeIndex(Revision revision) {
 			long age= computeAge(revision);
-			int index= fRevisions.indexOf(Long.valueOf(age));
+			int index= Arrays.binarySearch(fRevisions, age);
+			if (index < 0) {
+				return -1;
+			}
+			// revisions of the same age get the index of the first one
+			while (index > 0 && fRevisions[index - 1] == age) {
+				index--;
+			}
 			return index;
 		}
 
@@ -363,6 +412,31 @@ public final class RevisionPainter {
 
 	}
 
+	/**
+	 * The ranges adapted to quick diff, with their start and end lines for binary searches.
+	 *
+	 * @since 3.29
+	 */
+	private static final class RangeIndex {
+		final List<RevisionRange> ranges;
+		/** The start lines of the ranges. */
+		final int[] startLines;
+		/** The exclusive end lines of the ranges, sorted as well since the ranges do not overlap. */
+		final int[] endLines;
+
+		RangeIndex(List<RevisionRange> ranges) {
+			this.ranges= ranges;
+			int size= ranges.size();
+			startLines= new int[size];
+			endLines= new int[size];
+			for (int i= 0; i < size; i++) {
+				RevisionRange range= ranges.get(i);
+				startLines[i]= range.getStartLine();
+				endLines[i]= end(range);
+			}
+		}
+	}
+
 	/**
 	 * The information control creator.
 	 */
@@ -459,6 +533,38 @@ public final class RevisionPainter {
 	 */
 	private final class RevisionHover implements IAnnotationHover, IAnnotationHoverExtension, IAnnotationHoverExtension2, IInformationProviderExtension2 {
 
+		/**
+		 * The maximal number of cached hover information.
+		 *
+		 * @since 3.29
+		 */
+		private static final int MAX_HOVER_INFOS= 64;
+
+		/**
+		 * The hover information by revision, least recently used first, guarded by itself.
+		 *
+		 * @since 3.29
+		 */
+		private final Map<Revision, Object> fHoverInfos= new LinkedHashMap<>(16, 0.75f, true) {
+			private static final long serialVersionUID= 1L;
+
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<Revision, Object> eldest) {
+				return size() > MAX_HOVER_INFOS;
+			}
+		};
+
+		/**
+		 * Clears the cached hover information.
+		 *
+		 * @since 3.29
+		 */
+		void clear() {
+			synchronized (fHoverInfos) {
+				fHoverInfos.clear();
+			}
+		}
+
 		@Override
 		public String getHoverInfo(ISourceViewer sourceViewer, int lineNumber) {
 			Object info= getHoverInfo(sourceViewer, getHoverLineRange(sourceViewer, lineNumber), 0);
@@ -490,7 +596,22 @@ public final class RevisionPainter {
 		@Override
 		public Object getHoverInfo(ISourceViewer sourceViewer, ILineRange lineRange, int visibleNumberOfLines) {
 			RevisionRange range= getRange(lineRange.getStartLine());
-			Object info= range == null ? null : range.getRevision().getHoverInfo();
+			if (range == null) {
+				return null;
+			}
+			Revision revision= range.getRevision();
+			synchronized (fHoverInfos) {
+				Object info= fHoverInfos.get(revision);
+				if (info != null) {
+					return info;
+				}
+			}
+			Object info= revision.getHoverInfo();
+			if (info != null) {
+				synchronized (fHoverInfos) {
+					fHoverInfos.put(revision, info);
+				}
+			}
 			return info;
 		}
 
@@ -559,8 +680,8 @@ public final class RevisionPainter {
 
 	/* Cache. */
 
-	/** The cached list of ranges adapted to quick diff. */
-	private List<RevisionRange> fRevisionRanges= null;
+	/** The cached ranges adapted to quick diff, <code>null</code> if not computed yet. */
+	private RangeIndex fRangeIndex= null;
 	/** The annotations created for the overview ruler temporary display. */
 	private final List<Annotation> fAnnotations= new ArrayList<>();
 
@@ -663,6 +784,7 @@ public final class RevisionPainter {
 			fRevisionIdChars= 0;
 			fRevisionInfo= info;
 			clearRangeCache();
+			fHover.clear();
 			updateFocusRange(null);
 			handleRevisionSelected((Revision) null);
 			fColorTool.setInfo(info);
@@ -750,6 +872,7 @@ public final class RevisionPainter {
 		}
 
 		// draw change regions
+		loadRanges(visibleLines.getStartLine(), end(visibleLines) + 1);
 		List<RevisionRange> ranges= getRanges(visibleLines);
 		for (RevisionRange region : ranges) {
 			paintRange(region, gc);
@@ -963,16 +1086,23 @@ public final class RevisionPainter {
 	 * @return the corresponding <code>RevisionRange</code> or <code>null</code>
 	 */
 	private RevisionRange getRange(int line) {
-		List<RevisionRange> ranges= getRangeCache();
+		if (line != -1) {
+			loadRanges(line, line + 1);
+		}
+		RangeIndex index= getRangeCache();
+		List<RevisionRange> ranges= index.ranges;
 
 		if (ranges.isEmpty() || line == -1) {
 			return null;
 		}
 
-		for (RevisionRange range : ranges) {
-			if (contains(range, line)) {
-				return range;
-			}
+		// ranges do not overlap, only the last range starting at or before the line can contain it
+		int i= Arrays.binarySearch(index.startLines, line);
+		if (i < 0) {
+			i= -i - 2;
+		}
+		if (i >= 0 && contains(ranges.get(i), line)) {
+			return ranges.get(i);
 		}
 
 		// line may be right after the last region
@@ -990,52 +1120,112 @@ public final class RevisionPainter {
 	 * @return elementType: RevisionRange
 	 */
 	private List<RevisionRange> getRanges(ILineRange lines) {
-		List<RevisionRange> ranges= getRangeCache();
+		RangeIndex index= getRangeCache();
+		List<RevisionRange> ranges= index.ranges;
+		int[] endLines= index.endLines;
 
-		// return the interesting subset
+		// return the interesting subset, ranges do not overlap so their end lines are sorted as well
 		int end= end(lines);
-		int first= -1, last= -1;
-		for (int i= 0; i < ranges.size(); i++) {
-			RevisionRange range= ranges.get(i);
-			int rangeEnd= end(range);
-			if (first == -1 && rangeEnd > lines.getStartLine()) {
-				first= i;
-			}
-			if (first != -1 && rangeEnd > end) {
-				last= i;
-				break;
-			}
-		}
-		if (first == -1) {
+		int first= firstEndLineAfter(endLines, lines.getStartLine());
+		if (first == endLines.length) {
 			return Collections.emptyList();
 		}
-		if (last == -1) {
-			last= ranges.size() - 1; // bottom index may be one too much
+		int last= firstEndLineAfter(endLines, end);
+		if (last == endLines.length) {
+			last= endLines.length - 1; // bottom index may be one too much
 		}
 
 		return ranges.subList(first, last + 1);
 	}
 
 	/**
-	 * Gets all change ranges of the revisions in the revision model and adapts them to the current
-	 * quick diff information. The list is cached.
+	 * Returns the index of the first end line which is greater than the given line.
 	 *
-	 * @return the list of all change regions, with diff information applied
-	 */
-	private synchronized List<RevisionRange> getRangeCache() {
-		if (fRevisionRanges == null) {
-			if (fRevisionInfo == null) {
-				fRevisionRanges= Collections.emptyList();
+	 * @param endLines the sorted end lines
+	 * @param line the line
+	 * @return the index of the first end line greater than <code>line</code>, or the length of
+	 *         <code>endLines</code> if there is none
+	 * @since 3.29
+	 */
+	private static int firstEndLineAfter(int[] endLines, int line) {
+		int low= 0;
+		int high= endLines.length;
+		while (low < high) {
+			int mid= (low + high) >>> 1;
+			if (endLines[mid] > line) {
+				high= mid;
 			} else {
-				Hunk[] hunks= HunkComputer.computeHunks(fLineDiffer, fViewer.getDocument().getNumberOfLines());
-				fRevisionInfo.applyDiff(hunks);
-				fRevisionRanges= fRevisionInfo.getRanges();
-				updateOverviewAnnotations();
-				informListeners();
+				low= mid + 1;
 			}
 		}
+		return low;
+	}
 
-		return fRevisionRanges;
+	/**
+	 * Makes sure that the revision information contains the ranges of the given lines, if it
+	 * supplies its ranges on demand.
+	 *
+	 * @param startLine the first document line
+	 * @param endLine the document line after the last line
+	 * @since 3.29
+	 */
+	private void loadRanges(int startLine, int endLine) {
+		RevisionInformation info= fRevisionInfo;
+		if (info == null) {
+			return;
+		}
+		List<Revision> added;
+		// the paint and the hover paths may load ranges, the information guards them by itself
+		synchronized (info) {
+			int revisionCount= info.getRevisions().size();
+			if (!info.loadRanges(startLine, endLine)) {
+				return;
+			}
+			List<Revision> revisions= info.getRevisions();
+			added= new ArrayList<>(revisions.subList(revisionCount, revisions.size()));
+		}
+		synchronized (this) {
+			if (fRangeIndex != null) {
+				// the revision information has merged the loaded ranges into its sorted ranges
+				fRangeIndex= new RangeIndex(info.getRanges());
+			}
+		}
+		fRequiredWidth= -1;
+		fColorTool.addRevisions(added);
+		if (isConnected() && (fFocusRevision != null || fSelectedRevision != null)) {
+			// the shown revision may have got more ranges
+			updateOverviewAnnotations();
+		}
+	}
+
+	/**
+	 * Gets all change ranges of the revisions in the revision model and adapts them to the current
+	 * quick diff information. The ranges are cached.
+	 *
+	 * @return all change regions, with diff information applied
+	 */
+	private RangeIndex getRangeCache() {
+		RangeIndex index;
+		boolean computed= false;
+		synchronized (this) {
+			if (fRangeIndex == null) {
+				if (fRevisionInfo == null) {
+					fRangeIndex= new RangeIndex(Collections.emptyList());
+				} else {
+					Hunk[] hunks= HunkComputer.computeHunks(fLineDiffer, fViewer.getDocument().getNumberOfLines());
+					fRevisionInfo.applyDiff(hunks);
+					fRangeIndex= new RangeIndex(fRevisionInfo.getRanges());
+					computed= true;
+				}
+			}
+			index= fRangeIndex;
+		}
+		if (computed) {
+			// not while holding the lock, the listeners may call back into the painter
+			updateOverviewAnnotations();
+			informListeners();
+		}
+		return index;
 	}
 
 	/**
@@ -1044,7 +1234,7 @@ public final class RevisionPainter {
 	 * @since 3.3
 	 */
 	private synchronized void clearRangeCache() {
-		fRevisionRanges= null;
+		fRangeIndex= null;
 	}
 
 	/**
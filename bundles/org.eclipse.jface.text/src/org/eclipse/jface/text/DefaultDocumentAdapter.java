@@ -16,6 +16,7 @@ package org.eclipse.jface.text;
 
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Iterator;
 import java.util.List;
 
@@ -77,6 +78,27 @@ class DefaultDocumentAdapter implements IDocumentAdapter, IDocumentListener, IDo
 	 * @since 2.1
 	 */
 	private final  DocumentEvent fOriginalEvent= new DocumentEvent();
+	/**
+	 * The size of the line cache, a power of two larger than the number of lines usually shown
+	 * in a viewport.
+	 *
+	 * @since 3.29
+	 */
+	private static final int LINE_CACHE_SIZE= 256;
+	/**
+	 * The numbers of the cached lines, <code>-1</code> for empty slots. Lines are cached in the
+	 * slot <code>line &amp; (LINE_CACHE_SIZE - 1)</code>, so that the lines of a viewport do not
+	 * evict each other.
+	 *
+	 * @since 3.29
+	 */
+	private final int[] fCachedLineNumbers= new int[LINE_CACHE_SIZE];
+	/**
+	 * The content of the cached lines.
+	 *
+	 * @since 3.29
+	 */
+	private final String[] fCachedLines= new String[LINE_CACHE_SIZE];
 
 
 	/**
@@ -84,6 +106,7 @@ class DefaultDocumentAdapter implements IDocumentAdapter, IDocumentListener, IDo
 	 * any document.
 	 */
 	public DefaultDocumentAdapter() {
+		clearLineCache();
 	}
 
 	/**
@@ -101,6 +124,7 @@ class DefaultDocumentAdapter implements IDocumentAdapter, IDocumentListener, IDo
 		fDocument= document;
 		fActiveDocument= fDocument;
 		fLineDelimiter= null;
+		clearLineCache();
 
 		if (fDocument != null) {
 			fDocument.addPrenotifiedDocumentListener(this);
@@ -131,9 +155,20 @@ class DefaultDocumentAdapter implements IDocumentAdapter, IDocumentListener, IDo
 	private void repairLineInformation(IDocument document) {
 		if (document instanceof IRepairableDocument repairable) {
 			repairable.repairLineInformation();
+			clearLineCache();
 		}
 	}
 
+	/**
+	 * Clears the line cache.
+	 *
+	 * @since 3.29
+	 */
+	private void clearLineCache() {
+		Arrays.fill(fCachedLineNumbers, -1);
+		Arrays.fill(fCachedLines, null);
+	}
+
 	/**
 	 * Returns the line for the given line number.
 	 *
@@ -148,20 +183,39 @@ class DefaultDocumentAdapter implements IDocumentAdapter, IDocumentListener, IDo
 		return document.get(r.getOffset(), r.getLength());
 	}
 
+	/**
+	 * Remembers the content of the given line.
+	 *
+	 * @param slot the cache slot of the line
+	 * @param line the line number
+	 * @param content the content of the line
+	 * @return the given content
+	 * @since 3.29
+	 */
+	private String cacheLine(int slot, int line, String content) {
+		fCachedLineNumbers[slot]= line;
+		fCachedLines[slot]= content;
+		return content;
+	}
+
 	private IDocument getDocumentForRead() {
 		return fActiveDocument;
 	}
 
 	@Override
 	public String getLine(int line) {
+		int slot= line & (LINE_CACHE_SIZE - 1);
+		if (fCachedLineNumbers[slot] == line && line >= 0) {
+			return fCachedLines[slot];
+		}
 
 		IDocument document= getDocumentForRead();
 		try {
-			return doGetLine(document, line);
+			return cacheLine(slot, line, doGetLine(document, line));
 		} catch (BadLocationException x) {
 			repairLineInformation(document);
 			try {
-				return doGetLine(document, line);
+				return cacheLine(slot, line, doGetLine(document, line));
 			} catch (BadLocationException x2) {
 			}
 		}
@@ -248,6 +302,8 @@ class DefaultDocumentAdapter implements IDocumentAdapter, IDocumentListener, IDo
 
 	@Override
 	public void documentChanged(DocumentEvent event) {
+		clearLineCache();
+
 		// check whether the given event is the one which was remembered
 		if (fEvent == null || event != fEvent) {
 			return;
@@ -269,6 +325,9 @@ class DefaultDocumentAdapter implements IDocumentAdapter, IDocumentListener, IDo
 		if (!fIsForwarding && fDocument == fActiveDocument) {
 			fActiveDocument= new DocumentClone(fActiveDocument.get(), fActiveDocument.getLegalLineDelimiters());
 		}
+		if (fDocument == fActiveDocument) {
+			clearLineCache();
+		}
 
 		fRememberedLengthOfDocument= fDocument.getLength();
 		try {
@@ -380,6 +439,7 @@ class DefaultDocumentAdapter implements IDocumentAdapter, IDocumentListener, IDo
 	public void resumeForwardingDocumentChanges() {
 		fIsForwarding= true;
 		fActiveDocument= fDocument;
+		clearLineCache();
 		fireTextSet();
 	}
 
@@ -0,0 +1,293 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jface.text;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.eclipse.swt.custom.StyleRange;
+import org.eclipse.swt.custom.StyledText;
+
+import org.eclipse.core.runtime.Assert;
+
+
+/**
+ * A compact sequence of style runs. Each run is stored as a start, a length and the id of its
+ * style in parallel <code>int</code> arrays. Equal styles are stored only once, so that a run does
+ * not need a <code>StyleRange</code> object of its own. Adjacent runs with equal styles are
+ * merged unless the sequence is created not to merge them. Note that merged runs are applied to a
+ * widget as one range, so the widget's {@link StyledText#getStyleRanges()} returns fewer ranges
+ * than have been added.
+ * <p>
+ * The runs are converted into the widget's representation only when they are applied to a
+ * {@link StyledText}, which then shares the style objects among its ranges. A sequence is meant to
+ * be reused: {@link #clear()} keeps the allocated arrays. Styles are not kept across a
+ * <code>clear()</code> since they may refer to fonts which have been disposed since.
+ * </p>
+ * <p>
+ * This class is not thread safe.
+ * </p>
+ *
+ * @since 3.29
+ */
+public class StyleRuns {
+
+	/**
+	 * The maximal length of the run arrays that is kept by {@link StyleRuns#clear()}.
+	 */
+	private static final int MAX_RETAINED_CAPACITY= 64 * 1024;
+
+	/**
+	 * The key of a style in the style table: style ranges are equal if they are similar, i.e.
+	 * their start and length are ignored.
+	 */
+	private static final class StyleKey {
+
+		/** The style. */
+		StyleRange fStyle;
+
+		StyleKey(StyleRange style) {
+			fStyle= style;
+		}
+
+		@Override
+		public int hashCode() {
+			return fStyle.hashCode();
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			return obj instanceof StyleKey && fStyle.similarTo(((StyleKey) obj).fStyle);
+		}
+	}
+
+	/** The starts of the runs. */
+	private int[] fStarts= new int[16];
+
+	/** The lengths of the runs. */
+	private int[] fLengths= new int[16];
+
+	/** The style ids of the runs, indices into {@link #fStyles}. */
+	private int[] fStyleIds= new int[16];
+
+	/** The number of runs. */
+	private int fRunCount;
+
+	/** The distinct styles, their start and length are <code>0</code>. */
+	private final List<StyleRange> fStyles= new ArrayList<>();
+
+	/** The ids of the distinct styles. */
+	private final Map<StyleKey, Integer> fStyleIdsByKey= new HashMap<>();
+
+	/** The key used to look up a style without allocating. */
+	private final StyleKey fLookupKey= new StyleKey(null);
+
+	/** Tells whether adjacent runs with equal styles are merged. */
+	private final boolean fMergeAdjacentRuns;
+
+	/**
+	 * Creates an empty sequence which merges adjacent runs with equal styles.
+	 */
+	public StyleRuns() {
+		this(true);
+	}
+
+	/**
+	 * Creates an empty sequence.
+	 *
+	 * @param mergeAdjacentRuns <code>true</code> to merge adjacent runs with equal styles,
+	 *            <code>false</code> to keep one run per added run
+	 */
+	public StyleRuns(boolean mergeAdjacentRuns) {
+		fMergeAdjacentRuns= mergeAdjacentRuns;
+	}
+
+	/**
+	 * Adds a run. Runs must be added in ascending order and must not overlap.
+	 *
+	 * @param start the start of the run
+	 * @param length the length of the run
+	 * @param style the style of the run, its start and length are ignored. The style is copied if
+	 *            it is not equal to a style of this sequence, so it may be changed afterwards.
+	 */
+	public void add(int start, int length, StyleRange style) {
+		Assert.isNotNull(style);
+		Assert.isLegal(length >= 0);
+		int styleId= getStyleId(style);
+		if (fRunCount > 0) {
+			int last= fRunCount - 1;
+			Assert.isLegal(start >= fStarts[last] + fLengths[last]);
+			if (fMergeAdjacentRuns && fStyleIds[last] == styleId && fStarts[last] + fLengths[last] == start) {
+				fLengths[last]+= length;
+				return;
+			}
+		}
+		if (fRunCount == fStarts.length) {
+			int capacity= fRunCount * 2;
+			fStarts= Arrays.copyOf(fStarts, capacity);
+			fLengths= Arrays.copyOf(fLengths, capacity);
+			fStyleIds= Arrays.copyOf(fStyleIds, capacity);
+		}
+		fStarts[fRunCount]= start;
+		fLengths[fRunCount]= length;
+		fStyleIds[fRunCount]= styleId;
+		fRunCount++;
+	}
+
+	/**
+	 * Returns the id of the given style, adding it to the style table if necessary.
+	 *
+	 * @param style the style
+	 * @return the style id
+	 */
+	private int getStyleId(StyleRange style) {
+		fLookupKey.fStyle= style;
+		Integer id= fStyleIdsByKey.get(fLookupKey);
+		fLookupKey.fStyle= null;
+		if (id != null) {
+			return id.intValue();
+		}
+		StyleRange copy= (StyleRange) style.clone();
+		copy.start= 0;
+		copy.length= 0;
+		int styleId= fStyles.size();
+		fStyles.add(copy);
+		fStyleIdsByKey.put(new StyleKey(copy), Integer.valueOf(styleId));
+		return styleId;
+	}
+
+	/**
+	 * Removes all runs and styles.
+	 */
+	public void clear() {
+		fRunCount= 0;
+		fStyles.clear();
+		fStyleIdsByKey.clear();
+		if (fStarts.length > MAX_RETAINED_CAPACITY) {
+			fStarts= new int[16];
+			fLengths= new int[16];
+			fStyleIds= new int[16];
+		}
+	}
+
+	/**
+	 * Returns the number of runs.
+	 *
+	 * @return the number of runs
+	 */
+	public int getRunCount() {
+		return fRunCount;
+	}
+
+	/**
+	 * Returns the number of distinct styles of the runs.
+	 *
+	 * @return the number of distinct styles
+	 */
+	public int getStyleCount() {
+		return fStyles.size();
+	}
+
+	/**
+	 * Returns the start of the given run.
+	 *
+	 * @param run the index of the run
+	 * @return the start of the run
+	 */
+	public int getStart(int run) {
+		Assert.isLegal(run >= 0 && run < fRunCount);
+		return fStarts[run];
+	}
+
+	/**
+	 * Returns the length of the given run.
+	 *
+	 * @param run the index of the run
+	 * @return the length of the run
+	 */
+	public int getLength(int run) {
+		Assert.isLegal(run >= 0 && run < fRunCount);
+		return fLengths[run];
+	}
+
+	/**
+	 * Returns the style of the given run. The style is shared by all runs with equal styles and
+	 * must not be modified; its start and length are <code>0</code>.
+	 *
+	 * @param run the index of the run
+	 * @return the style of the run
+	 */
+	public StyleRange getStyle(int run) {
+		Assert.isLegal(run >= 0 && run < fRunCount);
+		return fStyles.get(fStyleIds[run]);
+	}
+
+	/**
+	 * Replaces the styles of the given range of the text widget with the runs. The runs must be
+	 * inside the range.
+	 *
+	 * @param text the text widget
+	 * @param start the start of the range
+	 * @param length the length of the range
+	 */
+	public void replaceStyleRanges(StyledText text, int start, int length) {
+		if (fRunCount == 0) {
+			return;
+		}
+		text.setStyleRanges(start, length, getWidgetRanges(), getWidgetStyles());
+	}
+
+	/**
+	 * Replaces all styles of the text widget with the runs.
+	 *
+	 * @param text the text widget
+	 */
+	public void setStyleRanges(StyledText text) {
+		if (fRunCount == 0) {
+			return;
+		}
+		text.setStyleRanges(getWidgetRanges(), getWidgetStyles());
+	}
+
+	/**
+	 * Returns the runs as start and length pairs. The widget keeps the array, so a new one is
+	 * returned.
+	 *
+	 * @return the start and length pairs
+	 */
+	private int[] getWidgetRanges() {
+		int[] ranges= new int[fRunCount * 2];
+		for (int i= 0; i < fRunCount; i++) {
+			ranges[2 * i]= fStarts[i];
+			ranges[2 * i + 1]= fLengths[i];
+		}
+		return ranges;
+	}
+
+	/**
+	 * Returns the styles of the runs. The widget keeps the array, so a new one is returned.
+	 *
+	 * @return the styles, one per run
+	 */
+	private StyleRange[] getWidgetStyles() {
+		StyleRange[] styles= new StyleRange[fRunCount];
+		for (int i= 0; i < fRunCount; i++) {
+			styles[i]= fStyles.get(fStyleIds[i]);
+		}
+		return styles;
+	}
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2019 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -1715,6 +1715,20 @@ public class TextViewer extends Viewer implements
 	 * @since 3.8
 	 */
 	private Control fDisposedControl;
+	/**
+	 * The style runs reused to apply text presentations to the widget. Adjacent ranges with equal
+	 * styles are not merged, so that the widget has the same style ranges as the presentation.
+	 *
+	 * @since 3.29
+	 */
+	private final StyleRuns fStyleRuns= new StyleRuns(false);
+	/**
+	 * Tells whether a subclass overrides {@link #modelStyleRange2WidgetStyleRange(StyleRange)}, in
+	 * which case the style ranges of presentations are translated by that method.
+	 *
+	 * @since 3.29
+	 */
+	private final boolean fIsStyleRangeTranslationOverridden= isStyleRangeTranslationOverridden(getClass());
 
 
 	//---- Construction and disposal ------------------
@@ -4914,19 +4928,9 @@ public class TextViewer extends Viewer implements
 				fTextWidget.setStyleRange(range);
 			}
 
-			ArrayList<StyleRange> ranges= new ArrayList<>(presentation.getDenumerableRanges());
-			Iterator<StyleRange> e= presentation.getNonDefaultStyleRangeIterator();
-			while (e.hasNext()) {
-				range= e.next();
-				range= modelStyleRange2WidgetStyleRange(range);
-				if (range != null) {
-					ranges.add(range);
-				}
-			}
-
-			if (!ranges.isEmpty()) {
-				fTextWidget.replaceStyleRanges(0, 0, ranges.toArray(new StyleRange[ranges.size()]));
-			}
+			StyleRuns runs= getStyleRuns(presentation.getNonDefaultStyleRangeIterator());
+			runs.replaceStyleRanges(fTextWidget, 0, 0);
+			runs.clear();
 
 		} else {
 			IRegion region= modelRange2WidgetRange(presentation.getCoverage());
@@ -4934,21 +4938,9 @@ public class TextViewer extends Viewer implements
 				return;
 			}
 
-			List<StyleRange> list= new ArrayList<>(presentation.getDenumerableRanges());
-			Iterator<StyleRange> e= presentation.getAllStyleRangeIterator();
-			while (e.hasNext()) {
-				range= e.next();
-				range= modelStyleRange2WidgetStyleRange(range);
-				if (range != null) {
-					list.add(range);
-				}
-			}
-
-			if (!list.isEmpty()) {
-				StyleRange[] ranges= new StyleRange[list.size()];
-				list.toArray(ranges);
-				fTextWidget.replaceStyleRanges(region.getOffset(), region.getLength(), ranges);
-			}
+			StyleRuns runs= getStyleRuns(presentation.getAllStyleRangeIterator());
+			runs.replaceStyleRanges(fTextWidget, region.getOffset(), region.getLength());
+			runs.clear();
 		}
 	}
 
@@ -4959,22 +4951,58 @@ public class TextViewer extends Viewer implements
 	 * @since 2.1
 	 */
 	private void applyTextPresentation(TextPresentation presentation) {
+		StyleRuns runs= getStyleRuns(presentation.getAllStyleRangeIterator());
+		runs.setStyleRanges(fTextWidget);
+		runs.clear();
+	}
 
-		List<StyleRange> list= new ArrayList<>(presentation.getDenumerableRanges());
-		Iterator<StyleRange> e= presentation.getAllStyleRangeIterator();
-		while (e.hasNext()) {
-			StyleRange range= e.next();
-			range= modelStyleRange2WidgetStyleRange(range);
-			if (range != null) {
-				list.add(range);
+	/**
+	 * Collects the given style ranges in widget coordinates. Unless a subclass translates the
+	 * ranges with {@link #modelStyleRange2WidgetStyleRange(StyleRange)}, the ranges are not copied.
+	 * Equal styles are shared. Ranges which are not visible in the widget are skipped.
+	 *
+	 * @param ranges the style ranges in the coordinates of the viewer's document
+	 * @return the viewer's style runs, to be cleared by the caller after use
+	 * @since 3.29
+	 */
+	private StyleRuns getStyleRuns(Iterator<StyleRange> ranges) {
+		StyleRuns runs= fStyleRuns;
+		runs.clear();
+		while (ranges.hasNext()) {
+			StyleRange range= ranges.next();
+			if (fIsStyleRangeTranslationOverridden) {
+				range= modelStyleRange2WidgetStyleRange(range);
+				if (range != null) {
+					runs.add(range.start, range.length, range);
+				}
+			} else {
+				IRegion region= modelRange2WidgetRange(new Region(range.start, range.length));
+				if (region != null) {
+					runs.add(region.getOffset(), region.getLength(), range);
+				}
 			}
 		}
+		return runs;
+	}
 
-		if (!list.isEmpty()) {
-			StyleRange[] ranges= new StyleRange[list.size()];
-			list.toArray(ranges);
-			fTextWidget.setStyleRanges(ranges);
+	/**
+	 * Tells whether the given viewer class overrides
+	 * {@link #modelStyleRange2WidgetStyleRange(StyleRange)}.
+	 *
+	 * @param viewerClass the class of the viewer
+	 * @return <code>true</code> if the method is overridden
+	 * @since 3.29
+	 */
+	private static boolean isStyleRangeTranslationOverridden(Class<?> viewerClass) {
+		for (Class<?> c= viewerClass; c != TextViewer.class && c != null; c= c.getSuperclass()) {
+			try {
+				c.getDeclaredMethod("modelStyleRange2WidgetStyleRange", StyleRange.class); //$NON-NLS-1$
+				return true;
+			} catch (NoSuchMethodException e) {
+				// not declared by this class
+			}
 		}
+		return false;
 	}
 
 	/**
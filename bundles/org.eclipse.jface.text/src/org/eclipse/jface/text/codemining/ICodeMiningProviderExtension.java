@@ -0,0 +1,55 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jface.text.codemining;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import org.eclipse.core.runtime.IProgressMonitor;
+
+import org.eclipse.jface.text.IRegion;
+import org.eclipse.jface.text.ITextViewer;
+
+/**
+ * Extension interface for {@link ICodeMiningProvider}.
+ * <p>
+ * Adds the ability to compute the code minings of a part of the document only. Code mining
+ * providers implementing this interface are only asked for the minings of the visible lines and a
+ * margin around them. The results are cached per line: the cache entries of changed lines are
+ * discarded when the document changes and the minings of lines which are scrolled into view are
+ * requested on demand.
+ * </p>
+ *
+ * @since 3.29
+ */
+public interface ICodeMiningProviderExtension {
+
+	/**
+	 * Computes the code minings whose position starts in the given region. The region always
+	 * covers complete lines. Like {@link ICodeMiningProvider#provideCodeMinings(ITextViewer,
+	 * IProgressMonitor)} this call should return as fast as possible and leave expensive work to
+	 * {@link ICodeMining#resolve(ITextViewer, IProgressMonitor)}.
+	 * <p>
+	 * The returned future is cancelled when the result is not needed anymore, e.g. because the
+	 * document changed or the viewer has been scrolled to a different part of the document.
+	 * </p>
+	 *
+	 * @param viewer the viewer in which the command was invoked
+	 * @param region the region of the document for which minings are requested
+	 * @param monitor a progress monitor
+	 * @return a future of the code minings in the region. The lack of a result can be signaled by
+	 *         returning null, or an empty list.
+	 */
+	CompletableFuture<List<? extends ICodeMining>> provideCodeMinings(ITextViewer viewer, IRegion region, IProgressMonitor monitor);
+}
@@ -21,6 +21,7 @@ import java.util.Collection;
 import java.util.Collections;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.ListIterator;
 import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.Callable;
@@ -30,6 +31,7 @@ import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Future;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Consumer;
@@ -190,10 +192,19 @@ class AsyncCompletionProposalPopup extends CompletionProposalPopup {
 	}
 
 	private void computeAndPopulateProposals(int offset, Consumer<List<ICompletionProposal>> callback, boolean createSelector, boolean autoActivated, boolean autoInsert) {
-		List<CompletableFuture<List<ICompletionProposal>>> computationFutures= buildCompletionFuturesOrJobs(offset);
-		toCancelFutures.addAll(computationFutures);
 		fComputedProposals= Collections.synchronizedList(new ArrayList<>());
-		List<CompletableFuture<Void>> populateFutures= computationFutures.stream().map(future -> future.thenAccept(fComputedProposals::addAll)).collect(Collectors.toList());
+		final List<ICompletionProposal> requestSpecificProposals= fComputedProposals; //fComputedProposals can be changed/reset later
+		// set once the popup is populated asynchronously, refreshes it when streamed proposals arrive
+		AtomicReference<Runnable> streamedProposalsRefresh= new AtomicReference<>();
+		List<CompletableFuture<List<ICompletionProposal>>> computationFutures= buildCompletionFuturesOrJobs(offset, chunk -> {
+			addSorted(requestSpecificProposals, chunk);
+			Runnable refresh= streamedProposalsRefresh.get();
+			if (refresh != null) {
+				refresh.run();
+			}
+		});
+		toCancelFutures.addAll(computationFutures);
+		List<CompletableFuture<Void>> populateFutures= computationFutures.stream().map(future -> future.thenAccept(proposals -> addSorted(requestSpecificProposals, proposals))).collect(Collectors.toList());
 		toCancelFutures.addAll(populateFutures);
 		CompletableFuture<?> aggregatedPopulateFuture= CompletableFuture.allOf(populateFutures.toArray(new CompletableFuture[populateFutures.size()]));
 		toCancelFutures.add(aggregatedPopulateFuture);
@@ -223,6 +234,7 @@ class AsyncCompletionProposalPopup extends CompletionProposalPopup {
 				if (callback != null) {
 					callback.accept(fComputedProposals);
 				} else {
+					fIsInitialSort= fSorter != null;
 					setProposals(fComputedProposals, false);
 					displayProposals();
 				}
@@ -233,17 +245,15 @@ class AsyncCompletionProposalPopup extends CompletionProposalPopup {
 			}
 			ComputingProposal computingProposal= new ComputingProposal(offset, populateFutures.size());
 			fComputedProposals.add(0, computingProposal);
+			fIsInitialSort= fSorter != null;
 			setProposals(fComputedProposals, false);
 			AtomicInteger remaining= new AtomicInteger(populateFutures.size());
-			final List<ICompletionProposal> requestSpecificProposals= fComputedProposals; //fComputedProposals can be changed/reset later
-			populateFutures= populateFutures.stream().map(future -> future.thenRun(() -> {
-				computingProposal.setRemaining(remaining.decrementAndGet());
-				if (remaining.get() == 0) {
-					requestSpecificProposals.remove(computingProposal);
-				}
+			AtomicBoolean refreshScheduled= new AtomicBoolean();
+			Runnable refresh= () -> {
 				Control control= fContentAssistSubjectControlAdapter.getControl();
-				if (!control.isDisposed() && offset == fInvocationOffset) {
+				if (!control.isDisposed() && offset == fInvocationOffset && refreshScheduled.compareAndSet(false, true)) {
 					control.getDisplay().asyncExec(() -> {
+						refreshScheduled.set(false);
 						// Skip if offset has changed while runnable was scheduled
 						// nor when completion "session" was modified or canceled.
 						if (offset != fInvocationOffset || fComputedProposals != requestSpecificProposals) {
@@ -269,6 +279,7 @@ class AsyncCompletionProposalPopup extends CompletionProposalPopup {
 									|| (!stillComputing && !fComputedProposals.isEmpty());
 
 							if ((autoActivated && hasProposals) || !autoActivated) {
+								fIsInitialSort= fSorter != null;
 								setProposals(fComputedProposals, false);
 								displayProposals(true);
 							} else if (isValid(fProposalShell) && (!fProposalShell.isVisible() || !hasProposals) && remaining.get() == 0) {
@@ -277,6 +288,14 @@ class AsyncCompletionProposalPopup extends CompletionProposalPopup {
 						}
 					});
 				}
+			};
+			streamedProposalsRefresh.set(refresh);
+			populateFutures= populateFutures.stream().map(future -> future.thenRun(() -> {
+				computingProposal.setRemaining(remaining.decrementAndGet());
+				if (remaining.get() == 0) {
+					requestSpecificProposals.remove(computingProposal);
+				}
+				refresh.run();
 			})).collect(Collectors.toList());
 			toCancelFutures.addAll(populateFutures);
 			fAggregatedPopulateFuture= CompletableFuture.allOf(populateFutures.toArray(new CompletableFuture[populateFutures.size()]));
@@ -285,6 +304,54 @@ class AsyncCompletionProposalPopup extends CompletionProposalPopup {
 		displayProposals(!autoActivated);
 	}
 
+	/**
+	 * Adds the given proposals to the proposals of a completion session. If a sorter is set, the
+	 * proposals are sorted and merged into the already sorted proposals, so that the list does not
+	 * need to be sorted again each time a processor delivers its proposals. A
+	 * {@link ComputingProposal} stays at the top of the list.
+	 *
+	 * @param target the proposals of the session, a synchronized list
+	 * @param proposals the proposals to add
+	 */
+	private void addSorted(List<ICompletionProposal> target, List<ICompletionProposal> proposals) {
+		if (proposals == null || proposals.isEmpty()) {
+			return;
+		}
+		ICompletionProposalSorter sorter= fSorter;
+		synchronized (target) {
+			if (sorter == null) {
+				target.addAll(proposals);
+				return;
+			}
+			List<ICompletionProposal> sorted= new ArrayList<>(proposals);
+			sorted.sort(sorter::compare);
+			int i= !target.isEmpty() && target.get(0) instanceof ComputingProposal ? 1 : 0;
+			int j= 0;
+			List<ICompletionProposal> merged= new ArrayList<>(target.size() + sorted.size());
+			merged.addAll(target.subList(0, i));
+			while (i < target.size() && j < sorted.size()) {
+				if (sorter.compare(sorted.get(j), target.get(i)) < 0) {
+					merged.add(sorted.get(j++));
+				} else {
+					merged.add(target.get(i++));
+				}
+			}
+			merged.addAll(target.subList(i, target.size()));
+			merged.addAll(sorted.subList(j, sorted.size()));
+			// replace the elements in place while holding the list's monitor, so that the list is
+			// never seen empty or partially filled
+			ListIterator<ICompletionProposal> it= target.listIterator();
+			for (ICompletionProposal proposal : merged) {
+				if (it.hasNext()) {
+					it.next();
+					it.set(proposal);
+				} else {
+					it.add(proposal);
+				}
+			}
+		}
+	}
+
 	@Override
 	void displayProposals(boolean showPopup) {
 		if (showPopup) {
@@ -339,6 +406,12 @@ class AsyncCompletionProposalPopup extends CompletionProposalPopup {
 		return fComputedProposals;
 	}
 
+	@Override
+	boolean isLabelCacheable(ICompletionProposal proposal) {
+		// the progress shown by the computing proposal changes as the processors complete
+		return !(proposal instanceof ComputingProposal) && super.isLabelCacheable(proposal);
+	}
+
 	@Override
 	void createProposalSelector() {
 		super.createProposalSelector();
@@ -367,7 +440,18 @@ class AsyncCompletionProposalPopup extends CompletionProposalPopup {
 		cancelFutures();
 	}
 
-	protected List<CompletableFuture<List<ICompletionProposal>>> buildCompletionFuturesOrJobs(int invocationOffset) {
+	/**
+	 * Starts the computation of the proposals of all processors at the given offset. Processors
+	 * exceeding the {@link ContentAssistant#getProcessorTimeout() processor timeout} are
+	 * interrupted and their future completes with the proposals they reported so far.
+	 *
+	 * @param invocationOffset the offset at which content assist was invoked
+	 * @param streamedProposals receives the proposals reported incrementally by
+	 *            {@link IContentAssistProcessorExtension2} processors; these proposals are not
+	 *            part of the futures' results
+	 * @return a future per processor
+	 */
+	protected List<CompletableFuture<List<ICompletionProposal>>> buildCompletionFuturesOrJobs(int invocationOffset, Consumer<List<ICompletionProposal>> streamedProposals) {
 		Set<IContentAssistProcessor> processors = null;
 		try {
 			processors= fContentAssistant.getContentAssistProcessors(getTokenContentType(invocationOffset));
@@ -377,11 +461,25 @@ class AsyncCompletionProposalPopup extends CompletionProposalPopup {
 		if (processors == null) {
 			return Collections.emptyList();
 		}
+		long timeout= fContentAssistant.getProcessorTimeout();
 		List<CompletableFuture<List<ICompletionProposal>>> futures = new ArrayList<>(processors.size());
 		for (IContentAssistProcessor processor : processors) {
-			futures.add(submitInterruptible(() -> {
+			long start= System.nanoTime();
+			List<ICompletionProposal> timedOut= new ArrayList<>(0);
+			AtomicReference<CompletableFuture<List<ICompletionProposal>>> processorFuture= new AtomicReference<>();
+			CompletableFuture<List<ICompletionProposal>> future= submitInterruptible(() -> {
 				AtomicReference<List<ICompletionProposal>> result= new AtomicReference<>();
 				SafeRunner.run(() -> {
+					if (processor instanceof IContentAssistProcessorExtension2 streamingProcessor) {
+						streamingProcessor.computeCompletionProposals(fViewer, invocationOffset, chunk -> {
+							CompletableFuture<?> self= processorFuture.get();
+							if (chunk != null && (self == null || !self.isDone())) {
+								streamedProposals.accept(chunk);
+							}
+						});
+						result.set(Collections.emptyList());
+						return;
+					}
 					ICompletionProposal[] proposals= processor.computeCompletionProposals(fViewer, invocationOffset);
 					if (proposals == null) {
 						result.set(Collections.emptyList());
@@ -396,7 +494,14 @@ class AsyncCompletionProposalPopup extends CompletionProposalPopup {
 					return Collections.emptyList();
 				}
 				return proposals;
-			}, Activator.getExecutor()));
+			}, Activator.getExecutor(), timeout, timedOut);
+			processorFuture.set(future);
+			future.whenComplete((proposals, e) -> {
+				if (!future.isCancelled()) {
+					fContentAssistant.recordProcessorLatency(processor, System.nanoTime() - start, proposals == timedOut);
+				}
+			});
+			futures.add(future);
 		}
 		return futures;
 	}
@@ -407,10 +512,13 @@ class AsyncCompletionProposalPopup extends CompletionProposalPopup {
 	 *
 	 * @param executor Do not use the common pool here since that one does not cancel (interrupts)
 	 *            worker threads
+	 * @param timeout the time in milliseconds after which the task is interrupted and the future
+	 *            completes with <code>timeoutValue</code>, or <code>0</code> for no timeout
+	 * @param timeoutValue the result if the task times out
 	 * @return an interruptible future.
 	 */
 	private static <T> CompletableFuture<T> submitInterruptible(
-			Callable<T> task, ExecutorService executor) {
+			Callable<T> task, ExecutorService executor, long timeout, T timeoutValue) {
 
 		CompletableFuture<T> cf= new CompletableFuture<>();
 
@@ -429,6 +537,14 @@ class AsyncCompletionProposalPopup extends CompletionProposalPopup {
 			}
 		});
 
+		if (timeout > 0) {
+			CompletableFuture.delayedExecutor(timeout, TimeUnit.MILLISECONDS).execute(() -> {
+				if (cf.complete(timeoutValue)) {
+					ft.cancel(true);
+				}
+			});
+		}
+
 		return cf;
 	}
 
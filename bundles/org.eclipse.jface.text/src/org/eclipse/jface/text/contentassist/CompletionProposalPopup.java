@@ -24,7 +24,9 @@ import static org.eclipse.jface.util.Util.isValid;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.concurrent.atomic.AtomicBoolean;
 
 import org.eclipse.osgi.util.TextProcessor;
@@ -287,6 +289,39 @@ class CompletionProposalPopup implements IContentAssistListener {
 		}
 	}
 
+	/**
+	 * The cached label of a proposal in the proposal table.
+	 *
+	 * @since 3.29
+	 */
+	private static final class ProposalLabel {
+		String fText;
+		Image fImage;
+	}
+
+	/**
+	 * The result of filtering the computed proposals for a prefix.
+	 *
+	 * @since 3.29
+	 */
+	private static final class FilterResult {
+		/** The computed proposals which were filtered, and their size at that time. */
+		final List<ICompletionProposal> fComputed;
+		final int fComputedSize;
+		final int fOffset;
+		/** The text between the invocation offset and <code>fOffset</code>. */
+		final String fPrefix;
+		final List<ICompletionProposal> fProposals;
+
+		FilterResult(List<ICompletionProposal> computed, int offset, String prefix, List<ICompletionProposal> proposals) {
+			fComputed= computed;
+			fComputedSize= computed.size();
+			fOffset= offset;
+			fPrefix= prefix;
+			fProposals= proposals;
+		}
+	}
+
 
 	/** The associated text viewer. */
 	ITextViewer fViewer;
@@ -425,6 +460,21 @@ class CompletionProposalPopup implements IContentAssistListener {
 	 * @since 3.2
 	 */
 	int fLastCompletionOffset;
+	/**
+	 * The labels of the proposals shown in this session, so that re-filtering does not need to ask
+	 * the proposals for their display strings and images again. Styled labels are not cached, since
+	 * they may depend on the filter offset or be updated by the proposal later on.
+	 *
+	 * @since 3.29
+	 */
+	private final Map<ICompletionProposal, ProposalLabel> fLabelCache= new IdentityHashMap<>();
+	/**
+	 * The results of the previous filter runs of this session, ordered by offset. Used to narrow
+	 * the proposals when characters are deleted instead of filtering all computed proposals again.
+	 *
+	 * @since 3.29
+	 */
+	private final List<FilterResult> fFilterHistory= new ArrayList<>();
 	/**
 	 * The (reusable) empty proposal.
 	 *
@@ -876,6 +926,18 @@ class CompletionProposalPopup implements IContentAssistListener {
 		}
 	}
 
+	/**
+	 * Returns whether the label of the given proposal may be cached for the popup session. Proposals
+	 * whose label changes while the popup is shown, such as the empty proposal, are not cached.
+	 *
+	 * @param proposal the proposal
+	 * @return <code>true</code> if the label of the proposal may be cached
+	 * @since 3.29
+	 */
+	boolean isLabelCacheable(ICompletionProposal proposal) {
+		return proposal != fEmptyProposal;
+	}
+
 	/*
 	 * @since 3.1
 	 */
@@ -887,11 +949,24 @@ class CompletionProposalPopup implements IContentAssistListener {
 		if (0 <= index && index < proposals.size()) {
 			ICompletionProposal current= proposals.get(index);
 
+			ProposalLabel label= fLabelCache.get(current);
+			if (label != null) {
+				item.setText(label.fText);
+				if (fIsColoredLabelsSupportEnabled) {
+					TableOwnerDrawSupport.storeStyleRanges(item, 0, null);
+				}
+				item.setImage(label.fImage);
+				item.setData(current);
+				return;
+			}
+
 			String displayString;
 			StyleRange[] styleRanges= null;
 			Image image= null;
+			boolean cacheable= isLabelCacheable(current);
 			try {
 				if (fIsColoredLabelsSupportEnabled && current instanceof ICompletionProposalExtension7 && isValid(fProposalShell)) {
+					cacheable= false;
 					BoldStylerProvider boldStylerProvider= fContentAssistant.getBoldStylerProvider();
 					if (boldStylerProvider == null) {
 						boldStylerProvider= new BoldStylerProvider(fProposalShell.getFont());
@@ -902,6 +977,7 @@ class CompletionProposalPopup implements IContentAssistListener {
 					displayString= styledString.getString();
 					styleRanges= styledString.getStyleRanges();
 				} else if (fIsColoredLabelsSupportEnabled && current instanceof ICompletionProposalExtension6) {
+					cacheable= false;
 					StyledString styledString= ((ICompletionProposalExtension6) current).getStyledDisplayString();
 					displayString= styledString.getString();
 					styleRanges= styledString.getStyleRanges();
@@ -911,6 +987,7 @@ class CompletionProposalPopup implements IContentAssistListener {
 			} catch (RuntimeException e) {
 				// On failures to retrieve the proposal's text, insert a dummy entry and log the error.
 				displayString= JFaceTextMessages.getString("CompletionProposalPopup.error_retrieving_proposal"); //$NON-NLS-1$
+				cacheable= false;
 
 				String PLUGIN_ID= "org.eclipse.jface.text"; //$NON-NLS-1$
 				ILog log= ILog.of(Platform.getBundle(PLUGIN_ID));
@@ -923,6 +1000,13 @@ class CompletionProposalPopup implements IContentAssistListener {
 				// If we are unable to retrieve the proposal's image, leave it blank.
 			}
 
+			if (cacheable) {
+				label= new ProposalLabel();
+				label.fText= displayString;
+				label.fImage= image;
+				fLabelCache.put(current, label);
+			}
+
 			item.setText(displayString);
 			if (fIsColoredLabelsSupportEnabled) {
 				TableOwnerDrawSupport.storeStyleRanges(item, 0, styleRanges);
@@ -1164,6 +1248,8 @@ class CompletionProposalPopup implements IContentAssistListener {
 
 		fFilteredProposals= null;
 		fComputedProposals= null;
+		fLabelCache.clear();
+		fFilterHistory.clear();
 
 		fContentAssistant.possibleCompletionsClosed();
 	}
@@ -1187,6 +1273,9 @@ class CompletionProposalPopup implements IContentAssistListener {
 	 *        are removed from the displayed set
 	 */
 	void setProposals(List<ICompletionProposal> proposals, boolean isFilteredSubset) {
+		// consume the flag before a reentrant call or an early return can skip resetting it
+		boolean isInitialSort= fIsInitialSort;
+		fIsInitialSort= false;
 		List<ICompletionProposal> oldProposals= fFilteredProposals;
 		ICompletionProposal oldProposal= getSelectedProposal(); // may trigger filtering and a reentrant call to setProposals()
 		if (oldProposals != fFilteredProposals) { // reentrant call was first - abort
@@ -1204,10 +1293,9 @@ class CompletionProposalPopup implements IContentAssistListener {
 				proposals= Collections.singletonList(fEmptyProposal);
 			}
 
-			if (fSorter != null && !fIsInitialSort) {
+			if (fSorter != null && !isInitialSort) {
 				sortProposals(proposals);
 			}
-			fIsInitialSort= false;
 
 			fFilteredProposals= proposals;
 			final int newLen= proposals.size();
@@ -1583,14 +1671,17 @@ class CompletionProposalPopup implements IContentAssistListener {
 		if (offset < fInvocationOffset) {
 			fIsFilteredSubset= false;
 			fInvocationOffset= offset;
+			fFilterHistory.clear();
 			fContentAssistant.fireSessionRestartEvent();
 			fComputedProposals= computeProposals(fInvocationOffset);
 			return fComputedProposals;
 		}
 
+		IDocument document= fContentAssistSubjectControlAdapter.getDocument();
+		String prefix= getPrefix(document, offset);
 		List<ICompletionProposal> proposals;
 		if (offset < fFilterOffset) {
-			proposals= fComputedProposals;
+			proposals= getPreviousFilterResult(offset, prefix);
 			fIsFilteredSubset= false;
 		} else {
 			proposals= fFilteredProposals;
@@ -1602,7 +1693,6 @@ class CompletionProposalPopup implements IContentAssistListener {
 			return null;
 		}
 
-		IDocument document= fContentAssistSubjectControlAdapter.getDocument();
 		int length= proposals.size();
 		List<ICompletionProposal> filtered= new ArrayList<>(length);
 		for (ICompletionProposal proposal : proposals) {
@@ -1629,15 +1719,64 @@ class CompletionProposalPopup implements IContentAssistListener {
 				// restore original behavior
 				fIsFilteredSubset= false;
 				fInvocationOffset= offset;
+				fFilterHistory.clear();
 				fContentAssistant.fireSessionRestartEvent();
 				fComputedProposals= computeProposals(fInvocationOffset);
 				return fComputedProposals;
 			}
 		}
 
+		if (prefix != null && fComputedProposals != null) {
+			fFilterHistory.add(new FilterResult(fComputedProposals, offset, prefix, filtered));
+		}
 		return filtered;
 	}
 
+	/**
+	 * Returns the text between the invocation offset and the given offset.
+	 *
+	 * @param document the document
+	 * @param offset the filter offset
+	 * @return the text, or <code>null</code> if it cannot be determined
+	 * @since 3.29
+	 */
+	private String getPrefix(IDocument document, int offset) {
+		if (document == null || offset < fInvocationOffset) {
+			return null;
+		}
+		try {
+			return document.get(fInvocationOffset, offset - fInvocationOffset);
+		} catch (BadLocationException e) {
+			return null;
+		}
+	}
+
+	/**
+	 * Returns the proposals to filter when the filter offset moved backwards, e.g. because
+	 * characters were deleted. If a previous filter run of this session was done for the same
+	 * prefix and the computed proposals did not change since, its result contains all proposals
+	 * which can still be valid; otherwise all computed proposals have to be filtered.
+	 *
+	 * @param offset the new filter offset
+	 * @param prefix the text between the invocation offset and <code>offset</code>
+	 * @return the proposals to filter
+	 * @since 3.29
+	 */
+	private List<ICompletionProposal> getPreviousFilterResult(int offset, String prefix) {
+		for (int i= fFilterHistory.size() - 1; i >= 0; i--) {
+			FilterResult result= fFilterHistory.get(i);
+			if (result.fOffset < offset) {
+				break;
+			}
+			fFilterHistory.remove(i);
+			if (result.fOffset == offset && result.fPrefix.equals(prefix) && result.fComputed == fComputedProposals
+					&& result.fComputedSize == fComputedProposals.size()) {
+				return result.fProposals;
+			}
+		}
+		return fComputedProposals;
+	}
+
 	/**
 	 * Requests the proposal shell to take focus.
 	 *
@@ -31,6 +31,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.eclipse.swt.SWT;
 import org.eclipse.swt.SWTError;
@@ -906,6 +907,85 @@ public class ContentAssistant implements IContentAssistant, IContentAssistantExt
 		}
 	}
 
+	/**
+	 * Latency statistics of a content assist processor, measured from the start of the proposal
+	 * computation until the processor returned or was timed out.
+	 *
+	 * @see ContentAssistant#getProcessorLatencies()
+	 * @since 3.29
+	 */
+	public static final class ProcessorLatency {
+
+		private long fCount;
+		private long fTimeouts;
+		private long fTotalNanos;
+		private long fMaxNanos;
+		private long fLastNanos;
+
+		synchronized void record(long nanos, boolean timedOut) {
+			fCount++;
+			if (timedOut) {
+				fTimeouts++;
+			}
+			fTotalNanos+= nanos;
+			fLastNanos= nanos;
+			if (nanos > fMaxNanos) {
+				fMaxNanos= nanos;
+			}
+		}
+
+		/**
+		 * Returns the number of computations.
+		 *
+		 * @return the number of computations
+		 */
+		public synchronized long getCount() {
+			return fCount;
+		}
+
+		/**
+		 * Returns the number of computations which exceeded the processor timeout.
+		 *
+		 * @return the number of timed out computations
+		 */
+		public synchronized long getTimeoutCount() {
+			return fTimeouts;
+		}
+
+		/**
+		 * Returns the average latency in milliseconds.
+		 *
+		 * @return the average latency in milliseconds
+		 */
+		public synchronized double getAverageMillis() {
+			return fCount == 0 ? 0 : fTotalNanos / (fCount * 1_000_000d);
+		}
+
+		/**
+		 * Returns the maximal latency in milliseconds.
+		 *
+		 * @return the maximal latency in milliseconds
+		 */
+		public synchronized double getMaxMillis() {
+			return fMaxNanos / 1_000_000d;
+		}
+
+		/**
+		 * Returns the latency of the last computation in milliseconds.
+		 *
+		 * @return the latency of the last computation in milliseconds
+		 */
+		public synchronized double getLastMillis() {
+			return fLastNanos / 1_000_000d;
+		}
+
+		@Override
+		public synchronized String toString() {
+			return String.format("count=%d, timeouts=%d, avg=%.2fms, max=%.2fms, last=%.2fms", //$NON-NLS-1$
+					Long.valueOf(fCount), Long.valueOf(fTimeouts), Double.valueOf(getAverageMillis()), Double.valueOf(getMaxMillis()), Double.valueOf(getLastMillis()));
+		}
+	}
+
 	/**
 	 * Dialog store constant for the x-size of the completion proposal pop-up
 	 *
@@ -1112,6 +1192,20 @@ public class ContentAssistant implements IContentAssistant, IContentAssistantExt
 	 */
 	private boolean fAutoActivateCompletionOnType= false;
 
+	/**
+	 * The time in milliseconds after which the computation of an asynchronous processor is
+	 * interrupted, or <code>0</code> if processors are not time-boxed.
+	 *
+	 * @since 3.29
+	 */
+	private long fProcessorTimeout= 0;
+
+	/**
+	 * The latency statistics per processor.
+	 *
+	 * @since 3.29
+	 */
+	private final Map<IContentAssistProcessor, ProcessorLatency> fProcessorLatencies= new ConcurrentHashMap<>();
 
 	/**
 	 * Creates a new content assistant. The content assistant is not automatically activated,
@@ -2084,7 +2178,9 @@ public class ContentAssistant implements IContentAssistant, IContentAssistantExt
 				@Override
 				public void run() throws Exception {
 					processors.forEach(p -> {
+						long start= System.nanoTime();
 						ICompletionProposal[] proposals= p.computeCompletionProposals(viewer, offset);
+						recordProcessorLatency(p, System.nanoTime() - start, false);
 						if (proposals != null) {
 							res.addAll(Arrays.asList(proposals));
 						}
@@ -2822,4 +2918,43 @@ public class ContentAssistant implements IContentAssistant, IContentAssistantExt
 	boolean isAutoActivateCompletionOnType() {
 		return fAutoActivateCompletionOnType;
 	}
+
+	/**
+	 * Sets the time after which the computation of a processor is interrupted. Only asynchronous
+	 * content assistants honor the timeout: proposals of a processor which does not complete in
+	 * time are dropped, except for those already reported by an
+	 * {@link IContentAssistProcessorExtension2}.
+	 *
+	 * @param timeout the timeout in milliseconds, or <code>0</code> to wait for all processors
+	 * @since 3.29
+	 */
+	public void setProcessorTimeout(long timeout) {
+		Assert.isLegal(timeout >= 0);
+		fProcessorTimeout= timeout;
+	}
+
+	/**
+	 * Returns the time after which the computation of a processor is interrupted.
+	 *
+	 * @return the timeout in milliseconds, or <code>0</code> if processors are not time-boxed
+	 * @since 3.29
+	 */
+	public long getProcessorTimeout() {
+		return fProcessorTimeout;
+	}
+
+	/**
+	 * Returns the latency statistics of the processors which computed completion proposals for
+	 * this content assistant. Intended for diagnostics.
+	 *
+	 * @return the latency statistics per processor
+	 * @since 3.29
+	 */
+	public Map<IContentAssistProcessor, ProcessorLatency> getProcessorLatencies() {
+		return Collections.unmodifiableMap(fProcessorLatencies);
+	}
+
+	void recordProcessorLatency(IContentAssistProcessor processor, long nanos, boolean timedOut) {
+		fProcessorLatencies.computeIfAbsent(processor, p -> new ProcessorLatency()).record(nanos, timedOut);
+	}
 }
@@ -0,0 +1,69 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jface.text.contentassist;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+import org.eclipse.jface.text.ITextViewer;
+
+/**
+ * Extension interface of {@link IContentAssistProcessor} for processors which can report their
+ * completion proposals incrementally.
+ * <p>
+ * When used with an asynchronous {@link ContentAssistant}, the proposals reported to the collector
+ * are merged into the proposal popup as soon as they arrive, so that the first proposals are shown
+ * before the processor is done. If the processor exceeds the
+ * {@link ContentAssistant#setProcessorTimeout(long) processor timeout}, the proposals reported so
+ * far are kept and the computation is interrupted. Synchronous content assistants collect all
+ * reported proposals before showing them.
+ * </p>
+ *
+ * @since 3.29
+ */
+public interface IContentAssistProcessorExtension2 extends IContentAssistProcessor {
+
+	/**
+	 * Computes the completion proposals at the given offset and reports them to the given
+	 * collector, possibly in several chunks. This method is called in a background thread when the
+	 * content assistant is asynchronous; implementations should return early when the calling
+	 * thread is interrupted.
+	 *
+	 * @param viewer the viewer whose document is used to compute the proposals
+	 * @param offset an offset within the document for which completions should be computed
+	 * @param collector the collector to report the proposals to; may be called from any thread
+	 */
+	void computeCompletionProposals(ITextViewer viewer, int offset, Consumer<List<ICompletionProposal>> collector);
+
+	/**
+	 * {@inheritDoc}
+	 * <p>
+	 * The default implementation collects all proposals reported by
+	 * {@link #computeCompletionProposals(ITextViewer, int, Consumer)}.
+	 * </p>
+	 */
+	@Override
+	default ICompletionProposal[] computeCompletionProposals(ITextViewer viewer, int offset) {
+		List<ICompletionProposal> proposals= new ArrayList<>();
+		computeCompletionProposals(viewer, offset, chunk -> {
+			synchronized (proposals) {
+				proposals.addAll(chunk);
+			}
+		});
+		synchronized (proposals) {
+			return proposals.toArray(new ICompletionProposal[proposals.size()]);
+		}
+	}
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2015 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -18,6 +18,7 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Iterator;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 import org.eclipse.swt.SWT;
 import org.eclipse.swt.custom.StyledText;
@@ -29,11 +30,18 @@ import org.eclipse.swt.events.MouseEvent;
 import org.eclipse.swt.events.MouseListener;
 import org.eclipse.swt.events.MouseMoveListener;
 import org.eclipse.swt.events.MouseTrackListener;
+import org.eclipse.swt.widgets.Display;
 import org.eclipse.swt.widgets.Event;
 import org.eclipse.swt.widgets.Listener;
 
 import org.eclipse.core.runtime.Assert;
+import org.eclipse.core.runtime.ILog;
+import org.eclipse.core.runtime.IStatus;
+import org.eclipse.core.runtime.Platform;
+import org.eclipse.core.runtime.Status;
 
+import org.eclipse.jface.text.IDocument;
+import org.eclipse.jface.text.IDocumentExtension4;
 import org.eclipse.jface.text.IRegion;
 import org.eclipse.jface.text.ITextListener;
 import org.eclipse.jface.text.ITextSelection;
@@ -134,6 +142,180 @@ public class HyperlinkManager implements ITextListener, Listener, KeyListener, M
 	private IHyperlinkPresenter fHyperlinkPresenter;
 	/** The detection strategy. */
 	private final DETECTION_STRATEGY fDetectionStrategy;
+	/**
+	 * The recently detected hyperlinks, most recent first.
+	 * @since 3.29
+	 */
+	private final List<DetectionResult> fDetectionCache= new ArrayList<>(DETECTION_CACHE_SIZE);
+	/**
+	 * The document of the cached detection results.
+	 * @since 3.29
+	 */
+	private IDocument fDetectionCacheDocument;
+	/**
+	 * The number of the current background detection request, incremented to cancel it.
+	 * @since 3.29
+	 */
+	private volatile int fDetectionRequest;
+	/**
+	 * The pending background detection, <code>null</code> if none.
+	 * @since 3.29
+	 */
+	private BackgroundDetection fPendingDetection;
+	/**
+	 * The background detection running in the current thread, <code>null</code> if none.
+	 * @since 3.29
+	 */
+	private final ThreadLocal<BackgroundDetection> fRunningDetection= new ThreadLocal<>();
+
+
+	/** The maximal number of cached detection results. */
+	private static final int DETECTION_CACHE_SIZE= 16;
+
+	/** The delay in milliseconds after the last mouse move before hyperlinks are detected in the background. */
+	private static final int DETECTION_DELAY= 40;
+
+
+	/**
+	 * The hyperlinks detected for an offset, valid for the document modification stamp at which
+	 * they have been detected.
+	 *
+	 * @since 3.29
+	 */
+	private static final class DetectionResult {
+
+		/** The document modification stamp at which the hyperlinks have been detected. */
+		final long fModificationStamp;
+		/** The state mask for which the hyperlinks have been detected. */
+		final int fStateMask;
+		/** The start of the offsets for which the result is valid. */
+		final int fOffset;
+		/** The end of the offsets for which the result is valid, exclusive. */
+		final int fEnd;
+		/** The detected hyperlinks, <code>null</code> if none. */
+		final IHyperlink[] fHyperlinks;
+
+		DetectionResult(long modificationStamp, int stateMask, int offset, IHyperlink[] hyperlinks) {
+			fModificationStamp= modificationStamp;
+			fStateMask= stateMask;
+			fHyperlinks= hyperlinks;
+			int start= offset;
+			int end= offset + 1;
+			if (hyperlinks != null) {
+				// valid where all hyperlinks are
+				start= Integer.MIN_VALUE;
+				end= Integer.MAX_VALUE;
+				for (IHyperlink hyperlink : hyperlinks) {
+					IRegion region= hyperlink.getHyperlinkRegion();
+					start= Math.max(start, region.getOffset());
+					end= Math.min(end, region.getOffset() + region.getLength());
+				}
+				if (offset < start || offset >= end) {
+					start= offset;
+					end= offset + 1;
+				}
+			}
+			fOffset= start;
+			fEnd= end;
+		}
+
+		boolean covers(long modificationStamp, int stateMask, int offset) {
+			return fModificationStamp == modificationStamp && fStateMask == stateMask && fOffset <= offset && offset < fEnd;
+		}
+	}
+
+	/**
+	 * Detects the hyperlinks at an offset in the background once the mouse rests for
+	 * {@link HyperlinkManager#DETECTION_DELAY} milliseconds.
+	 *
+	 * @since 3.29
+	 */
+	private final class BackgroundDetection implements Runnable {
+
+		private final ITextViewer fViewer;
+		private final int fRequest;
+		private final int fOffset;
+		private final int fStateMask;
+		private final long fModificationStamp;
+		private final IHyperlinkDetector[] fDetectors;
+		private final boolean fCanShowMultipleHyperlinks;
+		private CompletableFuture<IHyperlink[]> fFuture;
+
+		BackgroundDetection(int request, int offset, int stateMask, long modificationStamp) {
+			fViewer= fTextViewer;
+			fRequest= request;
+			fOffset= offset;
+			fStateMask= stateMask;
+			fModificationStamp= modificationStamp;
+			fDetectors= getHyperlinkDetectors();
+			fCanShowMultipleHyperlinks= fHyperlinkPresenter.canShowMultipleHyperlinks();
+		}
+
+		@Override
+		public void run() {
+			if (fRequest != fDetectionRequest) {
+				return;
+			}
+			if (fTextViewer != fViewer) {
+				return;
+			}
+			Display display= fViewer.getTextWidget().getDisplay();
+			IDocument document= fViewer.getDocument();
+			fFuture= CompletableFuture.supplyAsync(() -> {
+				fRunningDetection.set(this);
+				try {
+					return findHyperlinks();
+				} catch (RuntimeException ex) {
+					if (isModified(document)) {
+						// the detectors have read the document while it was being changed
+						return null;
+					}
+					String PLUGIN_ID= "org.eclipse.jface.text"; //$NON-NLS-1$
+					ILog log= ILog.of(Platform.getBundle(PLUGIN_ID));
+					log.log(new Status(IStatus.ERROR, PLUGIN_ID, IStatus.OK, "Unexpected runtime error while detecting hyperlinks", ex)); //$NON-NLS-1$
+					return null;
+				} finally {
+					fRunningDetection.remove();
+				}
+			});
+			fFuture.thenAccept(hyperlinks -> {
+				if (fRequest == fDetectionRequest && !isModified(document) && !display.isDisposed()) {
+					display.asyncExec(() -> done(hyperlinks));
+				}
+			});
+		}
+
+		private void done(IHyperlink[] hyperlinks) {
+			if (fRequest != fDetectionRequest || fTextViewer == null || !fActive || getModificationStamp() != fModificationStamp) {
+				return;
+			}
+			fPendingDetection= null;
+			cacheHyperlinks(fModificationStamp, fStateMask, fOffset, hyperlinks);
+			fActiveHyperlinks= hyperlinks;
+			showHyperlinks(false);
+		}
+
+		/**
+		 * Tells whether the given document has been changed since the detection has been
+		 * requested. Called in the detection thread.
+		 *
+		 * @param document the document of the viewer when the detection started
+		 * @return <code>true</code> if the document has been changed
+		 */
+		private boolean isModified(IDocument document) {
+			return !(document instanceof IDocumentExtension4) || ((IDocumentExtension4) document).getModificationStamp() != fModificationStamp;
+		}
+
+		void cancel() {
+			StyledText text= fTextViewer == null ? null : fTextViewer.getTextWidget();
+			if (text != null && !text.isDisposed()) {
+				text.getDisplay().timerExec(-1, this);
+			}
+			if (fFuture != null) {
+				fFuture.cancel(false);
+			}
+		}
+	}
 
 
 	/**
@@ -198,6 +380,9 @@ public class HyperlinkManager implements ITextListener, Listener, KeyListener, M
 				fHyperlinkDetectors= hyperlinkDetectors;
 			}
 		}
+		// the results of the previous detectors are no longer valid
+		cancelBackgroundDetection();
+		fDetectionCache.clear();
 	}
 
 	/**
@@ -215,6 +400,8 @@ public class HyperlinkManager implements ITextListener, Listener, KeyListener, M
 	 */
 	public void setHyperlinkStateMask(int eventStateMask) {
 		fHyperlinkStateMask= eventStateMask;
+		cancelBackgroundDetection();
+		fDetectionCache.clear();
 	}
 
 	/**
@@ -222,6 +409,8 @@ public class HyperlinkManager implements ITextListener, Listener, KeyListener, M
 	 */
 	public void uninstall() {
 		deactivate();
+		fDetectionCache.clear();
+		fDetectionCacheDocument= null;
 
 		StyledText text= fTextViewer.getTextWidget();
 		if (text != null && !text.isDisposed()) {
@@ -245,17 +434,23 @@ public class HyperlinkManager implements ITextListener, Listener, KeyListener, M
 	 * Deactivates the currently shown hyperlinks.
 	 */
 	protected void deactivate() {
+		cancelBackgroundDetection();
 		fHyperlinkPresenter.hideHyperlinks();
 		fActive= false;
 	}
 
 	/**
 	 * Finds hyperlinks at the current offset.
+	 * <p>
+	 * Called in a background thread if all hyperlink detectors can detect in the background, see
+	 * {@link IHyperlinkDetectorExtension3}. The offset is then the one at which the mouse rested.
+	 * </p>
 	 *
 	 * @return the hyperlinks or <code>null</code> if none.
 	 */
 	protected IHyperlink[] findHyperlinks() {
-		int offset= getCurrentTextOffset();
+		BackgroundDetection detection= fRunningDetection.get();
+		int offset= detection != null ? detection.fOffset : getCurrentTextOffset();
 		if (offset == -1) {
 			return null;
 		}
@@ -272,40 +467,63 @@ public class HyperlinkManager implements ITextListener, Listener, KeyListener, M
 	 * @since 3.7
 	 */
 	private IHyperlink[] findHyperlinks(IRegion region) {
-		List<IHyperlink> allHyperlinks= new ArrayList<>(fHyperlinkDetectors.length * 2);
-		synchronized (fHyperlinkDetectors) {
-			for (IHyperlinkDetector detector : fHyperlinkDetectors) {
-				if (detector == null) {
-					continue;
-				}
+		BackgroundDetection detection= fRunningDetection.get();
+		if (detection != null) {
+			return findHyperlinks(detection.fViewer, region, detection.fDetectors, detection.fStateMask, detection.fCanShowMultipleHyperlinks, detection.fRequest);
+		}
+		return findHyperlinks(fTextViewer, region, getHyperlinkDetectors(), fActiveHyperlinkStateMask, fHyperlinkPresenter.canShowMultipleHyperlinks(), -1);
+	}
 
-				if (detector instanceof IHyperlinkDetectorExtension2) {
-					int stateMask= ((IHyperlinkDetectorExtension2)detector).getStateMask();
-					if (stateMask != -1 && stateMask != fActiveHyperlinkStateMask) {
-						continue;
-					} else if (stateMask == -1 && fActiveHyperlinkStateMask != fHyperlinkStateMask) {
-						continue;
-					}
-				} else if (fActiveHyperlinkStateMask != fHyperlinkStateMask) {
-					continue;
-				}
+	/**
+	 * Returns the hyperlinks in the given region or <code>null</code> if none. May be called in a
+	 * background thread.
+	 *
+	 * @param textViewer the text viewer
+	 * @param region the selection region
+	 * @param detectors a copy of the hyperlink detectors
+	 * @param stateMask the active state mask
+	 * @param canShowMultipleHyperlinks whether the presenter can show multiple hyperlinks
+	 * @param request the background detection request, detection stops once it is canceled, or
+	 *            <code>-1</code> if detecting in the UI thread
+	 * @return the array of hyperlinks found or <code>null</code> if none
+	 * @since 3.29
+	 */
+	private IHyperlink[] findHyperlinks(ITextViewer textViewer, IRegion region, IHyperlinkDetector[] detectors, int stateMask, boolean canShowMultipleHyperlinks, int request) {
+		List<IHyperlink> allHyperlinks= new ArrayList<>(detectors.length * 2);
+		for (IHyperlinkDetector detector : detectors) {
+			if (detector == null) {
+				continue;
+			}
+
+			if (request != -1 && request != fDetectionRequest) {
+				return null;
+			}
 
-				boolean canShowMultipleHyperlinks= fHyperlinkPresenter.canShowMultipleHyperlinks();
-				IHyperlink[] hyperlinks= detector.detectHyperlinks(fTextViewer, region, canShowMultipleHyperlinks);
-				if (hyperlinks == null) {
+			if (detector instanceof IHyperlinkDetectorExtension2) {
+				int detectorStateMask= ((IHyperlinkDetectorExtension2)detector).getStateMask();
+				if (detectorStateMask != -1 && detectorStateMask != stateMask) {
+					continue;
+				} else if (detectorStateMask == -1 && stateMask != fHyperlinkStateMask) {
 					continue;
 				}
+			} else if (stateMask != fHyperlinkStateMask) {
+				continue;
+			}
 
-				Assert.isLegal(hyperlinks.length > 0);
+			IHyperlink[] hyperlinks= detector.detectHyperlinks(textViewer, region, canShowMultipleHyperlinks);
+			if (hyperlinks == null) {
+				continue;
+			}
 
-				if (fDetectionStrategy == FIRST) {
-					if (hyperlinks.length == 1) {
-						return hyperlinks;
-					}
-					return new IHyperlink[] {hyperlinks[0]};
+			Assert.isLegal(hyperlinks.length > 0);
+
+			if (fDetectionStrategy == FIRST) {
+				if (hyperlinks.length == 1) {
+					return hyperlinks;
 				}
-				allHyperlinks.addAll(Arrays.asList(hyperlinks));
+				return new IHyperlink[] {hyperlinks[0]};
 			}
+			allHyperlinks.addAll(Arrays.asList(hyperlinks));
 		}
 
 		if (allHyperlinks.isEmpty()) {
@@ -418,7 +636,18 @@ public class HyperlinkManager implements ITextListener, Listener, KeyListener, M
 			return;
 		}
 
-		fActiveHyperlinks= findHyperlinks();
+		cancelBackgroundDetection();
+		int offset= getCurrentTextOffset();
+		long modificationStamp= getModificationStamp();
+		DetectionResult result= getCachedResult(modificationStamp, fActiveHyperlinkStateMask, offset);
+		if (result != null) {
+			fActiveHyperlinks= result.fHyperlinks;
+		} else {
+			fActiveHyperlinks= findHyperlinks();
+			if (offset != -1) {
+				cacheHyperlinks(modificationStamp, fActiveHyperlinkStateMask, offset, fActiveHyperlinks);
+			}
+		}
 		showHyperlinks(false);
 	}
 
@@ -471,10 +700,155 @@ public class HyperlinkManager implements ITextListener, Listener, KeyListener, M
 			return;
 		}
 
-		fActiveHyperlinks= findHyperlinks();
+		int offset= getCurrentTextOffset();
+		long modificationStamp= getModificationStamp();
+		DetectionResult result= getCachedResult(modificationStamp, fActiveHyperlinkStateMask, offset);
+		if (result != null) {
+			cancelBackgroundDetection();
+			fActiveHyperlinks= result.fHyperlinks;
+		} else if (offset != -1 && modificationStamp != IDocumentExtension4.UNKNOWN_MODIFICATION_STAMP && canDetectInBackground()) {
+			if (!isInActiveHyperlinks(offset)) {
+				fActiveHyperlinks= null;
+			}
+			cancelBackgroundDetection();
+			fPendingDetection= new BackgroundDetection(++fDetectionRequest, offset, fActiveHyperlinkStateMask, modificationStamp);
+			text.getDisplay().timerExec(DETECTION_DELAY, fPendingDetection);
+		} else {
+			cancelBackgroundDetection();
+			fActiveHyperlinks= findHyperlinks();
+			if (offset != -1) {
+				cacheHyperlinks(modificationStamp, fActiveHyperlinkStateMask, offset, fActiveHyperlinks);
+			}
+		}
 		showHyperlinks(false);
 	}
 
+	/**
+	 * Tells whether the hyperlinks of the active state mask can be detected in the background.
+	 *
+	 * @return <code>true</code> if all hyperlink detectors can detect in the background
+	 * @since 3.29
+	 */
+	private boolean canDetectInBackground() {
+		for (IHyperlinkDetector detector : getHyperlinkDetectors()) {
+			if (detector != null && !(detector instanceof IHyperlinkDetectorExtension3 && ((IHyperlinkDetectorExtension3) detector).canDetectInBackground())) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Returns a copy of the hyperlink detectors. The lock on the detectors is only held while
+	 * copying them so that the UI thread never waits for a detection in the background.
+	 *
+	 * @return a copy of the hyperlink detectors
+	 * @since 3.29
+	 */
+	private IHyperlinkDetector[] getHyperlinkDetectors() {
+		IHyperlinkDetector[] detectors= fHyperlinkDetectors;
+		synchronized (detectors) {
+			return detectors.clone();
+		}
+	}
+
+	/**
+	 * Tells whether the given offset is inside one of the active hyperlinks.
+	 *
+	 * @param offset the offset
+	 * @return <code>true</code> if an active hyperlink contains the offset
+	 * @since 3.29
+	 */
+	private boolean isInActiveHyperlinks(int offset) {
+		if (fActiveHyperlinks != null) {
+			for (IHyperlink hyperlink : fActiveHyperlinks) {
+				IRegion region= hyperlink.getHyperlinkRegion();
+				if (region.getOffset() <= offset && offset < region.getOffset() + region.getLength()) {
+					return true;
+				}
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * Cancels the pending background detection, if any.
+	 *
+	 * @since 3.29
+	 */
+	private void cancelBackgroundDetection() {
+		if (fPendingDetection != null) {
+			fDetectionRequest++;
+			fPendingDetection.cancel();
+			fPendingDetection= null;
+		}
+	}
+
+	/**
+	 * Returns the modification stamp of the viewer's document.
+	 *
+	 * @return the modification stamp or {@link IDocumentExtension4#UNKNOWN_MODIFICATION_STAMP}
+	 * @since 3.29
+	 */
+	private long getModificationStamp() {
+		IDocument document= fTextViewer.getDocument();
+		if (document != fDetectionCacheDocument) {
+			fDetectionCache.clear();
+			fDetectionCacheDocument= document;
+		}
+		if (document instanceof IDocumentExtension4) {
+			return ((IDocumentExtension4) document).getModificationStamp();
+		}
+		return IDocumentExtension4.UNKNOWN_MODIFICATION_STAMP;
+	}
+
+	/**
+	 * Returns the cached hyperlinks detected at the given offset.
+	 *
+	 * @param modificationStamp the current modification stamp of the document
+	 * @param stateMask the active state mask
+	 * @param offset the offset
+	 * @return the cached result or <code>null</code> if the hyperlinks at the offset are not known
+	 * @since 3.29
+	 */
+	private DetectionResult getCachedResult(long modificationStamp, int stateMask, int offset) {
+		if (offset == -1 || modificationStamp == IDocumentExtension4.UNKNOWN_MODIFICATION_STAMP) {
+			return null;
+		}
+		for (int i= 0; i < fDetectionCache.size(); i++) {
+			DetectionResult result= fDetectionCache.get(i);
+			if (result.covers(modificationStamp, stateMask, offset)) {
+				if (i > 0) {
+					fDetectionCache.remove(i);
+					fDetectionCache.add(0, result);
+				}
+				return result;
+			}
+		}
+		return null;
+	}
+
+	/**
+	 * Caches the hyperlinks detected at the given offset. Results of older document modification
+	 * stamps are discarded.
+	 *
+	 * @param modificationStamp the modification stamp of the document at detection time
+	 * @param stateMask the active state mask
+	 * @param offset the offset
+	 * @param hyperlinks the detected hyperlinks, <code>null</code> if none
+	 * @since 3.29
+	 */
+	private void cacheHyperlinks(long modificationStamp, int stateMask, int offset, IHyperlink[] hyperlinks) {
+		if (modificationStamp == IDocumentExtension4.UNKNOWN_MODIFICATION_STAMP) {
+			return;
+		}
+		fDetectionCache.removeIf(result -> result.fModificationStamp != modificationStamp);
+		if (fDetectionCache.size() == DETECTION_CACHE_SIZE) {
+			fDetectionCache.remove(DETECTION_CACHE_SIZE - 1);
+		}
+		fDetectionCache.add(0, new DetectionResult(modificationStamp, stateMask, offset, hyperlinks));
+	}
+
 	/**
 	 * Checks whether the given state mask is registered.
 	 *
@@ -487,12 +861,10 @@ public class HyperlinkManager implements ITextListener, Listener, KeyListener, M
 			return true;
 		}
 
-		synchronized (fHyperlinkDetectors) {
-			for (IHyperlinkDetector fHyperlinkDetector : fHyperlinkDetectors) {
-				if (fHyperlinkDetector instanceof IHyperlinkDetectorExtension2) {
-					if (stateMask == ((IHyperlinkDetectorExtension2)fHyperlinkDetector).getStateMask()) {
-						return true;
-					}
+		for (IHyperlinkDetector fHyperlinkDetector : getHyperlinkDetectors()) {
+			if (fHyperlinkDetector instanceof IHyperlinkDetectorExtension2) {
+				if (stateMask == ((IHyperlinkDetectorExtension2)fHyperlinkDetector).getStateMask()) {
+					return true;
 				}
 			}
 		}
@@ -517,6 +889,7 @@ public class HyperlinkManager implements ITextListener, Listener, KeyListener, M
 	public void textChanged(TextEvent event) {
 		if (event.getDocumentEvent() != null) {
 			deactivate();
+			fDetectionCache.clear();
 		}
 	}
 
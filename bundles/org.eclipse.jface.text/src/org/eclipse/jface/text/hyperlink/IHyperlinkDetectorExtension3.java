@@ -0,0 +1,42 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jface.text.hyperlink;
+
+
+/**
+ * Extends {@link IHyperlinkDetector} with the ability to tell whether hyperlinks can be detected
+ * in a background thread.
+ * <p>
+ * If all hyperlink detectors of a {@link HyperlinkManager} can detect in the background, the
+ * hyperlinks under the mouse are detected in a background thread, so that slow detectors do not
+ * block the UI thread while the mouse moves. A detector which can detect in the background must
+ * not access any widget; it may read the viewer's document while it is being changed, the
+ * hyperlinks detected for an outdated document are discarded.
+ * </p>
+ * <p>
+ * Clients may implement this interface.
+ * </p>
+ *
+ * @since 3.29
+ */
+public interface IHyperlinkDetectorExtension3 {
+
+	/**
+	 * Tells whether {@link IHyperlinkDetector#detectHyperlinks(org.eclipse.jface.text.ITextViewer, org.eclipse.jface.text.IRegion, boolean)}
+	 * may be called in a background thread.
+	 *
+	 * @return <code>true</code> if hyperlinks can be detected in a background thread
+	 */
+	boolean canDetectInBackground();
+}
@@ -29,7 +29,7 @@ import org.eclipse.jface.text.Region;
  *
  * @since 3.1
  */
-public class URLHyperlinkDetector extends AbstractHyperlinkDetector {
+public class URLHyperlinkDetector extends AbstractHyperlinkDetector implements IHyperlinkDetectorExtension3 {
 
 	private static final String STOP_CHARACTERS= " \t\n\r\f<>"; //$NON-NLS-1$
 
@@ -171,4 +171,19 @@ public class URLHyperlinkDetector extends AbstractHyperlinkDetector {
 		return new IHyperlink[] {new URLHyperlink(urlRegion, urlString)};
 	}
 
+	/**
+	 * {@inheritDoc}
+	 * <p>
+	 * This detector only reads the document. Subclasses which override
+	 * {@link #detectHyperlinks(ITextViewer, IRegion, boolean)} must override this method as well
+	 * to detect in the background.
+	 * </p>
+	 *
+	 * @since 3.29
+	 */
+	@Override
+	public boolean canDetectInBackground() {
+		return getClass() == URLHyperlinkDetector.class;
+	}
+
 }
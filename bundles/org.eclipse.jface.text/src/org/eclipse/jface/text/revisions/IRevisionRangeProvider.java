@@ -0,0 +1,53 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jface.text.revisions;
+
+
+/**
+ * Supplies the revisions of a document on demand, for the lines that are about to be shown.
+ * <p>
+ * A {@link RevisionInformation} with a range provider does not need to contain the revisions of
+ * the whole document up front. Before lines are shown, the revision information asks the provider
+ * to add the revisions and ranges of all lines which have not been requested yet, see
+ * {@link RevisionInformation#loadRanges(int, int)}.
+ * </p>
+ * <p>
+ * Clients may implement this interface.
+ * </p>
+ *
+ * @see RevisionInformation#setRangeProvider(IRevisionRangeProvider)
+ * @since 3.29
+ */
+public interface IRevisionRangeProvider {
+
+	/**
+	 * Adds the revisions and line ranges of the given lines to the revision information.
+	 * <p>
+	 * New revisions are added with {@link RevisionInformation#addRevision(Revision)}, the ranges
+	 * with {@link Revision#addRange(org.eclipse.jface.text.source.ILineRange)}. All ranges
+	 * intersecting the given lines must be added, unless they have already been added by a previous
+	 * call. Each line is requested at most once. The lines are those of the document version that
+	 * the revision information describes, local modifications of the document are not taken into
+	 * account.
+	 * </p>
+	 * <p>
+	 * This method is called in the UI thread, typically while painting, and should return quickly.
+	 * </p>
+	 *
+	 * @param info the revision information to add the revisions to
+	 * @param startLine the first line to add the ranges of
+	 * @param endLine the line after the last line to add the ranges of
+	 */
+	void addRanges(RevisionInformation info, int startLine, int endLine);
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2015 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -60,6 +60,7 @@ public abstract class Revision {
 	 */
 	public final void addRange(ILineRange range) throws IndexOutOfBoundsException {
 		fChangeRegions.add(new ChangeRegion(this, range));
+		fRanges= null; // mark for recomputation
 	}
 
 	/**
@@ -99,6 +100,42 @@ public abstract class Revision {
 		}
 	}
 
+	/**
+	 * Returns the number of change regions of this revision.
+	 *
+	 * @return the number of ranges added to this revision
+	 * @since 3.29
+	 */
+	final int getRegionCount() {
+		return fChangeRegions.size();
+	}
+
+	/**
+	 * Adjusts the change regions from the given index on to the given diff information and returns
+	 * their adjusted ranges. The change regions before the index are not touched.
+	 *
+	 * @param hunks the diff hunks to adjust the change regions to, <code>null</code> for none
+	 * @param firstRegion the index of the first change region to adjust
+	 * @return the adjusted ranges of the change regions from <code>firstRegion</code> on
+	 * @since 3.29
+	 */
+	final List<RevisionRange> applyDiff(Hunk[] hunks, int firstRegion) {
+		fRanges= null; // mark for recomputation
+		List<RevisionRange> ranges= new ArrayList<>();
+		for (ChangeRegion region : fChangeRegions.subList(firstRegion, fChangeRegions.size())) {
+			if (hunks != null) {
+				region.clearDiff();
+				for (Hunk hunk : hunks) {
+					region.adjustTo(hunk);
+				}
+			}
+			for (ILineRange range : region.getAdjustedRanges()) {
+				ranges.add(new RevisionRange(this, range));
+			}
+		}
+		return ranges;
+	}
+
 	/**
 	 * Returns the hover information that will be shown when the user hovers over the a change
 	 * region of this revision.
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2015 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -14,7 +14,9 @@
 package org.eclipse.jface.text.revisions;
 
 import java.util.ArrayList;
+import java.util.BitSet;
 import java.util.Collections;
+import java.util.Comparator;
 import java.util.List;
 
 import org.eclipse.core.runtime.Assert;
@@ -28,6 +30,10 @@ import org.eclipse.jface.text.information.IInformationProviderExtension2;
 /**
  * Encapsulates revision information for one line-based document.
  * <p>
+ * The revisions and ranges are guarded by this revision information, so that ranges can be
+ * {@link #loadRanges(int, int) loaded} by any thread.
+ * </p>
+ * <p>
  * Clients may instantiate.
  * </p>
  *
@@ -35,6 +41,13 @@ import org.eclipse.jface.text.information.IInformationProviderExtension2;
  * @see Revision
  */
 public final class RevisionInformation implements ITextHoverExtension, IInformationProviderExtension2 {
+	/**
+	 * The number of lines requested from the range provider at once.
+	 *
+	 * @since 3.29
+	 */
+	private static final int BLOCK_SIZE= 256;
+
 	/** The revisions. */
 	private final List<Revision> fRevisions= new ArrayList<>();
 	/** A unmodifiable view of <code>fRevisions</code>. */
@@ -46,6 +59,12 @@ public final class RevisionInformation implements ITextHoverExtension, IInformat
 	 * @since 3.3
 	 */
 	private List<RevisionRange> fRanges= null;
+	/**
+	 * The diff hunks the ranges have been adjusted to, <code>null</code> if none.
+	 *
+	 * @since 3.29
+	 */
+	private Hunk[] fHunks;
 
 	/**
 	 * The hover control creator. Can be <code>null</code>.
@@ -61,6 +80,20 @@ public final class RevisionInformation implements ITextHoverExtension, IInformat
 	 */
 	private IInformationControlCreator fInformationPresenterControlCreator;
 
+	/**
+	 * The range provider. Can be <code>null</code>.
+	 *
+	 * @since 3.29
+	 */
+	private IRevisionRangeProvider fRangeProvider;
+
+	/**
+	 * The lines already requested from the range provider, one bit per line.
+	 *
+	 * @since 3.29
+	 */
+	private final BitSet fLoadedLines= new BitSet();
+
 	/**
 	 * Creates a new revision information model.
 	 */
@@ -72,7 +105,7 @@ public final class RevisionInformation implements ITextHoverExtension, IInformat
 	 *
 	 * @param revision a revision
 	 */
-	public void addRevision(Revision revision) {
+	public synchronized void addRevision(Revision revision) {
 		Assert.isLegal(revision != null);
 		fRevisions.add(revision);
 	}
@@ -96,7 +129,7 @@ public final class RevisionInformation implements ITextHoverExtension, IInformat
 	 * @see IRevisionListener
 	 * @since 3.3
 	 */
-	public List<RevisionRange> getRanges() {
+	public synchronized List<RevisionRange> getRanges() {
 		if (fRanges == null) {
 			List<RevisionRange> ranges= new ArrayList<>(fRevisions.size() * 2); // wild size guess
 			for (Revision revision : fRevisions) {
@@ -120,13 +153,113 @@ public final class RevisionInformation implements ITextHoverExtension, IInformat
 	 * @since 3.3
 	 * @noreference This method is not intended to be referenced by clients.
 	 */
-	public void applyDiff(Hunk[] hunks) {
+	public synchronized void applyDiff(Hunk[] hunks) {
 		fRanges= null; // mark for recomputation
+		fHunks= hunks;
 		for (Revision revision : getRevisions()) {
 			revision.applyDiff(hunks);
 		}
 	}
 
+	/**
+	 * Sets the provider which supplies the revisions of this revision information on demand. The
+	 * revisions and ranges added so far are kept.
+	 *
+	 * @param provider the range provider, <code>null</code> if all revisions are added up front
+	 * @since 3.29
+	 */
+	public synchronized void setRangeProvider(IRevisionRangeProvider provider) {
+		fRangeProvider= provider;
+		fLoadedLines.clear();
+	}
+
+	/**
+	 * Returns the provider which supplies the revisions of this revision information on demand.
+	 *
+	 * @return the range provider, or <code>null</code> if all revisions are added up front
+	 * @since 3.29
+	 */
+	public IRevisionRangeProvider getRangeProvider() {
+		return fRangeProvider;
+	}
+
+	/**
+	 * Makes sure that the revisions and ranges of the given lines have been added, asking the
+	 * {@link #getRangeProvider() range provider} for the lines which have not been requested yet.
+	 * The lines are requested in blocks, so that scrolling does not ask the provider for every few
+	 * lines. The added ranges are adjusted to the last {@link #applyDiff(Hunk[]) diff information}
+	 * and merged into the {@link #getRanges() ranges}. Does nothing if there is no range provider.
+	 *
+	 * @param startLine the first line
+	 * @param endLine the line after the last line
+	 * @return <code>true</code> if the range provider has been asked for lines, in which case
+	 *         the revisions and ranges may have changed, <code>false</code> otherwise
+	 * @since 3.29
+	 */
+	public synchronized boolean loadRanges(int startLine, int endLine) {
+		IRevisionRangeProvider provider= fRangeProvider;
+		if (provider == null || endLine <= startLine) {
+			return false;
+		}
+		int start= Math.max(0, startLine) / BLOCK_SIZE * BLOCK_SIZE;
+		int end= (endLine + BLOCK_SIZE - 1) / BLOCK_SIZE * BLOCK_SIZE;
+		if (fLoadedLines.nextClearBit(start) >= end) {
+			return false;
+		}
+		int revisionCount= fRevisions.size();
+		int[] regionCounts= new int[revisionCount];
+		for (int i= 0; i < revisionCount; i++) {
+			regionCounts[i]= fRevisions.get(i).getRegionCount();
+		}
+		for (int line= fLoadedLines.nextClearBit(start); line < end; line= fLoadedLines.nextClearBit(line)) {
+			int next= fLoadedLines.nextSetBit(line);
+			int runEnd= next == -1 ? end : Math.min(next, end);
+			fLoadedLines.set(line, runEnd);
+			provider.addRanges(this, line, runEnd);
+			line= runEnd;
+		}
+		mergeAddedRanges(revisionCount, regionCounts);
+		return true;
+	}
+
+	/**
+	 * Adjusts the ranges added by the range provider to the current diff information and merges
+	 * them into the sorted ranges, so that neither all ranges need to be adjusted nor sorted again.
+	 *
+	 * @param revisionCount the number of revisions before the ranges were added
+	 * @param regionCounts the number of ranges of each of these revisions before the ranges were
+	 *            added
+	 * @since 3.29
+	 */
+	private void mergeAddedRanges(int revisionCount, int[] regionCounts) {
+		List<RevisionRange> added= new ArrayList<>();
+		for (int i= 0; i < fRevisions.size(); i++) {
+			Revision revision= fRevisions.get(i);
+			int firstRegion= i < revisionCount ? regionCounts[i] : 0;
+			if (revision.getRegionCount() > firstRegion) {
+				added.addAll(revision.applyDiff(fHunks, firstRegion));
+			}
+		}
+		if (fRanges == null || added.isEmpty()) {
+			return;
+		}
+		Comparator<RevisionRange> byStartLine= (r1, r2) -> r1.getStartLine() - r2.getStartLine();
+		added.sort(byStartLine);
+		List<RevisionRange> ranges= new ArrayList<>(fRanges.size() + added.size());
+		int i= 0;
+		int j= 0;
+		while (i < fRanges.size() && j < added.size()) {
+			if (byStartLine.compare(added.get(j), fRanges.get(i)) < 0) {
+				ranges.add(added.get(j++));
+			} else {
+				ranges.add(fRanges.get(i++));
+			}
+		}
+		ranges.addAll(fRanges.subList(i, fRanges.size()));
+		ranges.addAll(added.subList(j, added.size()));
+		fRanges= Collections.unmodifiableList(ranges);
+	}
+
 	@Override
 	public IInformationControlCreator getHoverControlCreator() {
 		return fHoverControlCreator;
@@ -13,12 +13,14 @@
  */
 package org.eclipse.jface.text.source.inlined;
 
+import java.util.Objects;
 import java.util.function.Consumer;
 
 import org.eclipse.swt.SWT;
 import org.eclipse.swt.custom.StyledText;
 import org.eclipse.swt.events.MouseEvent;
 import org.eclipse.swt.graphics.Color;
+import org.eclipse.swt.graphics.Font;
 import org.eclipse.swt.graphics.GC;
 
 import org.eclipse.jface.text.IRegion;
@@ -62,6 +64,21 @@ public abstract class AbstractInlinedAnnotation extends Annotation {
 
 	int fY;
 
+	/**
+	 * The text measured by {@link #getTextWidth(GC)}, <code>null</code> if not measured yet.
+	 */
+	private String fMeasuredText;
+
+	/**
+	 * The font used to measure {@link #fMeasuredText}.
+	 */
+	private Font fMeasuredFont;
+
+	/**
+	 * The width of {@link #fMeasuredText} including the spacing around it.
+	 */
+	private int fMeasuredWidth;
+
 	private final Consumer<MouseEvent> onMouseHover;
 
 	private final Consumer<MouseEvent> onMouseOut;
@@ -154,6 +171,10 @@ public abstract class AbstractInlinedAnnotation extends Annotation {
 			try {
 				Position pos= getPosition();
 				int offset= pos.getOffset();
+				if (support != null && !isMarkedDeleted() && !support.isInVisibleLines(offset)) {
+					// the annotation is drawn when it is scrolled into view
+					return;
+				}
 				ISourceViewer viewer= getViewer();
 				if (viewer instanceof ITextViewerExtension5) {
 					// adjust offset according folded content
@@ -297,14 +318,43 @@ public abstract class AbstractInlinedAnnotation extends Annotation {
 	 */
 	boolean contains(int x, int y) {
 		StyledText styledText= getTextWidget();
-		GC gc= null;
-		try {
-			gc= new GC(styledText);
-			return x >= fX && y >= fY && y <= fY + styledText.getLineHeight(position.getOffset()) && x <= fX + gc.stringExtent(getText()).x + 2 * gc.getFontMetrics().getAverageCharacterWidth();
-		} finally {
-			if (gc != null) {
-				gc.dispose();
+		if (x < fX || y < fY || y > fY + styledText.getLineHeight(position.getOffset())) {
+			return false;
+		}
+		int width;
+		synchronized (this) {
+			width= fMeasuredText != null && fMeasuredText.equals(getText()) ? fMeasuredWidth : -1;
+		}
+		if (width == -1) {
+			GC gc= null;
+			try {
+				gc= new GC(styledText);
+				width= getTextWidth(gc);
+			} finally {
+				if (gc != null) {
+					gc.dispose();
+				}
 			}
 		}
+		return x <= fX + width;
+	}
+
+	/**
+	 * Returns the width of the annotation text drawn with the font of the given graphics context,
+	 * including the spacing around the text. The width is cached until the text or the font
+	 * changes, so that painting and hit testing do not measure the same text again.
+	 *
+	 * @param gc the graphics context
+	 * @return the width of the annotation text
+	 */
+	synchronized int getTextWidth(GC gc) {
+		String text= getText();
+		Font font= gc.getFont();
+		if (fMeasuredText == null || !fMeasuredText.equals(text) || !Objects.equals(fMeasuredFont, font)) {
+			fMeasuredWidth= (int) (gc.stringExtent(text).x + 2 * gc.getFontMetrics().getAverageCharacterWidth());
+			fMeasuredText= text;
+			fMeasuredFont= font;
+		}
+		return fMeasuredWidth;
 	}
 }
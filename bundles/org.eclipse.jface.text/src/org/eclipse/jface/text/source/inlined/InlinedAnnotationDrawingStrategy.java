@@ -86,7 +86,11 @@ class InlinedAnnotationDrawingStrategy implements IDrawingStrategy {
 				GCConfig annotationGCConfig = new GCConfig(color, textWidget.getBackground(), getAnnotationFont(textWidget));
 				annotationGCConfig.applyTo(gc);
 
+				long start = System.nanoTime();
 				draw(inlinedAnnotation, gc, textWidget, widgetOffset, length, color);
+				if (gc != null) {
+					support.annotationPainted(System.nanoTime() - start);
+				}
 				initialGCConfig.applyTo(gc);
 			}
 		}
@@ -13,11 +13,10 @@
  */
 package org.eclipse.jface.text.source.inlined;
 
-import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.Iterator;
-import java.util.List;
+import java.util.LinkedHashSet;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Set;
@@ -162,6 +161,8 @@ public class InlinedAnnotationSupport {
 
 		@Override
 		public void documentChanged(DocumentEvent event) {
+			// the positions of the annotations have been updated
+			fAnnotationsByPosition= null;
 			if (endOffset != null && event != null && event.fDocument != null && event.fDocument.getLength() > endOffset) {
 				endOffset= null;
 			}
@@ -336,6 +337,24 @@ public class InlinedAnnotationSupport {
 	 */
 	private Set<AbstractInlinedAnnotation> fInlinedAnnotations;
 
+	/**
+	 * The current inlined annotations by their position, <code>null</code> if it must be computed
+	 * again because the annotations or their positions have changed.
+	 */
+	private volatile Map<Position, AbstractInlinedAnnotation> fAnnotationsByPosition;
+
+	/**
+	 * The number of inlined annotations painted since the last
+	 * {@link #resetPaintStatistics() reset}.
+	 */
+	private int fPaintCount;
+
+	/**
+	 * The time in nanoseconds spent painting inlined annotations since the last
+	 * {@link #resetPaintStatistics() reset}.
+	 */
+	private long fPaintTime;
+
 	/**
 	 * The mouse tracker used to support hover, click on inlined annotation.
 	 */
@@ -435,9 +454,9 @@ public class InlinedAnnotationSupport {
 			return;
 		}
 		Map<AbstractInlinedAnnotation, Position> annotationsToAdd= new HashMap<>();
-		List<AbstractInlinedAnnotation> annotationsToRemove= fInlinedAnnotations != null
-				? new ArrayList<>(fInlinedAnnotations)
-				: Collections.emptyList();
+		Set<AbstractInlinedAnnotation> annotationsToRemove= fInlinedAnnotations != null
+				? new LinkedHashSet<>(fInlinedAnnotations)
+				: Collections.emptySet();
 		// Loop for annotations to update
 		for (AbstractInlinedAnnotation ann : annotations) {
 			if (!annotationsToRemove.remove(ann)) {
@@ -472,6 +491,7 @@ public class InlinedAnnotationSupport {
 				}
 			}
 			fInlinedAnnotations= annotations;
+			fAnnotationsByPosition= null;
 		}
 	}
 
@@ -485,21 +505,48 @@ public class InlinedAnnotationSupport {
 	 */
 	@SuppressWarnings("unchecked")
 	public <T extends AbstractInlinedAnnotation> T findExistingAnnotation(Position pos) {
-		if (fInlinedAnnotations == null) {
+		Map<Position, AbstractInlinedAnnotation> annotationsByPosition= getAnnotationsByPosition();
+		if (annotationsByPosition == null) {
 			return null;
 		}
-		for (AbstractInlinedAnnotation ann : fInlinedAnnotations) {
-			if (pos.equals(ann.getPosition()) && !ann.getPosition().isDeleted()) {
-				try {
-					return (T) ann;
-				} catch (ClassCastException e) {
-					// Do nothing
-				}
+		AbstractInlinedAnnotation ann= annotationsByPosition.get(pos);
+		if (ann != null && pos.equals(ann.getPosition()) && !ann.getPosition().isDeleted()) {
+			try {
+				return (T) ann;
+			} catch (ClassCastException e) {
+				// Do nothing
 			}
 		}
 		return null;
 	}
 
+	/**
+	 * Returns the current inlined annotations by their position, computing the index if the
+	 * annotations or their positions have changed since it was last computed.
+	 *
+	 * @return the inlined annotations by position or <code>null</code> if there are none
+	 */
+	private Map<Position, AbstractInlinedAnnotation> getAnnotationsByPosition() {
+		Map<Position, AbstractInlinedAnnotation> annotationsByPosition= fAnnotationsByPosition;
+		if (annotationsByPosition != null) {
+			return annotationsByPosition;
+		}
+		Set<AbstractInlinedAnnotation> annotations= fInlinedAnnotations;
+		if (annotations == null) {
+			return null;
+		}
+		annotationsByPosition= new HashMap<>(annotations.size() * 4 / 3 + 1);
+		for (AbstractInlinedAnnotation ann : annotations) {
+			Position position= ann.getPosition();
+			if (!position.isDeleted()) {
+				// copy the position, the annotation position changes with the document
+				annotationsByPosition.putIfAbsent(new Position(position.getOffset(), position.getLength()), ann);
+			}
+		}
+		fAnnotationsByPosition= annotationsByPosition;
+		return annotationsByPosition;
+	}
+
 	/**
 	 * Returns the lock object for the given annotation model.
 	 *
@@ -536,6 +583,7 @@ public class InlinedAnnotationSupport {
 				}
 			}
 			fInlinedAnnotations= null;
+			fAnnotationsByPosition= null;
 		}
 	}
 
@@ -549,8 +597,13 @@ public class InlinedAnnotationSupport {
 	private AbstractInlinedAnnotation getInlinedAnnotationAtPoint(int x, int y) {
 		if (fInlinedAnnotations != null) {
 			for (AbstractInlinedAnnotation ann : fInlinedAnnotations) {
+				// only annotations in the visible lines can be hit, check them first since
+				// it is cheaper than hit testing
+				if (!isInVisibleLines(ann.getPosition().getOffset())) {
+					continue;
+				}
 				ann.setSupport(this);
-				if (ann.contains(x, y) && isInVisibleLines(ann.getPosition().getOffset())) {
+				if (ann.contains(x, y)) {
 					return ann;
 				}
 			}
@@ -574,6 +627,49 @@ public class InlinedAnnotationSupport {
 	}
 
 
+	/**
+	 * Records that an inlined annotation has been painted.
+	 *
+	 * @param time the time in nanoseconds spent painting the annotation
+	 */
+	void annotationPainted(long time) {
+		fPaintCount++;
+		fPaintTime+= time;
+	}
+
+	/**
+	 * Returns the number of inlined annotations painted since this support has been installed or
+	 * since the last call to {@link #resetPaintStatistics()}. Inlined annotations outside of the
+	 * visible lines are not painted.
+	 *
+	 * @return the number of painted inlined annotations
+	 * @since 3.29
+	 */
+	public int getPaintCount() {
+		return fPaintCount;
+	}
+
+	/**
+	 * Returns the time spent painting inlined annotations since this support has been installed or
+	 * since the last call to {@link #resetPaintStatistics()}.
+	 *
+	 * @return the paint time in nanoseconds
+	 * @since 3.29
+	 */
+	public long getPaintTime() {
+		return fPaintTime;
+	}
+
+	/**
+	 * Resets the {@link #getPaintCount() paint count} and the {@link #getPaintTime() paint time}.
+	 *
+	 * @since 3.29
+	 */
+	public void resetPaintStatistics() {
+		fPaintCount= 0;
+		fPaintTime= 0;
+	}
+
 	/**
 	 * Returns the font according the specified <code>style</code> that the receiver will use to
 	 * paint textual information.
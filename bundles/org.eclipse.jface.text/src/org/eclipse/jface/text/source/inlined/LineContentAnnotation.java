@@ -106,7 +106,7 @@ public class LineContentAnnotation extends AbstractInlinedAnnotation {
 	protected int drawAndComputeWidth(GC gc, StyledText textWidget, int offset, int length, Color color, int x, int y) {
 		// Draw the text annotation and returns the width
 		super.draw(gc, textWidget, offset, length, color, x, y);
-		return (int) (gc.stringExtent(getText()).x + 2 * gc.getFontMetrics().getAverageCharacterWidth());
+		return getTextWidth(gc);
 	}
 
 	int getRedrawnCharacterWidth() {
@@ -63,6 +63,13 @@ public class InternalPolicy {
 	 */
 	public static boolean DEBUG_TRACE_URL_IMAGE_DESCRIPTOR = false;
 
+	/**
+	 * (NON-API) Trace the time spent refreshing structured viewers.
+	 *
+	 * @since 3.39
+	 */
+	public static boolean DEBUG_TRACE_VIEWER_REFRESH = false;
+
 	/**
 	 * (NON-API) Log cases where an "@2x" image could not be found.
 	 *
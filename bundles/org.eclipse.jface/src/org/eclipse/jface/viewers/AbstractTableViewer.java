@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2019 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -644,7 +644,9 @@ public abstract class AbstractTableViewer extends ColumnViewer {
 				&& (contentProvider instanceof IStructuredContentProvider)) {
 			// Don't cache if the root is null but cache if it is not lazy.
 			if (root != null) {
-				virtualManager.cachedElements = getSortedChildren(root);
+				// copy the children, as they may come from the model, and the
+				// range selections of the viewer refer to the cache
+				virtualManager.cachedElements = getSortedChildren(root).clone();
 				doSetItemCount(virtualManager.cachedElements.length);
 			}
 		}
@@ -673,6 +675,10 @@ public abstract class AbstractTableViewer extends ColumnViewer {
 		if (children == null) {
 			children = getSortedChildren(getRoot());
 		}
+		if (isKeyedRefresh()) {
+			internalRefreshAllKeyed(items, children, updateLabels);
+			return;
+		}
 		int min = Math.min(children.length, items.length);
 		for (int i = 0; i < min; ++i) {
 
@@ -731,6 +737,54 @@ public abstract class AbstractTableViewer extends ColumnViewer {
 		}
 	}
 
+	/**
+	 * Refreshes all elements of the table, keeping the items of all elements
+	 * which have not been added, removed or moved, see
+	 * {@link #setKeyedRefresh(boolean)}.
+	 *
+	 * @param items        the current items
+	 * @param children     the new elements
+	 * @param updateLabels <code>true</code> to update the labels of kept
+	 *                     items
+	 * @since 3.39
+	 */
+	private void internalRefreshAllKeyed(Item[] items, Object[] children, boolean updateLabels) {
+		Object[] oldElements = new Object[items.length];
+		for (int i = 0; i < items.length; i++) {
+			oldElements[i] = items[i].getData();
+		}
+		ElementDiff diff = new ElementDiff(oldElements, children, newHashtable(items.length * 2 + 1));
+
+		// disassociate all removed items before any associate, see above
+		int[] removed = diff.getRemovedIndices();
+		if (removed.length > 0) {
+			for (int index : removed) {
+				if (oldElements[index] != null) {
+					disassociate(items[index]);
+				}
+			}
+			doRemove(removed);
+		}
+		// Workaround for 1GDGN4Q: ITPUI:WIN2000 - TableViewer icons get
+		// scrunched
+		if (doGetItemCount() == 0) {
+			doRemoveAll();
+		}
+
+		for (int j = 0; j < children.length; j++) {
+			int oldIndex = diff.getOldIndex(j);
+			if (oldIndex == -1) {
+				createItem(children[j], j);
+			} else if (updateLabels) {
+				updateItem(items[oldIndex], children[j]);
+			} else {
+				// associate the new element, even if equal to the old one, to
+				// remove stale references (see bug 31314)
+				associate(children[j], items[oldIndex]);
+			}
+		}
+	}
+
 	/**
 	 * Removes the given elements from this table viewer.
 	 *
@@ -884,6 +938,60 @@ public abstract class AbstractTableViewer extends ColumnViewer {
 		}
 	}
 
+	/**
+	 * The <code>AbstractTableViewer</code> implementation of this method returns
+	 * a {@link RangeSelection} for a virtual table whose elements are all known
+	 * to the viewer, that is, which does not have an
+	 * {@link ILazyContentProvider}. The selected elements are looked up when the
+	 * selection is iterated, so that getting the selection of many rows is fast.
+	 *
+	 * @since 3.39
+	 */
+	@Override
+	public ISelection getSelection() {
+		Control control = getControl();
+		if (virtualManager != null && control != null && !control.isDisposed()
+				&& !(getContentProvider() instanceof ILazyContentProvider)) {
+			Object[] elements = virtualManager.cachedElements;
+			int[] indices = doGetSelectionIndices();
+			if (isCached(elements, indices)) {
+				return new RangeSelection(elements, indices, getComparer());
+			}
+		}
+		return super.getSelection();
+	}
+
+	/**
+	 * Returns whether all elements at the given indices are cached. The cache
+	 * has empty slots for rows added with {@link #setItemCount(int)}.
+	 */
+	private static boolean isCached(Object[] elements, int[] indices) {
+		for (int index : indices) {
+			if (index >= elements.length || elements[index] == null) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	@Override
+	protected void setSelectionToWidget(ISelection selection, boolean reveal) {
+		if (virtualManager != null && selection instanceof RangeSelection rangeSelection
+				&& rangeSelection.isSelectionOf(virtualManager.cachedElements)) {
+			// the elements have not changed since the selection was taken, so
+			// the indices are still valid
+			int[] indices = rangeSelection.getIndices();
+			if (reveal) {
+				doSetSelection(indices);
+			} else {
+				doDeselectAll();
+				doSelect(indices);
+			}
+			return;
+		}
+		super.setSelectionToWidget(selection, reveal);
+	}
+
 	@Override
 	protected void setSelectionToWidget(@SuppressWarnings("rawtypes") List list, boolean reveal) {
 		if (list == null) {
@@ -976,6 +1084,10 @@ public abstract class AbstractTableViewer extends ColumnViewer {
 	 *            Whether or not reveal the first item.
 	 */
 	private void virtualSetSelectionToWidget(@SuppressWarnings("rawtypes") List list, boolean reveal) {
+		if (!(getContentProvider() instanceof ILazyContentProvider)) {
+			virtualSetCachedSelectionToWidget(list, reveal);
+			return;
+		}
 		int size = list.size();
 		int[] indices = new int[list.size()];
 
@@ -1012,21 +1124,6 @@ public abstract class AbstractTableViewer extends ColumnViewer {
 					}
 				}
 			}
-		} else if (count != list.size()) {// As this is expensive skip it if all
-			// have been found
-			// If it is not lazy we can use the cache
-			for (int i = 0; i < virtualManager.cachedElements.length; i++) {
-				Object element = virtualManager.cachedElements[i];
-				if (virtualElements.contains(element)) {
-					Item item = doGetItem(i);
-					item.getText();// Be sure to fire the update
-					indices[count++] = i;
-					virtualElements.remove(element);
-					if (firstItem == null) {
-						firstItem = item;
-					}
-				}
-			}
 		}
 
 		if (count < size) {
@@ -1042,6 +1139,42 @@ public abstract class AbstractTableViewer extends ColumnViewer {
 
 	}
 
+	/**
+	 * Set the selection on a virtual table whose elements are all cached. The
+	 * cache is searched once for all elements, instead of searching the items
+	 * for each element.
+	 *
+	 * @param list
+	 *            The elements to set
+	 * @param reveal
+	 *            Whether or not reveal the first item.
+	 */
+	private void virtualSetCachedSelectionToWidget(List<?> list, boolean reveal) {
+		CustomHashtable selected = newHashtable(list.size() * 2 + 1);
+		for (Object element : list) {
+			selected.put(element, element);
+		}
+		Object[] elements = virtualManager.cachedElements;
+		int[] indices = new int[selected.size()];
+		int count = 0;
+		for (int i = 0; i < elements.length && count < indices.length; i++) {
+			// an element which is shown twice is selected once
+			if (elements[i] != null && selected.remove(elements[i]) != null) {
+				indices[count++] = i;
+			}
+		}
+		if (count < indices.length) {
+			System.arraycopy(indices, 0, indices = new int[count], 0, count);
+		}
+
+		if (reveal) {
+			doSetSelection(indices);
+		} else {
+			doDeselectAll();
+			doSelect(indices);
+		}
+	}
+
 	/**
 	 * Set the item count of the receiver.
 	 *
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2019 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -28,6 +28,8 @@ import java.util.Collection;
 import java.util.Iterator;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 
 import org.eclipse.core.runtime.Assert;
 import org.eclipse.core.runtime.ListenerList;
@@ -138,6 +140,25 @@ public abstract class AbstractTreeViewer extends ColumnViewer {
 	 */
 	private boolean isTreePathContentProvider = false;
 
+	/**
+	 * The last background expansion, or <code>null</code>.
+	 *
+	 * @see #expandToLevelInBackground(Object, int, Executor)
+	 */
+	private BackgroundTreeExpansion backgroundExpansion;
+
+	/**
+	 * The element whose children have been fetched by the background expansion
+	 * while its items are created, or <code>null</code>.
+	 */
+	private Object prefetchedParent;
+
+	/**
+	 * The children of {@link #prefetchedParent}, which are used instead of
+	 * asking the content provider.
+	 */
+	private Object[] prefetchedChildren;
+
 	/**
 	 * Safe runnable used to update an item.
 	 */
@@ -350,7 +371,7 @@ public abstract class AbstractTreeViewer extends ColumnViewer {
 			for (Object element : elements) {
 				boolean add = true;
 				for (ViewerFilter filter : filters) {
-					add = filter.select(this, parentElementOrTreePath,
+					add = filter.isSelected(this, parentElementOrTreePath,
 							element);
 					if (!add) {
 						break;
@@ -1173,6 +1194,110 @@ public abstract class AbstractTreeViewer extends ColumnViewer {
 		}
 	}
 
+	/**
+	 * Expands all nodes of the viewer's tree without blocking the UI thread. This
+	 * method is equivalent to
+	 * <code>expandToLevelInBackground(getRoot(), ALL_LEVELS, executor)</code>.
+	 *
+	 * @param executor the executor which fetches the children of the elements
+	 * @return a future which completes when the tree is expanded, and which can
+	 *         be cancelled to stop the expansion
+	 * @see #expandToLevelInBackground(Object, int, Executor)
+	 * @since 3.39
+	 */
+	public CompletableFuture<Void> expandAllInBackground(Executor executor) {
+		return expandToLevelInBackground(getRoot(), ALL_LEVELS, executor);
+	}
+
+	/**
+	 * Expands all ancestors of the given element or tree path so that the given
+	 * element becomes visible in this viewer's tree control, and then expands the
+	 * subtree rooted at the given element to the given level without blocking the
+	 * UI thread.
+	 * <p>
+	 * The children of the elements are fetched from the content provider in
+	 * parallel with the given executor, so <code>getChildren</code> and
+	 * <code>getElements</code> of the content provider are called in the
+	 * executor's threads and must not access any widget. The items are created in
+	 * the UI thread in chunks which fit in a frame, with redraw disabled while a
+	 * chunk is created, so that the tree stays responsive while a deep tree is
+	 * expanded. Filters and the comparator are applied in the UI thread.
+	 * </p>
+	 * <p>
+	 * The expansion stops when the returned future is cancelled, when another
+	 * background expansion starts, when the input changes or when the viewer is
+	 * disposed. Items created before are kept. With a lazy content provider the
+	 * subtree is expanded synchronously, as by
+	 * {@link #expandToLevel(Object, int)}.
+	 * </p>
+	 *
+	 * @param elementOrTreePath the element
+	 * @param level             non-negative level, or <code>ALL_LEVELS</code> to
+	 *                          expand all levels of the tree
+	 * @param executor          the executor which fetches the children of the
+	 *                          elements
+	 * @return a future which completes when the subtree is expanded, and which
+	 *         can be cancelled to stop the expansion
+	 * @since 3.39
+	 */
+	public CompletableFuture<Void> expandToLevelInBackground(Object elementOrTreePath, int level,
+			Executor executor) {
+		Assert.isNotNull(executor);
+		cancelBackgroundExpansion();
+		IContentProvider contentProvider = getContentProvider();
+		if (!(contentProvider instanceof ITreeContentProvider)
+				&& !(contentProvider instanceof ITreePathContentProvider)) {
+			expandToLevel(elementOrTreePath, level);
+			return CompletableFuture.completedFuture(null);
+		}
+		if (checkBusy()) {
+			return CompletableFuture.failedFuture(new IllegalStateException("Viewer is busy")); //$NON-NLS-1$
+		}
+		Widget w = internalExpand(elementOrTreePath, true);
+		if (w == null) {
+			return CompletableFuture.completedFuture(null);
+		}
+		BackgroundTreeExpansion expansion = new BackgroundTreeExpansion(this, executor);
+		backgroundExpansion = expansion;
+		expansion.start(w, level);
+		return expansion.getFuture();
+	}
+
+	/**
+	 * Cancels the running background expansion, if any.
+	 */
+	private void cancelBackgroundExpansion() {
+		if (backgroundExpansion != null) {
+			backgroundExpansion.getFuture().cancel(false);
+			backgroundExpansion = null;
+		}
+	}
+
+	/**
+	 * Creates the children of the given widget from the given children of its
+	 * element, and expands it. This is one step of
+	 * {@link #internalExpandToLevel(Widget, int)} for the background expansion.
+	 *
+	 * @param widget   the tree or an expandable item
+	 * @param children the children of the widget's element, fetched from the
+	 *                 content provider
+	 * @return the child items
+	 */
+	Item[] expandWithChildren(Widget widget, Object[] children) {
+		prefetchedParent = widget.getData();
+		prefetchedChildren = children;
+		try {
+			createChildren(widget, false);
+		} finally {
+			prefetchedParent = null;
+			prefetchedChildren = null;
+		}
+		if (widget instanceof Item it) {
+			setExpanded(it, true);
+		}
+		return getChildren(widget);
+	}
+
 	/**
 	 * Fires a tree collapsed event. Only listeners registered at the time this
 	 * method is called are notified.
@@ -1452,6 +1577,9 @@ public abstract class AbstractTreeViewer extends ColumnViewer {
 				path = null;
 			}
 			if (parent != null) {
+				if (prefetchedChildren != null && parent == prefetchedParent) {
+					return prefetchedChildren;
+				}
 				if (equals(parent, getRoot())) {
 					return super.getRawChildren(parent);
 				}
@@ -1622,6 +1750,7 @@ public abstract class AbstractTreeViewer extends ColumnViewer {
 
 	@Override
 	protected void inputChanged(Object input, Object oldInput) {
+		cancelBackgroundExpansion();
 		preservingSelection(() -> {
 			Control tree = getControl();
 			tree.setRedraw(false);
@@ -2289,7 +2418,7 @@ public abstract class AbstractTreeViewer extends ColumnViewer {
 	 *            the element
 	 * @return whether the given element is expandable
 	 */
-	private boolean isExpandable(Item item, TreePath parentPath, Object element) {
+	boolean isExpandable(Item item, TreePath parentPath, Object element) {
 		Object elementOrTreePath = element;
 		if (isTreePathContentProvider) {
 			if (parentPath != null) {
@@ -2935,6 +3064,16 @@ public abstract class AbstractTreeViewer extends ColumnViewer {
 			}
 		}
 
+		if (isKeyedRefresh()) {
+			updateChildrenKeyed(widget, items, elementChildren, expanded, updateLabels);
+			// WORKAROUND
+			if (widget == tree && oldCnt == 0 && getItemCount(tree) != 0) {
+				tree.setRedraw(false);
+				tree.setRedraw(true);
+			}
+			return;
+		}
+
 		int min = Math.min(elementChildren.length, items.length);
 
 		// dispose of surplus items, optimizing for the case where elements have
@@ -3070,6 +3209,68 @@ public abstract class AbstractTreeViewer extends ColumnViewer {
 		}
 	}
 
+	/**
+	 * Updates the given items to correspond to the given child elements,
+	 * keeping the items of all children which have not been added, removed or
+	 * moved, see {@link #setKeyedRefresh(boolean)}.
+	 *
+	 * @param widget          the parent widget
+	 * @param items           the current child items of the widget
+	 * @param elementChildren the new child elements
+	 * @param expanded        the elements of the expanded items
+	 * @param updateLabels    <code>true</code> to update labels for existing
+	 *                        elements, <code>false</code> to only update labels
+	 *                        of new items
+	 * @since 3.39
+	 */
+	private void updateChildrenKeyed(Widget widget, Item[] items, Object[] elementChildren,
+			CustomHashtable expanded, boolean updateLabels) {
+		Object[] oldElements = new Object[items.length];
+		for (int i = 0; i < items.length; i++) {
+			oldElements[i] = items[i].getData();
+		}
+		ElementDiff diff = new ElementDiff(oldElements, elementChildren, newHashtable(items.length * 2 + 1));
+
+		// remove all items first, so that the associations of kept items stay
+		// intact
+		for (int i = 0; i < items.length; i++) {
+			if (!diff.isKept(i)) {
+				if (oldElements[i] != null) {
+					disassociate(items[i]);
+				}
+				items[i].dispose();
+			}
+		}
+
+		boolean restoreExpanded = false;
+		for (int j = 0; j < elementChildren.length; j++) {
+			Object newElement = elementChildren[j];
+			int oldIndex = diff.getOldIndex(j);
+			if (oldIndex == -1) {
+				createTreeItem(widget, newElement, j);
+				restoreExpanded |= expanded.containsKey(newElement);
+			} else {
+				// the element may be equal but not identical
+				Item item = items[oldIndex];
+				associate(newElement, item);
+				updatePlus(item, newElement);
+				if (updateLabels) {
+					updateItem(item, newElement);
+				}
+			}
+		}
+
+		// Restore the expanded state of moved items, new items are collapsed.
+		if (restoreExpanded) {
+			Item[] newItems = getChildren(widget);
+			for (int j = 0; j < elementChildren.length; j++) {
+				if (diff.getOldIndex(j) == -1 && expanded.containsKey(elementChildren[j])) {
+					setExpanded(newItems[j], true);
+				}
+			}
+		}
+	}
+
 	/** Returns true if children were pruned */
 	/*package*/ boolean optionallyPruneChildren(Item item, Object element) {
 		// need a dummy node if element is expandable;
@@ -0,0 +1,274 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jface.viewers;
+
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.eclipse.swt.widgets.Control;
+import org.eclipse.swt.widgets.Item;
+import org.eclipse.swt.widgets.Widget;
+
+/**
+ * Expands a subtree of an abstract tree viewer without blocking the UI thread.
+ * The children of the elements are fetched from the content provider in
+ * parallel with an executor. The items are created in the UI thread in chunks
+ * which fit in a frame, with redraw disabled while a chunk is created, so that
+ * the tree is painted and input is handled between the chunks.
+ *
+ * @see AbstractTreeViewer#expandToLevelInBackground(Object, int, Executor)
+ * @since 3.39
+ */
+/* package */final class BackgroundTreeExpansion {
+
+	/**
+	 * Time in nanoseconds spent creating items per chunk, so that the tree
+	 * keeps painting at 60 frames per second.
+	 */
+	private static final long FRAME_BUDGET = 16_000_000L;
+
+	/**
+	 * Time in milliseconds to wait for the viewer to be no longer busy.
+	 */
+	private static final int BUSY_DELAY = 16;
+
+	/**
+	 * A widget to expand, with the children of its element once they have been
+	 * fetched.
+	 */
+	private static final class Node {
+
+		final Widget widget;
+
+		final Object element;
+
+		final int level;
+
+		Object[] children;
+
+		Node(Widget widget, int level) {
+			this.widget = widget;
+			this.element = widget.getData();
+			this.level = level;
+		}
+	}
+
+	private final AbstractTreeViewer viewer;
+
+	private final Executor executor;
+
+	private final CompletableFuture<Void> future = new CompletableFuture<>();
+
+	/**
+	 * The nodes whose children have been fetched, in the order they arrived.
+	 */
+	private final Queue<Node> fetched = new ConcurrentLinkedQueue<>();
+
+	/**
+	 * The number of fetches which have not arrived yet.
+	 */
+	private final AtomicInteger pending = new AtomicInteger();
+
+	private final AtomicBoolean scheduled = new AtomicBoolean();
+
+	/**
+	 * Creates an expansion of the given viewer.
+	 *
+	 * @param viewer   the viewer
+	 * @param executor the executor which fetches the children
+	 */
+	BackgroundTreeExpansion(AbstractTreeViewer viewer, Executor executor) {
+		this.viewer = viewer;
+		this.executor = executor;
+	}
+
+	/**
+	 * Starts expanding the given widget to the given level. Must be called in
+	 * the UI thread.
+	 *
+	 * @param widget the tree or an item
+	 * @param level  non-negative level, or <code>ALL_LEVELS</code> to expand all
+	 *               levels of the tree
+	 */
+	void start(Widget widget, int level) {
+		if ((level == AbstractTreeViewer.ALL_LEVELS || level > 0) && isExpandable(widget)) {
+			fetch(new Node(widget, level));
+		} else {
+			future.complete(null);
+		}
+	}
+
+	/**
+	 * Returns the future which completes when the expansion is done, and which
+	 * is cancelled to stop the expansion.
+	 *
+	 * @return the future
+	 */
+	CompletableFuture<Void> getFuture() {
+		return future;
+	}
+
+	/**
+	 * Fetches the children of the node's element in the executor. The tree path
+	 * of the node is computed in the UI thread.
+	 */
+	private void fetch(Node node) {
+		IContentProvider contentProvider = viewer.getContentProvider();
+		Object parent = node.element;
+		if (node.widget instanceof Item item && contentProvider instanceof ITreePathContentProvider) {
+			parent = viewer.getTreePathFromItem(item);
+		}
+		boolean isRoot = !(node.widget instanceof Item);
+		Object parentElementOrTreePath = parent;
+		pending.incrementAndGet();
+		try {
+			CompletableFuture.supplyAsync(() -> {
+				if (future.isDone()) {
+					return null;
+				}
+				return getChildren(contentProvider, parentElementOrTreePath, isRoot);
+			}, executor).whenComplete((children, error) -> {
+				if (error != null) {
+					future.completeExceptionally(error);
+					return;
+				}
+				node.children = children;
+				// add the node before counting it as arrived, so that the
+				// expansion does not complete before it is expanded
+				fetched.add(node);
+				pending.decrementAndGet();
+				schedule();
+			});
+		} catch (RuntimeException e) {
+			// the executor rejected the fetch
+			future.completeExceptionally(e);
+		}
+	}
+
+	/**
+	 * Returns the children of the given element or tree path. Called in the
+	 * executor's threads.
+	 */
+	private static Object[] getChildren(IContentProvider contentProvider, Object parentElementOrTreePath,
+			boolean isRoot) {
+		Object[] children = null;
+		if (isRoot) {
+			if (contentProvider instanceof IStructuredContentProvider scp) {
+				children = scp.getElements(parentElementOrTreePath);
+			}
+		} else if (contentProvider instanceof ITreePathContentProvider tpcp) {
+			children = tpcp.getChildren((TreePath) parentElementOrTreePath);
+		} else if (contentProvider instanceof ITreeContentProvider tcp) {
+			children = tcp.getChildren(parentElementOrTreePath);
+		}
+		return children == null ? new Object[0] : children;
+	}
+
+	/**
+	 * Schedules creating the next chunk of items in the UI thread, unless it is
+	 * already scheduled.
+	 */
+	private void schedule() {
+		Control control = viewer.getControl();
+		if (control.isDisposed()) {
+			future.cancel(false);
+			return;
+		}
+		if (scheduled.compareAndSet(false, true)) {
+			control.getDisplay().asyncExec(this::run);
+		}
+	}
+
+	/**
+	 * Creates the items of the fetched children until the frame budget is used
+	 * up.
+	 */
+	private void run() {
+		scheduled.set(false);
+		if (future.isDone()) {
+			return;
+		}
+		Control control = viewer.getControl();
+		if (control.isDisposed()) {
+			future.cancel(false);
+			return;
+		}
+		if (viewer.isBusy()) {
+			scheduled.set(true);
+			control.getDisplay().timerExec(BUSY_DELAY, this::run);
+			return;
+		}
+		long startTime = System.nanoTime();
+		control.setRedraw(false);
+		try {
+			Node node;
+			while ((node = fetched.poll()) != null) {
+				expand(node);
+				if (System.nanoTime() - startTime >= FRAME_BUDGET || future.isDone()) {
+					break;
+				}
+			}
+		} catch (RuntimeException e) {
+			future.completeExceptionally(e);
+		} finally {
+			control.setRedraw(true);
+		}
+		if (future.isDone()) {
+			return;
+		}
+		if (!fetched.isEmpty()) {
+			schedule();
+		} else if (pending.get() == 0) {
+			future.complete(null);
+		}
+	}
+
+	/**
+	 * Returns whether the widget's element has children to fetch. Like the
+	 * synchronous expansion, the children of elements which are not
+	 * expandable are not asked for. Must be called in the UI thread.
+	 */
+	private boolean isExpandable(Widget widget) {
+		if (!(widget instanceof Item item)) {
+			return true;
+		}
+		Object data = item.getData();
+		return data != null && viewer.isExpandable(item, null, data);
+	}
+
+	/**
+	 * Creates the children of the node and starts fetching the children of the
+	 * ones to expand further.
+	 */
+	private void expand(Node node) {
+		// skip the items which have been disposed or reused in the meantime
+		if (node.widget.isDisposed() || node.widget.getData() != node.element) {
+			return;
+		}
+		Item[] items = viewer.expandWithChildren(node.widget, node.children);
+		if (node.level != AbstractTreeViewer.ALL_LEVELS && node.level <= 1) {
+			return;
+		}
+		int level = node.level == AbstractTreeViewer.ALL_LEVELS ? AbstractTreeViewer.ALL_LEVELS : node.level - 1;
+		for (Item item : items) {
+			if (isExpandable(item)) {
+				fetch(new Node(item, level));
+			}
+		}
+	}
+}
@@ -0,0 +1,234 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jface.viewers;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.eclipse.swt.custom.StyleRange;
+import org.eclipse.swt.graphics.Color;
+import org.eclipse.swt.graphics.Font;
+import org.eclipse.swt.graphics.Image;
+import org.eclipse.swt.graphics.Rectangle;
+import org.eclipse.swt.graphics.Resource;
+
+/**
+ * Caches what the label providers of a column viewer have set on the cells of
+ * an element: the text, image, font, colors and style ranges. The cache holds
+ * the labels of a bounded number of elements and evicts the least recently
+ * used element when it is full.
+ * <p>
+ * Elements are looked up with the viewer's element comparer. All cached labels
+ * are discarded when the input or the comparer of the viewer changes.
+ * </p>
+ *
+ * @see ColumnViewer#setLabelCacheSize(int)
+ * @since 3.39
+ */
+/* package */final class CellLabelCache {
+
+	/**
+	 * The labels of one cell.
+	 */
+	private static final class CellLabel {
+
+		private final String text;
+
+		private final Image image;
+
+		private final Font font;
+
+		private final Color foreground;
+
+		private final Color background;
+
+		private final StyleRange[] styleRanges;
+
+		CellLabel(ViewerCell cell) {
+			text = cell.getText();
+			image = cell.getImage();
+			font = cell.getFont();
+			foreground = cell.getForeground();
+			background = cell.getBackground();
+			styleRanges = cell.getStyleRanges();
+		}
+
+		/**
+		 * Returns whether one of the cached resources has been disposed by the
+		 * label provider, in which case the label has to be computed again.
+		 */
+		boolean isDisposed() {
+			return isDisposed(image) || isDisposed(font) || isDisposed(foreground) || isDisposed(background);
+		}
+
+		private static boolean isDisposed(Resource resource) {
+			return resource != null && resource.isDisposed();
+		}
+
+		void apply(ViewerCell cell) {
+			cell.setText(text);
+			cell.setImage(image);
+			cell.setFont(font);
+			cell.setForeground(foreground);
+			cell.setBackground(background);
+			cell.setStyleRanges(styleRanges);
+		}
+	}
+
+	/**
+	 * An element compared with the viewer's element comparer.
+	 */
+	private static final class ElementKey {
+
+		private final Object element;
+
+		private final IElementComparer comparer;
+
+		ElementKey(Object element, IElementComparer comparer) {
+			this.element = element;
+			this.comparer = comparer;
+		}
+
+		@Override
+		public int hashCode() {
+			return comparer == null ? element.hashCode() : comparer.hashCode(element);
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			if (!(obj instanceof ElementKey other)) {
+				return false;
+			}
+			return comparer == null ? element.equals(other.element) : comparer.equals(element, other.element);
+		}
+	}
+
+	private static final CellLabel[] NO_LABELS = new CellLabel[0];
+
+	private final ColumnViewer viewer;
+
+	private final int maxElements;
+
+	/**
+	 * The labels by element, indexed by column, in least recently used order.
+	 */
+	private final LinkedHashMap<ElementKey, CellLabel[]> labels;
+
+	private Object input;
+
+	private IElementComparer comparer;
+
+	private long hits;
+
+	private long misses;
+
+	/**
+	 * Creates a cache for the given viewer.
+	 *
+	 * @param viewer      the viewer
+	 * @param maxElements the maximum number of elements whose labels are cached
+	 */
+	CellLabelCache(ColumnViewer viewer, int maxElements) {
+		this.viewer = viewer;
+		this.maxElements = maxElements;
+		this.labels = new LinkedHashMap<>(16, 0.75f, true) {
+			private static final long serialVersionUID = 1L;
+
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<ElementKey, CellLabel[]> eldest) {
+				return size() > CellLabelCache.this.maxElements;
+			}
+		};
+	}
+
+	/**
+	 * Sets the cached labels on the given cell.
+	 *
+	 * @param cell          the cell to update
+	 * @param labelProvider the label provider of the cell's column
+	 * @return <code>true</code> if the labels were cached, <code>false</code> if
+	 *         the label provider has to update the cell
+	 */
+	boolean apply(ViewerCell cell, CellLabelProvider labelProvider) {
+		if (viewer.getInput() != input || viewer.getComparer() != comparer) {
+			clear();
+			input = viewer.getInput();
+			comparer = viewer.getComparer();
+		}
+		CellLabel[] elementLabels = labels.get(new ElementKey(cell.getElement(), comparer));
+		int column = cell.getColumnIndex();
+		CellLabel label = elementLabels != null && column < elementLabels.length ? elementLabels[column] : null;
+		if (label == null || label.isDisposed()) {
+			misses++;
+			return false;
+		}
+		hits++;
+		label.apply(cell);
+		if (labelProvider instanceof OwnerDrawLabelProvider) {
+			// as OwnerDrawLabelProvider.update, trigger the paint listener
+			Rectangle bounds = cell.getBounds();
+			cell.getControl().redraw(bounds.x, bounds.y, bounds.width, bounds.height, true);
+		}
+		return true;
+	}
+
+	/**
+	 * Caches the labels the label provider has set on the given cell.
+	 *
+	 * @param cell the updated cell
+	 */
+	void store(ViewerCell cell) {
+		ElementKey key = new ElementKey(cell.getElement(), comparer);
+		CellLabel[] elementLabels = labels.get(key);
+		if (elementLabels == null) {
+			elementLabels = NO_LABELS;
+		}
+		int column = cell.getColumnIndex();
+		if (column >= elementLabels.length) {
+			CellLabel[] grown = new CellLabel[column + 1];
+			System.arraycopy(elementLabels, 0, grown, 0, elementLabels.length);
+			elementLabels = grown;
+			labels.put(key, elementLabels);
+		}
+		elementLabels[column] = new CellLabel(cell);
+	}
+
+	/**
+	 * Discards the cached labels of all columns of the given element.
+	 *
+	 * @param element the element
+	 */
+	void discard(Object element) {
+		labels.remove(new ElementKey(element, comparer));
+	}
+
+	/**
+	 * Discards all cached labels.
+	 */
+	void clear() {
+		labels.clear();
+	}
+
+	int getMaxElements() {
+		return maxElements;
+	}
+
+	long getHits() {
+		return hits;
+	}
+
+	long getMisses() {
+		return misses;
+	}
+}
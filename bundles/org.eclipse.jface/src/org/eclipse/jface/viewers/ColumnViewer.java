@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2006, 2015 IBM Corporation and others.
+ * Copyright (c) 2006, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -74,6 +74,12 @@ public abstract class ColumnViewer extends StructuredViewer {
 
 	private final Set<ExpandableNode> expandableNodes;
 
+	/**
+	 * The cache of the cell labels, or <code>null</code> if labels are not
+	 * cached.
+	 */
+	private CellLabelCache labelCache;
+
 	// after logging for the first
 	// time
 
@@ -346,6 +352,7 @@ public abstract class ColumnViewer extends StructuredViewer {
 		if (labelProvider instanceof CellLabelProvider) {
 			((CellLabelProvider) labelProvider).initialize(this, null);
 		}
+		discardCachedLabels();
 		super.setLabelProvider(labelProvider);
 	}
 
@@ -539,9 +546,104 @@ public abstract class ColumnViewer extends StructuredViewer {
 		if (checkBusy()) {
 			return;
 		}
+		if (labelCache != null) {
+			labelCache.discard(element);
+		}
 		super.update(element, properties);
 	}
 
+	@Override
+	protected void handleLabelProviderChanged(LabelProviderChangedEvent event) {
+		if (event.getElements() == null) {
+			discardCachedLabels();
+		}
+		super.handleLabelProviderChanged(event);
+	}
+
+	/**
+	 * Sets the number of elements whose cell labels are cached. Label providers
+	 * are asked to update a cell only if the labels of its element and column
+	 * are not cached; otherwise the text, image, font, colors and style ranges
+	 * the label provider set last time are set again. When the cache is full,
+	 * the labels of the least recently shown element are discarded.
+	 * <p>
+	 * Refreshing the viewer does not discard cached labels. The labels of an
+	 * element are discarded when it is updated, see
+	 * {@link #update(Object, String[])}, and all labels are discarded when a
+	 * label provider fires a {@link LabelProviderChangedEvent} without
+	 * elements, when a label provider is set, or when the input changes. Label
+	 * providers which compute their labels from anything else than the element
+	 * must fire a <code>LabelProviderChangedEvent</code> when their labels
+	 * change. Label providers which set anything else on the cell should not be
+	 * used with a label cache.
+	 * </p>
+	 * <p>
+	 * By default, no labels are cached.
+	 * </p>
+	 *
+	 * @param size the maximum number of elements whose labels are cached, or
+	 *             <code>0</code> to not cache labels
+	 * @see #getLabelCacheHits()
+	 * @see #getLabelCacheMisses()
+	 * @since 3.39
+	 */
+	public void setLabelCacheSize(int size) {
+		Assert.isTrue(size >= 0);
+		labelCache = size > 0 ? new CellLabelCache(this, size) : null;
+	}
+
+	/**
+	 * Returns the maximum number of elements whose cell labels are cached.
+	 *
+	 * @return the size of the label cache, or <code>0</code> if labels are not
+	 *         cached
+	 * @see #setLabelCacheSize(int)
+	 * @since 3.39
+	 */
+	public int getLabelCacheSize() {
+		return labelCache == null ? 0 : labelCache.getMaxElements();
+	}
+
+	/**
+	 * Returns how many times cell labels were found in the label cache since its
+	 * size was set.
+	 *
+	 * @return the number of cache hits
+	 * @see #setLabelCacheSize(int)
+	 * @since 3.39
+	 */
+	public long getLabelCacheHits() {
+		return labelCache == null ? 0 : labelCache.getHits();
+	}
+
+	/**
+	 * Returns how many times a label provider had to update a cell since the
+	 * size of the label cache was set, because the labels were not cached.
+	 *
+	 * @return the number of cache misses
+	 * @see #setLabelCacheSize(int)
+	 * @since 3.39
+	 */
+	public long getLabelCacheMisses() {
+		return labelCache == null ? 0 : labelCache.getMisses();
+	}
+
+	/**
+	 * Returns the label cache, or <code>null</code> if labels are not cached.
+	 */
+	CellLabelCache getLabelCache() {
+		return labelCache;
+	}
+
+	/**
+	 * Discards all cached cell labels.
+	 */
+	void discardCachedLabels() {
+		if (labelCache != null) {
+			labelCache.clear();
+		}
+	}
+
 	/**
 	 * Sets the cell editors of this column viewer. If editing is not supported
 	 * by this viewer the call simply has no effect.
@@ -663,6 +765,7 @@ public abstract class ColumnViewer extends StructuredViewer {
 			((Control)event.widget).removeMouseListener(mouseListener);
 			mouseListener = null;
 		}
+		discardCachedLabels();
 		super.handleDispose(event);
 	}
 
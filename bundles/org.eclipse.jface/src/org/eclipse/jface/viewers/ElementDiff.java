@@ -0,0 +1,186 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jface.viewers;
+
+/**
+ * Computes which items can be kept when the elements shown by a viewer change
+ * from an old to a new array of elements.
+ * <p>
+ * Old and new elements are matched by the viewer's element comparer. Of the
+ * matched elements, the largest set which keeps its relative order is kept, so
+ * that the items of these elements can stay where they are. All other old items
+ * have to be removed and all other new elements have to be inserted; an element
+ * which has moved is removed and inserted again.
+ * </p>
+ *
+ * @since 3.39
+ */
+/* package */final class ElementDiff {
+
+	/**
+	 * For each new element, the index of the old element whose item is kept
+	 * for it, or <code>-1</code> if an item has to be inserted.
+	 */
+	private final int[] oldIndices;
+
+	/**
+	 * For each old element, whether its item is kept.
+	 */
+	private final boolean[] kept;
+
+	/**
+	 * The number of kept items.
+	 */
+	private int keptCount;
+
+	/**
+	 * Computes the difference between the given elements.
+	 *
+	 * @param oldElements the old elements, may contain <code>null</code> for
+	 *                    items without element, which are never kept
+	 * @param newElements the new elements
+	 * @param table       an empty table to match the elements, using the
+	 *                    viewer's element comparer
+	 */
+	ElementDiff(Object[] oldElements, Object[] newElements, CustomHashtable table) {
+		oldIndices = new int[newElements.length];
+		kept = new boolean[oldElements.length];
+
+		// map each element to its first old index, and chain equal elements
+		int[] nextEqual = new int[oldElements.length];
+		for (int i = oldElements.length - 1; i >= 0; i--) {
+			Object element = oldElements[i];
+			nextEqual[i] = -1;
+			if (element != null) {
+				Integer next = (Integer) table.put(element, Integer.valueOf(i));
+				if (next != null) {
+					nextEqual[i] = next.intValue();
+				}
+			}
+		}
+
+		// match the new elements with the old ones in order
+		for (int j = 0; j < newElements.length; j++) {
+			Integer index = (Integer) table.get(newElements[j]);
+			if (index == null) {
+				oldIndices[j] = -1;
+				continue;
+			}
+			int i = index.intValue();
+			oldIndices[j] = i;
+			if (nextEqual[i] == -1) {
+				table.remove(newElements[j]);
+			} else {
+				table.put(newElements[j], Integer.valueOf(nextEqual[i]));
+			}
+		}
+
+		keepLongestIncreasingRun();
+	}
+
+	/**
+	 * Keeps the matched elements forming the longest sequence with increasing
+	 * old indices, all other matches are turned into a removal and an
+	 * insertion.
+	 */
+	private void keepLongestIncreasingRun() {
+		int n = oldIndices.length;
+		// tails[k]: the new index ending the smallest increasing run of length k+1
+		int[] tails = new int[n];
+		int[] predecessors = new int[n];
+		int length = 0;
+		for (int j = 0; j < n; j++) {
+			int oldIndex = oldIndices[j];
+			if (oldIndex == -1) {
+				continue;
+			}
+			int low = 0;
+			int high = length;
+			while (low < high) {
+				int middle = (low + high) >>> 1;
+				if (oldIndices[tails[middle]] < oldIndex) {
+					low = middle + 1;
+				} else {
+					high = middle;
+				}
+			}
+			predecessors[j] = low > 0 ? tails[low - 1] : -1;
+			tails[low] = j;
+			if (low == length) {
+				length++;
+			}
+		}
+
+		boolean[] inRun = new boolean[n];
+		for (int j = length > 0 ? tails[length - 1] : -1; j != -1; j = predecessors[j]) {
+			inRun[j] = true;
+		}
+		for (int j = 0; j < n; j++) {
+			if (inRun[j]) {
+				kept[oldIndices[j]] = true;
+			} else {
+				oldIndices[j] = -1;
+			}
+		}
+		keptCount = length;
+	}
+
+	/**
+	 * Returns the index of the old element whose item is kept for the given
+	 * new element.
+	 *
+	 * @param newIndex the index of the new element
+	 * @return the old index, or <code>-1</code> if an item has to be inserted
+	 *         for the new element
+	 */
+	int getOldIndex(int newIndex) {
+		return oldIndices[newIndex];
+	}
+
+	/**
+	 * Returns whether the item of the given old element is kept.
+	 *
+	 * @param oldIndex the index of the old element
+	 * @return <code>true</code> if the item is kept, <code>false</code> if it
+	 *         has to be removed
+	 */
+	boolean isKept(int oldIndex) {
+		return kept[oldIndex];
+	}
+
+	/**
+	 * Returns the indices of the old elements whose items have to be removed.
+	 *
+	 * @return the ascending indices of the removed items
+	 */
+	int[] getRemovedIndices() {
+		int[] removed = new int[kept.length - keptCount];
+		int count = 0;
+		for (int i = 0; i < kept.length; i++) {
+			if (!kept[i]) {
+				removed[count++] = i;
+			}
+		}
+		return removed;
+	}
+
+	/**
+	 * Returns the number of kept items.
+	 *
+	 * @return the number of kept items
+	 */
+	int getKeptCount() {
+		return keptCount;
+	}
+}
@@ -0,0 +1,326 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jface.viewers;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.RandomAccess;
+import java.util.stream.Stream;
+
+import org.eclipse.core.runtime.Assert;
+import org.eclipse.jface.resource.JFaceResources;
+
+/**
+ * A structured selection of the elements at ranges of indices of an array of
+ * elements, such as the selected rows of a virtual table.
+ * <p>
+ * The selection keeps the selected indices as ranges and looks the elements up
+ * in the array when they are requested, so that selecting all rows of a large
+ * table neither copies nor searches its elements. The array is not copied and
+ * must not be modified while the selection is in use. Viewers replace their
+ * array of elements instead of modifying it.
+ * </p>
+ *
+ * @since 3.39
+ */
+public final class RangeSelection extends StructuredSelection {
+
+	private final Object[] elements;
+
+	/**
+	 * The first index of each range, in ascending order.
+	 */
+	private final int[] starts;
+
+	/**
+	 * The index after the last index of each range.
+	 */
+	private final int[] ends;
+
+	/**
+	 * The number of selected elements before each range.
+	 */
+	private final int[] offsets;
+
+	private final int size;
+
+	private final IElementComparer comparer;
+
+	/**
+	 * Creates a selection of the elements at the given indices of the given
+	 * array. Indices which are out of the array's bounds and duplicate indices
+	 * are ignored.
+	 *
+	 * @param elements the elements, which must not be <code>null</code> at the
+	 *                 given indices
+	 * @param indices  the indices of the selected elements, in any order
+	 * @param comparer the comparer, or <code>null</code>
+	 */
+	public RangeSelection(Object[] elements, int[] indices, IElementComparer comparer) {
+		Assert.isNotNull(elements);
+		Assert.isNotNull(indices);
+		this.elements = elements;
+		this.comparer = comparer;
+
+		int[] sorted = indices.clone();
+		Arrays.sort(sorted);
+		int[] rangeStarts = new int[4];
+		int[] rangeEnds = new int[4];
+		int count = 0;
+		for (int index : sorted) {
+			if (index < 0 || index >= elements.length) {
+				continue;
+			}
+			if (count > 0 && index <= rangeEnds[count - 1]) {
+				// a duplicate, or the next index of the last range
+				rangeEnds[count - 1] = Math.max(rangeEnds[count - 1], index + 1);
+				continue;
+			}
+			if (count == rangeStarts.length) {
+				rangeStarts = Arrays.copyOf(rangeStarts, count * 2);
+				rangeEnds = Arrays.copyOf(rangeEnds, count * 2);
+			}
+			rangeStarts[count] = index;
+			rangeEnds[count] = index + 1;
+			count++;
+		}
+		starts = Arrays.copyOf(rangeStarts, count);
+		ends = Arrays.copyOf(rangeEnds, count);
+		offsets = new int[count];
+		int total = 0;
+		for (int i = 0; i < count; i++) {
+			offsets[i] = total;
+			total += ends[i] - starts[i];
+		}
+		size = total;
+	}
+
+	/**
+	 * Returns the number of ranges of selected indices.
+	 *
+	 * @return the number of ranges
+	 */
+	public int getRangeCount() {
+		return starts.length;
+	}
+
+	/**
+	 * Returns the first selected index of the given range.
+	 *
+	 * @param range the range, between 0 and the number of ranges minus 1
+	 * @return the first index of the range
+	 */
+	public int getRangeStart(int range) {
+		return starts[range];
+	}
+
+	/**
+	 * Returns the last selected index of the given range.
+	 *
+	 * @param range the range, between 0 and the number of ranges minus 1
+	 * @return the last index of the range, inclusive
+	 */
+	public int getRangeEnd(int range) {
+		return ends[range] - 1;
+	}
+
+	/**
+	 * Returns the element comparer passed in when the selection has been
+	 * created or <code>null</code> if no comparer has been provided.
+	 *
+	 * @return the element comparer or <code>null</code>
+	 */
+	public IElementComparer getElementComparer() {
+		return comparer;
+	}
+
+	/**
+	 * Returns whether this selection is a selection of indices of the given
+	 * array.
+	 */
+	boolean isSelectionOf(Object[] array) {
+		return elements == array;
+	}
+
+	/**
+	 * Returns the selected indices, in ascending order.
+	 */
+	int[] getIndices() {
+		int[] indices = new int[size];
+		for (int i = 0; i < starts.length; i++) {
+			for (int index = starts[i]; index < ends[i]; index++) {
+				indices[offsets[i] + index - starts[i]] = index;
+			}
+		}
+		return indices;
+	}
+
+	/**
+	 * Returns the selected element at the given position.
+	 */
+	private Object get(int position) {
+		int range = Arrays.binarySearch(offsets, position);
+		if (range < 0) {
+			// the range before the insertion point
+			range = -range - 2;
+		}
+		return elements[starts[range] + position - offsets[range]];
+	}
+
+	@Override
+	public boolean equals(Object o) {
+		if (this == o) {
+			return true;
+		}
+		if (!(o instanceof StructuredSelection s2)) {
+			return false;
+		}
+		if (isEmpty()) {
+			return s2.isEmpty();
+		}
+		if (size != s2.size()) {
+			return false;
+		}
+		if (!(o instanceof RangeSelection other)) {
+			return new StructuredSelection(toList(), comparer).equals(o);
+		}
+		if (elements == other.elements && Arrays.equals(starts, other.starts) && Arrays.equals(ends, other.ends)) {
+			return true;
+		}
+		boolean useComparer = comparer != null && comparer == other.comparer;
+		Iterator<?> it = other.iterator();
+		for (Object element : this) {
+			Object otherElement = it.next();
+			if (useComparer ? !comparer.equals(element, otherElement) : !element.equals(otherElement)) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	@Override
+	public int hashCode() {
+		// the same as for a structured selection of the same elements
+		if (isEmpty()) {
+			return 31 + (comparer == null ? 0 : comparer.hashCode());
+		}
+		int r = comparer == null ? 1 : 31 + comparer.hashCode();
+		for (Object e : this) {
+			r = 31 * r + (comparer == null ? e.hashCode() : comparer.hashCode(e));
+		}
+		return r;
+	}
+
+	@Override
+	public Object getFirstElement() {
+		return isEmpty() ? null : elements[starts[0]];
+	}
+
+	@Override
+	public boolean isEmpty() {
+		return size == 0;
+	}
+
+	@Override
+	public Iterator iterator() {
+		return new Iterator<>() {
+
+			private int range;
+
+			private int index = starts.length == 0 ? 0 : starts[0];
+
+			@Override
+			public boolean hasNext() {
+				return range < starts.length;
+			}
+
+			@Override
+			public Object next() {
+				if (!hasNext()) {
+					throw new NoSuchElementException();
+				}
+				Object element = elements[index++];
+				if (index == ends[range]) {
+					range++;
+					if (range < starts.length) {
+						index = starts[range];
+					}
+				}
+				return element;
+			}
+		};
+	}
+
+	@Override
+	public int size() {
+		return size;
+	}
+
+	@Override
+	public Object[] toArray() {
+		Object[] result = new Object[size];
+		for (int i = 0; i < starts.length; i++) {
+			System.arraycopy(elements, starts[i], result, offsets[i], ends[i] - starts[i]);
+		}
+		return result;
+	}
+
+	@Override
+	public List toList() {
+		return new ElementList();
+	}
+
+	@Override
+	public Stream<Object> stream() {
+		return new ElementList().stream();
+	}
+
+	@Override
+	public String toString() {
+		return isEmpty() ? JFaceResources.getString("<empty_selection>") //$NON-NLS-1$
+				: toList().toString();
+	}
+
+	/**
+	 * An unmodifiable view of the selected elements.
+	 */
+	private final class ElementList extends AbstractList<Object> implements RandomAccess {
+
+		@Override
+		public Object get(int position) {
+			if (position < 0 || position >= size) {
+				throw new IndexOutOfBoundsException(position);
+			}
+			return RangeSelection.this.get(position);
+		}
+
+		@Override
+		public int size() {
+			return size;
+		}
+
+		@Override
+		public Iterator<Object> iterator() {
+			return RangeSelection.this.iterator();
+		}
+
+		@Override
+		public Object[] toArray() {
+			return RangeSelection.this.toArray();
+		}
+	}
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2016 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -136,6 +136,10 @@ public class StructuredSelection implements IStructuredSelection {
 		if (s2.isEmpty()) {
 			return false;
 		}
+		if (s2 instanceof RangeSelection) {
+			// its elements are looked up in the array of a viewer
+			return s2.equals(this);
+		}
 
 		boolean useComparer = comparer != null && comparer == s2.comparer;
 
@@ -96,6 +96,14 @@ public abstract class StructuredViewer extends ContentViewer implements IPostSel
 	 */
 	private boolean preserveSelection = true;
 
+	/**
+	 * Indicates whether refresh keeps the items of unchanged elements, see
+	 * {@link #setKeyedRefresh(boolean)}.
+	 *
+	 * @since 3.39
+	 */
+	private boolean keyedRefresh;
+
 	/**
 	 * Indicates whether a selection change is in progress on this viewer.
 	 *
@@ -682,7 +690,7 @@ public abstract class StructuredViewer extends ContentViewer implements IPostSel
 			for (Object element : elements) {
 				boolean add = true;
 				for (ViewerFilter filter : filters) {
-					add = filter.select(this, root, element);
+					add = filter.isSelected(this, root, element);
 					if (!add) {
 						break;
 					}
@@ -1463,7 +1471,13 @@ public abstract class StructuredViewer extends ContentViewer implements IPostSel
 	 *            the element
 	 */
 	public void refresh(final Object element) {
+		long start = InternalPolicy.DEBUG_TRACE_VIEWER_REFRESH ? System.nanoTime() : 0;
+		discardSortKeys(element);
+		discardFilterResults(element);
 		preservingSelection(() -> internalRefresh(element));
+		if (InternalPolicy.DEBUG_TRACE_VIEWER_REFRESH) {
+			traceRefresh(element, start);
+		}
 	}
 
 	/**
@@ -1486,7 +1500,98 @@ public abstract class StructuredViewer extends ContentViewer implements IPostSel
 	 * @since 2.0
 	 */
 	public void refresh(final Object element, final boolean updateLabels) {
+		long start = InternalPolicy.DEBUG_TRACE_VIEWER_REFRESH ? System.nanoTime() : 0;
+		if (updateLabels) {
+			discardSortKeys(element);
+			discardFilterResults(element);
+		}
 		preservingSelection(() -> internalRefresh(element, updateLabels));
+		if (InternalPolicy.DEBUG_TRACE_VIEWER_REFRESH) {
+			traceRefresh(element, start);
+		}
+	}
+
+	/**
+	 * Prints the time spent refreshing the given element.
+	 *
+	 * @param element the refreshed element
+	 * @param start   the start time of the refresh, see
+	 *                {@link System#nanoTime()}
+	 * @since 3.39
+	 */
+	private void traceRefresh(Object element, long start) {
+		long time = System.nanoTime() - start;
+		System.out.println("Refreshed " + element + " in " + getClass().getName() //$NON-NLS-1$ //$NON-NLS-2$
+				+ (keyedRefresh ? " (keyed)" : "") + ": " + time / 1000 + " us"); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$ //$NON-NLS-4$
+	}
+
+	/**
+	 * Discards the sort keys kept by the comparator, because the label of the
+	 * given element or, for the root, of all elements may have changed.
+	 *
+	 * @param element the element whose label may have changed
+	 * @since 3.39
+	 */
+	private void discardSortKeys(Object element) {
+		if (sorter != null) {
+			sorter.discardSortKeys(this, equals(element, getRoot()) ? null : element);
+		}
+	}
+
+	/**
+	 * Discards the results cached by the filters, because the given element or,
+	 * for the root, all elements may have changed.
+	 *
+	 * @param element the element which may have changed
+	 * @since 3.39
+	 */
+	private void discardFilterResults(Object element) {
+		if (filters != null) {
+			Object discarded = equals(element, getRoot()) ? null : element;
+			for (ViewerFilter filter : filters) {
+				filter.discardCachedResult(discarded);
+			}
+		}
+	}
+
+	/**
+	 * Sets whether refreshing this viewer keeps the items of unchanged
+	 * elements.
+	 * <p>
+	 * By default, refresh matches the items with the new children of an element
+	 * by position, so inserting or removing a child updates the items of all
+	 * following children. In keyed mode, the old and new children are matched
+	 * using the viewer's element comparer (see
+	 * {@link #setComparer(IElementComparer)}), and only the items of children
+	 * which have been added, removed or moved are created or removed. Items of
+	 * unchanged children keep their position and their expanded state; their
+	 * labels are only updated if labels are to be updated, see
+	 * {@link #refresh(Object, boolean)}.
+	 * </p>
+	 * <p>
+	 * Keyed refresh is supported by tree viewers and by tables which are not
+	 * virtual; it is ignored by other viewers.
+	 * </p>
+	 *
+	 * @param keyed <code>true</code> to keep the items of unchanged elements,
+	 *              <code>false</code> to match items by position
+	 * @since 3.39
+	 */
+	public void setKeyedRefresh(boolean keyed) {
+		keyedRefresh = keyed;
+	}
+
+	/**
+	 * Returns whether refreshing this viewer keeps the items of unchanged
+	 * elements.
+	 *
+	 * @return <code>true</code> if items are matched by element,
+	 *         <code>false</code> if they are matched by position
+	 * @see #setKeyedRefresh(boolean)
+	 * @since 3.39
+	 */
+	public boolean isKeyedRefresh() {
+		return keyedRefresh;
 	}
 
 	/**
@@ -1636,6 +1741,10 @@ public abstract class StructuredViewer extends ContentViewer implements IPostSel
 							"(Has the widget been disposed?)"); //$NON-NLS-1$
 		}
 		unmapAllElements();
+		// the elements of the new input may have other labels
+		if (sorter != null) {
+			sorter.discardSortKeys(this, null);
+		}
 		super.setInput(input);
 	}
 
@@ -1724,6 +1833,7 @@ public abstract class StructuredViewer extends ContentViewer implements IPostSel
 	@Deprecated
 	public void setSorter(ViewerSorter sorter) {
 		if (this.sorter != sorter) {
+			discardSortKeys(getRoot());
 			this.sorter = sorter;
 			refresh();
 		}
@@ -1746,6 +1856,7 @@ public abstract class StructuredViewer extends ContentViewer implements IPostSel
 	 */
 	public void setComparator(ViewerComparator comparator){
 		if (this.sorter != comparator){
+			discardSortKeys(getRoot());
 			this.sorter = comparator;
 			refresh();
 		}
@@ -2030,6 +2141,8 @@ public abstract class StructuredViewer extends ContentViewer implements IPostSel
 	 */
 	public void update(Object element, String[] properties) {
 		Assert.isNotNull(element);
+		discardSortKeys(element);
+		discardFilterResults(element);
 		Widget[] items = findItems(element);
 
 		boolean mayExitEarly = !refreshOccurred;
@@ -2269,6 +2382,7 @@ public abstract class StructuredViewer extends ContentViewer implements IPostSel
 	@Override
 	protected void handleDispose(DisposeEvent event) {
 		super.handleDispose(event);
+		discardSortKeys(getRoot());
 		sorter = null;
 		comparer = null;
 		if (filters != null) {
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2006, 2015 IBM Corporation and others.
+ * Copyright (c) 2006, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -93,6 +93,9 @@ public abstract class ViewerColumn {
 		}
 
 		this.labelProvider = labelProvider;
+		if (viewer != null) {
+			viewer.discardCachedLabels();
+		}
 
 		if (registerListener) {
 			this.labelProvider.initialize(viewer, this);
@@ -146,8 +149,13 @@ public abstract class ViewerColumn {
 			return;
 		}
 
-		labelProvider.update(cell);
-
+		CellLabelCache labelCache = viewer == null ? null : viewer.getLabelCache();
+		if (labelCache == null) {
+			labelProvider.update(cell);
+		} else if (!labelCache.apply(cell, labelProvider)) {
+			labelProvider.update(cell);
+			labelCache.store(cell);
+		}
 	}
 
 	/**
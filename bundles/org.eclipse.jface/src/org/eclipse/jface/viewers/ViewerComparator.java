@@ -16,6 +16,8 @@
 
 package org.eclipse.jface.viewers;
 
+import java.text.CollationKey;
+import java.text.Collator;
 import java.util.Arrays;
 import java.util.Comparator;
 
@@ -47,11 +49,64 @@ import org.eclipse.jface.util.Policy;
  */
 public class ViewerComparator {
 
+	/**
+	 * The number of elements from which elements with collation keys are
+	 * sorted in parallel.
+	 */
+	private static final int PARALLEL_SORT_THRESHOLD = 10000;
+
+	/**
+	 * Whether a comparator class uses the default
+	 * {@link #compare(Viewer, Object, Object)}, so that elements can be sorted
+	 * by precomputed keys.
+	 */
+	private static final ClassValue<Boolean> DEFAULT_COMPARE = new ClassValue<>() {
+		@Override
+		protected Boolean computeValue(Class<?> type) {
+			try {
+				return Boolean.valueOf(type.getMethod("compare", Viewer.class, Object.class, Object.class) //$NON-NLS-1$
+						.getDeclaringClass() == ViewerComparator.class);
+			} catch (NoSuchMethodException e) {
+				return Boolean.FALSE;
+			}
+		}
+	};
+
+	/**
+	 * The category and the label, or its collation key, of an element, which
+	 * are compared by the default {@link #compare(Viewer, Object, Object)}.
+	 */
+	private static final class SortKey {
+
+		final Object element;
+
+		final int category;
+
+		final Object key;
+
+		SortKey(Object element, int category, Object key) {
+			this.element = element;
+			this.category = category;
+			this.key = key;
+		}
+	}
+
 	/**
 	 * The comparator to use to sort a viewer's contents.
 	 */
 	private Comparator<? super String> comparator;
 
+	/**
+	 * The table viewer whose sort keys are cached, or <code>null</code>.
+	 */
+	private Viewer sortKeyViewer;
+
+	/**
+	 * The sort keys of the elements last sorted for {@link #sortKeyViewer}, by
+	 * element, or <code>null</code>.
+	 */
+	private CustomHashtable sortKeys;
+
 	/**
 	 * Creates a new {@link ViewerComparator}, which uses the default comparator
 	 * to sort strings.
@@ -191,6 +246,14 @@ public class ViewerComparator {
 	 * elements.
 	 * </p>
 	 * <p>
+	 * If {@link #compare(Viewer, Object, Object)} is not overridden, the
+	 * category and the label of each element are obtained only once per sort
+	 * instead of once per comparison. If the string comparator is a
+	 * {@link Collator}, the labels are compared by their collation keys, and
+	 * large arrays are sorted in parallel. The keys are kept for the elements of
+	 * an {@link AbstractTableViewer} until their labels change.
+	 * </p>
+	 * <p>
 	 * Subclasses may reimplement this method to provide a more optimized implementation.
 	 * </p>
 	 *
@@ -199,7 +262,11 @@ public class ViewerComparator {
 	 */
 	public void sort(final Viewer viewer, Object[] elements) {
 		try {
-			Arrays.sort(elements, (a, b) -> ViewerComparator.this.compare(viewer, a, b));
+			if (elements.length > 1 && DEFAULT_COMPARE.get(getClass()).booleanValue()) {
+				sortByKeys(viewer, elements);
+			} else {
+				Arrays.sort(elements, (a, b) -> ViewerComparator.this.compare(viewer, a, b));
+			}
 		} catch (IllegalArgumentException e) {
 			String msg = e
 					+ "\nWorkaround for comparator violation:\n\tSet system property -Djava.util.Arrays.useLegacyMergeSort=true" //$NON-NLS-1$
@@ -224,4 +291,77 @@ public class ViewerComparator {
 			throw e;
 		}
 	}
+
+	/**
+	 * Sorts the given elements by their categories and labels, which are
+	 * obtained once per element.
+	 */
+	private void sortByKeys(Viewer viewer, Object[] elements) {
+		Comparator<? super String> stringComparator = getComparator();
+		Collator collator = stringComparator instanceof Collator c ? c : null;
+		CustomHashtable cachedKeys = null;
+		CustomHashtable newKeys = null;
+		if (viewer instanceof AbstractTableViewer tableViewer) {
+			IElementComparer comparer = tableViewer.getComparer();
+			if (sortKeyViewer == viewer && sortKeys != null && sortKeys.getComparer() == comparer) {
+				cachedKeys = sortKeys;
+			}
+			newKeys = new CustomHashtable(elements.length * 4 / 3 + 1, comparer);
+		}
+
+		SortKey[] keys = new SortKey[elements.length];
+		for (int i = 0; i < elements.length; i++) {
+			Object element = elements[i];
+			SortKey key = cachedKeys == null ? null : (SortKey) cachedKeys.get(element);
+			if (key == null || key.element != element) {
+				String label = getLabel(viewer, element);
+				key = new SortKey(element, category(element),
+						collator != null ? collator.getCollationKey(label) : label);
+			}
+			keys[i] = key;
+			if (newKeys != null) {
+				newKeys.put(element, key);
+			}
+		}
+
+		if (collator != null) {
+			Comparator<SortKey> order = (a, b) -> a.category != b.category ? a.category - b.category
+					: ((CollationKey) a.key).compareTo((CollationKey) b.key);
+			if (keys.length >= PARALLEL_SORT_THRESHOLD) {
+				Arrays.parallelSort(keys, order);
+			} else {
+				Arrays.sort(keys, order);
+			}
+		} else {
+			Arrays.sort(keys, (a, b) -> a.category != b.category ? a.category - b.category
+					: stringComparator.compare((String) a.key, (String) b.key));
+		}
+		for (int i = 0; i < keys.length; i++) {
+			elements[i] = keys[i].element;
+		}
+
+		if (newKeys != null) {
+			sortKeyViewer = viewer;
+			sortKeys = newKeys;
+		}
+	}
+
+	/**
+	 * Discards the sort keys kept for the given viewer, because the label of
+	 * the given element or of all elements may have changed.
+	 *
+	 * @param viewer  the viewer
+	 * @param element the element, or <code>null</code> for all elements
+	 */
+	/* package */void discardSortKeys(Viewer viewer, Object element) {
+		if (sortKeyViewer != viewer || sortKeys == null) {
+			return;
+		}
+		if (element == null) {
+			sortKeyViewer = null;
+			sortKeys = null;
+		} else {
+			sortKeys.remove(element);
+		}
+	}
 }
@@ -23,24 +23,180 @@ import java.util.ArrayList;
  * Subclasses must implement the <code>select</code> method and may implement
  * the <code>isFilterProperty</code> method.
  * </p>
+ * <p>
+ * Subclasses whose <code>select</code> result only depends on the element and
+ * on the filter's criteria may enable result caching with
+ * {@link #setCacheResults(boolean)}. Such a filter must call
+ * {@link #filterChanged(boolean)} whenever its criteria change.
+ * </p>
  *
  * @see IStructuredContentProvider
  * @see StructuredViewer
  */
 public abstract class ViewerFilter {
+
+	/**
+	 * Whether the results of <code>select</code> are cached.
+	 */
+	private boolean cacheResults;
+
+	/**
+	 * The generation of this filter's criteria, incremented on each change.
+	 */
+	private int generation;
+
+	/**
+	 * The generation of the last change which was not narrowing. Elements
+	 * rejected since then are still rejected.
+	 */
+	private int broadeningGeneration;
+
+	/**
+	 * The cached results, by element. A value holds the generation in which
+	 * the result was computed, shifted left by one, and the result in the
+	 * lowest bit.
+	 */
+	private CustomHashtable results;
+
+	/**
+	 * The viewer and its input for which results are cached.
+	 */
+	private Viewer resultViewer;
+
+	private Object resultInput;
+
 	/**
 	 * Creates a new viewer filter.
 	 */
 	protected ViewerFilter() {
 	}
 
+	/**
+	 * Sets whether the results of {@link #select(Viewer, Object, Object)} are
+	 * cached per element. Results are kept until the criteria of this filter
+	 * change, see {@link #filterChanged(boolean)}, until the element is
+	 * updated or refreshed in the viewer, or until the whole viewer is
+	 * refreshed or gets another input.
+	 * <p>
+	 * Results may only be cached if they do not depend on the parent element,
+	 * and if this filter calls {@link #filterChanged(boolean)} whenever its
+	 * criteria change.
+	 * </p>
+	 *
+	 * @param cacheResults <code>true</code> to cache results
+	 * @since 3.39
+	 */
+	protected final void setCacheResults(boolean cacheResults) {
+		this.cacheResults = cacheResults;
+		results = null;
+	}
+
+	/**
+	 * Returns whether the results of {@link #select(Viewer, Object, Object)}
+	 * are cached per element.
+	 *
+	 * @return <code>true</code> if results are cached
+	 * @since 3.39
+	 */
+	public final boolean isCachingResults() {
+		return cacheResults;
+	}
+
+	/**
+	 * Notifies this filter that its criteria have changed, so that cached
+	 * results are tested again. If the change is narrowing, every element
+	 * which was rejected before is still rejected, for example because a
+	 * pattern was extended; then only elements which were accepted before are
+	 * tested again.
+	 *
+	 * @param narrowing <code>true</code> if this filter does not accept any
+	 *                  element which it rejected before the change
+	 * @since 3.39
+	 */
+	protected final void filterChanged(boolean narrowing) {
+		generation++;
+		if (!narrowing) {
+			broadeningGeneration = generation;
+			// all cached results are stale
+			results = null;
+		}
+	}
+
+	/**
+	 * Returns the generation of this filter's criteria, which is incremented
+	 * by each call to {@link #filterChanged(boolean)}.
+	 *
+	 * @return the generation
+	 * @since 3.39
+	 */
+	public final int getGeneration() {
+		return generation;
+	}
+
+	/**
+	 * Discards the cached result for the given element, for example because
+	 * the element has changed.
+	 *
+	 * @param element the element, or <code>null</code> to discard all results
+	 * @since 3.39
+	 */
+	public final void discardCachedResult(Object element) {
+		if (results == null) {
+			return;
+		}
+		if (element == null) {
+			results = null;
+		} else {
+			results.remove(element);
+		}
+	}
+
+	/**
+	 * Returns whether the given element makes it through this filter, using the
+	 * cached result if results are cached and the result is still valid.
+	 *
+	 * @param viewer        the viewer
+	 * @param parentElement the parent element
+	 * @param element       the element
+	 * @return <code>true</code> if element is included in the filtered set
+	 */
+	/* package */final boolean isSelected(Viewer viewer, Object parentElement, Object element) {
+		if (!cacheResults) {
+			return select(viewer, parentElement, element);
+		}
+		Object input = viewer == null ? null : viewer.getInput();
+		if (results == null || resultViewer != viewer || resultInput != input) {
+			IElementComparer comparer = viewer instanceof StructuredViewer structuredViewer
+					? structuredViewer.getComparer()
+					: null;
+			results = new CustomHashtable(comparer);
+			resultViewer = viewer;
+			resultInput = input;
+		} else {
+			Integer result = (Integer) results.get(element);
+			if (result != null) {
+				int value = result.intValue();
+				int resultGeneration = value >> 1;
+				boolean selected = (value & 1) != 0;
+				if (resultGeneration == generation || (!selected && resultGeneration >= broadeningGeneration)) {
+					return selected;
+				}
+			}
+		}
+		boolean selected = select(viewer, parentElement, element);
+		results.put(element, Integer.valueOf(generation << 1 | (selected ? 1 : 0)));
+		return selected;
+	}
+
 	/**
 	 * Filters the given elements for the given viewer. The input array is not
 	 * modified.
 	 * <p>
 	 * The default implementation of this method calls <code>select</code> on
 	 * each element in the array, and returns only those elements for which
-	 * <code>select</code> returns <code>true</code>.
+	 * <code>select</code> returns <code>true</code>. If results are cached,
+	 * <code>select</code> is only called for elements without valid cached
+	 * result.
 	 * </p>
 	 *
 	 * @param viewer
@@ -59,7 +215,7 @@ public abstract class ViewerFilter {
 		ArrayList<Object> out = new ArrayList<>(size);
 		for (int i = 0; i < size; ++i) {
 			Object element = elements[i];
-			if (select(viewer, parent, element)) {
+			if (isSelected(viewer, parent, element)) {
 				out.add(element);
 			}
 		}
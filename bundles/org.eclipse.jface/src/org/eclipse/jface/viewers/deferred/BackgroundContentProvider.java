@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2005, 2015 IBM Corporation and others.
+ * Copyright (c) 2005, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -238,9 +238,9 @@ import org.eclipse.jface.viewers.IFilter;
 			}
 
 			// If there are pending changes, process one of them
-			if (!changeQueue.isEmpty()) {
+			ChangeQueue.Change next = changeQueue.dequeue();
+			if (next != null) {
 				dirty = true;
-				ChangeQueue.Change next = changeQueue.dequeue();
 
 				switch(next.getType()) {
 					case ChangeQueue.ADD: {
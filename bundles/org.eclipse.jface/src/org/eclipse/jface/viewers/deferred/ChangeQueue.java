@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2004, 2017 IBM Corporation and others.
+ * Copyright (c) 2004, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -13,11 +13,13 @@
  *******************************************************************************/
 package org.eclipse.jface.viewers.deferred;
 
-import java.util.LinkedList;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * Holds a queue of additions, removals, updates, and SET calls for a
- * BackgroundContentProvider
+ * BackgroundContentProvider. The queue is lock-free, so that the threads
+ * reporting changes of the model never wait for the sorting thread.
  */
 final class ChangeQueue {
 	/**
@@ -49,6 +51,11 @@ final class ChangeQueue {
 		private final int type;
 		private final Object[] elements;
 
+		/**
+		 * The position of the change in the queue, assigned when it is enqueued
+		 */
+		private long sequence;
+
 		/**
 		 * Create a change of the specified type that affects the given elements.
 		 *
@@ -83,7 +90,14 @@ final class ChangeQueue {
 		}
 	}
 
-	private LinkedList<Change> queue = new LinkedList<>();
+	private final ConcurrentLinkedQueue<Change> queue = new ConcurrentLinkedQueue<>();
+
+	private final AtomicLong lastSequence = new AtomicLong();
+
+	/**
+	 * The sequence of the last SET change enqueued, or 0
+	 */
+	private final AtomicLong lastSet = new AtomicLong();
 
 	/**
 	 * Create a change of the given type and elements and enqueue it.
@@ -91,7 +105,7 @@ final class ChangeQueue {
 	 * @param type the type of change to be created
 	 * @param elements the elements affected by the change
 	 */
-	public synchronized void enqueue(int type, Object[] elements) {
+	public void enqueue(int type, Object[] elements) {
 		enqueue(new Change(type, elements));
 	}
 
@@ -99,37 +113,40 @@ final class ChangeQueue {
 	 * Add the specified change to the queue
 	 * @param toQueue the change to be added
 	 */
-	public synchronized void enqueue(Change toQueue) {
-		// A SET event makes all previous adds, removes, and sets redundant... so remove
-		// them from the queue
+	public void enqueue(Change toQueue) {
+		long sequence = lastSequence.incrementAndGet();
+		toQueue.sequence = sequence;
 		if (toQueue.type == SET) {
-			LinkedList<Change> newQueue = new LinkedList<>();
-			for (Change next : queue) {
-				if (next.getType() == ADD || next.getType() == REMOVE || next.getType() == SET) {
-					continue;
-				}
-
-				newQueue.add(next);
-			}
-			queue = newQueue;
+			lastSet.accumulateAndGet(sequence, Math::max);
 		}
-
 		queue.add(toQueue);
 	}
 
 	/**
 	 * Remove the first change from the queue.
-	 * @return the first change
+	 * @return the first change, or <code>null</code> if the queue is empty
 	 */
-	public synchronized Change dequeue() {
-		return queue.removeFirst();
+	public Change dequeue() {
+		long set = lastSet.get();
+		Change next;
+		while ((next = queue.poll()) != null) {
+			// A SET event makes all previous adds, removes, and sets redundant... so skip
+			// them
+			if (next.sequence < set && next.type != UPDATE) {
+				continue;
+			}
+			return next;
+		}
+		return null;
 	}
 
 	/**
-	 * Return whether the queue is empty
+	 * Return whether the queue is empty. Since changes made redundant by a SET
+	 * are skipped, {@link #dequeue()} may still return <code>null</code> if the
+	 * queue is not empty.
 	 * @return <code>true</code> if empty, <code>false</code> otherwise
 	 */
-	public synchronized boolean isEmpty() {
+	public boolean isEmpty() {
 		return queue.isEmpty();
 	}
 }
@@ -0,0 +1,409 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jface.viewers.deferred;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.core.runtime.Assert;
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.NullProgressMonitor;
+import org.eclipse.core.runtime.Status;
+import org.eclipse.jface.resource.JFaceResources;
+import org.eclipse.jface.util.Policy;
+import org.eclipse.jface.viewers.ILazyTreeContentProvider;
+import org.eclipse.jface.viewers.ITreeContentProvider;
+import org.eclipse.jface.viewers.ITreeViewerListener;
+import org.eclipse.jface.viewers.TreeExpansionEvent;
+import org.eclipse.jface.viewers.TreeViewer;
+import org.eclipse.jface.viewers.Viewer;
+import org.eclipse.swt.widgets.Control;
+
+/**
+ * Content provider that adapts an {@link ITreeContentProvider} to a
+ * <code>TreeViewer</code> created with the <code>SWT.VIRTUAL</code> flag, and
+ * fetches the children of expanded elements in a background thread.
+ * <p>
+ * While the children of an element are fetched, the element shows a single
+ * placeholder child, a {@link PendingElement}, whose <code>toString()</code>
+ * is a localized "Pending..." label. The placeholder is passed to the viewer
+ * like any other element, so the viewer's label provider must handle it, for
+ * instance by returning its <code>toString()</code> as text and no image, and
+ * so must the viewer's selection and double click listeners. If the element is collapsed before its
+ * children have arrived, the fetch is cancelled and the children are fetched
+ * again on the next expansion. Fetched children are cached, and only the items
+ * which become visible are created by the tree.
+ * </p>
+ * <p>
+ * The methods <code>getElements</code> and <code>getChildren</code> of the
+ * adapted content provider are called in a background thread and must not
+ * access any widget. <code>hasChildren</code> and <code>getParent</code> are
+ * called in the UI thread. As for all lazy content providers, the viewer must
+ * use hash lookup, see {@link TreeViewer#setUseHashlookup(boolean)}, and
+ * cannot sort or filter.
+ * </p>
+ * <p>
+ * Elements are looked up in the cache with their <code>equals</code> and
+ * <code>hashCode</code> methods. When the children of an element have
+ * changed, call {@link #refresh(Object)} instead of refreshing the viewer.
+ * </p>
+ *
+ * @since 3.39
+ */
+public class DeferredTreeContentProvider implements ILazyTreeContentProvider {
+
+	/**
+	 * Fetching message string
+	 */
+	private static final String FETCHING = JFaceResources.getString("FetchingChildren"); //$NON-NLS-1$
+
+	/**
+	 * The number of threads of the default executor.
+	 */
+	private static final int DEFAULT_THREAD_COUNT = 2;
+
+	/**
+	 * The executor used by default, shared by all content providers. It fetches
+	 * in a small number of daemon threads, which terminate when they have been
+	 * idle for a while; further fetches are queued.
+	 */
+	private static final Executor DEFAULT_EXECUTOR = createDefaultExecutor();
+
+	private static Executor createDefaultExecutor() {
+		ThreadPoolExecutor executor = new ThreadPoolExecutor(DEFAULT_THREAD_COUNT, DEFAULT_THREAD_COUNT, 10,
+				TimeUnit.SECONDS, new LinkedBlockingQueue<>(), runnable -> {
+					Thread thread = new Thread(runnable, FETCHING);
+					thread.setDaemon(true);
+					thread.setPriority(Thread.NORM_PRIORITY - 1);
+					return thread;
+				});
+		executor.allowCoreThreadTimeOut(true);
+		return executor;
+	}
+
+	/**
+	 * The placeholder shown as the only child of an element while its children
+	 * are fetched.
+	 */
+	public static final class PendingElement {
+
+		private final Object parent;
+
+		private PendingElement(Object parent) {
+			this.parent = parent;
+		}
+
+		/**
+		 * Returns the element whose children are fetched.
+		 *
+		 * @return the parent element
+		 */
+		public Object getParent() {
+			return parent;
+		}
+
+		@Override
+		public String toString() {
+			return JFaceResources.getString("Pending"); //$NON-NLS-1$
+		}
+	}
+
+	/**
+	 * A fetch of the children of one element.
+	 */
+	private static final class Fetch {
+
+		final Object parent;
+
+		final PendingElement pending;
+
+		final IProgressMonitor monitor = new NullProgressMonitor();
+
+		Fetch(Object parent) {
+			this.parent = parent;
+			this.pending = new PendingElement(parent);
+		}
+	}
+
+	private final ITreeContentProvider provider;
+
+	private final Executor executor;
+
+	private TreeViewer viewer;
+
+	private Object input;
+
+	/**
+	 * The fetched children, by parent element. Only accessed in the UI thread.
+	 */
+	private final Map<Object, Object[]> children = new HashMap<>();
+
+	/**
+	 * The running fetches, by parent element. Only accessed in the UI thread.
+	 */
+	private final Map<Object, Fetch> fetches = new HashMap<>();
+
+	private final ITreeViewerListener expansionListener = new ITreeViewerListener() {
+
+		@Override
+		public void treeExpanded(TreeExpansionEvent event) {
+			Object element = event.getElement();
+			if (!(element instanceof PendingElement) && !children.containsKey(element)
+					&& !fetches.containsKey(element)) {
+				fetch(element);
+			}
+		}
+
+		@Override
+		public void treeCollapsed(TreeExpansionEvent event) {
+			Object element = event.getElement();
+			if (cancel(element)) {
+				// replace the placeholder by a dummy child, so that the
+				// children are fetched again on the next expansion
+				viewer.setChildCount(element, 0);
+				viewer.setChildCount(element, 1);
+			}
+		}
+	};
+
+	/**
+	 * Creates a content provider which fetches the children of the given
+	 * content provider in a small pool of daemon threads shared by all content
+	 * providers.
+	 *
+	 * @param provider the content provider to adapt
+	 */
+	public DeferredTreeContentProvider(ITreeContentProvider provider) {
+		this(provider, DEFAULT_EXECUTOR);
+	}
+
+	/**
+	 * Creates a content provider which fetches the children of the given
+	 * content provider with the given executor. Clients which want to fetch in
+	 * jobs can pass an executor which schedules a job for each fetch.
+	 *
+	 * @param provider the content provider to adapt
+	 * @param executor the executor which runs the fetches
+	 */
+	public DeferredTreeContentProvider(ITreeContentProvider provider, Executor executor) {
+		Assert.isNotNull(provider);
+		Assert.isNotNull(executor);
+		this.provider = provider;
+		this.executor = executor;
+	}
+
+	/**
+	 * Returns the adapted content provider.
+	 *
+	 * @return the adapted content provider
+	 */
+	public ITreeContentProvider getContentProvider() {
+		return provider;
+	}
+
+	@Override
+	public void inputChanged(Viewer viewer, Object oldInput, Object newInput) {
+		cancelAll();
+		if (this.viewer != null) {
+			this.viewer.removeTreeListener(expansionListener);
+		}
+		Assert.isTrue(viewer instanceof TreeViewer);
+		this.viewer = (TreeViewer) viewer;
+		this.viewer.addTreeListener(expansionListener);
+		input = newInput;
+		provider.inputChanged(viewer, oldInput, newInput);
+	}
+
+	@Override
+	public void dispose() {
+		cancelAll();
+		if (viewer != null) {
+			viewer.removeTreeListener(expansionListener);
+			viewer = null;
+		}
+		provider.dispose();
+	}
+
+	@Override
+	public void updateElement(Object parent, int index) {
+		Fetch fetch = fetches.get(parent);
+		if (fetch != null) {
+			viewer.replace(parent, index, fetch.pending);
+			viewer.setChildCount(fetch.pending, 0);
+			return;
+		}
+		Object[] elements = children.get(parent);
+		if (elements == null) {
+			// the dummy child of an element expanded without expansion event
+			// has become visible
+			if (!(parent instanceof PendingElement)) {
+				fetch(parent);
+			}
+			return;
+		}
+		if (index >= elements.length) {
+			return;
+		}
+		Object element = elements[index];
+		viewer.replace(parent, index, element);
+		updateChildCount(element, -1);
+	}
+
+	@Override
+	public void updateChildCount(Object element, int currentChildCount) {
+		if (element instanceof PendingElement) {
+			viewer.setChildCount(element, 0);
+			return;
+		}
+		if (fetches.containsKey(element)) {
+			return;
+		}
+		Object[] elements = children.get(element);
+		if (elements != null) {
+			if (elements.length != currentChildCount) {
+				viewer.setChildCount(element, elements.length);
+			}
+		} else if (element == input) {
+			fetch(element);
+		} else if (!provider.hasChildren(element)) {
+			viewer.setChildCount(element, 0);
+		} else if (currentChildCount <= 0) {
+			// a dummy child shows the plus, the children are fetched on expansion
+			viewer.setChildCount(element, 1);
+		}
+	}
+
+	@Override
+	public Object getParent(Object element) {
+		if (element instanceof PendingElement pending) {
+			return pending.getParent();
+		}
+		return provider.getParent(element);
+	}
+
+	/**
+	 * Discards the cached children of the given element and fetches them again
+	 * if the element is the input or is expanded. Must be called in the UI
+	 * thread.
+	 *
+	 * @param element the element whose children have changed, or the input
+	 */
+	public void refresh(Object element) {
+		cancel(element);
+		children.remove(element);
+		if (viewer == null) {
+			return;
+		}
+		// the placeholder or the first child is replaced in place, so that an
+		// expanded element stays expanded
+		if (element == input || viewer.getExpandedState(element)) {
+			fetch(element);
+		} else {
+			viewer.setHasChildren(element, provider.hasChildren(element));
+		}
+	}
+
+	/**
+	 * Returns whether the children of the given element are being fetched. Must
+	 * be called in the UI thread.
+	 *
+	 * @param element the element
+	 * @return <code>true</code> if the children of the element are being
+	 *         fetched
+	 */
+	public boolean isFetching(Object element) {
+		return fetches.containsKey(element);
+	}
+
+	/**
+	 * Starts fetching the children of the given element and shows a pending
+	 * placeholder until they arrive.
+	 *
+	 * @param parent the element or the input
+	 */
+	private void fetch(Object parent) {
+		Fetch fetch = new Fetch(parent);
+		fetches.put(parent, fetch);
+		viewer.setChildCount(parent, 1);
+		viewer.replace(parent, 0, fetch.pending);
+		viewer.setChildCount(fetch.pending, 0);
+
+		boolean isInput = parent == input;
+		Control control = viewer.getControl();
+		CompletableFuture.supplyAsync(() -> {
+			if (fetch.monitor.isCanceled()) {
+				return null;
+			}
+			return isInput ? provider.getElements(parent) : provider.getChildren(parent);
+		}, executor).whenComplete((result, error) -> {
+			if (fetch.monitor.isCanceled() || control.isDisposed()) {
+				return;
+			}
+			control.getDisplay().asyncExec(() -> fetched(fetch, result, error));
+		});
+	}
+
+	/**
+	 * Shows the fetched children in the UI thread.
+	 */
+	private void fetched(Fetch fetch, Object[] result, Throwable error) {
+		if (fetch.monitor.isCanceled() || fetches.get(fetch.parent) != fetch || viewer == null
+				|| viewer.getControl().isDisposed()) {
+			return;
+		}
+		fetches.remove(fetch.parent);
+		if (error != null) {
+			Policy.getLog().log(Status.error(FETCHING, error));
+		}
+		Object[] elements = result == null ? new Object[0] : result;
+		children.put(fetch.parent, elements);
+		if (elements.length == 0) {
+			viewer.setChildCount(fetch.parent, 0);
+			return;
+		}
+		// replace the placeholder in place, removing the last child would
+		// collapse the parent; the tree asks for the other children when they
+		// become visible
+		viewer.setChildCount(fetch.parent, elements.length);
+		viewer.replace(fetch.parent, 0, elements[0]);
+		updateChildCount(elements[0], -1);
+	}
+
+	/**
+	 * Cancels the fetch of the children of the given element.
+	 *
+	 * @return whether a fetch was running
+	 */
+	private boolean cancel(Object element) {
+		Fetch fetch = fetches.remove(element);
+		if (fetch == null) {
+			return false;
+		}
+		fetch.monitor.setCanceled(true);
+		return true;
+	}
+
+	private void cancelAll() {
+		for (Fetch fetch : fetches.values()) {
+			fetch.monitor.setCanceled(true);
+		}
+		fetches.clear();
+		children.clear();
+	}
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2004, 2015 IBM Corporation and others.
+ * Copyright (c) 2004, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -13,33 +13,155 @@
  *******************************************************************************/
 package org.eclipse.jface.viewers.deferred;
 
-import java.util.HashMap;
-
 /**
- * Represents a map of objects onto ints. This is intended for future optimization:
- * using int primitives would allow for an implementation that doesn't require
- * additional object allocations for Integers. However, the current implementation
- * simply delegates to the Java HashMap class.
+ * Represents a map of objects onto ints. Keys are compared with
+ * <code>equals</code> and <code>hashCode</code>, as in a
+ * <code>HashMap</code>, but the map uses open addressing with linear probing
+ * in a pair of arrays, so that no objects are allocated per entry and no
+ * <code>Integer</code>s are boxed. This matters for the large tables of
+ * <code>LazySortedCollection</code> and <code>ConcurrentTableUpdator</code>.
  *
  * @since 3.1
  */
 /* package */ class IntHashMap {
-	private final HashMap map;
+	private static final int MIN_CAPACITY = 16;
+
+	private static final int MAX_CAPACITY = 1 << 30;
+
+	private static final float DEFAULT_LOAD_FACTOR = 0.75f;
+
+	/**
+	 * The highest load factor used, since probe sequences get long when the
+	 * table is almost full
+	 */
+	private static final float MAX_LOAD_FACTOR = 0.9f;
+
+	/**
+	 * Stands for the <code>null</code> key in the keys array, where
+	 * <code>null</code> marks a free slot
+	 */
+	private static final Object NULL_KEY = new Object();
+
+	private final float loadFactor;
+
+	private Object[] keys;
+
+	private int[] values;
+
+	private int size;
+
+	/**
+	 * The size above which the table is grown
+	 */
+	private int threshold;
 
 	public IntHashMap(int size, float loadFactor) {
-		map = new HashMap(size, loadFactor);
+		if (!(loadFactor > 0)) {
+			throw new IllegalArgumentException("Illegal load factor: " + loadFactor); //$NON-NLS-1$
+		}
+		this.loadFactor = Math.min(loadFactor, MAX_LOAD_FACTOR);
+		allocate(capacityFor(size));
 	}
 
 	public IntHashMap() {
-		map = new HashMap();
+		this(MIN_CAPACITY, DEFAULT_LOAD_FACTOR);
+	}
+
+	/**
+	 * @return the power of two table length that holds the given number of
+	 *         entries without growing
+	 */
+	private int capacityFor(int entries) {
+		long needed = (long) (Math.max(entries, 0) / loadFactor) + 1;
+		int capacity = MIN_CAPACITY;
+		while (capacity < needed && capacity < MAX_CAPACITY) {
+			capacity <<= 1;
+		}
+		return capacity;
+	}
+
+	private void allocate(int capacity) {
+		keys = new Object[capacity];
+		values = new int[capacity];
+		threshold = (int) (capacity * loadFactor);
+	}
+
+	private static int hash(Object key) {
+		// spread the hash codes, linear probing is sensitive to clustered codes
+		int h = key.hashCode() * 0x9E3779B9;
+		return h ^ (h >>> 16);
+	}
+
+	/**
+	 * @return the slot holding the given key, or <code>-(slot + 1)</code> for
+	 *         the free slot where it would be inserted
+	 */
+	private int indexOf(Object key) {
+		int mask = keys.length - 1;
+		int i = hash(key) & mask;
+		Object current;
+		while ((current = keys[i]) != null) {
+			if (current == key || key.equals(current)) {
+				return i;
+			}
+			i = (i + 1) & mask;
+		}
+		return -(i + 1);
+	}
+
+	private void grow() {
+		Object[] oldKeys = keys;
+		int[] oldValues = values;
+		allocate(oldKeys.length << 1);
+		int mask = keys.length - 1;
+		for (int j = 0; j < oldKeys.length; j++) {
+			Object key = oldKeys[j];
+			if (key != null) {
+				int i = hash(key) & mask;
+				while (keys[i] != null) {
+					i = (i + 1) & mask;
+				}
+				keys[i] = key;
+				values[i] = oldValues[j];
+			}
+		}
 	}
 
 	public void remove(Object key) {
-		map.remove(key);
+		int i = indexOf(key == null ? NULL_KEY : key);
+		if (i < 0) {
+			return;
+		}
+		// shift the following entries of the probe sequence back, so that no
+		// tombstones are needed
+		int mask = keys.length - 1;
+		int hole = i;
+		for (int j = (i + 1) & mask; keys[j] != null; j = (j + 1) & mask) {
+			int home = hash(keys[j]) & mask;
+			boolean movable = hole < j ? (home <= hole || home > j) : (home <= hole && home > j);
+			if (movable) {
+				keys[hole] = keys[j];
+				values[hole] = values[j];
+				hole = j;
+			}
+		}
+		keys[hole] = null;
+		size--;
 	}
 
 	public void put(Object key, int value) {
-		map.put(key, Integer.valueOf(value));
+		Object k = key == null ? NULL_KEY : key;
+		int i = indexOf(k);
+		if (i >= 0) {
+			values[i] = value;
+			return;
+		}
+		i = -(i + 1);
+		keys[i] = k;
+		values[i] = value;
+		if (++size > threshold && keys.length < MAX_CAPACITY) {
+			grow();
+		}
 	}
 
 	/**
@@ -53,26 +175,21 @@ import java.util.HashMap;
 	 * @return the int value at the given key, or the default value if this map does not contain the given key
 	 */
 	public int get(Object key, int defaultValue) {
-		Integer result = (Integer)map.get(key);
-
-		if (result != null) {
-			return result.intValue();
-		}
-
-		return defaultValue;
+		int i = indexOf(key == null ? NULL_KEY : key);
+		return i >= 0 ? values[i] : defaultValue;
 	}
 
 	/**
 	 * @return <code>true</code> if this map contains the given key, <code>false</code> otherwise
 	 */
 	public boolean containsKey(Object key) {
-		return map.containsKey(key);
+		return indexOf(key == null ? NULL_KEY : key) >= 0;
 	}
 
 	/**
 	 * @return the number of key/value pairs
 	 */
 	public int size() {
-		return map.size();
+		return size;
 	}
 }
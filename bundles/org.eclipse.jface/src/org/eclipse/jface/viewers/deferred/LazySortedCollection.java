@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2004, 2015 IBM Corporation and others.
+ * Copyright (c) 2004, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -55,6 +55,12 @@ public class LazySortedCollection {
 
 	private static final float loadFactor = 0.75f;
 
+	/**
+	 * Number of elements removed at once from which the tree sizes are
+	 * recomputed once for all removals
+	 */
+	private static final int BATCH_REMOVAL_THRESHOLD = 64;
+
 	private IntHashMap objectIndices;
 	private final Comparator comparator;
 	private static int counter = 0;
@@ -823,10 +829,56 @@ public class LazySortedCollection {
 	public final void removeAll(Object[] toRemove) {
 		Assert.isNotNull(toRemove);
 
-		for (Object object : toRemove) {
-			internalRemove(object);
+		if (toRemove.length < BATCH_REMOVAL_THRESHOLD) {
+			for (Object object : toRemove) {
+				internalRemove(object);
+			}
+		} else {
+			// Updating the sizes of the ancestors after each removal takes time
+			// proportional to the length of the unsorted list the node is in, which
+			// makes removing many unsorted nodes quadratic. Recompute all sizes once
+			// instead.
+			for (Object object : toRemove) {
+				int objectIndex = getObjectIndex(object);
+				if (objectIndex != -1) {
+					lazyRemoveNode(objectIndex);
+				}
+			}
+			recomputeAllTreeSizes();
 		}
 		pack();
+
+		testInvariants();
+	}
+
+	/**
+	 * Recomputes the sizes of all nodes in the tree, in time linear in the
+	 * number of nodes.
+	 */
+	private void recomputeAllTreeSizes() {
+		if (root == -1) {
+			return;
+		}
+		// Each node is added after its parent, so visiting the array backwards
+		// recomputes the children before their parents
+		int[] nodes = new int[lastNode];
+		int count = 0;
+		nodes[count++] = root;
+		for (int i = 0; i < count; i++) {
+			int node = nodes[i];
+			if (leftSubTree[node] != -1) {
+				nodes[count++] = leftSubTree[node];
+			}
+			if (rightSubTree[node] != -1) {
+				nodes[count++] = rightSubTree[node];
+			}
+			if (nextUnsorted[node] != -1) {
+				nodes[count++] = nextUnsorted[node];
+			}
+		}
+		for (int i = count - 1; i >= 0; i--) {
+			recomputeTreeSize(nodes[i]);
+		}
 	}
 
 	/**
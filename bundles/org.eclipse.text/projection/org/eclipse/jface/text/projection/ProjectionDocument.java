@@ -375,10 +375,22 @@ public class ProjectionDocument extends AbstractDocument {
 	 * @return the fragment representing the given master document range
 	 */
 	private Fragment findFragment(int offsetInMaster, int lengthInMaster) {
-		Position[] fragments= getFragments();
-		for (Position fragment : fragments) {
-			Fragment f = (Fragment) fragment;
-			if (f.getOffset() <= offsetInMaster && offsetInMaster + lengthInMaster <= f.getOffset() + f.getLength()) {
+		// the fragments are sorted and do not overlap, only the last fragments starting at or
+		// before the offset can comprise the range
+		Position[] fragments= fMapping.getCachedFragments();
+		int low= 0;
+		int high= fragments.length - 1;
+		while (low <= high) {
+			int mid= (low + high) >>> 1;
+			if (fragments[mid].getOffset() <= offsetInMaster) {
+				low= mid + 1;
+			} else {
+				high= mid - 1;
+			}
+		}
+		for (int i= high; i >= 0 && i >= high - 1; i--) {
+			Fragment f= (Fragment) fragments[i];
+			if (offsetInMaster + lengthInMaster <= f.getOffset() + f.getLength()) {
 				return f;
 			}
 		}
@@ -54,6 +54,11 @@ public class ProjectionMapping implements IDocumentInformationMapping , IDocumen
 	private Position[] fCachedSegments;
 	/** Cached fragments */
 	private Position[] fCachedFragments;
+	/**
+	 * Cached image length, <code>-1</code> if not yet computed. The image length is needed to
+	 * check every image offset, so it must not be computed from the segments on every call.
+	 */
+	private int fCachedImageLength= -1;
 
 	/**
 	 * Creates a new mapping between the given parent document and the given projection document.
@@ -76,6 +81,7 @@ public class ProjectionMapping implements IDocumentInformationMapping , IDocumen
 	public void projectionChanged() {
 		fCachedSegments= null;
 		fCachedFragments= null;
+		fCachedImageLength= -1;
 	}
 
 	private Position[] getSegments() {
@@ -100,6 +106,16 @@ public class ProjectionMapping implements IDocumentInformationMapping , IDocumen
 		return fCachedFragments;
 	}
 
+	/**
+	 * Returns the fragments of the master document sorted by offset. The array is shared and
+	 * must not be modified, it is valid until the next {@link #projectionChanged()}.
+	 *
+	 * @return the cached fragments
+	 */
+	Position[] getCachedFragments() {
+		return getFragments();
+	}
+
 	private int findSegmentIndex(int offset) throws BadLocationException {
 		Position[] segments= getSegments();
 		if (segments.length == 0) {
@@ -573,12 +589,15 @@ public class ProjectionMapping implements IDocumentInformationMapping , IDocumen
 
 	@Override
 	public int getImageLength() {
-		Position[] segments= getSegments();
-		int length= 0;
-		for (Position segment : segments) {
-			length += segment.length;
+		if (fCachedImageLength == -1) {
+			Position[] segments= getSegments();
+			int length= 0;
+			for (Position segment : segments) {
+				length += segment.length;
+			}
+			fCachedImageLength= length;
 		}
-		return length;
+		return fCachedImageLength;
 	}
 
 	@Override
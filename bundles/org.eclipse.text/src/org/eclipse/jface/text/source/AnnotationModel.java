@@ -742,6 +742,11 @@ public class AnnotationModel implements IAnnotationModel, IAnnotationModelExtens
 
 	/**
 	 * Returns an iterator as specified in {@link IAnnotationModelExtension2#getAnnotationIterator(int, int, boolean, boolean)}
+	 * over the annotations managed by this model, excluding the annotations of attached models.
+	 * <p>
+	 * Subclasses may override to provide a more efficient lookup, see
+	 * {@link RangeIndexedAnnotationModel}.
+	 * </p>
 	 *
 	 * @param offset region start
 	 * @param length region length
@@ -749,9 +754,9 @@ public class AnnotationModel implements IAnnotationModel, IAnnotationModelExtens
 	 * @param canEndAfter position can end after region
 	 * @return an iterator to iterate over annotations in region
 	 * @see IAnnotationModelExtension2#getAnnotationIterator(int, int, boolean, boolean)
-	 * @since 3.4
+	 * @since 3.15
 	 */
-	private Iterator<Annotation> getRegionAnnotationIterator(int offset, int length, boolean canStartBefore, boolean canEndAfter) {
+	protected Iterator<Annotation> getRegionAnnotationIterator(int offset, int length, boolean canStartBefore, boolean canEndAfter) {
 		if (!(fDocument instanceof AbstractDocument document)) {
 			return new RegionIterator(getAnnotationIterator(true), this, offset, length, canStartBefore, canEndAfter);
 		}
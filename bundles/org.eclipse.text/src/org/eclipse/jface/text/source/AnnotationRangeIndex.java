@@ -0,0 +1,355 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jface.text.source;
+
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import org.eclipse.jface.text.Position;
+
+
+/**
+ * Range index over annotation positions used by {@link RangeIndexedAnnotationModel}.
+ * <p>
+ * The index is a treap ordered by position offset. Each node is augmented with the maximal end
+ * offset of its subtree so that overlap queries only visit the subtrees that can contain matching
+ * positions. Insertions and removals are <code>O(log n)</code>, region queries are
+ * <code>O(log n + k)</code>.
+ * </p>
+ * <p>
+ * Node keys are snapshots of the position offsets. Document changes update the positions in place,
+ * so the owner has to {@link #markStale() mark} the index as stale after each document change. The
+ * snapshot is refreshed in a single linear pass before the next query or insertion; this is the
+ * same amount of work the document itself spends on updating the positions.
+ * </p>
+ * <p>
+ * This class is not thread safe, clients have to synchronize access.
+ * </p>
+ *
+ * @since 3.15
+ */
+final class AnnotationRangeIndex {
+
+	/**
+	 * A node of the treap.
+	 */
+	private static final class Node {
+
+		final Annotation fAnnotation;
+		final Position fPosition;
+		/** Tie breaker for positions with the same offset. */
+		final long fSequence;
+		final int fPriority;
+		/** Snapshot of the position's offset. */
+		int fStart;
+		/** Snapshot of the position's end offset. */
+		int fEnd;
+		/** Maximal <code>fEnd</code> in the subtree rooted at this node. */
+		int fMaxEnd;
+		Node fLeft;
+		Node fRight;
+
+		Node(Annotation annotation, Position position, long sequence, int priority) {
+			fAnnotation= annotation;
+			fPosition= position;
+			fSequence= sequence;
+			fPriority= priority;
+			refresh();
+			fMaxEnd= fEnd;
+		}
+
+		void refresh() {
+			fStart= fPosition.getOffset();
+			fEnd= fStart + fPosition.getLength();
+		}
+
+		int compareTo(int start, long sequence) {
+			if (fStart != start) {
+				return fStart < start ? -1 : 1;
+			}
+			return Long.compare(fSequence, sequence);
+		}
+	}
+
+	private final Map<Annotation, Node> fNodes= new HashMap<>();
+	private final Random fRandom= new Random();
+	private Node fRoot;
+	private long fNextSequence;
+	private volatile boolean fStale;
+
+	/**
+	 * Returns the number of indexed annotations.
+	 *
+	 * @return the number of indexed annotations
+	 */
+	int size() {
+		return fNodes.size();
+	}
+
+	/**
+	 * Returns whether the given annotation is indexed.
+	 *
+	 * @param annotation the annotation
+	 * @return <code>true</code> if the annotation is indexed
+	 */
+	boolean contains(Annotation annotation) {
+		return fNodes.containsKey(annotation);
+	}
+
+	/**
+	 * Marks the position snapshot as stale. Called after the document updated the positions.
+	 */
+	void markStale() {
+		fStale= true;
+	}
+
+	/**
+	 * Adds the given annotation to the index. If the annotation is already indexed it is moved to
+	 * its current position.
+	 *
+	 * @param annotation the annotation
+	 * @param position the annotation's position
+	 */
+	void add(Annotation annotation, Position position) {
+		remove(annotation);
+		revalidate();
+
+		Node node= new Node(annotation, position, fNextSequence++, fRandom.nextInt());
+		fNodes.put(annotation, node);
+		Node[] parts= split(fRoot, node.fStart, node.fSequence);
+		fRoot= merge(merge(parts[0], node), parts[1]);
+	}
+
+	/**
+	 * Removes the given annotation from the index. Does nothing if the annotation is not indexed.
+	 *
+	 * @param annotation the annotation
+	 */
+	void remove(Annotation annotation) {
+		Node node= fNodes.remove(annotation);
+		if (node != null) {
+			// keys are compared against the snapshot, so this works even if the index is stale
+			fRoot= delete(fRoot, node);
+		}
+	}
+
+	/**
+	 * Removes all annotations from the index.
+	 */
+	void clear() {
+		fNodes.clear();
+		fRoot= null;
+		fStale= false;
+	}
+
+	/**
+	 * Adds all annotations whose positions are inside the given region to the given list, ordered
+	 * by offset. See {@link IAnnotationModelExtension2} for the definition of inside.
+	 *
+	 * @param offset the start of the region
+	 * @param length the length of the region
+	 * @param canStartBefore include annotations starting before the region
+	 * @param canEndAfter include annotations ending after the region
+	 * @param result the list to add the annotations to
+	 */
+	void collect(int offset, int length, boolean canStartBefore, boolean canEndAfter, List<Annotation> result) {
+		revalidate();
+		int minStart= canStartBefore ? Integer.MIN_VALUE : offset;
+		collect(fRoot, minStart, offset + length, new Position(offset, length), canStartBefore, canEndAfter, result);
+	}
+
+	private static void collect(Node node, int minStart, int maxStart, Position region, boolean canStartBefore, boolean canEndAfter, List<Annotation> result) {
+		while (node != null && node.fMaxEnd >= region.offset) {
+			if (node.fStart >= minStart) {
+				collect(node.fLeft, minStart, maxStart, region, canStartBefore, canEndAfter, result);
+			}
+			if (node.fStart > maxStart) {
+				return;
+			}
+			if (node.fStart >= minStart && node.fEnd >= region.offset && !node.fPosition.isDeleted()
+					&& isWithinRegion(region, node.fStart, node.fEnd - node.fStart, canStartBefore, canEndAfter)) {
+				result.add(node.fAnnotation);
+			}
+			node= node.fRight;
+		}
+	}
+
+	/*
+	 * Same semantics as AnnotationModel.RegionIterator.
+	 */
+	private static boolean isWithinRegion(Position region, int start, int length, boolean canStartBefore, boolean canEndAfter) {
+		if (canStartBefore && canEndAfter) {
+			return region.overlapsWith(start, length);
+		} else if (canStartBefore) {
+			return region.includes(start + length - (length > 0 ? 1 : 0));
+		} else if (canEndAfter) {
+			return region.includes(start);
+		} else {
+			return region.includes(start) && region.includes(start + length - (length > 0 ? 1 : 0));
+		}
+	}
+
+	/**
+	 * Refreshes the position snapshot if the index is stale. If the positions are still ordered the
+	 * tree shape is kept and only the subtree maxima are recomputed, otherwise the tree is rebuilt.
+	 */
+	private void revalidate() {
+		if (!fStale) {
+			return;
+		}
+		fStale= false;
+
+		Node[] nodes= inOrder();
+		boolean ordered= true;
+		for (int i= 0; i < nodes.length; i++) {
+			Node node= nodes[i];
+			node.refresh();
+			if (ordered && i > 0 && nodes[i - 1].compareTo(node.fStart, node.fSequence) > 0) {
+				ordered= false;
+			}
+		}
+
+		if (ordered) {
+			updateSubtree(fRoot);
+		} else {
+			Arrays.sort(nodes, (a, b) -> a.compareTo(b.fStart, b.fSequence));
+			fRoot= build(nodes);
+		}
+	}
+
+	private Node[] inOrder() {
+		Node[] nodes= new Node[fNodes.size()];
+		Deque<Node> stack= new ArrayDeque<>();
+		Node node= fRoot;
+		int i= 0;
+		while (node != null || !stack.isEmpty()) {
+			while (node != null) {
+				stack.push(node);
+				node= node.fLeft;
+			}
+			node= stack.pop();
+			nodes[i++]= node;
+			node= node.fRight;
+		}
+		return nodes;
+	}
+
+	/**
+	 * Builds a treap from the given sorted nodes in linear time.
+	 *
+	 * @param nodes the nodes sorted by key
+	 * @return the root of the new treap
+	 */
+	private static Node build(Node[] nodes) {
+		Deque<Node> spine= new ArrayDeque<>();
+		for (Node node : nodes) {
+			Node last= null;
+			while (!spine.isEmpty() && spine.peek().fPriority < node.fPriority) {
+				last= spine.pop();
+			}
+			node.fLeft= last;
+			node.fRight= null;
+			if (!spine.isEmpty()) {
+				spine.peek().fRight= node;
+			}
+			spine.push(node);
+		}
+		Node root= spine.peekLast();
+		updateSubtree(root);
+		return root;
+	}
+
+	private static void updateSubtree(Node node) {
+		if (node != null) {
+			updateSubtree(node.fLeft);
+			updateSubtree(node.fRight);
+			update(node);
+		}
+	}
+
+	private static void update(Node node) {
+		int maxEnd= node.fEnd;
+		if (node.fLeft != null && node.fLeft.fMaxEnd > maxEnd) {
+			maxEnd= node.fLeft.fMaxEnd;
+		}
+		if (node.fRight != null && node.fRight.fMaxEnd > maxEnd) {
+			maxEnd= node.fRight.fMaxEnd;
+		}
+		node.fMaxEnd= maxEnd;
+	}
+
+	/**
+	 * Splits the given treap into the nodes with a key smaller than the given key and the others.
+	 *
+	 * @param node the root of the treap
+	 * @param start the start offset of the key
+	 * @param sequence the sequence number of the key
+	 * @return the two resulting treaps
+	 */
+	private static Node[] split(Node node, int start, long sequence) {
+		if (node == null) {
+			return new Node[2];
+		}
+		if (node.compareTo(start, sequence) < 0) {
+			Node[] parts= split(node.fRight, start, sequence);
+			node.fRight= parts[0];
+			update(node);
+			parts[0]= node;
+			return parts;
+		}
+		Node[] parts= split(node.fLeft, start, sequence);
+		node.fLeft= parts[1];
+		update(node);
+		parts[1]= node;
+		return parts;
+	}
+
+	private static Node merge(Node left, Node right) {
+		if (left == null) {
+			return right;
+		}
+		if (right == null) {
+			return left;
+		}
+		if (left.fPriority > right.fPriority) {
+			left.fRight= merge(left.fRight, right);
+			update(left);
+			return left;
+		}
+		right.fLeft= merge(left, right.fLeft);
+		update(right);
+		return right;
+	}
+
+	private static Node delete(Node node, Node target) {
+		if (node == null) {
+			return null;
+		}
+		if (node == target) {
+			return merge(node.fLeft, node.fRight);
+		}
+		if (node.compareTo(target.fStart, target.fSequence) < 0) {
+			node.fRight= delete(node.fRight, target);
+		} else {
+			node.fLeft= delete(node.fLeft, target);
+		}
+		update(node);
+		return node;
+	}
+}
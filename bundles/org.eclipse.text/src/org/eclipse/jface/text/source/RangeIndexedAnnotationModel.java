@@ -0,0 +1,224 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jface.text.source;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+import org.eclipse.core.runtime.Assert;
+
+import org.eclipse.jface.text.BadLocationException;
+import org.eclipse.jface.text.DocumentEvent;
+import org.eclipse.jface.text.IDocument;
+import org.eclipse.jface.text.IDocumentExtension4;
+import org.eclipse.jface.text.IDocumentListener;
+import org.eclipse.jface.text.Position;
+
+
+/**
+ * An {@link AnnotationModel} that keeps its annotations in a range index sorted by offset.
+ * <p>
+ * The standard annotation model answers region queries by asking the document for all positions
+ * of the default category in the region and filtering them. That list is shared by all annotation
+ * models connected to the document and has to be scanned linearly for queries which include
+ * annotations starting before the region. This model instead answers
+ * {@link #getAnnotationIterator(int, int, boolean, boolean)} from an interval index over its own
+ * annotations in <code>O(log n + k)</code>, where <code>k</code> is the number of returned
+ * annotations. Adding, removing and moving a single annotation costs <code>O(log n)</code> so that
+ * {@link #replaceAnnotations(Annotation[], Map)} with <code>k</code> removed and <code>m</code>
+ * added annotations costs <code>O((k + m) log n)</code> on the index. The returned iterators are
+ * ordered by offset and operate on a snapshot, i.e. they are not affected by concurrent
+ * modifications of the model.
+ * </p>
+ * <p>
+ * Model changes can be batched using {@link #startBatch()} and {@link #stopBatch()}: while a batch
+ * is active, changes are collected in a single {@link AnnotationModelEvent} which is sent out when
+ * the outermost batch is stopped.
+ * </p>
+ * <p>
+ * This class can directly be used by clients. Subclasses that override the protected methods to
+ * add, remove or modify annotations must call the inherited implementation.
+ * </p>
+ *
+ * @since 3.15
+ */
+public class RangeIndexedAnnotationModel extends AnnotationModel {
+
+	/** The range index over the annotations of this model. */
+	private final AnnotationRangeIndex fIndex= new AnnotationRangeIndex();
+	/**
+	 * Marks the index as stale when the document changes. Listeners which are notified earlier are
+	 * covered by {@link #validateIndex()}.
+	 */
+	private final IDocumentListener fIndexUpdater= new IDocumentListener() {
+
+		@Override
+		public void documentAboutToBeChanged(DocumentEvent event) {
+			fIndex.markStale();
+		}
+
+		@Override
+		public void documentChanged(DocumentEvent event) {
+			fIndex.markStale();
+		}
+	};
+	/** The modification stamp of the document when the index was last validated. */
+	private long fIndexedModificationStamp= IDocumentExtension4.UNKNOWN_MODIFICATION_STAMP;
+	/** The nesting depth of active batches. */
+	private int fBatchDepth= 0;
+
+	/**
+	 * Creates a new, empty annotation model which is not connected to any document.
+	 */
+	public RangeIndexedAnnotationModel() {
+		super();
+	}
+
+	/**
+	 * Starts a batch of changes. Until the matching call to {@link #stopBatch()} no model change
+	 * events are sent out; all changes are reported with a single event when the outermost batch
+	 * is stopped. Batches may be nested.
+	 */
+	public void startBatch() {
+		synchronized (getLockObject()) {
+			++fBatchDepth;
+		}
+	}
+
+	/**
+	 * Stops a batch of changes started by {@link #startBatch()}. When the outermost batch is
+	 * stopped, all collected changes are sent out in a single model change event.
+	 */
+	public void stopBatch() {
+		synchronized (getLockObject()) {
+			Assert.isTrue(fBatchDepth > 0);
+			if (--fBatchDepth > 0) {
+				return;
+			}
+		}
+		fireModelChanged();
+	}
+
+	/**
+	 * Returns whether a batch of changes is currently active.
+	 *
+	 * @return <code>true</code> if a batch is active
+	 */
+	public boolean isInBatch() {
+		synchronized (getLockObject()) {
+			return fBatchDepth > 0;
+		}
+	}
+
+	@Override
+	protected void fireModelChanged() {
+		if (isInBatch()) {
+			return;
+		}
+		super.fireModelChanged();
+	}
+
+	@Override
+	protected void connected() {
+		super.connected();
+		fDocument.addDocumentListener(fIndexUpdater);
+		fIndex.markStale();
+	}
+
+	@Override
+	protected void disconnected() {
+		fDocument.removeDocumentListener(fIndexUpdater);
+		super.disconnected();
+	}
+
+	@Override
+	protected void addAnnotation(Annotation annotation, Position position, boolean fireModelChanged) throws BadLocationException {
+		super.addAnnotation(annotation, position, false);
+		synchronized (getLockObject()) {
+			if (!fIndex.contains(annotation) && getAnnotationMap().get(annotation) == position) {
+				fIndex.add(annotation, position);
+			}
+		}
+		if (fireModelChanged) {
+			fireModelChanged();
+		}
+	}
+
+	@Override
+	protected void removeAnnotation(Annotation annotation, boolean fireModelChanged) {
+		super.removeAnnotation(annotation, false);
+		synchronized (getLockObject()) {
+			fIndex.remove(annotation);
+		}
+		if (fireModelChanged) {
+			fireModelChanged();
+		}
+	}
+
+	@Override
+	protected void removeAllAnnotations(boolean fireModelChanged) {
+		super.removeAllAnnotations(false);
+		synchronized (getLockObject()) {
+			fIndex.clear();
+		}
+		if (fireModelChanged) {
+			fireModelChanged();
+		}
+	}
+
+	@Override
+	protected void modifyAnnotationPosition(Annotation annotation, Position position, boolean fireModelChanged) {
+		super.modifyAnnotationPosition(annotation, position, false);
+		synchronized (getLockObject()) {
+			Position current= getAnnotationMap().get(annotation);
+			if (current != null) {
+				fIndex.add(annotation, current);
+			}
+		}
+		if (fireModelChanged) {
+			fireModelChanged();
+		}
+	}
+
+	@Override
+	protected Iterator<Annotation> getRegionAnnotationIterator(int offset, int length, boolean canStartBefore, boolean canEndAfter) {
+		cleanup(true);
+
+		List<Annotation> annotations= new ArrayList<>();
+		synchronized (getLockObject()) {
+			validateIndex();
+			fIndex.collect(offset, length, canStartBefore, canEndAfter, annotations);
+		}
+		return annotations.iterator();
+	}
+
+	/**
+	 * Marks the index as stale if the document has been modified since the last query. The
+	 * document changes its modification stamp before it updates the positions, so this also covers
+	 * queries made while the document notifies its listeners. Must be called while holding the lock
+	 * object.
+	 */
+	private void validateIndex() {
+		IDocument document= fDocument;
+		if (document instanceof IDocumentExtension4) {
+			long modificationStamp= ((IDocumentExtension4) document).getModificationStamp();
+			if (modificationStamp != fIndexedModificationStamp) {
+				fIndexedModificationStamp= modificationStamp;
+				fIndex.markStale();
+			}
+		}
+	}
+}
@@ -187,7 +187,7 @@ public class TextEditor extends AbstractDecoratedTextEditor {
 
 			// XXX: this is pretty heavy-weight
 			((ISourceViewerExtension2)viewer).unconfigure();
-			viewer.configure(getSourceViewerConfiguration());
+			viewer.configure(getActiveSourceViewerConfiguration());
 
 			if (Boolean.FALSE.equals(event.getNewValue())) {
 				SpellingProblem.removeAll(getSourceViewer(), null);
@@ -417,7 +417,7 @@ public class TextSourceViewerConfiguration extends SourceViewerConfiguration {
 		}
 
 		IReconcilingStrategy strategy= new SpellingReconcileStrategy(sourceViewer, spellingService);
-		MonoReconciler reconciler= new MonoReconciler(strategy, false);
+		MonoReconciler reconciler= new MonoReconciler(strategy, true);
 		reconciler.setDelay(500);
 		return reconciler;
 	}
@@ -39,4 +39,9 @@ public class URLHyperlinkDetector extends org.eclipse.jface.text.hyperlink.URLHy
 
 		return result;
 	}
+	@Override
+	public boolean canDetectInBackground() {
+		return true;
+	}
+
 }
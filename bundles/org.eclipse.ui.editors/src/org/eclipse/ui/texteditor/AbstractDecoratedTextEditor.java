@@ -690,14 +690,24 @@ public abstract class AbstractDecoratedTextEditor extends StatusTextEditor {
 
 	/**
 	 * Returns whether quick diff info should be visible upon opening an editor
-	 * according to the preference store settings.
+	 * according to the preference store settings. Quick diff is not shown for
+	 * editors in large file mode.
 	 *
 	 * @return <code>true</code> if the line numbers should be visible
 	 */
 	protected boolean isPrefQuickDiffAlwaysOn() {
 		IPreferenceStore store= getPreferenceStore();
 		boolean setting= store != null ? store.getBoolean(AbstractDecoratedTextEditorPreferenceConstants.QUICK_DIFF_ALWAYS_ON) : false;
-		return setting && isEditorInputModifiable();
+		return setting && isEditorInputModifiable() && !isLargeFileModeEnabled();
+	}
+
+	@Override
+	public void setLargeFileModeEnabled(boolean enable) {
+		if (enable == isLargeFileModeEnabled()) {
+			return;
+		}
+		super.setLargeFileModeEnabled(enable);
+		showChangeInformation(isPrefQuickDiffAlwaysOn());
 	}
 
 	/**
@@ -949,8 +959,8 @@ public abstract class AbstractDecoratedTextEditor extends StatusTextEditor {
 				HyperlinkDetectorDescriptor[] descriptor= EditorsUI.getHyperlinkDetectorRegistry().getHyperlinkDetectorDescriptors();
 				for (HyperlinkDetectorDescriptor d : descriptor) {
 					if (d.getId().equals(property) || (d.getId() + HyperlinkDetectorDescriptor.STATE_MASK_POSTFIX).equals(property)) {
-						IHyperlinkDetector[] detectors= getSourceViewerConfiguration().getHyperlinkDetectors(sourceViewer);
-						int stateMask= getSourceViewerConfiguration().getHyperlinkStateMask(sourceViewer);
+						IHyperlinkDetector[] detectors= getActiveSourceViewerConfiguration().getHyperlinkDetectors(sourceViewer);
+						int stateMask= getActiveSourceViewerConfiguration().getHyperlinkStateMask(sourceViewer);
 						textViewer6.setHyperlinkDetectors(detectors, stateMask);
 						return;
 					}
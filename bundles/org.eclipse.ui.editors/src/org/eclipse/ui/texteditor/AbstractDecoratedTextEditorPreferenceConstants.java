@@ -834,6 +834,7 @@ public class AbstractDecoratedTextEditorPreferenceConstants {
 		boolean isInstalled= EditorsUI.getSpellingService().getSpellingEngineDescriptors().length > 0;
 		store.setDefault(SpellingService.PREFERENCE_SPELLING_ENABLED, isInstalled);
 		store.setDefault(SpellingService.PREFERENCE_SPELLING_ENGINE, ""); //$NON-NLS-1$
+		store.setDefault(SpellingService.PREFERENCE_SPELLING_PARALLELISM, 1);
 
 		store.setDefault(SHOW_RANGE_INDICATOR, true);
 		store.setDefault(REVISION_ASK_BEFORE_QUICKDIFF_SWITCH, MessageDialogWithToggle.ALWAYS);
@@ -864,6 +865,8 @@ public class AbstractDecoratedTextEditorPreferenceConstants {
 		store.setDefault(EDITOR_SHOW_TEXT_HOVER_AFFORDANCE, true);
 		store.setDefault(EDITOR_HOVER_ENRICH_MODE, 0);
 		store.setDefault(AbstractTextEditor.PREFERENCE_WORD_WRAP_ENABLED, false);
+		store.setDefault(AbstractTextEditor.PREFERENCE_LARGE_FILE_LENGTH_THRESHOLD, 20 * 1024 * 1024);
+		store.setDefault(AbstractTextEditor.PREFERENCE_LARGE_FILE_LINE_THRESHOLD, 500000);
 
 		store.setDefault(EDITOR_STICKY_SCROLLING_ENABLED, false);
 		store.setDefault(EDITOR_STICKY_SCROLLING_MAXIMUM_COUNT, 4);
@@ -17,14 +17,13 @@ import java.util.HashMap;
 import java.util.Iterator;
 import java.util.Map;
 import java.util.Map.Entry;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
 
 import org.eclipse.core.runtime.IProgressMonitor;
 import org.eclipse.core.runtime.preferences.IEclipsePreferences;
 import org.eclipse.core.runtime.preferences.IEclipsePreferences.IPreferenceChangeListener;
 import org.eclipse.core.runtime.preferences.IEclipsePreferences.PreferenceChangeEvent;
 import org.eclipse.core.runtime.preferences.InstanceScope;
+import org.eclipse.jface.text.BadLocationException;
 import org.eclipse.jface.text.IDocument;
 import org.eclipse.jface.text.IRegion;
 import org.eclipse.jface.text.ISynchronizable;
@@ -43,11 +42,12 @@ import org.eclipse.jface.viewers.IPostSelectionProvider;
 import org.eclipse.jface.viewers.ISelection;
 import org.eclipse.jface.viewers.ISelectionChangedListener;
 import org.eclipse.osgi.util.NLS;
+import org.eclipse.ui.texteditor.WordOccurrenceIndex;
 
 /**
  *
  * This Reconciler Strategy is a default strategy which will be present if no other highlightReconcilers are registered for a given content-type. It splits the text into 'words' (which are defined as
- * anything in-between non-alphanumeric characters) and searches the document highlighting all like words.
+ * anything in-between non-alphanumeric characters) and highlights all like words, which are looked up in a {@link WordOccurrenceIndex} of the document.
  *
  * E.g. if your file contains "t^he dog in the bog" and you leave your caret at ^ you will get both instances of 'the' highlighted.
  */
@@ -59,10 +59,7 @@ public class DefaultWordHighlightStrategy implements IReconcilingStrategy, IReco
 	private ISourceViewer sourceViewer;
 	private IDocument document;
 
-	private static final String WORD_REGEXP = "\\w+"; //$NON-NLS-1$
-	private static final Pattern WORD_PATTERN = Pattern.compile(WORD_REGEXP, Pattern.UNICODE_CHARACTER_CLASS);
-	private static final Pattern CURRENT_WORD_START_PATTERN = Pattern.compile(WORD_REGEXP + "$", //$NON-NLS-1$
-			Pattern.UNICODE_CHARACTER_CLASS);
+	private final WordOccurrenceIndex occurrenceIndex = new WordOccurrenceIndex();
 
 	private Annotation[] fOccurrenceAnnotations = null;
 
@@ -77,24 +74,20 @@ public class DefaultWordHighlightStrategy implements IReconcilingStrategy, IReco
 			return;
 		}
 
-		String text = document.get();
 		int offset = textSelection.getOffset();
 		if (sourceViewer instanceof ITextViewerExtension5) {
 			offset = ((ITextViewerExtension5) sourceViewer).widgetOffset2ModelOffset(textSelection.getOffset());
 		}
 
-		String word = findCurrentWord(text, offset);
+		String word = findCurrentWord(offset);
 		if (word == null) {
 			removeOccurrenceAnnotations();
 			return;
 		}
 
-		Matcher m = WORD_PATTERN.matcher(text);
 		Map<Annotation, Position> annotationMap = new HashMap<>();
-		while (m.find()) {
-			if (m.group().equals(word)) {
-				annotationMap.put(new Annotation(ANNOTATION_TYPE, false, NLS.bind(Messages.DefaultWordHighlightStrategy_OccurrencesOf, word)), new Position(m.start(), m.end() - m.start()));
-			}
+		for (int occurrence : occurrenceIndex.getOccurrences(word)) {
+			annotationMap.put(new Annotation(ANNOTATION_TYPE, false, NLS.bind(Messages.DefaultWordHighlightStrategy_OccurrencesOf, word)), new Position(occurrence, word.length()));
 		}
 
 		if (annotationMap.size() < 2) {
@@ -122,30 +115,19 @@ public class DefaultWordHighlightStrategy implements IReconcilingStrategy, IReco
 		}
 	}
 
-	private static String findCurrentWord(String text, int offset) {
-		if (offset < 0 || offset >= text.length()) {
+	private String findCurrentWord(int offset) {
+		if (offset < 0 || offset >= document.getLength()) {
 			return null;
 		}
-		String wordStart = null;
-		String wordEnd = null;
-
-		String substring = text.substring(0, offset);
-		Matcher m = CURRENT_WORD_START_PATTERN.matcher(substring);
-		if (m.find()) {
-			wordStart = m.group();
-		}
-		substring = text.substring(offset);
-		m = WORD_PATTERN.matcher(substring);
-		if (m.lookingAt()) {
-			wordEnd = m.group();
-		}
-		if (wordStart != null && wordEnd != null) {
-			return wordStart + wordEnd;
+		IRegion word = occurrenceIndex.getWordAt(offset);
+		if (word == null) {
+			return null;
 		}
-		if (wordStart != null) {
-			return wordStart;
+		try {
+			return document.get(word.getOffset(), word.getLength());
+		} catch (BadLocationException e) {
+			return null;
 		}
-		return wordEnd;
 	}
 
 	public void install(ITextViewer viewer) {
@@ -165,6 +147,7 @@ public class DefaultWordHighlightStrategy implements IReconcilingStrategy, IReco
 		}
 		IEclipsePreferences preferences = InstanceScope.INSTANCE.getNode(GenericEditorPlugin.BUNDLE_ID);
 		preferences.removePreferenceChangeListener(this);
+		occurrenceIndex.uninstall();
 	}
 
 	@Override public void preferenceChange(PreferenceChangeEvent event) {
@@ -218,6 +201,11 @@ public class DefaultWordHighlightStrategy implements IReconcilingStrategy, IReco
 
 	@Override public void setDocument(IDocument document) {
 		this.document = document;
+		if (document != null) {
+			occurrenceIndex.install(document);
+		} else {
+			occurrenceIndex.uninstall();
+		}
 	}
 
 	@Override public void reconcile(DirtyRegion dirtyRegion, IRegion subRegion) {
@@ -178,10 +178,23 @@ public class ExtensionBasedTextEditor extends TextEditor {
 		ProjectionViewer viewer = (ProjectionViewer) getSourceViewer();
 
 		new ProjectionSupport(viewer, getAnnotationAccess(), getSharedColors()).install();
-		viewer.doOperation(ProjectionViewer.TOGGLE);
+		if (!isLargeFileModeEnabled()) {
+			viewer.doOperation(ProjectionViewer.TOGGLE);
+		}
 		computeImage();
 	}
 
+	@Override
+	public void setLargeFileModeEnabled(boolean enable) {
+		if (enable == isLargeFileModeEnabled()) {
+			return;
+		}
+		super.setLargeFileModeEnabled(enable);
+		if (getSourceViewer() instanceof ProjectionViewer viewer && viewer.isProjectionMode() == enable) {
+			viewer.doOperation(ProjectionViewer.TOGGLE);
+		}
+	}
+
 	@Override
 	protected void initializeEditor() {
 		super.initializeEditor();
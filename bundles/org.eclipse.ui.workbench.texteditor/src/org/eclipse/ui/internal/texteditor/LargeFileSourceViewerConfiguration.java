@@ -0,0 +1,194 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.ui.internal.texteditor;
+
+import org.eclipse.core.runtime.Assert;
+
+import org.eclipse.jface.text.IAutoEditStrategy;
+import org.eclipse.jface.text.IInformationControlCreator;
+import org.eclipse.jface.text.ITextDoubleClickStrategy;
+import org.eclipse.jface.text.ITextHover;
+import org.eclipse.jface.text.IUndoManager;
+import org.eclipse.jface.text.codemining.ICodeMiningProvider;
+import org.eclipse.jface.text.contentassist.IContentAssistant;
+import org.eclipse.jface.text.formatter.IContentFormatter;
+import org.eclipse.jface.text.hyperlink.IHyperlinkDetector;
+import org.eclipse.jface.text.hyperlink.IHyperlinkPresenter;
+import org.eclipse.jface.text.information.IInformationPresenter;
+import org.eclipse.jface.text.presentation.IPresentationReconciler;
+import org.eclipse.jface.text.quickassist.IQuickAssistAssistant;
+import org.eclipse.jface.text.reconciler.IReconciler;
+import org.eclipse.jface.text.source.IAnnotationHover;
+import org.eclipse.jface.text.source.ISourceViewer;
+import org.eclipse.jface.text.source.SourceViewerConfiguration;
+
+/**
+ * Source viewer configuration used by text editors in large file mode.
+ * <p>
+ * Delegates to the editor's source viewer configuration but disables the features that process
+ * the whole document: syntax coloring (presentation reconciler), reconciling, hyperlink detection
+ * and code minings.
+ * </p>
+ *
+ * @since 3.20
+ */
+public class LargeFileSourceViewerConfiguration extends SourceViewerConfiguration {
+
+	/** The configuration to delegate to. */
+	private final SourceViewerConfiguration fConfiguration;
+
+	/**
+	 * Creates a new large file configuration.
+	 *
+	 * @param configuration the editor's source viewer configuration
+	 */
+	public LargeFileSourceViewerConfiguration(SourceViewerConfiguration configuration) {
+		Assert.isNotNull(configuration);
+		fConfiguration= configuration;
+	}
+
+	/**
+	 * Returns the configuration this configuration delegates to.
+	 *
+	 * @return the editor's source viewer configuration
+	 */
+	public SourceViewerConfiguration getDelegate() {
+		return fConfiguration;
+	}
+
+	@Override
+	public IReconciler getReconciler(ISourceViewer sourceViewer) {
+		return null;
+	}
+
+	@Override
+	public IPresentationReconciler getPresentationReconciler(ISourceViewer sourceViewer) {
+		return null;
+	}
+
+	@Override
+	public IHyperlinkDetector[] getHyperlinkDetectors(ISourceViewer sourceViewer) {
+		return null;
+	}
+
+	@Override
+	public ICodeMiningProvider[] getCodeMiningProviders(ISourceViewer sourceViewer) {
+		return null;
+	}
+
+	@Override
+	public int getTabWidth(ISourceViewer sourceViewer) {
+		return fConfiguration.getTabWidth(sourceViewer);
+	}
+
+	@Override
+	public int getLineSpacing(ISourceViewer sourceViewer) {
+		return fConfiguration.getLineSpacing(sourceViewer);
+	}
+
+	@Override
+	public IUndoManager getUndoManager(ISourceViewer sourceViewer) {
+		return fConfiguration.getUndoManager(sourceViewer);
+	}
+
+	@Override
+	public IContentFormatter getContentFormatter(ISourceViewer sourceViewer) {
+		return fConfiguration.getContentFormatter(sourceViewer);
+	}
+
+	@Override
+	public IContentAssistant getContentAssistant(ISourceViewer sourceViewer) {
+		return fConfiguration.getContentAssistant(sourceViewer);
+	}
+
+	@Override
+	public IQuickAssistAssistant getQuickAssistAssistant(ISourceViewer sourceViewer) {
+		return fConfiguration.getQuickAssistAssistant(sourceViewer);
+	}
+
+	@Override
+	public IAutoEditStrategy[] getAutoEditStrategies(ISourceViewer sourceViewer, String contentType) {
+		return fConfiguration.getAutoEditStrategies(sourceViewer, contentType);
+	}
+
+	@Override
+	public String[] getDefaultPrefixes(ISourceViewer sourceViewer, String contentType) {
+		return fConfiguration.getDefaultPrefixes(sourceViewer, contentType);
+	}
+
+	@Override
+	public ITextDoubleClickStrategy getDoubleClickStrategy(ISourceViewer sourceViewer, String contentType) {
+		return fConfiguration.getDoubleClickStrategy(sourceViewer, contentType);
+	}
+
+	@Override
+	public String[] getIndentPrefixes(ISourceViewer sourceViewer, String contentType) {
+		return fConfiguration.getIndentPrefixes(sourceViewer, contentType);
+	}
+
+	@Override
+	public IAnnotationHover getAnnotationHover(ISourceViewer sourceViewer) {
+		return fConfiguration.getAnnotationHover(sourceViewer);
+	}
+
+	@Override
+	public IAnnotationHover getOverviewRulerAnnotationHover(ISourceViewer sourceViewer) {
+		return fConfiguration.getOverviewRulerAnnotationHover(sourceViewer);
+	}
+
+	@Override
+	public int[] getConfiguredTextHoverStateMasks(ISourceViewer sourceViewer, String contentType) {
+		return fConfiguration.getConfiguredTextHoverStateMasks(sourceViewer, contentType);
+	}
+
+	@Override
+	public ITextHover getTextHover(ISourceViewer sourceViewer, String contentType, int stateMask) {
+		return fConfiguration.getTextHover(sourceViewer, contentType, stateMask);
+	}
+
+	@Override
+	public ITextHover getTextHover(ISourceViewer sourceViewer, String contentType) {
+		return fConfiguration.getTextHover(sourceViewer, contentType);
+	}
+
+	@Override
+	public IInformationControlCreator getInformationControlCreator(ISourceViewer sourceViewer) {
+		return fConfiguration.getInformationControlCreator(sourceViewer);
+	}
+
+	@Override
+	public IInformationPresenter getInformationPresenter(ISourceViewer sourceViewer) {
+		return fConfiguration.getInformationPresenter(sourceViewer);
+	}
+
+	@Override
+	public String[] getConfiguredContentTypes(ISourceViewer sourceViewer) {
+		return fConfiguration.getConfiguredContentTypes(sourceViewer);
+	}
+
+	@Override
+	public String getConfiguredDocumentPartitioning(ISourceViewer sourceViewer) {
+		return fConfiguration.getConfiguredDocumentPartitioning(sourceViewer);
+	}
+
+	@Override
+	public IHyperlinkPresenter getHyperlinkPresenter(ISourceViewer sourceViewer) {
+		return fConfiguration.getHyperlinkPresenter(sourceViewer);
+	}
+
+	@Override
+	public int getHyperlinkStateMask(ISourceViewer sourceViewer) {
+		return fConfiguration.getHyperlinkStateMask(sourceViewer);
+	}
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2021 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -52,23 +52,18 @@ import org.eclipse.jface.text.source.ILineDiffInfo;
 import org.eclipse.jface.text.source.ILineDiffer;
 import org.eclipse.jface.text.source.ILineDifferExtension;
 import org.eclipse.jface.text.source.ILineDifferExtension2;
-import org.eclipse.jface.text.source.ILineRange;
-import org.eclipse.jface.text.source.LineRange;
 
 import org.eclipse.ui.internal.texteditor.NLSUtility;
 import org.eclipse.ui.internal.texteditor.TextEditorPlugin;
 import org.eclipse.ui.internal.texteditor.quickdiff.compare.equivalence.DJBHashFunction;
-import org.eclipse.ui.internal.texteditor.quickdiff.compare.equivalence.DocEquivalenceComparator;
 import org.eclipse.ui.internal.texteditor.quickdiff.compare.equivalence.DocumentEquivalenceClass;
+import org.eclipse.ui.internal.texteditor.quickdiff.compare.equivalence.Hash;
 import org.eclipse.ui.internal.texteditor.quickdiff.compare.equivalence.IHashFunction;
 import org.eclipse.ui.progress.IProgressConstants;
 
 import org.eclipse.ui.texteditor.quickdiff.IQuickDiffReferenceProvider;
 
-import org.eclipse.compare.rangedifferencer.AbstractRangeDifferenceFactory;
-import org.eclipse.compare.rangedifferencer.IRangeComparator;
 import org.eclipse.compare.rangedifferencer.RangeDifference;
-import org.eclipse.compare.rangedifferencer.RangeDifferencer;
 
 /**
  * Standard implementation of <code>ILineDiffer</code> as an incremental diff engine. A
@@ -88,19 +83,6 @@ import org.eclipse.compare.rangedifferencer.RangeDifferencer;
 public class DocumentLineDiffer implements ILineDiffer, IDocumentListener, IAnnotationModel, ILineDifferExtension, ILineDifferExtension2 {
 
 
-	/**
-	 * Custom range difference factory.
-	 *
-	 * @since 3.5
-	 */
-	private static class RangeDifferenceFactory extends AbstractRangeDifferenceFactory {
-		@Override
-		protected org.eclipse.compare.rangedifferencer.RangeDifference createRangeDifference() {
-			return new QuickDiffRangeDifference();
-		}
-	}
-
-
 	/**
 	 * Artificial line difference information indicating a change with an empty line as original text.
 	 */
@@ -139,6 +121,16 @@ public class DocumentLineDiffer implements ILineDiffer, IDocumentListener, IAnno
 
 	/** The delay after which the initialization job is triggered. */
 	private static final int INITIALIZE_DELAY= 500;
+	/**
+	 * The maximal number of lines of the hunk window which is re-diffed within the document
+	 * event. Larger windows are diffed by the initialization job.
+	 * <p>
+	 * Re-diffing a window of this size costs less than the copy of the document a background
+	 * diff needs, and keeps the differences consistent with the document when the rulers paint
+	 * and when lines are reverted.
+	 * </p>
+	 */
+	private static final int MAX_SYNCHRONOUS_LINES= 50;
 
 	/** Suspended state */
 	private static final int SUSPENDED= 0;
@@ -248,7 +240,6 @@ public class DocumentLineDiffer implements ILineDiffer, IDocumentListener, IAnno
 	private Thread fThread;
 	private DocumentEvent fLastUIEvent;
 
-	private final RangeDifferenceFactory fRangeDiffFactory= new RangeDifferenceFactory();
 
 
 	/**
@@ -544,7 +535,7 @@ public class DocumentLineDiffer implements ILineDiffer, IDocumentListener, IAnno
 			public IStatus run(IProgressMonitor monitor) {
 
 				// 1:	wait for any previous job that was canceled to avoid job flooding
-				// It will return relatively quickly as RangeDifferencer supports canceling
+				// It will return relatively quickly as HistogramLineDiff supports canceling
 				if (oldJob != null) {
 					try {
 						oldJob.join();
@@ -672,12 +663,12 @@ public class DocumentLineDiffer implements ILineDiffer, IDocumentListener, IAnno
 				IHashFunction hash= new DJBHashFunction();
 				DocumentEquivalenceClass leftEquivalent= new DocumentEquivalenceClass(reference, hash);
 				fLeftEquivalent= leftEquivalent;
-				IRangeComparator ref= new DocEquivalenceComparator(leftEquivalent, null);
+				Hash[] ref= HistogramLineDiff.getHashes(leftEquivalent, 0, leftEquivalent.getCount());
 
 				DocumentEquivalenceClass rightEquivalent= new DocumentEquivalenceClass(actual, hash);
 				fRightEquivalent= rightEquivalent;
-				IRangeComparator act= new DocEquivalenceComparator(rightEquivalent, null);
-				ArrayList<QuickDiffRangeDifference> diffs= asQuickDiffRangeDifference(RangeDifferencer.findRanges(fRangeDiffFactory, monitor, ref, act));
+				Hash[] act= HistogramLineDiff.getHashes(rightEquivalent, 0, rightEquivalent.getCount());
+				List<QuickDiffRangeDifference> diffs= HistogramLineDiff.diff(ref, act, monitor);
 				// 7:	Reset the model to the just gotten differences
 				// 		re-inject stored events to get up to date.
 				synchronized (DocumentLineDiffer.this) {
@@ -979,7 +970,7 @@ public class DocumentLineDiffer implements ILineDiffer, IDocumentListener, IAnno
 		// size: the size of the document change in lines
 
 		// put an upper bound to the delay we can afford
-		if (added > 50 || fNLines > 50) {
+		if (added > MAX_SYNCHRONOUS_LINES || fNLines > MAX_SYNCHRONOUS_LINES) {
 			initialize();
 			return;
 		}
@@ -1045,8 +1036,6 @@ public class DocumentLineDiffer implements ILineDiffer, IDocumentListener, IAnno
 			leftLine += lineDelta;
 		}
 		int leftEndLine= leftLine - shiftAfter;
-		ILineRange leftRange= new LineRange(leftStartLine, leftEndLine - leftStartLine);
-		IRangeComparator reference= new DocEquivalenceComparator(leftEquivalent, leftRange);
 
 		// right (actual) document
 		int rightStartLine= consistentBefore.rightStart() + shiftBefore;
@@ -1055,11 +1044,9 @@ public class DocumentLineDiffer implements ILineDiffer, IDocumentListener, IAnno
 			rightLine += lineDelta;
 		}
 		int rightEndLine= rightLine - shiftAfter;
-		ILineRange rightRange= new LineRange(rightStartLine, rightEndLine - rightStartLine);
-		IRangeComparator change= new DocEquivalenceComparator(rightEquivalent, rightRange);
 
 		// put an upper bound to the delay we can afford
-		if (leftLine - shiftAfter - leftStartLine > 50 || rightLine - shiftAfter - rightStartLine > 50) {
+		if (leftLine - shiftAfter - leftStartLine > MAX_SYNCHRONOUS_LINES || rightLine - shiftAfter - rightStartLine > MAX_SYNCHRONOUS_LINES) {
 			initialize();
 			return;
 		}
@@ -1069,7 +1056,9 @@ public class DocumentLineDiffer implements ILineDiffer, IDocumentListener, IAnno
 //					">\n\n<" + right.get(rightRegion.getOffset(), rightRegion.getLength()) + ">\n"); //$NON-NLS-1$ //$NON-NLS-2$
 
 		// compare
-		List<QuickDiffRangeDifference> diffs= asQuickDiffRangeDifference(RangeDifferencer.findRanges(fRangeDiffFactory, null, reference, change));
+		Hash[] reference= HistogramLineDiff.getHashes(leftEquivalent, leftStartLine, leftEndLine - leftStartLine);
+		Hash[] change= HistogramLineDiff.getHashes(rightEquivalent, rightStartLine, rightEndLine - rightStartLine);
+		List<QuickDiffRangeDifference> diffs= HistogramLineDiff.diff(reference, change, null);
 		if (diffs.isEmpty()) {
 			diffs.add(new QuickDiffRangeDifference(RangeDifference.CHANGE, 0, 0, 0, 0));
 		}
@@ -1190,19 +1179,6 @@ public class DocumentLineDiffer implements ILineDiffer, IDocumentListener, IAnno
 		fLastDifference= null;
 	}
 
-	/**
-	 * Converts a {@code RangeDifference[]} into an {@code ArrayList<QuickDiffRangeDifference>}.
-	 * This is unsafe in general, but OK if used carefully.
-	 * Workaround for <a href="https://bugs.eclipse.org/483319">bug 483319</a>.
-	 *
-	 * @param ranges the ranges, <em>must</em> be of type {@link QuickDiffRangeDifference}
-	 * @return the ranges as a modifiable list
-	 */
-	@SuppressWarnings({ "unchecked", "rawtypes" })
-	private static ArrayList<QuickDiffRangeDifference> asQuickDiffRangeDifference(RangeDifference[] ranges) {
-		return new ArrayList(Arrays.asList(ranges));
-	}
-
 	/**
 	 * Finds a consistent range of at least size before <code>line</code> in the left document.
 	 *
@@ -1426,9 +1402,22 @@ public class DocumentLineDiffer implements ILineDiffer, IDocumentListener, IAnno
 	 * @return the corresponding RangeDifference, or <code>null</code>
 	 */
 	private QuickDiffRangeDifference getRangeDifferenceForLeftLine(int leftLine) {
-		for (QuickDiffRangeDifference d : fDifferences) {
-			if (leftLine >= d.leftStart() && leftLine < d.leftEnd()) {
-				return d;
+		final List<QuickDiffRangeDifference> differences= fDifferences;
+		synchronized (differences) {
+			// the differences are sorted and cover the document, search the last one starting at or before the line
+			int low= 0;
+			int high= differences.size() - 1;
+			while (low <= high) {
+				int mid= (low + high) >>> 1;
+				QuickDiffRangeDifference d= differences.get(mid);
+				if (d.leftStart() <= leftLine) {
+					if (leftLine < d.leftEnd()) {
+						return d;
+					}
+					low= mid + 1;
+				} else {
+					high= mid - 1;
+				}
 			}
 		}
 		return null;
@@ -1443,9 +1432,18 @@ public class DocumentLineDiffer implements ILineDiffer, IDocumentListener, IAnno
 	private QuickDiffRangeDifference getRangeDifferenceForRightLine(int rightLine) {
 		final List<QuickDiffRangeDifference> differences= fDifferences;
 		synchronized (differences) {
-			for (QuickDiffRangeDifference d : differences) {
-				if (rightLine >= d.rightStart() && rightLine < d.rightEnd()) {
-					return d;
+			int low= 0;
+			int high= differences.size() - 1;
+			while (low <= high) {
+				int mid= (low + high) >>> 1;
+				QuickDiffRangeDifference d= differences.get(mid);
+				if (d.rightStart() <= rightLine) {
+					if (rightLine < d.rightEnd()) {
+						return d;
+					}
+					low= mid + 1;
+				} else {
+					high= mid - 1;
 				}
 			}
 		}
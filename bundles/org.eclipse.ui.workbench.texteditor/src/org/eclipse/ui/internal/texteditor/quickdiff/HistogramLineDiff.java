@@ -0,0 +1,269 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.ui.internal.texteditor.quickdiff;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.eclipse.core.runtime.IProgressMonitor;
+
+import org.eclipse.ui.internal.texteditor.quickdiff.compare.equivalence.DocumentEquivalenceClass;
+import org.eclipse.ui.internal.texteditor.quickdiff.compare.equivalence.Hash;
+
+import org.eclipse.compare.rangedifferencer.IRangeComparator;
+import org.eclipse.compare.rangedifferencer.RangeDifference;
+import org.eclipse.compare.rangedifferencer.RangeDifferencer;
+
+
+/**
+ * Line diff based on the histogram diff algorithm.
+ * <p>
+ * Common leading and trailing lines are stripped first. For the remaining region, the line of the
+ * left side which occurs least often and also occurs on the right side is used as anchor: the
+ * longest run of equal lines around it is taken as common and the regions before and after it are
+ * diffed the same way. Since lines are compared by their equivalence hashes and only rare lines are
+ * used as anchors, a diff of two large documents with few changes costs little more than hashing
+ * their lines. Regions without a usable anchor, e.g. regions consisting only of lines which occur
+ * very often, are diffed with the {@link RangeDifferencer}.
+ * </p>
+ * <p>
+ * The result has the same form as {@link RangeDifferencer#findRanges(IRangeComparator, IRangeComparator)}:
+ * a list of alternating unchanged and changed ranges which covers both sides.
+ * </p>
+ *
+ * @since 3.19
+ */
+public final class HistogramLineDiff {
+
+	/** Lines occurring more often than this on the left side are not used as anchors. */
+	private static final int MAX_CHAIN_LENGTH= 64;
+
+	/**
+	 * Compares two ranges of line hashes, used for regions which are diffed with the
+	 * {@link RangeDifferencer}.
+	 */
+	private static final class HashComparator implements IRangeComparator {
+
+		private final Hash[] fHashes;
+		private final int fStart;
+		private final int fCount;
+
+		HashComparator(Hash[] hashes, int start, int end) {
+			fHashes= hashes;
+			fStart= start;
+			fCount= end - start;
+		}
+
+		@Override
+		public int getRangeCount() {
+			return fCount;
+		}
+
+		@Override
+		public boolean rangesEqual(int thisIndex, IRangeComparator other, int otherIndex) {
+			HashComparator comparator= (HashComparator) other;
+			return fHashes[fStart + thisIndex].equals(comparator.fHashes[comparator.fStart + otherIndex]);
+		}
+
+		@Override
+		public boolean skipRangeComparison(int length, int maxLength, IRangeComparator other) {
+			return false;
+		}
+	}
+
+	private final Hash[] fLeft;
+	private final Hash[] fRight;
+	private final IProgressMonitor fMonitor;
+	/** The changed regions found so far as <code>{leftStart, leftEnd, rightStart, rightEnd}</code>, unordered. */
+	private final List<int[]> fEdits= new ArrayList<>();
+
+	private HistogramLineDiff(Hash[] left, Hash[] right, IProgressMonitor monitor) {
+		fLeft= left;
+		fRight= right;
+		fMonitor= monitor;
+	}
+
+	/**
+	 * Returns the line hashes of a range of lines.
+	 *
+	 * @param equivalenceClass the equivalence class of the document
+	 * @param startLine the first line
+	 * @param lines the number of lines
+	 * @return the hashes of the lines
+	 * @throws java.util.ConcurrentModificationException if the document is modified concurrently
+	 * @throws IndexOutOfBoundsException if the range is not valid for the document
+	 */
+	public static Hash[] getHashes(DocumentEquivalenceClass equivalenceClass, int startLine, int lines) {
+		Hash[] hashes= new Hash[lines];
+		for (int i= 0; i < lines; i++) {
+			hashes[i]= equivalenceClass.getHash(startLine + i);
+		}
+		return hashes;
+	}
+
+	/**
+	 * Diffs two sequences of line hashes.
+	 *
+	 * @param left the hashes of the left (reference) lines
+	 * @param right the hashes of the right (actual) lines
+	 * @param monitor a progress monitor to check for cancellation, or <code>null</code>
+	 * @return the unchanged and changed ranges, line numbers are relative to the start of the
+	 *         sequences; empty if both sequences are empty or the monitor has been canceled
+	 */
+	public static List<QuickDiffRangeDifference> diff(Hash[] left, Hash[] right, IProgressMonitor monitor) {
+		HistogramLineDiff diff= new HistogramLineDiff(left, right, monitor);
+		if (!diff.computeEdits()) {
+			return new ArrayList<>();
+		}
+		return diff.toRanges();
+	}
+
+	/**
+	 * Computes the changed regions.
+	 *
+	 * @return <code>false</code> if canceled
+	 */
+	private boolean computeEdits() {
+		List<int[]> regions= new ArrayList<>();
+		regions.add(new int[] { 0, fLeft.length, 0, fRight.length });
+		while (!regions.isEmpty()) {
+			if (fMonitor != null && fMonitor.isCanceled()) {
+				return false;
+			}
+			int[] region= regions.remove(regions.size() - 1);
+			int leftStart= region[0], leftEnd= region[1], rightStart= region[2], rightEnd= region[3];
+
+			while (leftStart < leftEnd && rightStart < rightEnd && fLeft[leftStart].equals(fRight[rightStart])) {
+				leftStart++;
+				rightStart++;
+			}
+			while (leftStart < leftEnd && rightStart < rightEnd && fLeft[leftEnd - 1].equals(fRight[rightEnd - 1])) {
+				leftEnd--;
+				rightEnd--;
+			}
+			if (leftStart == leftEnd && rightStart == rightEnd) {
+				continue;
+			}
+			if (leftStart == leftEnd || rightStart == rightEnd) {
+				fEdits.add(new int[] { leftStart, leftEnd, rightStart, rightEnd });
+				continue;
+			}
+
+			int[] common= findCommonRegion(leftStart, leftEnd, rightStart, rightEnd);
+			if (common == null) {
+				diffWithRangeDifferencer(leftStart, leftEnd, rightStart, rightEnd);
+				continue;
+			}
+			regions.add(new int[] { common[1], leftEnd, common[3], rightEnd });
+			regions.add(new int[] { leftStart, common[0], rightStart, common[2] });
+		}
+		return true;
+	}
+
+	/**
+	 * Finds the longest run of equal lines around the least frequent line of the left region which
+	 * also occurs in the right region.
+	 *
+	 * @return <code>{leftStart, leftEnd, rightStart, rightEnd}</code> of the common run, or
+	 *         <code>null</code> if there is no suitable anchor
+	 */
+	private int[] findCommonRegion(int leftStart, int leftEnd, int rightStart, int rightEnd) {
+		// occurrences of each line of the left region, chained from last to first
+		Map<Hash, int[]> histogram= new HashMap<>();
+		int[] next= new int[leftEnd - leftStart];
+		for (int i= leftStart; i < leftEnd; i++) {
+			int[] entry= histogram.get(fLeft[i]); // {last index, count}
+			if (entry == null) {
+				next[i - leftStart]= -1;
+				histogram.put(fLeft[i], new int[] { i, 1 });
+			} else {
+				next[i - leftStart]= entry[0];
+				entry[0]= i;
+				entry[1]++;
+			}
+		}
+
+		int[] best= null;
+		int bestCount= MAX_CHAIN_LENGTH + 1;
+		int bestLength= 0;
+		int j= rightStart;
+		while (j < rightEnd) {
+			int[] entry= histogram.get(fRight[j]);
+			if (entry == null || entry[1] > bestCount || entry[1] > MAX_CHAIN_LENGTH) {
+				j++;
+				continue;
+			}
+			int nextJ= j + 1;
+			for (int i= entry[0]; i != -1; i= next[i - leftStart]) {
+				int start= i, startJ= j;
+				while (start > leftStart && startJ > rightStart && fLeft[start - 1].equals(fRight[startJ - 1])) {
+					start--;
+					startJ--;
+				}
+				int end= i + 1, endJ= j + 1;
+				while (end < leftEnd && endJ < rightEnd && fLeft[end].equals(fRight[endJ])) {
+					end++;
+					endJ++;
+				}
+				nextJ= Math.max(nextJ, endJ);
+				int length= end - start;
+				if (entry[1] < bestCount || length > bestLength) {
+					best= new int[] { start, end, startJ, endJ };
+					bestCount= entry[1];
+					bestLength= length;
+				}
+			}
+			j= nextJ;
+		}
+		return best;
+	}
+
+	private void diffWithRangeDifferencer(int leftStart, int leftEnd, int rightStart, int rightEnd) {
+		IRangeComparator left= new HashComparator(fLeft, leftStart, leftEnd);
+		IRangeComparator right= new HashComparator(fRight, rightStart, rightEnd);
+		for (RangeDifference difference : RangeDifferencer.findDifferences(fMonitor, left, right)) {
+			fEdits.add(new int[] { leftStart + difference.leftStart(), leftStart + difference.leftEnd(), rightStart + difference.rightStart(), rightStart + difference.rightEnd() });
+		}
+	}
+
+	private List<QuickDiffRangeDifference> toRanges() {
+		fEdits.sort((e1, e2) -> e1[0] != e2[0] ? Integer.compare(e1[0], e2[0]) : Integer.compare(e1[2], e2[2]));
+		List<QuickDiffRangeDifference> ranges= new ArrayList<>(2 * fEdits.size() + 1);
+		int left= 0;
+		int right= 0;
+		QuickDiffRangeDifference last= null;
+		for (int[] edit : fEdits) {
+			if (edit[0] > left) {
+				ranges.add(new QuickDiffRangeDifference(RangeDifference.NOCHANGE, right, edit[2] - right, left, edit[0] - left));
+				last= null;
+			}
+			if (last != null) {
+				// adjacent to the previous change, merge them
+				last= new QuickDiffRangeDifference(RangeDifference.CHANGE, last.rightStart(), edit[3] - last.rightStart(), last.leftStart(), edit[1] - last.leftStart());
+				ranges.set(ranges.size() - 1, last);
+			} else {
+				last= new QuickDiffRangeDifference(RangeDifference.CHANGE, edit[2], edit[3] - edit[2], edit[0], edit[1] - edit[0]);
+				ranges.add(last);
+			}
+			left= edit[1];
+			right= edit[3];
+		}
+		if (left < fLeft.length) {
+			ranges.add(new QuickDiffRangeDifference(RangeDifference.NOCHANGE, right, fRight.length - right, left, fLeft.length - left));
+		}
+		return ranges;
+	}
+}
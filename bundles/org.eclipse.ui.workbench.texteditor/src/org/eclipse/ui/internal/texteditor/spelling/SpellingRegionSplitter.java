@@ -0,0 +1,107 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.ui.internal.texteditor.spelling;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.eclipse.jface.text.BadLocationException;
+import org.eclipse.jface.text.IDocument;
+import org.eclipse.jface.text.IRegion;
+import org.eclipse.jface.text.Region;
+
+/**
+ * Splits the regions of a spelling check into chunks which are checked in
+ * parallel.
+ *
+ * @since 3.20
+ */
+public final class SpellingRegionSplitter {
+
+	/**
+	 * The minimal number of characters of each chunk.
+	 */
+	public static final int MIN_CHUNK_LENGTH= 64 * 1024;
+
+	private SpellingRegionSplitter() {
+		// not instantiated
+	}
+
+	/**
+	 * Splits the given regions into at most <code>parallelism</code> chunks of
+	 * about the same length. Regions are only split at line starts, and each
+	 * chunk is at least {@link #MIN_CHUNK_LENGTH} characters long.
+	 *
+	 * @param document the document
+	 * @param regions the regions to split
+	 * @param parallelism the maximal number of chunks
+	 * @return the chunks, a list with the given regions if they are not split
+	 */
+	public static List<IRegion[]> split(IDocument document, IRegion[] regions, int parallelism) {
+		long total= 0;
+		for (IRegion region : regions) {
+			total+= region.getLength();
+		}
+		int chunkCount= (int) Math.min(parallelism, total / MIN_CHUNK_LENGTH);
+		if (chunkCount < 2) {
+			return Collections.singletonList(regions);
+		}
+		long chunkLength= total / chunkCount + 1;
+		List<IRegion[]> chunks= new ArrayList<>(chunkCount);
+		List<IRegion> current= new ArrayList<>();
+		long currentLength= 0;
+		try {
+			for (IRegion region : regions) {
+				int offset= region.getOffset();
+				int end= offset + region.getLength();
+				while (true) {
+					long remaining= chunkLength - currentLength;
+					if (remaining <= 0) {
+						chunks.add(current.toArray(new IRegion[current.size()]));
+						current.clear();
+						currentLength= 0;
+						continue;
+					}
+					if (end - offset <= remaining) {
+						break;
+					}
+					int line= document.getLineOfOffset((int) (offset + remaining));
+					if (line + 1 >= document.getNumberOfLines()) {
+						break;
+					}
+					int cut= document.getLineOffset(line + 1);
+					if (cut >= end) {
+						break;
+					}
+					current.add(new Region(offset, cut - offset));
+					chunks.add(current.toArray(new IRegion[current.size()]));
+					current.clear();
+					currentLength= 0;
+					offset= cut;
+				}
+				if (offset < end) {
+					current.add(new Region(offset, end - offset));
+					currentLength+= end - offset;
+				}
+			}
+		} catch (BadLocationException e) {
+			return Collections.singletonList(regions);
+		}
+		if (!current.isEmpty()) {
+			chunks.add(current.toArray(new IRegion[current.size()]));
+		}
+		return chunks;
+	}
+}
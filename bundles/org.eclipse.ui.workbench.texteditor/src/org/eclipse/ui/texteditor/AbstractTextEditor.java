@@ -176,6 +176,7 @@ import org.eclipse.jface.text.source.CompositeRuler;
 import org.eclipse.jface.text.source.IAnnotationHover;
 import org.eclipse.jface.text.source.IAnnotationModel;
 import org.eclipse.jface.text.source.ISourceViewer;
+import org.eclipse.jface.text.source.ISourceViewerExtension2;
 import org.eclipse.jface.text.source.ISourceViewerExtension3;
 import org.eclipse.jface.text.source.ISourceViewerExtension4;
 import org.eclipse.jface.text.source.ISourceViewerExtension5;
@@ -224,6 +225,7 @@ import org.eclipse.ui.dnd.IDragAndDropService;
 import org.eclipse.ui.internal.texteditor.EditPosition;
 import org.eclipse.ui.internal.texteditor.FocusedInformationPresenter;
 import org.eclipse.ui.internal.texteditor.HistoryTracker;
+import org.eclipse.ui.internal.texteditor.LargeFileSourceViewerConfiguration;
 import org.eclipse.ui.internal.texteditor.NLSUtility;
 import org.eclipse.ui.internal.texteditor.TextEditorPlugin;
 import org.eclipse.ui.internal.texteditor.rulers.StringSetSerializer;
@@ -2407,6 +2409,31 @@ public abstract class AbstractTextEditor extends EditorPart
 	 */
 	public static final String PREFERENCE_SHOW_SELECTION_SIZE = "showSelectionSize"; //$NON-NLS-1$
 
+	/**
+	 * A named preference that controls the document length, in characters,
+	 * above which an editor is opened in large file mode. <code>0</code>
+	 * disables the check.
+	 * <p>
+	 * Value is of type <code>Integer</code>.
+	 * </p>
+	 *
+	 * @see #isLargeFileModeEnabled()
+	 * @since 3.20
+	 */
+	public static final String PREFERENCE_LARGE_FILE_LENGTH_THRESHOLD = "largeFile.lengthThreshold"; //$NON-NLS-1$
+
+	/**
+	 * A named preference that controls the number of lines above which an
+	 * editor is opened in large file mode. <code>0</code> disables the check.
+	 * <p>
+	 * Value is of type <code>Integer</code>.
+	 * </p>
+	 *
+	 * @see #isLargeFileModeEnabled()
+	 * @since 3.20
+	 */
+	public static final String PREFERENCE_LARGE_FILE_LINE_THRESHOLD = "largeFile.lineThreshold"; //$NON-NLS-1$
+
 	/** Menu id for the editor context menu. */
 	public static final String DEFAULT_EDITOR_CONTEXT_MENU_ID = "#EditorContext"; //$NON-NLS-1$
 	/** Menu id for the ruler context menu. */
@@ -2529,6 +2556,19 @@ public abstract class AbstractTextEditor extends EditorPart
 	private Annotation fRangeIndicator;
 	/** The editor's source viewer configuration. */
 	private SourceViewerConfiguration fConfiguration;
+	/**
+	 * The source viewer configuration used in large file mode, created on
+	 * demand.
+	 *
+	 * @since 3.20
+	 */
+	private SourceViewerConfiguration fLargeFileConfiguration;
+	/**
+	 * Tells whether the editor is in large file mode.
+	 *
+	 * @since 3.20
+	 */
+	private boolean fLargeFileMode;
 	/** The editor's source viewer. */
 	private ISourceViewer fSourceViewer;
 	/**
@@ -2871,6 +2911,95 @@ public abstract class AbstractTextEditor extends EditorPart
 		return fConfiguration;
 	}
 
+	/**
+	 * Returns the source viewer configuration the editor's source viewer is
+	 * configured with. This is the editor's source viewer configuration unless
+	 * the editor is in large file mode, in which case a configuration without
+	 * syntax coloring, reconciling, hyperlink detection and code minings is
+	 * returned. May return <code>null</code> before the editor's part has been
+	 * created and after disposal.
+	 *
+	 * @return the source viewer configuration in use which may be
+	 *         <code>null</code>
+	 * @see #isLargeFileModeEnabled()
+	 * @since 3.20
+	 */
+	protected final SourceViewerConfiguration getActiveSourceViewerConfiguration() {
+		if (!fLargeFileMode || fConfiguration == null) {
+			return fConfiguration;
+		}
+		if (fLargeFileConfiguration == null) {
+			fLargeFileConfiguration = new LargeFileSourceViewerConfiguration(fConfiguration);
+		}
+		return fLargeFileConfiguration;
+	}
+
+	/**
+	 * Tells whether the given document is too large to be edited with all
+	 * features enabled. The default implementation compares the length and the
+	 * number of lines of the document with the
+	 * {@link #PREFERENCE_LARGE_FILE_LENGTH_THRESHOLD} and
+	 * {@link #PREFERENCE_LARGE_FILE_LINE_THRESHOLD} preferences.
+	 * <p>
+	 * Subclasses may override.
+	 * </p>
+	 *
+	 * @param document the document to check
+	 * @return <code>true</code> if the editor should be opened in large file
+	 *         mode
+	 * @since 3.20
+	 */
+	protected boolean isLargeFile(IDocument document) {
+		IPreferenceStore store = getPreferenceStore();
+		if (store == null) {
+			return false;
+		}
+		int maxLength = store.getInt(PREFERENCE_LARGE_FILE_LENGTH_THRESHOLD);
+		if (maxLength > 0 && document.getLength() > maxLength) {
+			return true;
+		}
+		int maxLines = store.getInt(PREFERENCE_LARGE_FILE_LINE_THRESHOLD);
+		return maxLines > 0 && document.getNumberOfLines() > maxLines;
+	}
+
+	/**
+	 * Tells whether the editor is in large file mode. In large file mode the
+	 * features which process the whole document, like syntax coloring,
+	 * reconciling, hyperlink detection and code minings, are disabled. The mode
+	 * is chosen when the part control is created and whenever the editor input
+	 * changes, see {@link #isLargeFile(IDocument)}.
+	 *
+	 * @return <code>true</code> if the editor is in large file mode
+	 * @since 3.20
+	 */
+	public boolean isLargeFileModeEnabled() {
+		return fLargeFileMode;
+	}
+
+	/**
+	 * Enables or disables the large file mode of this editor. Disabling it
+	 * re-enables all features of the editor's source viewer configuration for
+	 * the current document.
+	 * <p>
+	 * Subclasses may extend to enable or disable additional features.
+	 * </p>
+	 *
+	 * @param enable <code>true</code> to enable the large file mode,
+	 *               <code>false</code> to disable it
+	 * @see #isLargeFileModeEnabled()
+	 * @since 3.20
+	 */
+	public void setLargeFileModeEnabled(boolean enable) {
+		if (fLargeFileMode == enable) {
+			return;
+		}
+		fLargeFileMode = enable;
+		if (fSourceViewer instanceof ISourceViewerExtension2 extension && fConfiguration != null) {
+			extension.unconfigure();
+			fSourceViewer.configure(getActiveSourceViewerConfiguration());
+		}
+	}
+
 	/**
 	 * Returns the editor's source viewer. May return <code>null</code> before the
 	 * editor's part has been created and after disposal.
@@ -3601,7 +3730,9 @@ public abstract class AbstractTextEditor extends EditorPart
 		if (fConfiguration == null) {
 			fConfiguration = new SourceViewerConfiguration();
 		}
-		fSourceViewer.configure(fConfiguration);
+		IDocument document = getDocumentProvider().getDocument(getEditorInput());
+		fLargeFileMode = document != null && isLargeFile(document);
+		fSourceViewer.configure(getActiveSourceViewerConfiguration());
 
 		if (fSourceViewer instanceof ISourceViewerExtension4) {
 			fKeyBindingSupportForContentAssistant = new KeyBindingSupportForAssistant(
@@ -4447,6 +4578,10 @@ public abstract class AbstractTextEditor extends EditorPart
 			if (fSourceViewer != null) {
 				initializeSourceViewer(input);
 
+				// The new input may be of a different size than the previous one
+				IDocument document = provider.getDocument(input);
+				setLargeFileModeEnabled(document != null && isLargeFile(document));
+
 				// Reset the undo context for the undo and redo action handlers
 				IAction undoAction = getAction(ITextEditorActionConstants.UNDO);
 				IAction redoAction = getAction(ITextEditorActionConstants.REDO);
@@ -4670,6 +4805,7 @@ public abstract class AbstractTextEditor extends EditorPart
 
 		if (fConfiguration != null) {
 			fConfiguration = null;
+			fLargeFileConfiguration = null;
 		}
 
 		if (fColumnSupport != null) {
@@ -4839,8 +4975,8 @@ public abstract class AbstractTextEditor extends EditorPart
 
 		if (PREFERENCE_HYPERLINKS_ENABLED.equals(property)) {
 			if (fSourceViewer instanceof ITextViewerExtension6 textViewer6) {
-				IHyperlinkDetector[] detectors = getSourceViewerConfiguration().getHyperlinkDetectors(fSourceViewer);
-				int stateMask = getSourceViewerConfiguration().getHyperlinkStateMask(fSourceViewer);
+				IHyperlinkDetector[] detectors = getActiveSourceViewerConfiguration().getHyperlinkDetectors(fSourceViewer);
+				int stateMask = getActiveSourceViewerConfiguration().getHyperlinkStateMask(fSourceViewer);
 				textViewer6.setHyperlinkDetectors(detectors, stateMask);
 			}
 			return;
@@ -4848,8 +4984,8 @@ public abstract class AbstractTextEditor extends EditorPart
 
 		if (PREFERENCE_HYPERLINK_KEY_MODIFIER.equals(property)) {
 			if (fSourceViewer instanceof ITextViewerExtension6 textViewer6) {
-				IHyperlinkDetector[] detectors = getSourceViewerConfiguration().getHyperlinkDetectors(fSourceViewer);
-				int stateMask = getSourceViewerConfiguration().getHyperlinkStateMask(fSourceViewer);
+				IHyperlinkDetector[] detectors = getActiveSourceViewerConfiguration().getHyperlinkDetectors(fSourceViewer);
+				int stateMask = getActiveSourceViewerConfiguration().getHyperlinkStateMask(fSourceViewer);
 				textViewer6.setHyperlinkDetectors(detectors, stateMask);
 			}
 			return;
@@ -29,6 +29,7 @@ import org.eclipse.jface.text.hyperlink.IHyperlink;
 import org.eclipse.jface.text.hyperlink.IHyperlinkDetector;
 import org.eclipse.jface.text.hyperlink.IHyperlinkDetectorExtension;
 import org.eclipse.jface.text.hyperlink.IHyperlinkDetectorExtension2;
+import org.eclipse.jface.text.hyperlink.IHyperlinkDetectorExtension3;
 
 
 
@@ -45,7 +46,7 @@ public final class HyperlinkDetectorRegistry {
 	/**
 	 * Delegate for contributed hyperlink detectors.
 	 */
-	private class HyperlinkDetectorDelegate implements IHyperlinkDetector, IHyperlinkDetectorExtension, IHyperlinkDetectorExtension2 {
+	private class HyperlinkDetectorDelegate implements IHyperlinkDetector, IHyperlinkDetectorExtension, IHyperlinkDetectorExtension2, IHyperlinkDetectorExtension3 {
 
 		private HyperlinkDetectorDescriptor fHyperlinkDescriptor;
 		private IHyperlinkDetector fHyperlinkDetector;
@@ -110,6 +111,16 @@ public final class HyperlinkDetectorRegistry {
 			return fStateMask;
 		}
 
+		@Override
+		public boolean canDetectInBackground() {
+			if (!isEnabled()) {
+				return true;
+			}
+			// the detector is created in the UI thread on first use
+			IHyperlinkDetector detector= fHyperlinkDetector;
+			return detector instanceof IHyperlinkDetectorExtension3 && ((IHyperlinkDetectorExtension3) detector).canDetectInBackground();
+		}
+
 	}
 
 
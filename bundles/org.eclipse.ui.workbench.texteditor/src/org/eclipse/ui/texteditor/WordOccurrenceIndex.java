@@ -0,0 +1,335 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.ui.texteditor;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.eclipse.core.runtime.Assert;
+
+import org.eclipse.jface.text.BadLocationException;
+import org.eclipse.jface.text.DocumentEvent;
+import org.eclipse.jface.text.IDocument;
+import org.eclipse.jface.text.IDocumentListener;
+import org.eclipse.jface.text.IRegion;
+import org.eclipse.jface.text.Region;
+
+/**
+ * An index of the words of a document, used to find all occurrences of a word, e.g. to mark the
+ * occurrences of the word at the caret.
+ * <p>
+ * The index is built when it is first queried and is then updated incrementally from the
+ * document events: only the words of the changed lines are tokenized again. Answering which
+ * offsets a word occurs at takes time proportional to the number of occurrences. Words must not
+ * span lines.
+ * </p>
+ * <p>
+ * This class is not intended to be subclassed by clients.
+ * </p>
+ *
+ * @since 3.20
+ * @noextend This class is not intended to be subclassed by clients.
+ */
+public class WordOccurrenceIndex {
+
+	/** The default word pattern: a sequence of Unicode word characters. */
+	public static final Pattern DEFAULT_WORD_PATTERN= Pattern.compile("\\w+", Pattern.UNICODE_CHARACTER_CLASS); //$NON-NLS-1$
+
+	/** The maximal number of pending edits before the offsets of all words are updated. */
+	private static final int MAX_PENDING_EDITS= 1024;
+
+	/**
+	 * The sorted offsets of one word.
+	 */
+	private static class Occurrences {
+
+		/** The offsets, only the first {@link #fSize} are valid. */
+		int[] fOffsets= new int[4];
+
+		/** The number of offsets. */
+		int fSize;
+
+		/** The number of pending edits that have been applied to the offsets. */
+		int fEditCount;
+
+		void add(int offset) {
+			int index= Arrays.binarySearch(fOffsets, 0, fSize, offset);
+			if (index >= 0) {
+				return;
+			}
+			index= -index - 1;
+			if (fSize == fOffsets.length) {
+				fOffsets= Arrays.copyOf(fOffsets, fSize * 2);
+			}
+			System.arraycopy(fOffsets, index, fOffsets, index + 1, fSize - index);
+			fOffsets[index]= offset;
+			fSize++;
+		}
+
+		void remove(int offset) {
+			int index= Arrays.binarySearch(fOffsets, 0, fSize, offset);
+			if (index >= 0) {
+				System.arraycopy(fOffsets, index + 1, fOffsets, index, fSize - index - 1);
+				fSize--;
+			}
+		}
+	}
+
+	/**
+	 * Keeps the index up to date.
+	 */
+	private class DocumentListener implements IDocumentListener {
+
+		/** The offset of the first changed line, <code>-1</code> if the index is not built. */
+		private int fChangedLinesOffset= -1;
+
+		@Override
+		public void documentAboutToBeChanged(DocumentEvent event) {
+			synchronized (WordOccurrenceIndex.this) {
+				fChangedLinesOffset= -1;
+				if (fIndex == null) {
+					return;
+				}
+				try {
+					int firstLine= fDocument.getLineOfOffset(event.getOffset());
+					int lastLine= fDocument.getLineOfOffset(event.getOffset() + event.getLength());
+					int offset= fDocument.getLineOffset(firstLine);
+					int end= fDocument.getLineOffset(lastLine) + fDocument.getLineLength(lastLine);
+					Matcher matcher= fWordPattern.matcher(fDocument.get(offset, end - offset));
+					while (matcher.find()) {
+						Occurrences occurrences= getOccurrences(matcher.group(), false);
+						if (occurrences != null) {
+							occurrences.remove(offset + matcher.start());
+							if (occurrences.fSize == 0) {
+								fIndex.remove(matcher.group());
+							}
+						}
+					}
+					fChangedLinesOffset= offset;
+				} catch (BadLocationException e) {
+					fIndex= null;
+				}
+			}
+		}
+
+		@Override
+		public void documentChanged(DocumentEvent event) {
+			synchronized (WordOccurrenceIndex.this) {
+				if (fIndex == null || fChangedLinesOffset == -1) {
+					fIndex= null;
+					return;
+				}
+				int textLength= event.getText() == null ? 0 : event.getText().length();
+				addEdit(event.getOffset(), textLength - event.getLength());
+				try {
+					int lastLine= fDocument.getLineOfOffset(event.getOffset() + textLength);
+					int end= fDocument.getLineOffset(lastLine) + fDocument.getLineLength(lastLine);
+					addWords(fDocument.get(fChangedLinesOffset, end - fChangedLinesOffset), fChangedLinesOffset);
+				} catch (BadLocationException e) {
+					fIndex= null;
+				}
+			}
+		}
+	}
+
+	/** The pattern matching a word. */
+	private final Pattern fWordPattern;
+
+	/** The indexed document. */
+	private IDocument fDocument;
+
+	/** The document listener. */
+	private final DocumentListener fDocumentListener= new DocumentListener();
+
+	/** The occurrences by word, <code>null</code> if the index has not been built yet. */
+	private Map<String, Occurrences> fIndex;
+
+	/** The offsets of the edits which have not been applied to all words yet. */
+	private int[] fEditOffsets= new int[16];
+
+	/** The length deltas of the edits which have not been applied to all words yet. */
+	private int[] fEditDeltas= new int[16];
+
+	/** The number of pending edits. */
+	private int fEditCount;
+
+	/**
+	 * Creates a new index of the words matching the {@link #DEFAULT_WORD_PATTERN}.
+	 */
+	public WordOccurrenceIndex() {
+		this(DEFAULT_WORD_PATTERN);
+	}
+
+	/**
+	 * Creates a new index of the words matching the given pattern.
+	 *
+	 * @param wordPattern the pattern matching a word, a match must not span lines
+	 */
+	public WordOccurrenceIndex(Pattern wordPattern) {
+		Assert.isNotNull(wordPattern);
+		fWordPattern= wordPattern;
+	}
+
+	/**
+	 * Installs this index on the given document. The index is built when it is first queried.
+	 *
+	 * @param document the document to index
+	 */
+	public synchronized void install(IDocument document) {
+		Assert.isNotNull(document);
+		uninstall();
+		fDocument= document;
+		fDocument.addPrenotifiedDocumentListener(fDocumentListener);
+	}
+
+	/**
+	 * Uninstalls this index from its document and discards the index.
+	 */
+	public synchronized void uninstall() {
+		if (fDocument != null) {
+			fDocument.removePrenotifiedDocumentListener(fDocumentListener);
+			fDocument= null;
+		}
+		fIndex= null;
+		fEditCount= 0;
+	}
+
+	/**
+	 * Returns the word at the given offset. The offset may be inside the word, at its start or
+	 * at its end.
+	 *
+	 * @param offset the document offset
+	 * @return the region of the word or <code>null</code> if there is no word at the offset
+	 */
+	public synchronized IRegion getWordAt(int offset) {
+		if (fDocument == null || offset < 0 || offset > fDocument.getLength()) {
+			return null;
+		}
+		try {
+			IRegion line= fDocument.getLineInformationOfOffset(offset);
+			Matcher matcher= fWordPattern.matcher(fDocument.get(line.getOffset(), line.getLength()));
+			int relativeOffset= offset - line.getOffset();
+			while (matcher.find() && matcher.start() <= relativeOffset) {
+				if (relativeOffset <= matcher.end()) {
+					return new Region(line.getOffset() + matcher.start(), matcher.end() - matcher.start());
+				}
+			}
+		} catch (BadLocationException e) {
+			// no word
+		}
+		return null;
+	}
+
+	/**
+	 * Returns the sorted offsets of all occurrences of the given word.
+	 *
+	 * @param word the word
+	 * @return the offsets of the occurrences, an empty array if the word does not occur
+	 */
+	public synchronized int[] getOccurrences(String word) {
+		if (fDocument == null) {
+			return new int[0];
+		}
+		if (fIndex == null) {
+			buildIndex();
+		}
+		Occurrences occurrences= getOccurrences(word, false);
+		if (occurrences == null) {
+			return new int[0];
+		}
+		return Arrays.copyOf(occurrences.fOffsets, occurrences.fSize);
+	}
+
+	/**
+	 * Builds the index of the whole document.
+	 */
+	private void buildIndex() {
+		fIndex= new HashMap<>();
+		fEditCount= 0;
+		addWords(fDocument.get(), 0);
+	}
+
+	/**
+	 * Adds the words of the given text to the index.
+	 *
+	 * @param text the text
+	 * @param offset the document offset of the text
+	 */
+	private void addWords(String text, int offset) {
+		Matcher matcher= fWordPattern.matcher(text);
+		while (matcher.find()) {
+			getOccurrences(matcher.group(), true).add(offset + matcher.start());
+		}
+	}
+
+	/**
+	 * Returns the occurrences of the given word with all pending edits applied.
+	 *
+	 * @param word the word
+	 * @param create <code>true</code> to create the occurrences if the word is not indexed
+	 * @return the occurrences or <code>null</code> if the word is not indexed and
+	 *         <code>create</code> is <code>false</code>
+	 */
+	private Occurrences getOccurrences(String word, boolean create) {
+		Occurrences occurrences= fIndex.get(word);
+		if (occurrences == null) {
+			if (!create) {
+				return null;
+			}
+			occurrences= new Occurrences();
+			occurrences.fEditCount= fEditCount;
+			fIndex.put(word, occurrences);
+			return occurrences;
+		}
+		for (int i= occurrences.fEditCount; i < fEditCount; i++) {
+			int editOffset= fEditOffsets[i];
+			int delta= fEditDeltas[i];
+			int index= Arrays.binarySearch(occurrences.fOffsets, 0, occurrences.fSize, editOffset);
+			for (int j= index < 0 ? -index - 1 : index; j < occurrences.fSize; j++) {
+				occurrences.fOffsets[j]+= delta;
+			}
+		}
+		occurrences.fEditCount= fEditCount;
+		return occurrences;
+	}
+
+	/**
+	 * Records an edit. The words of the changed lines must have been removed from the index, so
+	 * that all remaining words at or after the offset are moved by the delta.
+	 *
+	 * @param offset the offset of the edit
+	 * @param delta the change of the document length
+	 */
+	private void addEdit(int offset, int delta) {
+		if (delta == 0) {
+			return;
+		}
+		if (fEditCount == MAX_PENDING_EDITS) {
+			for (String word : fIndex.keySet()) {
+				getOccurrences(word, false).fEditCount= 0;
+			}
+			fEditCount= 0;
+		}
+		if (fEditCount == fEditOffsets.length) {
+			fEditOffsets= Arrays.copyOf(fEditOffsets, fEditCount * 2);
+			fEditDeltas= Arrays.copyOf(fEditDeltas, fEditCount * 2);
+		}
+		fEditOffsets[fEditCount]= offset;
+		fEditDeltas[fEditCount]= delta;
+		fEditCount++;
+	}
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2006, 2008 IBM Corporation and others.
+ * Copyright (c) 2006, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -14,11 +14,17 @@
 package org.eclipse.ui.texteditor.spelling;
 
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.Set;
+import java.util.function.BiFunction;
 
 import org.eclipse.core.runtime.Assert;
 import org.eclipse.core.runtime.IProgressMonitor;
@@ -28,16 +34,20 @@ import org.eclipse.core.runtime.content.IContentTypeManager;
 
 import org.eclipse.jface.text.BadLocationException;
 import org.eclipse.jface.text.IDocument;
+import org.eclipse.jface.text.IDocumentExtension4;
 import org.eclipse.jface.text.IRegion;
 import org.eclipse.jface.text.ISynchronizable;
 import org.eclipse.jface.text.Position;
 import org.eclipse.jface.text.Region;
+import org.eclipse.jface.text.contentassist.ICompletionProposal;
+import org.eclipse.jface.text.quickassist.IQuickAssistInvocationContext;
 import org.eclipse.jface.text.reconciler.DirtyRegion;
 import org.eclipse.jface.text.reconciler.IReconcilingStrategy;
 import org.eclipse.jface.text.reconciler.IReconcilingStrategyExtension;
 import org.eclipse.jface.text.source.Annotation;
 import org.eclipse.jface.text.source.IAnnotationModel;
 import org.eclipse.jface.text.source.IAnnotationModelExtension;
+import org.eclipse.jface.text.source.IAnnotationModelExtension2;
 import org.eclipse.jface.text.source.ISourceViewer;
 
 
@@ -63,6 +73,29 @@ public class SpellingReconcileStrategy implements IReconcilingStrategy, IReconci
 		/** Lock object for modifying the annotations. */
 		private Object fLockObject;
 
+		/**
+		 * The sorted, disjoint regions whose annotations are replaced, <code>null</code> to
+		 * replace all spelling annotations.
+		 *
+		 * @since 3.20
+		 */
+		private IRegion[] fScope;
+
+		/**
+		 * Creates the problems which follow the positions of their annotations, <code>null</code>
+		 * if the reported problems are used.
+		 *
+		 * @since 3.20
+		 */
+		private BiFunction<SpellingProblem, Position, SpellingProblem> fTracker;
+
+		/**
+		 * The offsets of the problems accepted in the current collection run.
+		 *
+		 * @since 3.20
+		 */
+		private final List<Integer> fProblemOffsets= new ArrayList<>();
+
 		/**
 		 * Initializes this collector with the given annotation model.
 		 *
@@ -78,14 +111,51 @@ public class SpellingReconcileStrategy implements IReconcilingStrategy, IReconci
 			}
 		}
 
+		/**
+		 * Restricts the next collection run to the given regions: only the spelling annotations
+		 * starting in these regions are replaced.
+		 *
+		 * @param scope the sorted, disjoint regions or <code>null</code> to replace all spelling
+		 *            annotations
+		 * @since 3.20
+		 */
+		void setScope(IRegion[] scope) {
+			fScope= scope;
+		}
+
+		/**
+		 * Makes the problems of the next collection run follow the positions of their annotations.
+		 *
+		 * @param tracker creates the problem of an annotation from the reported problem and the
+		 *            position of the annotation, <code>null</code> to keep the reported problems
+		 * @since 3.20
+		 */
+		void setTracker(BiFunction<SpellingProblem, Position, SpellingProblem> tracker) {
+			fTracker= tracker;
+		}
+
+		/**
+		 * Returns the offsets of the problems accepted in the last collection run.
+		 *
+		 * @return the problem offsets
+		 * @since 3.20
+		 */
+		List<Integer> getProblemOffsets() {
+			return fProblemOffsets;
+		}
+
 		@Override
 		public void accept(SpellingProblem problem) {
-			fAddAnnotations.put(new SpellingAnnotation(problem), new Position(problem.getOffset(), problem.getLength()));
+			Position position= new Position(problem.getOffset(), problem.getLength());
+			SpellingProblem annotationProblem= fTracker != null ? fTracker.apply(problem, position) : problem;
+			fAddAnnotations.put(new SpellingAnnotation(annotationProblem), position);
+			fProblemOffsets.add(Integer.valueOf(problem.getOffset()));
 		}
 
 		@Override
 		public void beginCollecting() {
 			fAddAnnotations= new HashMap<>();
+			fProblemOffsets.clear();
 		}
 
 		@Override
@@ -94,13 +164,29 @@ public class SpellingReconcileStrategy implements IReconcilingStrategy, IReconci
 			List<Annotation> toRemove= new ArrayList<>();
 
 			synchronized (fLockObject) {
-				Iterator<Annotation> iter= fAnnotationModel.getAnnotationIterator();
+				Map<Position, String> added= new HashMap<>();
+				for (Entry<Annotation, Position> entry : fAddAnnotations.entrySet()) {
+					added.put(entry.getValue(), entry.getKey().getText());
+				}
+				Iterator<Annotation> iter= getScopeAnnotationIterator();
 				while (iter.hasNext()) {
 					Annotation annotation= iter.next();
 					if (SpellingAnnotation.TYPE.equals(annotation.getType())) {
+						Position position= fAnnotationModel.getPosition(annotation);
+						if (fScope != null && position != null && !position.isDeleted() && !isInScope(position)) {
+							continue;
+						}
+						if (position != null && !position.isDeleted() && isUpToDate(annotation, position) && annotation.getText() != null && annotation.getText().equals(added.get(position))) {
+							// unchanged problem, keep the existing annotation
+							added.remove(position);
+							continue;
+						}
 						toRemove.add(annotation);
 					}
 				}
+				if (added.size() < fAddAnnotations.size()) {
+					fAddAnnotations.values().removeIf(position -> !added.containsKey(position));
+				}
 				Annotation[] annotationsToRemove= toRemove.toArray(new Annotation[toRemove.size()]);
 
 				if (fAnnotationModel instanceof IAnnotationModelExtension) {
@@ -116,10 +202,176 @@ public class SpellingReconcileStrategy implements IReconcilingStrategy, IReconci
 			}
 
 			fAddAnnotations= null;
+			fScope= null;
+			fTracker= null;
+		}
+
+		/**
+		 * Returns an iterator over the annotations which may start in the scope. Must be called
+		 * while holding the lock object.
+		 *
+		 * @return the annotation iterator
+		 * @since 3.20
+		 */
+		private Iterator<Annotation> getScopeAnnotationIterator() {
+			if (fScope == null || !(fAnnotationModel instanceof IAnnotationModelExtension2)) {
+				return fAnnotationModel.getAnnotationIterator();
+			}
+			IAnnotationModelExtension2 extension= (IAnnotationModelExtension2)fAnnotationModel;
+			List<Annotation> annotations= new ArrayList<>();
+			for (IRegion region : fScope) {
+				// include the annotations starting at the end of the region, like isInScope
+				Iterator<Annotation> iter= extension.getAnnotationIterator(region.getOffset(), region.getLength() + 1, false, true);
+				while (iter.hasNext()) {
+					annotations.add(iter.next());
+				}
+			}
+			return annotations.iterator();
+		}
+
+		/**
+		 * Tells whether the given position starts in the scope.
+		 *
+		 * @param position the position
+		 * @return <code>true</code> if the position starts in the scope
+		 * @since 3.20
+		 */
+		private boolean isInScope(Position position) {
+			int offset= position.getOffset();
+			int low= 0;
+			int high= fScope.length - 1;
+			while (low <= high) {
+				int mid= (low + high) >>> 1;
+				IRegion region= fScope[mid];
+				if (offset < region.getOffset()) {
+					high= mid - 1;
+				} else if (offset > region.getOffset() + region.getLength()) {
+					low= mid + 1;
+				} else {
+					return true;
+				}
+			}
+			return false;
+		}
+
+		/**
+		 * Tells whether the given spelling annotation is still at the location of its problem.
+		 *
+		 * @param annotation the annotation
+		 * @param position the position of the annotation
+		 * @return <code>true</code> if the annotation has not moved since it has been reported
+		 * @since 3.20
+		 */
+		private static boolean isUpToDate(Annotation annotation, Position position) {
+			if (annotation.isMarkedDeleted() || !(annotation instanceof SpellingAnnotation)) {
+				return false;
+			}
+			SpellingProblem problem= ((SpellingAnnotation)annotation).getSpellingProblem();
+			return problem.getOffset() == position.getOffset() && problem.getLength() == position.getLength();
 		}
 	}
 
 
+	/**
+	 * A spelling problem which moves with the text: its offset is the one of the position of its
+	 * annotation, which the annotation model updates. The proposals of the reported problem refer
+	 * to its original offset, so once the problem has moved they are computed by checking the line
+	 * of the problem again.
+	 *
+	 * @since 3.20
+	 */
+	private final class TrackedSpellingProblem extends SpellingProblem {
+
+		/** The reported problem. */
+		private final SpellingProblem fProblem;
+
+		/** The position of the annotation of the problem. */
+		private final Position fPosition;
+
+		/** The document of the problem. */
+		private final IDocument fProblemDocument;
+
+		TrackedSpellingProblem(SpellingProblem problem, Position position, IDocument document) {
+			fProblem= problem;
+			fPosition= position;
+			fProblemDocument= document;
+		}
+
+		@Override
+		public int getOffset() {
+			return fPosition.getOffset();
+		}
+
+		@Override
+		public int getLength() {
+			return fProblem.getLength();
+		}
+
+		@Override
+		public String getMessage() {
+			return fProblem.getMessage();
+		}
+
+		@Override
+		public ICompletionProposal[] getProposals() {
+			if (!hasMoved()) {
+				return fProblem.getProposals();
+			}
+			SpellingProblem problem= checkAgain();
+			return problem != null ? problem.getProposals() : new ICompletionProposal[0];
+		}
+
+		@Override
+		public ICompletionProposal[] getProposals(IQuickAssistInvocationContext context) {
+			if (!hasMoved()) {
+				return fProblem.getProposals(context);
+			}
+			SpellingProblem problem= checkAgain();
+			return problem != null ? problem.getProposals(context) : new ICompletionProposal[0];
+		}
+
+		/**
+		 * Tells whether this problem has moved since it has been reported.
+		 *
+		 * @return <code>true</code> if the problem is no longer at the reported location
+		 */
+		private boolean hasMoved() {
+			return fPosition.isDeleted() || fPosition.getOffset() != fProblem.getOffset() || fPosition.getLength() != fProblem.getLength();
+		}
+
+		/**
+		 * Checks the line of this problem again.
+		 *
+		 * @return the problem reported at the offset of this problem, or <code>null</code> if none
+		 */
+		private SpellingProblem checkAgain() {
+			SpellingProblem[] result= new SpellingProblem[1];
+			ISpellingProblemCollector collector= new ISpellingProblemCollector() {
+				@Override
+				public void accept(SpellingProblem problem) {
+					if (result[0] == null && problem.getOffset() == getOffset()) {
+						result[0]= problem;
+					}
+				}
+
+				@Override
+				public void beginCollecting() {
+				}
+
+				@Override
+				public void endCollecting() {
+				}
+			};
+			try {
+				IRegion line= fProblemDocument.getLineInformationOfOffset(getOffset());
+				fSpellingService.check(fProblemDocument, new IRegion[] { line }, fSpellingContext, collector, null);
+			} catch (BadLocationException e) {
+				// the problem is no longer in the document
+			}
+			return result[0];
+		}
+	}
+
 	/** Text content type */
 	private static final IContentType TEXT_CONTENT_TYPE= Platform.getContentTypeManager().getContentType(IContentTypeManager.CT_TEXT);
 
@@ -145,6 +397,35 @@ public class SpellingReconcileStrategy implements IReconcilingStrategy, IReconci
 	 */
 	private final IRegion[] fRegions= new IRegion[1];
 
+	/**
+	 * The maximal number of lines in the cache of correctly spelled lines.
+	 *
+	 * @since 3.20
+	 */
+	private static final int MAX_CACHED_LINES= 10000;
+
+	/**
+	 * The content of lines without spelling problems, least recently used first.
+	 *
+	 * @since 3.20
+	 */
+	private final Set<String> fCorrectLines= Collections.newSetFromMap(new LinkedHashMap<String, Boolean>(16, 0.75f, true) {
+		private static final long serialVersionUID= 1L;
+
+		@Override
+		protected boolean removeEldestEntry(Map.Entry<String, Boolean> eldest) {
+			return size() > MAX_CACHED_LINES;
+		}
+	});
+
+	/**
+	 * Tells whether the lines of the whole document have to be checked in the next incremental
+	 * reconcile pass, because a previous pass has been canceled.
+	 *
+	 * @since 3.20
+	 */
+	private boolean fCheckAllLines;
+
 
 	/**
 	 * Creates a new comment reconcile strategy.
@@ -169,6 +450,21 @@ public class SpellingReconcileStrategy implements IReconcilingStrategy, IReconci
 
 	@Override
 	public void reconcile(DirtyRegion dirtyRegion, IRegion subRegion) {
+		if (fSpellingProblemCollector instanceof SpellingProblemCollector collector && getAnnotationModel() != null && isLineBased()) {
+			int length= fDocument.getLength();
+			int offset= Math.min(subRegion.getOffset(), length);
+			if (offset == 0 && subRegion.getLength() >= length && !DirtyRegion.REMOVE.equals(dirtyRegion.getType())) {
+				reconcile(new Region(0, length));
+			} else if (fCheckAllLines) {
+				checkLines(collector, new Region(0, length));
+			} else if (DirtyRegion.REMOVE.equals(dirtyRegion.getType())) {
+				checkLines(collector, new Region(offset, 0));
+			} else {
+				checkLines(collector, new Region(offset, Math.min(subRegion.getLength(), length - offset)));
+			}
+			return;
+		}
+
 		try {
 			IRegion startLineInfo= fDocument.getLineInformationOfOffset(subRegion.getOffset());
 			IRegion endLineInfo= fDocument.getLineInformationOfOffset(subRegion.getOffset() + Math.max(0, subRegion.getLength() - 1));
@@ -190,10 +486,133 @@ public class SpellingReconcileStrategy implements IReconcilingStrategy, IReconci
 			return;
 		}
 
+		if (fSpellingProblemCollector instanceof SpellingProblemCollector collector && isLineBased()
+				&& region.getOffset() == 0 && region.getLength() == fDocument.getLength()) {
+			// full check, e.g. forced after a dictionary change: forget the correct lines
+			fCorrectLines.clear();
+			checkLines(collector, region);
+			return;
+		}
+
 		fRegions[0]= region;
 		fSpellingService.check(fDocument, fRegions, fSpellingContext, fSpellingProblemCollector, fProgressMonitor);
 	}
 
+	/**
+	 * Tells whether the spelling problems of a line only depend on the content of that line. If
+	 * so, changes are checked incrementally: only the changed lines are checked, lines whose
+	 * content has been found correct before are skipped, and only the spelling annotations of the
+	 * checked lines are replaced. The other spelling annotations move with the text.
+	 * <p>
+	 * The default implementation returns <code>true</code> if the content type is the text
+	 * content type. Subclasses may override.
+	 * </p>
+	 *
+	 * @return <code>true</code> if lines can be checked independently
+	 * @since 3.20
+	 */
+	protected boolean isLineBased() {
+		return TEXT_CONTENT_TYPE != null && TEXT_CONTENT_TYPE.equals(fSpellingContext.getContentType());
+	}
+
+	/**
+	 * Checks the lines intersecting the given region and replaces the spelling annotations of
+	 * these lines. The spelling annotations of the other lines have been moved with the text by
+	 * the annotation model, their problems follow the positions.
+	 *
+	 * @param collector the spelling problem collector
+	 * @param region the region to check
+	 * @since 3.20
+	 */
+	private void checkLines(SpellingProblemCollector collector, IRegion region) {
+		IDocument document= fDocument;
+		long stamp= document instanceof IDocumentExtension4 ext ? ext.getModificationStamp() : IDocumentExtension4.UNKNOWN_MODIFICATION_STAMP;
+		fCheckAllLines= false;
+
+		BitSet scopeLines= new BitSet();
+		List<IRegion> scope= new ArrayList<>();
+		List<IRegion> regions= new ArrayList<>();
+		List<IRegion> checkedLines= new ArrayList<>();
+		List<String> checkedContents= new ArrayList<>();
+		try {
+			int firstLine= document.getLineOfOffset(region.getOffset());
+			int lastLine= document.getLineOfOffset(region.getOffset() + region.getLength());
+			scopeLines.set(firstLine, lastLine + 1);
+
+			for (int line= scopeLines.nextSetBit(0); line >= 0; line= scopeLines.nextSetBit(line + 1)) {
+				IRegion info= document.getLineInformation(line);
+				addLine(scope, info);
+				String content= document.get(info.getOffset(), info.getLength());
+				if (!fCorrectLines.contains(content)) {
+					addLine(regions, info);
+					checkedLines.add(info);
+					checkedContents.add(content);
+				}
+			}
+		} catch (BadLocationException e) {
+			// the document has been changed concurrently, check the whole document next time
+			fCheckAllLines= true;
+			return;
+		}
+
+		collector.setScope(scope.toArray(new IRegion[scope.size()]));
+		collector.setTracker(this::createTrackedProblem);
+		fSpellingService.check(document, regions.toArray(new IRegion[regions.size()]), fSpellingContext, collector, fProgressMonitor);
+
+		if (fProgressMonitor != null && fProgressMonitor.isCanceled()) {
+			fCheckAllLines= true;
+			return;
+		}
+		if (stamp == IDocumentExtension4.UNKNOWN_MODIFICATION_STAMP || stamp != ((IDocumentExtension4)document).getModificationStamp()) {
+			return;
+		}
+
+		int[] problemOffsets= collector.getProblemOffsets().stream().mapToInt(Integer::intValue).sorted().toArray();
+		for (int i= 0; i < checkedLines.size(); i++) {
+			IRegion line= checkedLines.get(i);
+			int index= Arrays.binarySearch(problemOffsets, line.getOffset());
+			if (index < 0) {
+				index= -index - 1;
+			}
+			if (index == problemOffsets.length || problemOffsets[index] > line.getOffset() + line.getLength()) {
+				fCorrectLines.add(checkedContents.get(i));
+			}
+		}
+	}
+
+	/**
+	 * Creates the problem of a spelling annotation which moves with the text.
+	 *
+	 * @param problem the reported problem
+	 * @param position the position of the annotation
+	 * @return the problem following the position
+	 * @since 3.20
+	 */
+	private SpellingProblem createTrackedProblem(SpellingProblem problem, Position position) {
+		return new TrackedSpellingProblem(problem, position, fDocument);
+	}
+
+	/**
+	 * Adds the given line to the given sorted list of regions, extending the last region if the
+	 * line directly follows it.
+	 *
+	 * @param regions the regions
+	 * @param line the line information
+	 * @throws BadLocationException if the line is not in the document
+	 * @since 3.20
+	 */
+	private void addLine(List<IRegion> regions, IRegion line) throws BadLocationException {
+		if (!regions.isEmpty()) {
+			IRegion last= regions.get(regions.size() - 1);
+			int lastLine= fDocument.getLineOfOffset(last.getOffset() + last.getLength());
+			if (fDocument.getLineOfOffset(line.getOffset()) == lastLine + 1) {
+				regions.set(regions.size() - 1, new Region(last.getOffset(), line.getOffset() + line.getLength() - last.getOffset()));
+				return;
+			}
+		}
+		regions.add(line);
+	}
+
 	/**
 	 * Returns the content type of the underlying editor input.
 	 *
@@ -216,6 +635,7 @@ public class SpellingReconcileStrategy implements IReconcilingStrategy, IReconci
 	@Override
 	public void setDocument(IDocument document) {
 		fDocument= document;
+		fCheckAllLines= false;
 		fSpellingProblemCollector= createSpellingProblemCollector();
 	}
 
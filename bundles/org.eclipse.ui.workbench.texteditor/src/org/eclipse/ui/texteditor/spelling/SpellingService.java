@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2008 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -14,6 +14,15 @@
 
 package org.eclipse.ui.texteditor.spelling;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
 import org.eclipse.core.runtime.CoreException;
 import org.eclipse.core.runtime.IProgressMonitor;
 import org.eclipse.core.runtime.ISafeRunnable;
@@ -27,6 +36,7 @@ import org.eclipse.jface.text.Region;
 
 import org.eclipse.ui.internal.texteditor.TextEditorPlugin;
 import org.eclipse.ui.internal.texteditor.spelling.SpellingEngineRegistry;
+import org.eclipse.ui.internal.texteditor.spelling.SpellingRegionSplitter;
 
 /**
  * System wide spelling service.
@@ -56,6 +66,62 @@ public class SpellingService {
 	 */
 	public static final String PREFERENCE_SPELLING_ENGINE= "spellingEngine"; //$NON-NLS-1$
 
+	/**
+	 * A named preference that controls the maximal number of chunks large
+	 * regions are split into to be checked in parallel. Values smaller than
+	 * <code>2</code> check the regions in the calling thread, which is the
+	 * default. Parallel checks create one spelling engine per chunk, so this
+	 * should only be enabled for spelling engines whose instances can be used
+	 * concurrently.
+	 * <p>
+	 * Value is of type <code>Integer</code>.
+	 * </p>
+	 *
+	 * @since 3.20
+	 */
+	public static final String PREFERENCE_SPELLING_PARALLELISM= "spellingParallelism"; //$NON-NLS-1$
+
+	/**
+	 * The maximal number of threads checking in parallel, in addition to the
+	 * calling thread.
+	 *
+	 * @since 3.20
+	 */
+	private static final int MAX_THREADS= Math.max(1, Math.min(4, Runtime.getRuntime().availableProcessors()) - 1);
+
+	/**
+	 * The executor checking the chunks of parallel checks, created on demand.
+	 * Its threads are daemon threads and terminate when they have been idle for
+	 * a while.
+	 *
+	 * @since 3.20
+	 */
+	private static ExecutorService fgExecutor;
+
+	/**
+	 * Collects the problems of one chunk of a parallel check.
+	 *
+	 * @since 3.20
+	 */
+	private static class BufferingCollector implements ISpellingProblemCollector {
+
+		/** The collected problems. */
+		private final List<SpellingProblem> fProblems= new ArrayList<>();
+
+		@Override
+		public void accept(SpellingProblem problem) {
+			fProblems.add(problem);
+		}
+
+		@Override
+		public void beginCollecting() {
+		}
+
+		@Override
+		public void endCollecting() {
+		}
+	}
+
 	/** Preferences */
 	private final IPreferenceStore fPreferences;
 
@@ -100,18 +166,14 @@ public class SpellingService {
 			collector.beginCollecting();
 			if (fPreferences.getBoolean(PREFERENCE_SPELLING_ENABLED)) {
 				try {
-					final ISpellingEngine engine= createEngine(fPreferences);
-					if (engine != null) {
-						ISafeRunnable runnable= new ISafeRunnable() {
-							@Override
-							public void run() throws Exception {
-								engine.check(document, regions, context, collector, monitor);
-							}
-							@Override
-							public void handleException(Throwable x) {
-							}
-						};
-						SafeRunner.run(runnable);
+					List<IRegion[]> chunks= SpellingRegionSplitter.split(document, regions, fPreferences.getInt(PREFERENCE_SPELLING_PARALLELISM));
+					if (chunks.size() > 1) {
+						checkInParallel(document, chunks, context, collector, monitor);
+					} else {
+						ISpellingEngine engine= createEngine(fPreferences);
+						if (engine != null) {
+							check(engine, document, regions, context, collector, monitor);
+						}
 					}
 				} catch (CoreException x) {
 					TextEditorPlugin.getDefault().getLog().log(x.getStatus());
@@ -122,6 +184,97 @@ public class SpellingService {
 		}
 	}
 
+	/**
+	 * Checks the given chunks of regions in parallel, each with its own
+	 * spelling engine. The problems are reported to the collector in the
+	 * calling thread, in the order of the chunks.
+	 *
+	 * @param document the document to check
+	 * @param chunks the chunks of regions to check
+	 * @param context the context
+	 * @param collector the problem collector
+	 * @param monitor the progress monitor, can be <code>null</code>
+	 * @throws CoreException if the creation of a spelling engine failed
+	 * @since 3.20
+	 */
+	private void checkInParallel(IDocument document, List<IRegion[]> chunks, SpellingContext context, ISpellingProblemCollector collector, IProgressMonitor monitor) throws CoreException {
+		BufferingCollector[] collectors= new BufferingCollector[chunks.size()];
+		ISpellingEngine[] engines= new ISpellingEngine[chunks.size()];
+		for (int i= 0; i < engines.length; i++) {
+			engines[i]= createEngine(fPreferences);
+			if (engines[i] == null) {
+				return;
+			}
+			collectors[i]= new BufferingCollector();
+		}
+
+		List<CompletableFuture<Void>> futures= new ArrayList<>(chunks.size() - 1);
+		for (int i= 1; i < engines.length; i++) {
+			int chunk= i;
+			futures.add(CompletableFuture.runAsync(() -> {
+				if (monitor == null || !monitor.isCanceled()) {
+					check(engines[chunk], document, chunks.get(chunk), context, collectors[chunk], monitor);
+				}
+			}, getExecutor()));
+		}
+		check(engines[0], document, chunks.get(0), context, collectors[0], monitor);
+		for (CompletableFuture<Void> future : futures) {
+			future.join();
+		}
+
+		for (BufferingCollector chunkCollector : collectors) {
+			for (SpellingProblem problem : chunkCollector.fProblems) {
+				collector.accept(problem);
+			}
+		}
+	}
+
+	/**
+	 * Returns the executor checking the chunks of parallel checks. The executor
+	 * has a bounded number of threads, so that parallel checks of several
+	 * editors do not occupy more threads.
+	 *
+	 * @return the executor
+	 * @since 3.20
+	 */
+	private static synchronized ExecutorService getExecutor() {
+		if (fgExecutor == null) {
+			AtomicInteger count= new AtomicInteger();
+			ThreadPoolExecutor executor= new ThreadPoolExecutor(MAX_THREADS, MAX_THREADS, 10, TimeUnit.SECONDS, new LinkedBlockingQueue<>(), runnable -> {
+				Thread thread= new Thread(runnable, "Spelling Checker " + count.incrementAndGet()); //$NON-NLS-1$
+				thread.setDaemon(true);
+				return thread;
+			});
+			executor.allowCoreThreadTimeOut(true);
+			fgExecutor= executor;
+		}
+		return fgExecutor;
+	}
+
+	/**
+	 * Checks the given regions with the given engine.
+	 *
+	 * @param engine the spelling engine
+	 * @param document the document to check
+	 * @param regions the regions to check
+	 * @param context the context
+	 * @param collector the problem collector
+	 * @param monitor the progress monitor, can be <code>null</code>
+	 * @since 3.20
+	 */
+	private static void check(final ISpellingEngine engine, final IDocument document, final IRegion[] regions, final SpellingContext context, final ISpellingProblemCollector collector, final IProgressMonitor monitor) {
+		ISafeRunnable runnable= new ISafeRunnable() {
+			@Override
+			public void run() throws Exception {
+				engine.check(document, regions, context, collector, monitor);
+			}
+			@Override
+			public void handleException(Throwable x) {
+			}
+		};
+		SafeRunner.run(runnable);
+	}
+
 	/**
 	 * Returns all spelling engine descriptors from extensions to the
 	 * spelling engine extension point.
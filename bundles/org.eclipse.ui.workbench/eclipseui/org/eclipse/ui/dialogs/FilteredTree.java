@@ -16,6 +16,9 @@
  *******************************************************************************/
 package org.eclipse.ui.dialogs;
 
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Set;
 import org.eclipse.core.runtime.IProgressMonitor;
 import org.eclipse.core.runtime.IStatus;
 import org.eclipse.core.runtime.Status;
@@ -24,7 +27,9 @@ import org.eclipse.jface.action.ToolBarManager;
 import org.eclipse.jface.resource.JFaceResources;
 import org.eclipse.jface.viewers.AbstractFilteredViewerComposite;
 import org.eclipse.jface.viewers.IContentProvider;
+import org.eclipse.jface.viewers.ILabelProvider;
 import org.eclipse.jface.viewers.ISelection;
+import org.eclipse.jface.viewers.ITreeContentProvider;
 import org.eclipse.jface.viewers.TreeViewer;
 import org.eclipse.osgi.util.NLS;
 import org.eclipse.swt.SWT;
@@ -112,6 +117,39 @@ public class FilteredTree extends AbstractFilteredViewerComposite<PatternFilter>
 	 */
 	private static final long DEFAULT_REFRESH_TIME = 200;
 
+	/**
+	 * Maximum time spent expanding the tree in one run of the expand job, when
+	 * the matching elements are computed in the background
+	 */
+	private static final long EXPAND_BATCH_TIME = 20;
+
+	/**
+	 * Whether the matching elements are computed in a background job.
+	 */
+	private boolean backgroundMatching = false;
+
+	/**
+	 * The job computing the matching elements in the background, or
+	 * <code>null</code>.
+	 */
+	private Job matchJob;
+
+	/**
+	 * The job expanding the matching elements in batches, or <code>null</code>.
+	 */
+	private Job expandJob;
+
+	/**
+	 * Incremented whenever the filter text changes, so that outdated matches are
+	 * not applied.
+	 */
+	private int matchGeneration;
+
+	/**
+	 * Whether the tree is refreshed with the matches computed in the background.
+	 */
+	private boolean applyingMatches;
+
 	/**
 	 * Create a new instance of the receiver. Subclasses that wish to override the
 	 * default creation behavior may use this constructor, but must ensure that the
@@ -323,7 +361,10 @@ public class FilteredTree extends AbstractFilteredViewerComposite<PatternFilter>
 		treeViewer = doCreateTreeViewer(parent, style);
 		GridData data = new GridData(SWT.FILL, SWT.FILL, true, true);
 		treeViewer.getControl().setLayoutData(data);
-		treeViewer.getControl().addDisposeListener(e -> refreshJob.cancel());
+		treeViewer.getControl().addDisposeListener(e -> {
+			refreshJob.cancel();
+			cancelBackgroundMatching();
+		});
 		if (treeViewer instanceof NotifyingTreeViewer) {
 			getPatternFilter().setUseCache(true);
 		}
@@ -625,9 +666,214 @@ public class FilteredTree extends AbstractFilteredViewerComposite<PatternFilter>
 		previousFilterText = getFilterString();
 		// cancel currently running job first, to prevent unnecessary redraw
 		refreshJob.cancel();
+		if (backgroundMatching) {
+			cancelBackgroundMatching();
+			if (scheduleMatchJob()) {
+				return;
+			}
+		}
 		refreshJob.schedule(getRefreshJobDelay());
 	}
 
+	/**
+	 * Sets whether the elements matching the filter text are computed in a
+	 * background job. The tree is then refreshed with the computed elements, and
+	 * the matching elements are expanded in small batches, so that the UI stays
+	 * responsive for large trees. Typing cancels the running computation.
+	 * <p>
+	 * In this mode the <code>getElements</code> and <code>getChildren</code>
+	 * methods of the content provider and the <code>getText</code> method of the
+	 * label provider are called in a background thread, so they must not access
+	 * any widget. The content provider must be an {@link ITreeContentProvider}
+	 * and the label provider an {@link ILabelProvider}, otherwise the tree is
+	 * filtered in the UI thread. The elements are matched by their labels, see
+	 * {@link PatternFilter#wordMatches(String)}; pattern filters which override
+	 * {@link PatternFilter#isElementVisible(org.eclipse.jface.viewers.Viewer, Object)}
+	 * or {@link PatternFilter#isLeafMatch(org.eclipse.jface.viewers.Viewer, Object)}
+	 * should not be used in this mode. The computed labels are cached until the
+	 * content of the tree changes.
+	 * </p>
+	 * <p>
+	 * By default, this is set to <code>false</code>.
+	 * </p>
+	 *
+	 * @param enabled <code>true</code> if the matching elements are computed in
+	 *                a background job, <code>false</code> if the tree is
+	 *                filtered in the UI thread
+	 * @since 3.137
+	 */
+	public void setBackgroundMatching(boolean enabled) {
+		if (!enabled) {
+			cancelBackgroundMatching();
+			getPatternFilter().clearMatches();
+		}
+		this.backgroundMatching = enabled;
+	}
+
+	/**
+	 * Returns whether the elements matching the filter text are computed in a
+	 * background job.
+	 *
+	 * @return <code>true</code> if the matching elements are computed in a
+	 *         background job
+	 * @see #setBackgroundMatching(boolean)
+	 * @since 3.137
+	 */
+	public boolean isBackgroundMatching() {
+		return backgroundMatching;
+	}
+
+	/**
+	 * Cancels the computation and the expansion of the matching elements.
+	 */
+	private void cancelBackgroundMatching() {
+		matchGeneration++;
+		if (matchJob != null) {
+			matchJob.cancel();
+			matchJob = null;
+		}
+		if (expandJob != null) {
+			expandJob.cancel();
+			expandJob = null;
+		}
+	}
+
+	/**
+	 * Schedules a job computing the elements which match the current filter text.
+	 *
+	 * @return <code>false</code> if the tree has to be refreshed by the refresh
+	 *         job instead
+	 */
+	private boolean scheduleMatchJob() {
+		String text = getFilterString();
+		if (text == null || text.isEmpty() || text.equals(initialText)
+				|| !(treeViewer.getContentProvider() instanceof ITreeContentProvider contentProvider)
+				|| !(treeViewer.getLabelProvider() instanceof ILabelProvider labelProvider)) {
+			return false;
+		}
+		PatternFilter filter = getPatternFilter();
+		filter.setPattern(text);
+		Object input = treeViewer.getInput();
+		// labels can only be kept if changes of the content are noticed
+		boolean cacheLabels = treeViewer instanceof NotifyingTreeViewer;
+		int generation = matchGeneration;
+		Display display = getDisplay();
+		matchJob = Job.create("Match Filter", monitor -> { //$NON-NLS-1$
+			Set<Object> matches = filter.computeMatches(input, contentProvider, labelProvider, cacheLabels,
+					monitor);
+			if (matches != null && !display.isDisposed()) {
+				display.asyncExec(() -> applyMatches(generation, matches));
+			}
+		});
+		matchJob.setSystem(true);
+		matchJob.schedule(getRefreshJobDelay());
+		return true;
+	}
+
+	/**
+	 * Refreshes the tree with the matching elements computed in the background,
+	 * and schedules their expansion.
+	 *
+	 * @param generation the generation the matches were computed for
+	 * @param matches    the visible elements
+	 */
+	private void applyMatches(int generation, Set<Object> matches) {
+		if (generation != matchGeneration || treeViewer.getControl().isDisposed()) {
+			return;
+		}
+		matchJob = null;
+		Control redrawFalseControl = treeComposite != null ? treeComposite : treeViewer.getControl();
+		try {
+			redrawFalseControl.setRedraw(false);
+			if (!narrowingDown) {
+				// collapse all
+				for (TreeItem item : treeViewer.getTree().getItems()) {
+					if (item.getExpanded()) {
+						treeViewer.setExpandedState(item.getData(), false);
+					}
+				}
+			}
+			getPatternFilter().setMatches(matches);
+			applyingMatches = true;
+			try {
+				treeViewer.refresh(true);
+			} finally {
+				applyingMatches = false;
+			}
+			updateToolbar(true);
+			TreeItem[] items = treeViewer.getTree().getItems();
+			if (items.length > 0 && treeViewer.getTree().getSelectionCount() == 0) {
+				treeViewer.getTree().setTopItem(items[0]);
+			}
+		} finally {
+			redrawFalseControl.setRedraw(true);
+		}
+		expandJob = new ExpandJob(generation);
+		expandJob.schedule();
+	}
+
+	/**
+	 * Expands the items of the tree, spending at most
+	 * {@link FilteredTree#EXPAND_BATCH_TIME} per run, and reschedules itself
+	 * until all items are expanded.
+	 */
+	private final class ExpandJob extends WorkbenchJob {
+
+		private final int generation;
+
+		/**
+		 * The items still to expand, the next one first.
+		 */
+		private final Deque<TreeItem> items = new ArrayDeque<>();
+
+		private boolean selectionUpdated;
+
+		ExpandJob(int generation) {
+			super("Expand Filter"); //$NON-NLS-1$
+			this.generation = generation;
+			setSystem(true);
+			pushItems(treeViewer.getTree().getItems());
+		}
+
+		private void pushItems(TreeItem[] children) {
+			for (int i = children.length - 1; i >= 0; i--) {
+				items.push(children[i]);
+			}
+		}
+
+		@Override
+		public IStatus runInUIThread(IProgressMonitor monitor) {
+			if (monitor.isCanceled() || generation != matchGeneration || treeViewer.getControl().isDisposed()) {
+				return Status.CANCEL_STATUS;
+			}
+			long stopTime = System.currentTimeMillis() + EXPAND_BATCH_TIME;
+			while (!items.isEmpty() && System.currentTimeMillis() <= stopTime) {
+				TreeItem item = items.pop();
+				Object itemData = item.isDisposed() ? null : item.getData();
+				if (itemData != null) {
+					if (!item.getExpanded()) {
+						// do the expansion through the viewer so that
+						// it can refresh children appropriately.
+						treeViewer.setExpandedState(itemData, true);
+					}
+					pushItems(item.getItems());
+				}
+			}
+			if (!selectionUpdated && quickSelectionMode) {
+				selectionUpdated = true;
+				updateTreeSelection(false);
+			}
+			if (items.isEmpty()) {
+				// newly revealed elements are matched again
+				getPatternFilter().setMatches(null);
+				expandJob = null;
+			} else {
+				schedule();
+			}
+			return Status.OK_STATUS;
+		}
+	}
+
 	@Override
 	public final PatternFilter getPatternFilter() {
 		return (PatternFilter) super.getPatternFilter();
@@ -702,93 +948,100 @@ public class FilteredTree extends AbstractFilteredViewerComposite<PatternFilter>
 			super(parent, style);
 		}
 
+		private void contentChanged() {
+			getPatternFilter().clearCaches();
+			if (!applyingMatches) {
+				getPatternFilter().clearMatches();
+			}
+		}
+
 		@Override
 		public void add(Object parentElementOrTreePath, Object childElement) {
-			getPatternFilter().clearCaches();
+			contentChanged();
 			super.add(parentElementOrTreePath, childElement);
 		}
 
 		@Override
 		public void add(Object parentElementOrTreePath, Object... childElements) {
-			getPatternFilter().clearCaches();
+			contentChanged();
 			super.add(parentElementOrTreePath, childElements);
 		}
 
 		@Override
 		protected void inputChanged(Object input, Object oldInput) {
-			getPatternFilter().clearCaches();
+			contentChanged();
 			super.inputChanged(input, oldInput);
 		}
 
 		@Override
 		public void insert(Object parentElementOrTreePath, Object element, int position) {
-			getPatternFilter().clearCaches();
+			contentChanged();
 			super.insert(parentElementOrTreePath, element, position);
 		}
 
 		@Override
 		public void refresh() {
-			getPatternFilter().clearCaches();
+			contentChanged();
 			super.refresh();
 		}
 
 		@Override
 		public void refresh(boolean updateLabels) {
-			getPatternFilter().clearCaches();
+			contentChanged();
 			super.refresh(updateLabels);
 		}
 
 		@Override
 		public void refresh(Object element) {
-			getPatternFilter().clearCaches();
+			contentChanged();
 			super.refresh(element);
 		}
 
 		@Override
 		public void refresh(Object element, boolean updateLabels) {
-			getPatternFilter().clearCaches();
+			contentChanged();
 			super.refresh(element, updateLabels);
 		}
 
 		@Override
 		public void remove(Object elementsOrTreePaths) {
-			getPatternFilter().clearCaches();
+			contentChanged();
 			super.remove(elementsOrTreePaths);
 		}
 
 		@Override
 		public void remove(Object parent, Object... elements) {
-			getPatternFilter().clearCaches();
+			contentChanged();
 			super.remove(parent, elements);
 		}
 
 		@Override
 		public void remove(Object... elementsOrTreePaths) {
-			getPatternFilter().clearCaches();
+			contentChanged();
 			super.remove(elementsOrTreePaths);
 		}
 
 		@Override
 		public void replace(Object parentElementOrTreePath, int index, Object element) {
-			getPatternFilter().clearCaches();
+			contentChanged();
 			super.replace(parentElementOrTreePath, index, element);
 		}
 
 		@Override
 		public void setChildCount(Object elementOrTreePath, int count) {
-			getPatternFilter().clearCaches();
+			contentChanged();
 			super.setChildCount(elementOrTreePath, count);
 		}
 
 		@Override
 		public void setContentProvider(IContentProvider provider) {
-			getPatternFilter().clearCaches();
+			contentChanged();
 			super.setContentProvider(provider);
 		}
 
 		@Override
 		public void setHasChildren(Object elementOrTreePath, boolean hasChildren) {
-			getPatternFilter().clearCaches();
+			contentChanged();
 			super.setHasChildren(elementOrTreePath, hasChildren);
 		}
 
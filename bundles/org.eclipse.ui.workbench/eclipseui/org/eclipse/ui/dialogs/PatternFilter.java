@@ -16,7 +16,11 @@
 package org.eclipse.ui.dialogs;
 
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import org.eclipse.core.runtime.IProgressMonitor;
 import org.eclipse.core.text.StringMatcher;
 import org.eclipse.jface.viewers.AbstractTreeViewer;
 import org.eclipse.jface.viewers.ContentViewer;
@@ -59,8 +63,33 @@ public class PatternFilter extends ViewerFilter {
 	 */
 	private StringMatcher matcher;
 
+	/**
+	 * The pattern string of the matcher, or <code>null</code> if there is no
+	 * matcher.
+	 */
+	private String patternString;
+
+	/**
+	 * Whether the matcher has a leading wildcard.
+	 */
+	private boolean matcherHasLeadingWildcard;
+
 	private boolean useEarlyReturnIfMatcherIsNull = true;
 
+	/*
+	 * The visible elements computed in the background, or null if the elements
+	 * are matched when they are filtered
+	 */
+	private Set<Object> matches;
+
+	/*
+	 * Cache of the labels computed in the background, by element; NO_LABEL
+	 * stands for a null label
+	 */
+	private final Map<Object, Object> labels = new ConcurrentHashMap<>();
+
+	private static final Object NO_LABEL = new Object();
+
 	private static Object[] EMPTY = new Object[0];
 
 	@Override
@@ -135,6 +164,9 @@ public class PatternFilter extends ViewerFilter {
 
 	@Override
 	public final boolean select(Viewer viewer, Object parentElement, Object element) {
+		if (matches != null) {
+			return matches.contains(element);
+		}
 		return isElementVisible(viewer, element);
 	}
 
@@ -163,9 +195,14 @@ public class PatternFilter extends ViewerFilter {
 			useEarlyReturnIfMatcherIsNull = false;
 			return;
 		}
-		clearCaches();
+		String oldPatternString = this.patternString;
+		boolean oldLeadingWildcard = matcherHasLeadingWildcard;
+		cache.clear();
+		foundAnyCache.clear();
+		matches = null;
 		if (patternString == null || patternString.isEmpty()) {
 			matcher = null;
+			this.patternString = null;
 		} else {
 			String pattern = patternString;
 			if (!patternString.endsWith(" ")) { //$NON-NLS-1$
@@ -175,7 +212,38 @@ public class PatternFilter extends ViewerFilter {
 				pattern = "*" + pattern; //$NON-NLS-1$
 			}
 			matcher = new StringMatcher(pattern.trim(), true, false);
+			this.patternString = patternString;
 		}
+		matcherHasLeadingWildcard = includeLeadingWildcard;
+		filterChanged(oldLeadingWildcard == matcherHasLeadingWildcard
+				&& isNarrowing(oldPatternString, this.patternString));
+	}
+
+	/**
+	 * Returns whether changing the pattern from the given old to the given new
+	 * pattern string is narrowing, which means that every element which did not
+	 * match the old pattern does not match the new one either. If so, elements
+	 * which have been filtered out are not tested again.
+	 * <p>
+	 * The default implementation returns <code>true</code> if there was no
+	 * pattern before, or if the new pattern extends the old one and the old one
+	 * did not end with a space. Subclasses whose matching is not narrowed by
+	 * extending the pattern should override this method and return
+	 * <code>false</code>.
+	 * </p>
+	 *
+	 * @param oldPattern the old pattern string, or <code>null</code> if there
+	 *                   was no pattern
+	 * @param newPattern the new pattern string, or <code>null</code> if there is
+	 *                   no pattern
+	 * @return <code>true</code> if the change is narrowing
+	 * @since 3.137
+	 */
+	protected boolean isNarrowing(String oldPattern, String newPattern) {
+		if (oldPattern == null) {
+			return true;
+		}
+		return newPattern != null && newPattern.startsWith(oldPattern) && !oldPattern.endsWith(" "); //$NON-NLS-1$
 	}
 
 	/**
@@ -185,6 +253,97 @@ public class PatternFilter extends ViewerFilter {
 	/* package */ void clearCaches() {
 		cache.clear();
 		foundAnyCache.clear();
+		discardCachedResult(null);
+	}
+
+	/**
+	 * Discards the visible elements and the labels computed in the background.
+	 * Needs to be called whenever the tree content changes.
+	 */
+	/* package */ void clearMatches() {
+		matches = null;
+		labels.clear();
+	}
+
+	/**
+	 * Sets the visible elements computed by
+	 * {@link #computeMatches(Object, ITreeContentProvider, ILabelProvider, boolean, IProgressMonitor)}.
+	 * While set, elements are selected if they are contained in the given set,
+	 * instead of being matched.
+	 *
+	 * @param matches the visible elements, or <code>null</code> to match the
+	 *                elements again
+	 */
+	/* package */ void setMatches(Set<Object> matches) {
+		this.matches = matches;
+	}
+
+	/**
+	 * Computes the elements which are visible with the current pattern. An
+	 * element is visible if its label matches the pattern or if any of its
+	 * children is visible, as in {@link #isElementVisible(Viewer, Object)}.
+	 * <p>
+	 * This method is called in a background job and does not use the viewer,
+	 * only the given content and label provider. Overrides of
+	 * {@link #isElementVisible(Viewer, Object)}, {@link #isParentMatch(Viewer, Object)}
+	 * and {@link #isLeafMatch(Viewer, Object)} are not taken into account.
+	 * </p>
+	 *
+	 * @param input           the input of the tree
+	 * @param contentProvider the content provider of the tree
+	 * @param labelProvider   the label provider of the tree
+	 * @param cacheLabels     whether the labels are kept until
+	 *                        {@link #clearMatches()} is called
+	 * @param monitor         the monitor to check for cancellation
+	 * @return the visible elements, or <code>null</code> if cancelled
+	 */
+	/* package */ Set<Object> computeMatches(Object input, ITreeContentProvider contentProvider,
+			ILabelProvider labelProvider, boolean cacheLabels, IProgressMonitor monitor) {
+		Map<Object, Object> labelCache = cacheLabels ? labels : new HashMap<>();
+		Set<Object> visible = new HashSet<>();
+		Object[] elements = contentProvider.getElements(input);
+		if (elements != null) {
+			for (Object element : elements) {
+				collectMatches(element, contentProvider, labelProvider, labelCache, visible, monitor);
+			}
+		}
+		return monitor.isCanceled() ? null : visible;
+	}
+
+	/**
+	 * Adds the given element and its descendants to the visible elements if
+	 * they are visible.
+	 *
+	 * @return true if the element is visible
+	 */
+	private boolean collectMatches(Object element, ITreeContentProvider contentProvider,
+			ILabelProvider labelProvider, Map<Object, Object> labelCache, Set<Object> visible,
+			IProgressMonitor monitor) {
+		if (monitor.isCanceled()) {
+			return false;
+		}
+		boolean found = false;
+		Object[] children = contentProvider.getChildren(element);
+		if (children != null) {
+			for (Object child : children) {
+				if (collectMatches(child, contentProvider, labelProvider, labelCache, visible, monitor)) {
+					found = true;
+				}
+			}
+		}
+		if (!found) {
+			Object label = labelCache.get(element);
+			if (label == null) {
+				String text = labelProvider.getText(element);
+				label = text == null ? NO_LABEL : text;
+				labelCache.put(element, label);
+			}
+			found = label != NO_LABEL && wordMatches((String) label);
+		}
+		if (found) {
+			visible.add(element);
+		}
+		return found;
 	}
 
 	/**
@@ -306,5 +465,6 @@ public class PatternFilter extends ViewerFilter {
 	 */
 	void setUseCache(boolean useCache) {
 		this.useCache = useCache;
+		setCacheResults(useCache);
 	}
 }
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2016, 2019 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -16,6 +16,7 @@
  *******************************************************************************/
 package org.eclipse.ui.internal.decorators;
 
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashSet;
@@ -83,6 +84,8 @@ import org.eclipse.ui.progress.WorkbenchJob;
  * {@link LabelProviderChangedEvent}s for all elements in
  * <code>pendingUpdate</code>. The {@link LabelProviderChangedEvent} causes the
  * respective viewers to trigger an <code>update</code> for the given elements.
+ * The elements are delivered in batches, one per frame, whose size is adapted
+ * to the time the viewers take to update them.
  * </p>
  * <p>
  * Effectively, this again calls
@@ -169,6 +172,21 @@ public class DecorationScheduler {
 	/** Amount of time to delay the update notification when max reached. */
 	private static final int UPDATE_DELAY = 100;
 
+	/**
+	 * Time in nanoseconds the update job may spend in the UI thread per run,
+	 * so that the viewers keep painting at 60 frames per second.
+	 */
+	private static final long FRAME_BUDGET = 16_000_000L;
+
+	/** Amount of time to delay the delivery of the next batch of updates. */
+	private static final int FRAME_DELAY = 16;
+
+	/** Number of elements of the first batch of updates. */
+	private static final int INITIAL_BATCH_SIZE = 500;
+
+	/** Minimum number of elements of a batch of updates. */
+	private static final int MIN_BATCH_SIZE = 50;
+
 	/**
 	 * Flag which is used to indicate that the update job is running in the UI
 	 * thread
@@ -508,6 +526,27 @@ public class DecorationScheduler {
 
 			int currentIndex = NEEDS_INIT;
 
+			/**
+			 * The elements to update, delivered to the listeners in batches.
+			 */
+			Object[] elements;
+
+			int batchStart;
+
+			int batchEnd;
+
+			/**
+			 * The number of elements per batch, adapted to the time the
+			 * listeners take to update them so that a batch fits in a frame.
+			 */
+			int batchSize = INITIAL_BATCH_SIZE;
+
+			/**
+			 * Time in nanoseconds the listeners have taken to update the
+			 * current batch, over all runs delivering it.
+			 */
+			long batchElapsed;
+
 			LabelProviderChangedEvent labelProviderChangedEvent;
 
 			ILabelProviderListener[] listeners;
@@ -541,7 +580,11 @@ public class DecorationScheduler {
 
 					monitor.beginTask(WorkbenchMessages.DecorationScheduler_UpdatingTask, IProgressMonitor.UNKNOWN);
 
-					long startTime = System.currentTimeMillis();
+					// Deliver one batch per run, so that each viewer updates
+					// its elements at once and the display can paint and
+					// handle input before the next batch.
+					long startTime = System.nanoTime();
+					long elapsed = 0;
 					while (currentIndex < listeners.length) {
 						ILabelProviderListener listener = listeners[currentIndex];
 						currentIndex++;
@@ -552,23 +595,33 @@ public class DecorationScheduler {
 						}
 
 						// If it is taking long enough for the user to notice then
-						// cancel the updates.
-						if ((System.currentTimeMillis() - startTime) >= UPDATE_DELAY / 2) {
+						// continue with the remaining listeners in the next frame.
+						elapsed = System.nanoTime() - startTime;
+						if (elapsed >= FRAME_BUDGET) {
 							break;
 						}
 					}
 
 					monitor.done();
 
-					if (currentIndex >= listeners.length) {
-						resetState();
-						if (!hasPendingUpdates()) {
-							scheduleUpdateJob();
-						}
-						labelProviderChangedEvent = null;
-						listeners = EMPTY_LISTENER_LIST;
-					} else {
-						schedule(UPDATE_DELAY);// Reschedule if we are not done
+					batchElapsed += elapsed;
+					if (currentIndex < listeners.length) {
+						// The batch did not fit in the frame, the remaining
+						// listeners are counted in the next run
+						schedule(FRAME_DELAY);
+						return Status.OK_STATUS;
+					}
+
+					adaptBatchSize(batchElapsed);
+					if (batchEnd < elements.length) {
+						nextBatch();
+						schedule(FRAME_DELAY);// Reschedule if we are not done
+						return Status.OK_STATUS;
+					}
+
+					resetState();
+					if (!hasPendingUpdates()) {
+						scheduleUpdateJob();
 					}
 					return Status.OK_STATUS;
 				}
@@ -578,12 +631,32 @@ public class DecorationScheduler {
 				}
 			}
 
+			/**
+			 * Scale the batch size to the frame budget, given the time the
+			 * listeners took to update the current batch in all of its runs.
+			 * The batch size is at most doubled, so that a single fast batch
+			 * does not overshoot.
+			 */
+			private void adaptBatchSize(long elapsed) {
+				int size = batchEnd - batchStart;
+				if (size < batchSize) {
+					// The last batch, too small to tell
+					return;
+				}
+				long perElement = Math.max(1, elapsed / size);
+				long fitting = FRAME_BUDGET / perElement;
+				batchSize = (int) Math.max(MIN_BATCH_SIZE, Math.min(fitting, 2L * batchSize));
+			}
+
 			/**
 			 * Clear any cached information.
 			 */
 			private void resetState() {
 				currentIndex = NEEDS_INIT;// Reset
 				removedListeners.clear();
+				elements = null;
+				labelProviderChangedEvent = null;
+				listeners = EMPTY_LISTENER_LIST;
 				// Other decoration requests may have occurred due to
 				// updates or we may have timed out updating listeners.
 				// Only clear the results if there are none pending.
@@ -596,15 +669,28 @@ public class DecorationScheduler {
 				// Get the elements awaiting update and then
 				// clear the list
 				removedListeners.clear();
-				currentIndex = 0;
 				synchronized (pendingUpdate) {
-					Object[] elements = pendingUpdate.toArray(new Object[pendingUpdate.size()]);
+					elements = pendingUpdate.toArray(new Object[pendingUpdate.size()]);
 					pendingUpdate.clear();
-					labelProviderChangedEvent = new LabelProviderChangedEvent(decoratorManager, elements);
 				}
+				batchEnd = 0;
+				nextBatch();
 				listeners = decoratorManager.getListeners();
 			}
 
+			/**
+			 * Set up the event for the next batch of elements.
+			 */
+			private void nextBatch() {
+				currentIndex = 0;
+				batchElapsed = 0;
+				batchStart = batchEnd;
+				batchEnd = Math.min(elements.length, batchStart + batchSize);
+				Object[] batch = batchStart == 0 && batchEnd == elements.length ? elements
+						: Arrays.copyOfRange(elements, batchStart, batchEnd);
+				labelProviderChangedEvent = new LabelProviderChangedEvent(decoratorManager, batch);
+			}
+
 			@Override
 			public boolean belongsTo(Object family) {
 				return DecoratorManager.FAMILY_DECORATE == family;
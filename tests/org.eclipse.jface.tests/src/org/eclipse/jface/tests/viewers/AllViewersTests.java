@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2017 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -33,7 +33,9 @@ import org.junit.platform.suite.api.Suite;
 		Bug205700TreeViewerTest.class, Bug180504TableViewerTest.class, Bug180504TreeViewerTest.class,
 		Bug256889TableViewerTest.class, Bug287765Test.class, Bug242231Test.class, StyledStringBuilderTest.class,
 		TreeViewerWithLimitTest.class, TreeViewerWithLimitCompatibilityTest.class, TableViewerWithLimitTest.class,
-		TableViewerWithLimitCompatibilityTest.class })
+		TableViewerWithLimitCompatibilityTest.class, KeyedRefreshTreeViewerTest.class, KeyedRefreshTableViewerTest.class,
+		DeferredTreeContentProviderTest.class, ViewerFilterCacheTest.class, ColumnViewerLabelCacheTest.class,
+		TreeViewerBackgroundExpandTest.class, RangeSelectionTest.class, IntHashMapTest.class, ChangeQueueTest.class })
 public class AllViewersTests {
 
 	public static void main(String[] args) {
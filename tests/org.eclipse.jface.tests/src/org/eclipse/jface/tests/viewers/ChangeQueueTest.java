@@ -0,0 +1,209 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jface.tests.viewers;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+
+import org.eclipse.jface.viewers.deferred.LazySortedCollection;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests the package private <code>ChangeQueue</code> of the deferred viewers,
+ * which is accessed by reflection.
+ */
+public class ChangeQueueTest {
+
+	private static final int ADD = 0;
+	private static final int REMOVE = 1;
+	private static final int SET = 2;
+	private static final int UPDATE = 3;
+
+	private static final Class<?> QUEUE_CLASS;
+
+	private static final Class<?> CHANGE_CLASS;
+
+	static {
+		try {
+			ClassLoader loader = LazySortedCollection.class.getClassLoader();
+			QUEUE_CLASS = loader.loadClass("org.eclipse.jface.viewers.deferred.ChangeQueue");
+			CHANGE_CLASS = loader.loadClass("org.eclipse.jface.viewers.deferred.ChangeQueue$Change");
+		} catch (ClassNotFoundException e) {
+			throw new RuntimeException(e);
+		}
+	}
+
+	private Object queue;
+
+	@BeforeEach
+	public void setUp() throws ReflectiveOperationException {
+		Constructor<?> constructor = QUEUE_CLASS.getDeclaredConstructor();
+		constructor.setAccessible(true);
+		queue = constructor.newInstance();
+		// the constants are the ones of the queue
+		assertEquals(ADD, getConstant("ADD"));
+		assertEquals(REMOVE, getConstant("REMOVE"));
+		assertEquals(SET, getConstant("SET"));
+		assertEquals(UPDATE, getConstant("UPDATE"));
+	}
+
+	private static int getConstant(String name) throws ReflectiveOperationException {
+		Field field = QUEUE_CLASS.getDeclaredField(name);
+		field.setAccessible(true);
+		return field.getInt(null);
+	}
+
+	private static Object invoke(Class<?> type, Object target, String name, Class<?>[] types, Object... args) {
+		try {
+			Method method = type.getDeclaredMethod(name, types);
+			method.setAccessible(true);
+			return method.invoke(target, args);
+		} catch (InvocationTargetException e) {
+			throw new RuntimeException(e.getCause());
+		} catch (ReflectiveOperationException e) {
+			throw new RuntimeException(e);
+		}
+	}
+
+	private void enqueue(int type, Object... elements) {
+		invoke(QUEUE_CLASS, queue, "enqueue", new Class<?>[] { int.class, Object[].class }, Integer.valueOf(type),
+				elements);
+	}
+
+	private Object dequeue() {
+		return invoke(QUEUE_CLASS, queue, "dequeue", new Class<?>[0]);
+	}
+
+	private boolean isEmpty() {
+		return ((Boolean) invoke(QUEUE_CLASS, queue, "isEmpty", new Class<?>[0])).booleanValue();
+	}
+
+	/**
+	 * Dequeues the next change and checks its type and elements.
+	 */
+	private void assertNext(int type, Object... elements) {
+		Object change = dequeue();
+		assertNotNull(change, "no change left");
+		assertEquals(type, ((Integer) invoke(CHANGE_CLASS, change, "getType", new Class<?>[0])).intValue());
+		Object[] changeElements = (Object[]) invoke(CHANGE_CLASS, change, "getElements", new Class<?>[0]);
+		assertEquals(elements.length, changeElements.length);
+		for (int i = 0; i < elements.length; i++) {
+			assertSame(elements[i], changeElements[i]);
+		}
+	}
+
+	@Test
+	public void testOrder() {
+		assertTrue(isEmpty());
+		assertNull(dequeue());
+
+		enqueue(ADD, "a");
+		enqueue(REMOVE, "b");
+		enqueue(UPDATE, "c");
+		enqueue(ADD, "d", "e");
+		assertFalse(isEmpty());
+
+		assertNext(ADD, "a");
+		assertNext(REMOVE, "b");
+		assertNext(UPDATE, "c");
+		assertNext(ADD, "d", "e");
+		assertNull(dequeue());
+		assertTrue(isEmpty());
+	}
+
+	@Test
+	public void testSetSkipsEarlierChanges() {
+		enqueue(ADD, "a");
+		enqueue(UPDATE, "u");
+		enqueue(REMOVE, "r");
+		enqueue(SET, "s");
+		enqueue(ADD, "b");
+		enqueue(UPDATE, "v");
+
+		// updates are kept, since they are not made redundant by the set
+		assertNext(UPDATE, "u");
+		assertNext(SET, "s");
+		assertNext(ADD, "b");
+		assertNext(UPDATE, "v");
+		assertNull(dequeue());
+	}
+
+	@Test
+	public void testLastSetWins() {
+		enqueue(SET, "s1");
+		enqueue(ADD, "a");
+		enqueue(SET, "s2");
+		enqueue(REMOVE, "r");
+
+		assertNext(SET, "s2");
+		assertNext(REMOVE, "r");
+		assertNull(dequeue());
+	}
+
+	@Test
+	public void testSetAfterDequeue() {
+		enqueue(ADD, "a");
+		assertNext(ADD, "a");
+
+		enqueue(REMOVE, "a");
+		enqueue(SET, "s");
+		assertNext(SET, "s");
+
+		// changes after a dequeued set are not skipped
+		enqueue(ADD, "b");
+		assertNext(ADD, "b");
+		assertNull(dequeue());
+	}
+
+	@Test
+	public void testConcurrentEnqueue() throws InterruptedException {
+		int threadCount = 4;
+		int changeCount = 1000;
+		Thread[] threads = new Thread[threadCount];
+		for (int t = 0; t < threadCount; t++) {
+			Integer thread = Integer.valueOf(t);
+			threads[t] = new Thread(() -> {
+				for (int i = 0; i < changeCount; i++) {
+					enqueue(ADD, thread, Integer.valueOf(i));
+				}
+			});
+			threads[t].start();
+		}
+		for (Thread thread : threads) {
+			thread.join();
+		}
+
+		// all changes arrive, those of each thread in the order they were made
+		int[] next = new int[threadCount];
+		Object change;
+		while ((change = dequeue()) != null) {
+			Object[] elements = (Object[]) invoke(CHANGE_CLASS, change, "getElements", new Class<?>[0]);
+			int thread = ((Integer) elements[0]).intValue();
+			assertEquals(next[thread]++, ((Integer) elements[1]).intValue());
+		}
+		for (int t = 0; t < threadCount; t++) {
+			assertEquals(changeCount, next[t]);
+		}
+	}
+}
@@ -0,0 +1,137 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jface.tests.viewers;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.eclipse.jface.viewers.ArrayContentProvider;
+import org.eclipse.jface.viewers.ColumnLabelProvider;
+import org.eclipse.jface.viewers.LabelProviderChangedEvent;
+import org.eclipse.jface.viewers.TableViewer;
+import org.eclipse.jface.viewers.TableViewerColumn;
+import org.eclipse.swt.SWT;
+import org.eclipse.swt.widgets.Shell;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests the label cache of a {@link TableViewer}.
+ */
+public class ColumnViewerLabelCacheTest {
+
+	private static final String[] ELEMENTS = { "a", "b", "c" };
+
+	private Shell shell;
+	private TableViewer viewer;
+	private CountingLabelProvider first;
+	private CountingLabelProvider second;
+
+	/**
+	 * Labels the elements with a prefix, and records the labelled elements.
+	 */
+	private static class CountingLabelProvider extends ColumnLabelProvider {
+
+		final List<Object> labelled = new ArrayList<>();
+
+		String prefix;
+
+		CountingLabelProvider(String prefix) {
+			this.prefix = prefix;
+		}
+
+		@Override
+		public String getText(Object element) {
+			labelled.add(element);
+			return prefix + element;
+		}
+
+		void setPrefix(String prefix) {
+			this.prefix = prefix;
+			fireLabelProviderChanged(new LabelProviderChangedEvent(this));
+		}
+	}
+
+	@BeforeEach
+	public void setUp() {
+		shell = new Shell();
+		viewer = new TableViewer(shell, SWT.FULL_SELECTION);
+		first = new CountingLabelProvider("1:");
+		second = new CountingLabelProvider("2:");
+		new TableViewerColumn(viewer, SWT.NONE).setLabelProvider(first);
+		new TableViewerColumn(viewer, SWT.NONE).setLabelProvider(second);
+		viewer.setContentProvider(ArrayContentProvider.getInstance());
+		viewer.setLabelCacheSize(10);
+		viewer.setInput(ELEMENTS);
+	}
+
+	@AfterEach
+	public void tearDown() {
+		shell.dispose();
+	}
+
+	@Test
+	public void testRefreshUsesCachedLabels() {
+		assertEquals(ELEMENTS.length, first.labelled.size());
+		assertEquals(ELEMENTS.length, second.labelled.size());
+		first.labelled.clear();
+		second.labelled.clear();
+
+		viewer.refresh();
+		assertEquals(0, first.labelled.size());
+		assertEquals(0, second.labelled.size());
+		assertEquals("1:b", viewer.getTable().getItem(1).getText(0));
+		assertEquals("2:b", viewer.getTable().getItem(1).getText(1));
+		assertTrue(viewer.getLabelCacheHits() >= 2 * ELEMENTS.length);
+		assertEquals(2 * ELEMENTS.length, viewer.getLabelCacheMisses());
+	}
+
+	@Test
+	public void testUpdateDiscardsElementLabels() {
+		first.labelled.clear();
+		viewer.update("b", null);
+		viewer.refresh();
+		assertEquals(List.of("b"), first.labelled);
+	}
+
+	@Test
+	public void testLabelProviderChangeDiscardsLabels() {
+		first.labelled.clear();
+		first.setPrefix("x:");
+		assertEquals("x:a", viewer.getTable().getItem(0).getText(0));
+		assertEquals(ELEMENTS.length, first.labelled.size());
+	}
+
+	@Test
+	public void testEviction() {
+		viewer.setLabelCacheSize(2);
+		viewer.refresh();
+		first.labelled.clear();
+		// only the labels of the two most recently shown elements are cached
+		viewer.refresh();
+		assertEquals(ELEMENTS.length, first.labelled.size());
+		assertEquals(2, viewer.getLabelCacheSize());
+	}
+
+	@Test
+	public void testDisabledByDefault() {
+		TableViewer other = new TableViewer(shell);
+		assertEquals(0, other.getLabelCacheSize());
+		assertEquals(0, other.getLabelCacheHits());
+	}
+}
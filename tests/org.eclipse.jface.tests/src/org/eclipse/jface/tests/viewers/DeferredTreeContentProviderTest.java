@@ -0,0 +1,219 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jface.tests.viewers;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.eclipse.jface.viewers.ITreeContentProvider;
+import org.eclipse.jface.viewers.StructuredViewer;
+import org.eclipse.jface.viewers.TreeViewer;
+import org.eclipse.jface.viewers.deferred.DeferredTreeContentProvider;
+import org.eclipse.jface.viewers.deferred.DeferredTreeContentProvider.PendingElement;
+import org.eclipse.swt.SWT;
+import org.eclipse.swt.widgets.Composite;
+import org.eclipse.swt.widgets.Event;
+import org.eclipse.swt.widgets.Tree;
+import org.eclipse.swt.widgets.TreeItem;
+import org.junit.Test;
+
+/**
+ * Tests a virtual TreeViewer with a {@link DeferredTreeContentProvider}.
+ */
+public class DeferredTreeContentProviderTest extends ViewerTestCase {
+
+	private static final int NUM_ROOTS = 100;
+	private static final int NUM_CHILDREN = 10;
+
+	/**
+	 * The fetches which have not been run yet.
+	 */
+	private final List<Runnable> fetches = new ArrayList<>();
+
+	private final List<Thread> fetchThreads = new ArrayList<>();
+
+	private DeferredTreeContentProvider contentProvider;
+
+	private static class StringTreeContentProvider implements ITreeContentProvider {
+
+		@Override
+		public Object[] getElements(Object inputElement) {
+			return createChildren((String) inputElement, NUM_ROOTS);
+		}
+
+		@Override
+		public Object[] getChildren(Object parentElement) {
+			return createChildren((String) parentElement, NUM_CHILDREN);
+		}
+
+		@Override
+		public Object getParent(Object element) {
+			String string = (String) element;
+			return string.substring(0, string.lastIndexOf('-'));
+		}
+
+		@Override
+		public boolean hasChildren(Object element) {
+			return true;
+		}
+
+		private static Object[] createChildren(String parent, int count) {
+			Object[] children = new Object[count];
+			for (int i = 0; i < count; i++) {
+				children[i] = parent + "-" + i;
+			}
+			return children;
+		}
+	}
+
+	public TreeViewer getTreeViewer() {
+		return (TreeViewer) fViewer;
+	}
+
+	@Override
+	protected void setInput() {
+		getTreeViewer().setInput("R");
+	}
+
+	@Override
+	protected StructuredViewer createViewer(Composite parent) {
+		Tree tree = new Tree(fShell, SWT.VIRTUAL | SWT.MULTI);
+		TreeViewer treeViewer = new TreeViewer(tree);
+		treeViewer.setUseHashlookup(true);
+		contentProvider = new DeferredTreeContentProvider(new StringTreeContentProvider(), fetches::add);
+		treeViewer.setContentProvider(contentProvider);
+		return treeViewer;
+	}
+
+	/**
+	 * Runs the queued fetches in a background thread and waits for their
+	 * results to be shown.
+	 */
+	private void runFetches() throws InterruptedException {
+		List<Runnable> toRun = new ArrayList<>(fetches);
+		fetches.clear();
+		for (Runnable fetch : toRun) {
+			Thread thread = new Thread(() -> {
+				fetchThreads.add(Thread.currentThread());
+				fetch.run();
+			});
+			thread.start();
+			thread.join();
+		}
+		processEvents();
+	}
+
+	private static void collapseAndNotify(TreeItem treeItem) {
+		treeItem.setExpanded(false);
+		Event event = new Event();
+		event.item = treeItem;
+		event.type = SWT.Collapse;
+		treeItem.getParent().notifyListeners(SWT.Collapse, event);
+	}
+
+	@Test
+	public void testPendingUntilFetched() throws InterruptedException {
+		Tree tree = getTreeViewer().getTree();
+		assertEquals(1, tree.getItemCount());
+		assertTrue(tree.getItem(0).getData() instanceof PendingElement);
+		assertTrue(contentProvider.isFetching("R"));
+
+		runFetches();
+		assertFalse(contentProvider.isFetching("R"));
+		assertEquals(NUM_ROOTS, tree.getItemCount());
+		assertEquals("R-0", tree.getItem(0).getText());
+		assertNotEquals(fShell.getDisplay().getThread(), fetchThreads.get(0));
+	}
+
+	@Test
+	public void testExpandFetchesChildren() throws InterruptedException {
+		runFetches();
+		Tree tree = getTreeViewer().getTree();
+		getTreeViewer().expandToLevel("R-0", 1);
+		processEvents();
+		TreeItem item = tree.getItem(0);
+		assertTrue(contentProvider.isFetching("R-0"));
+		assertEquals(1, item.getItemCount());
+		assertTrue(item.getItem(0).getData() instanceof PendingElement);
+
+		runFetches();
+		assertEquals(NUM_CHILDREN, item.getItemCount());
+		assertTrue(item.getExpanded());
+		assertEquals("R-0-0", item.getItem(0).getText());
+		assertEquals("R-0-3", item.getItem(3).getText());
+	}
+
+	@Test
+	public void testRefreshKeepsExpansion() throws InterruptedException {
+		runFetches();
+		Tree tree = getTreeViewer().getTree();
+		getTreeViewer().expandToLevel("R-0", 1);
+		processEvents();
+		runFetches();
+		TreeItem item = tree.getItem(0);
+		assertTrue(item.getExpanded());
+
+		contentProvider.refresh("R-0");
+		assertTrue(contentProvider.isFetching("R-0"));
+		assertTrue(item.getExpanded());
+		runFetches();
+		assertEquals(NUM_CHILDREN, item.getItemCount());
+		assertTrue(item.getExpanded());
+	}
+
+	@Test
+	public void testCollapseCancelsFetch() throws InterruptedException {
+		runFetches();
+		Tree tree = getTreeViewer().getTree();
+		getTreeViewer().expandToLevel("R-0", 1);
+		processEvents();
+		TreeItem item = tree.getItem(0);
+		assertTrue(contentProvider.isFetching("R-0"));
+
+		collapseAndNotify(item);
+		assertFalse(contentProvider.isFetching("R-0"));
+		// the cancelled fetch does not show its children
+		runFetches();
+		assertEquals(1, item.getItemCount());
+
+		// the children are fetched again on the next expansion
+		getTreeViewer().expandToLevel("R-0", 1);
+		processEvents();
+		assertTrue(contentProvider.isFetching("R-0"));
+		runFetches();
+		assertEquals(NUM_CHILDREN, item.getItemCount());
+	}
+
+	@Test
+	public void testDefaultExecutor() {
+		DeferredTreeContentProvider defaultProvider = new DeferredTreeContentProvider(new StringTreeContentProvider());
+		getTreeViewer().setContentProvider(defaultProvider);
+		getTreeViewer().setInput("S");
+
+		long end = System.currentTimeMillis() + 10000;
+		while (System.currentTimeMillis() < end && defaultProvider.isFetching("S")) {
+			if (!fShell.getDisplay().readAndDispatch()) {
+				Thread.yield();
+			}
+		}
+		assertFalse(defaultProvider.isFetching("S"));
+		assertEquals(NUM_ROOTS, getTreeViewer().getTree().getItemCount());
+		assertEquals("S-0", getTreeViewer().getTree().getItem(0).getText());
+	}
+}
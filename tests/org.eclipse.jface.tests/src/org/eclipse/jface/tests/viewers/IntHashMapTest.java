@@ -0,0 +1,261 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jface.tests.viewers;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.eclipse.jface.viewers.deferred.LazySortedCollection;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests the package private <code>IntHashMap</code> of the deferred viewers,
+ * which is accessed by reflection.
+ */
+public class IntHashMapTest {
+
+	/**
+	 * A key with a given hash code, so that collisions can be provoked.
+	 */
+	private static final class Key {
+
+		private final int hash;
+
+		private final String name;
+
+		Key(int hash, String name) {
+			this.hash = hash;
+			this.name = name;
+		}
+
+		@Override
+		public int hashCode() {
+			return hash;
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			return obj instanceof Key other && name.equals(other.name);
+		}
+
+		@Override
+		public String toString() {
+			return name;
+		}
+	}
+
+	private static final Class<?> MAP_CLASS;
+
+	static {
+		try {
+			MAP_CLASS = LazySortedCollection.class.getClassLoader()
+					.loadClass("org.eclipse.jface.viewers.deferred.IntHashMap");
+		} catch (ClassNotFoundException e) {
+			throw new RuntimeException(e);
+		}
+	}
+
+	private Object map;
+
+	@BeforeEach
+	public void setUp() {
+		map = newMap();
+	}
+
+	private static Object newMap() {
+		try {
+			Constructor<?> constructor = MAP_CLASS.getDeclaredConstructor();
+			constructor.setAccessible(true);
+			return constructor.newInstance();
+		} catch (ReflectiveOperationException e) {
+			throw new RuntimeException(e);
+		}
+	}
+
+	private static Object invoke(Object target, String name, Class<?>[] types, Object... args) {
+		try {
+			Method method = MAP_CLASS.getDeclaredMethod(name, types);
+			method.setAccessible(true);
+			return method.invoke(target, args);
+		} catch (InvocationTargetException e) {
+			throw new RuntimeException(e.getCause());
+		} catch (ReflectiveOperationException e) {
+			throw new RuntimeException(e);
+		}
+	}
+
+	private static void put(Object map, Object key, int value) {
+		invoke(map, "put", new Class<?>[] { Object.class, int.class }, key, Integer.valueOf(value));
+	}
+
+	private static int get(Object map, Object key, int defaultValue) {
+		return ((Integer) invoke(map, "get", new Class<?>[] { Object.class, int.class }, key,
+				Integer.valueOf(defaultValue))).intValue();
+	}
+
+	private static boolean containsKey(Object map, Object key) {
+		return ((Boolean) invoke(map, "containsKey", new Class<?>[] { Object.class }, key)).booleanValue();
+	}
+
+	private static void remove(Object map, Object key) {
+		invoke(map, "remove", new Class<?>[] { Object.class }, key);
+	}
+
+	private static int size(Object map) {
+		return ((Integer) invoke(map, "size", new Class<?>[0])).intValue();
+	}
+
+	/**
+	 * Returns the slot where the probe sequence of the given key starts.
+	 */
+	private static int home(Object map, Object key) {
+		try {
+			Field keys = MAP_CLASS.getDeclaredField("keys");
+			keys.setAccessible(true);
+			int mask = ((Object[]) keys.get(map)).length - 1;
+			return ((Integer) invoke(null, "hash", new Class<?>[] { Object.class }, key)).intValue() & mask;
+		} catch (ReflectiveOperationException e) {
+			throw new RuntimeException(e);
+		}
+	}
+
+	/**
+	 * Returns a key whose probe sequence starts at the given slot.
+	 */
+	private Key keyAt(int slot, String name) {
+		for (int hash = 0;; hash++) {
+			Key key = new Key(hash, name);
+			if (home(map, key) == slot) {
+				return key;
+			}
+		}
+	}
+
+	@Test
+	public void testPutGetRemove() {
+		for (int i = 0; i < 1000; i++) {
+			put(map, "key" + i, i);
+		}
+		assertEquals(1000, size(map));
+		for (int i = 0; i < 1000; i++) {
+			assertTrue(containsKey(map, "key" + i));
+			assertEquals(i, get(map, "key" + i, -1));
+		}
+
+		// replacing a value does not add an entry
+		put(map, "key5", 55);
+		assertEquals(55, get(map, "key5", -1));
+		assertEquals(1000, size(map));
+		put(map, "key5", 5);
+
+		for (int i = 0; i < 1000; i += 2) {
+			remove(map, "key" + i);
+		}
+		assertEquals(500, size(map));
+		for (int i = 0; i < 1000; i++) {
+			assertEquals(i % 2 != 0, containsKey(map, "key" + i));
+			assertEquals(i % 2 == 0 ? -1 : i, get(map, "key" + i, -1));
+		}
+
+		// removing an unknown key does nothing
+		remove(map, "unknown");
+		assertEquals(500, size(map));
+		assertEquals(0, ((Integer) invoke(map, "get", new Class<?>[] { Object.class }, "unknown")).intValue());
+	}
+
+	@Test
+	public void testNullKey() {
+		assertFalse(containsKey(map, null));
+		assertEquals(-1, get(map, null, -1));
+
+		put(map, null, 7);
+		put(map, "other", 8);
+		assertTrue(containsKey(map, null));
+		assertEquals(7, get(map, null, -1));
+		assertEquals(2, size(map));
+
+		remove(map, null);
+		assertFalse(containsKey(map, null));
+		assertEquals(8, get(map, "other", -1));
+		assertEquals(1, size(map));
+	}
+
+	/**
+	 * Removes each key of probe sequences which wrap around the end of the table
+	 * and interleave, and checks that all other keys are still found.
+	 */
+	@Test
+	public void testRemoveWithWrapAround() {
+		List<Key> keys = new ArrayList<>();
+		keys.add(keyAt(15, "a1"));
+		keys.add(keyAt(0, "b1"));
+		keys.add(keyAt(15, "a2"));
+		keys.add(keyAt(1, "c1"));
+		keys.add(keyAt(15, "a3"));
+		keys.add(keyAt(0, "b2"));
+		keys.add(keyAt(14, "d1"));
+		keys.add(keyAt(15, "a4"));
+
+		for (Key removed : keys) {
+			Object m = newMap();
+			for (int i = 0; i < keys.size(); i++) {
+				put(m, keys.get(i), i);
+			}
+			remove(m, removed);
+
+			assertEquals(keys.size() - 1, size(m));
+			assertFalse(containsKey(m, removed), removed.toString());
+			for (int i = 0; i < keys.size(); i++) {
+				Key key = keys.get(i);
+				if (key != removed) {
+					assertEquals(i, get(m, key, -1), "after removing " + removed + ": " + key);
+				}
+			}
+
+			// the slot of the removed key is reused
+			put(m, removed, 100);
+			assertEquals(100, get(m, removed, -1));
+			assertEquals(keys.size(), size(m));
+		}
+	}
+
+	@Test
+	public void testRemoveAllCollidingKeys() {
+		List<Key> keys = new ArrayList<>();
+		for (int i = 0; i < 10; i++) {
+			keys.add(keyAt(12, "k" + i));
+		}
+		for (int i = 0; i < keys.size(); i++) {
+			put(map, keys.get(i), i);
+		}
+		// remove from the middle of the probe sequence outwards
+		int[] order = { 5, 4, 6, 3, 7, 2, 8, 1, 9, 0 };
+		for (int n = 0; n < order.length; n++) {
+			remove(map, keys.get(order[n]));
+			assertEquals(keys.size() - n - 1, size(map));
+			for (int m = n + 1; m < order.length; m++) {
+				assertEquals(order[m], get(map, keys.get(order[m]), -1));
+			}
+		}
+	}
+}
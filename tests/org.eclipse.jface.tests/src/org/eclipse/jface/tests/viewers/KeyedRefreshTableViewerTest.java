@@ -0,0 +1,55 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jface.tests.viewers;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+
+import org.eclipse.jface.viewers.StructuredViewer;
+import org.eclipse.swt.widgets.Composite;
+import org.eclipse.swt.widgets.Table;
+import org.eclipse.swt.widgets.TableItem;
+import org.junit.Test;
+
+/**
+ * Runs the table viewer tests with keyed refresh, and checks that refresh keeps
+ * the items of unchanged elements.
+ */
+public class KeyedRefreshTableViewerTest extends TableViewerTest {
+
+	@Override
+	protected StructuredViewer createViewer(Composite parent) {
+		StructuredViewer viewer = super.createViewer(parent);
+		viewer.setKeyedRefresh(true);
+		return viewer;
+	}
+
+	@Test
+	public void testRefreshKeepsItems() {
+		Table table = (Table) fViewer.getControl();
+		TableItem[] items = table.getItems();
+		// remove the first element and add one at the end
+		fRootElement.basicDeleteChild(fRootElement.getFirstChild());
+		TestElement added = fRootElement.basicAddChild();
+		fViewer.refresh(false);
+
+		TableItem[] newItems = table.getItems();
+		assertEquals(items.length, newItems.length);
+		for (int i = 0; i < newItems.length - 1; i++) {
+			assertSame(items[i + 1], newItems[i]);
+		}
+		assertSame(added, newItems[newItems.length - 1].getData());
+		assertEquals(added.getLabel(), newItems[newItems.length - 1].getText());
+	}
+}
@@ -0,0 +1,71 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jface.tests.viewers;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import org.eclipse.jface.viewers.StructuredViewer;
+import org.eclipse.swt.widgets.Composite;
+import org.eclipse.swt.widgets.Tree;
+import org.eclipse.swt.widgets.TreeItem;
+import org.junit.Test;
+
+/**
+ * Runs the tree viewer tests with keyed refresh, and checks that refresh keeps
+ * the items of unchanged elements.
+ */
+public class KeyedRefreshTreeViewerTest extends TreeViewerTest {
+
+	@Override
+	protected StructuredViewer createViewer(Composite parent) {
+		StructuredViewer viewer = super.createViewer(parent);
+		viewer.setKeyedRefresh(true);
+		return viewer;
+	}
+
+	@Test
+	public void testRefreshKeepsItems() {
+		Tree tree = (Tree) fTreeViewer.getControl();
+		TreeItem[] items = tree.getItems();
+		// remove the first element and add one at the end
+		fRootElement.basicDeleteChild(fRootElement.getFirstChild());
+		TestElement added = fRootElement.basicAddChild();
+		fViewer.refresh(false);
+
+		TreeItem[] newItems = tree.getItems();
+		assertEquals(items.length, newItems.length);
+		for (int i = 0; i < newItems.length - 1; i++) {
+			assertSame(items[i + 1], newItems[i]);
+		}
+		assertSame(added, newItems[newItems.length - 1].getData());
+		assertEquals(added.getLabel(), newItems[newItems.length - 1].getText());
+	}
+
+	@Test
+	public void testRefreshKeepsExpandedState() {
+		TestElement third = fRootElement.getChildAt(2);
+		fTreeViewer.expandToLevel(third, 1);
+		TreeItem item = (TreeItem) fViewer.testFindItem(third);
+		TreeItem child = item.getItem(0);
+
+		fRootElement.basicDeleteChild(fRootElement.getFirstChild());
+		fViewer.refresh();
+
+		assertSame(item, fViewer.testFindItem(third));
+		assertTrue(item.getExpanded());
+		assertSame(child, item.getItem(0));
+	}
+}
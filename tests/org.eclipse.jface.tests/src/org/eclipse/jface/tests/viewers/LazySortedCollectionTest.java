@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2004, 2023 IBM Corporation and others.
+ * Copyright (c) 2004, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -121,6 +121,11 @@ public class LazySortedCollectionTest {
 		comparisonCollection.remove(toRemove);
 	}
 
+	private void removeAll(Object[] toRemove) {
+		collection.removeAll(toRemove);
+		comparisonCollection.removeAll(Arrays.asList(toRemove));
+	}
+
 	private void removeRange(int start, int length) {
 		collection.removeRange(start, length);
 
@@ -451,6 +456,37 @@ public class LazySortedCollectionTest {
 		assertContentsValid();
 	}
 
+	/**
+	 * Removes more than 64 elements at once, which recomputes the tree sizes
+	 * once after all removals instead of after each one.
+	 */
+	@Test
+	public void testRemoveAllInBatch() {
+		String[] more = new String[200];
+		for (int i = 0; i < more.length; i++) {
+			more[i] = String.format("w%03d", Integer.valueOf((i * 37) % more.length));
+		}
+		addAll(more);
+		// sort a part of the collection, so that both sorted nodes and unsorted
+		// ones are removed
+		queryRange(40, 30, true);
+
+		Object[] toRemove = new Object[120];
+		for (int i = 0; i < 100; i++) {
+			toRemove[i] = more[i * 2];
+		}
+		for (int i = 100; i < 119; i++) {
+			toRemove[i] = se[i - 100];
+		}
+		// an unknown element is ignored
+		toRemove[119] = "some unknown element";
+		removeAll(toRemove);
+
+		assertContentsValid();
+		queryRange(0, comparisonCollection.size(), true);
+		assertEquals(108, collection.size());
+	}
+
 	@Test
 	public void testClear() {
 		clear();
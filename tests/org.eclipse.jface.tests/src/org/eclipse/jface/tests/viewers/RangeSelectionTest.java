@@ -0,0 +1,130 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jface.tests.viewers;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+
+import org.eclipse.jface.viewers.ArrayContentProvider;
+import org.eclipse.jface.viewers.ISelection;
+import org.eclipse.jface.viewers.IStructuredSelection;
+import org.eclipse.jface.viewers.RangeSelection;
+import org.eclipse.jface.viewers.StructuredSelection;
+import org.eclipse.jface.viewers.TableViewer;
+import org.eclipse.swt.SWT;
+import org.eclipse.swt.widgets.Shell;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests the {@link RangeSelection} of a virtual {@link TableViewer}.
+ */
+public class RangeSelectionTest {
+
+	private static final int ELEMENT_COUNT = 100000;
+
+	private Shell shell;
+	private TableViewer viewer;
+	private String[] elements;
+
+	@BeforeEach
+	public void setUp() {
+		shell = new Shell();
+		viewer = new TableViewer(shell, SWT.VIRTUAL | SWT.MULTI);
+		viewer.setContentProvider(ArrayContentProvider.getInstance());
+		elements = new String[ELEMENT_COUNT];
+		for (int i = 0; i < ELEMENT_COUNT; i++) {
+			elements[i] = "e" + i;
+		}
+		viewer.setInput(elements);
+	}
+
+	@AfterEach
+	public void tearDown() {
+		shell.dispose();
+	}
+
+	private RangeSelection getRangeSelection() {
+		assertTrue(viewer.getSelection() instanceof RangeSelection);
+		return (RangeSelection) viewer.getSelection();
+	}
+
+	@Test
+	public void testSelectAll() {
+		viewer.getTable().selectAll();
+		RangeSelection selection = getRangeSelection();
+		assertEquals(ELEMENT_COUNT, selection.size());
+		assertEquals(1, selection.getRangeCount());
+		assertEquals("e0", selection.getFirstElement());
+		assertEquals("e99999", selection.toList().get(ELEMENT_COUNT - 1));
+		assertArrayEquals(elements, selection.toArray());
+	}
+
+	@Test
+	public void testRanges() {
+		viewer.getTable().select(new int[] { 7, 3, 4, 5, 10 });
+		RangeSelection selection = getRangeSelection();
+		assertEquals(List.of("e3", "e4", "e5", "e7", "e10"), selection.toList());
+		assertEquals(3, selection.getRangeCount());
+		assertEquals(3, selection.getRangeStart(0));
+		assertEquals(5, selection.getRangeEnd(0));
+		assertEquals(10, selection.getRangeStart(2));
+
+		StructuredSelection copy = new StructuredSelection(selection.toArray());
+		assertEquals(copy, selection);
+		assertEquals(selection, copy);
+		assertEquals(copy.hashCode(), selection.hashCode());
+	}
+
+	@Test
+	public void testSetSelection() {
+		viewer.getTable().select(100, 5000);
+		IStructuredSelection selection = viewer.getStructuredSelection();
+		viewer.getTable().deselectAll();
+
+		viewer.setSelection(selection);
+		assertEquals(4901, viewer.getTable().getSelectionCount());
+		assertEquals(selection, viewer.getSelection());
+
+		// a copy of the elements is searched in the cached elements
+		viewer.setSelection(new StructuredSelection(selection.toList()));
+		assertEquals(4901, viewer.getTable().getSelectionCount());
+	}
+
+	@Test
+	public void testUncachedRows() {
+		// the added row has no element in the cache
+		viewer.setItemCount(ELEMENT_COUNT + 1);
+		viewer.getTable().select(ELEMENT_COUNT - 1, ELEMENT_COUNT);
+		ISelection selection = viewer.getSelection();
+		assertFalse(selection instanceof RangeSelection);
+		assertEquals(List.of("e99999"), ((IStructuredSelection) selection).toList());
+		assertEquals(selection, viewer.getSelection());
+		assertEquals(selection.hashCode(), viewer.getSelection().hashCode());
+	}
+
+	@Test
+	public void testSelectionPreservedOnRefresh() {
+		viewer.getTable().select(20, 30);
+		viewer.refresh();
+		IStructuredSelection selection = viewer.getStructuredSelection();
+		assertEquals(11, selection.size());
+		assertTrue(selection.toList().contains("e25"));
+	}
+}
@@ -16,6 +16,9 @@ package org.eclipse.jface.tests.viewers;
 
 import static org.junit.Assert.assertEquals;
 
+import java.text.Collator;
+import java.util.Locale;
+
 import org.eclipse.jface.viewers.ColumnLayoutData;
 import org.eclipse.jface.viewers.ColumnWeightData;
 import org.eclipse.jface.viewers.StructuredViewer;
@@ -89,6 +92,33 @@ public class TableViewerComparatorTest extends ViewerComparatorTest {
 		assertSortedResult(TEAM1_SORTED_WITH_INSERT);
 	}
 
+	@Test
+	public void testViewerComparatorWithCollator() {
+		fViewer.setComparator(new ViewerComparator(Collator.getInstance(Locale.ENGLISH)));
+		assertSortedResult(TEAM1_SORTED);
+	}
+
+	@Test
+	public void testViewerComparatorLabelChange() {
+		fViewer.setComparator(new ViewerComparator());
+		TeamMember andrea = team1.members[6];
+		andrea.name = "Zoe";
+		fViewer.update(andrea, null);
+		fViewer.refresh(false);
+		assertEquals("Boris", getTableViewer().getTable().getItem(0).getText());
+		assertEquals("Zoe", getTableViewer().getTable().getItem(TEAM1.length - 1).getText());
+	}
+
+	@Test
+	public void testViewerComparatorInputChange() {
+		fViewer.setComparator(new ViewerComparator());
+		TeamMember andrea = team1.members[6];
+		andrea.name = "Zoe";
+		fViewer.setInput(team1);
+		assertEquals("Boris", getTableViewer().getTable().getItem(0).getText());
+		assertEquals("Zoe", getTableViewer().getTable().getItem(TEAM1.length - 1).getText());
+	}
+
 	private void assertSortedResult(String[] expected) {
 		TableItem[] items = getTableViewer().getTable().getItems();
 		for (int i = 0; i < items.length; i++) {
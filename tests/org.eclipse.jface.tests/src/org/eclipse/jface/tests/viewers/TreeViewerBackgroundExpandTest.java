@@ -0,0 +1,176 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jface.tests.viewers;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.eclipse.jface.viewers.AbstractTreeViewer;
+import org.eclipse.jface.viewers.ITreeContentProvider;
+import org.eclipse.jface.viewers.StructuredViewer;
+import org.eclipse.jface.viewers.TreeViewer;
+import org.eclipse.swt.widgets.Composite;
+import org.eclipse.swt.widgets.Display;
+import org.junit.After;
+import org.junit.Test;
+
+/**
+ * Tests {@link AbstractTreeViewer#expandToLevelInBackground}.
+ */
+public class TreeViewerBackgroundExpandTest extends ViewerTestCase {
+
+	private static final int NUM_CHILDREN = 4;
+	private static final int DEPTH = 4;
+
+	/**
+	 * The threads which have fetched children.
+	 */
+	private final Set<Thread> fetchThreads = ConcurrentHashMap.newKeySet();
+
+	/**
+	 * The elements whose children have been fetched.
+	 */
+	private final Set<String> fetchedParents = ConcurrentHashMap.newKeySet();
+
+	private final ExecutorService executor = Executors.newFixedThreadPool(4);
+
+	private class StringTreeContentProvider implements ITreeContentProvider {
+
+		@Override
+		public Object[] getElements(Object inputElement) {
+			return getChildren(inputElement);
+		}
+
+		@Override
+		public Object[] getChildren(Object parentElement) {
+			fetchThreads.add(Thread.currentThread());
+			String parent = (String) parentElement;
+			fetchedParents.add(parent);
+			if (depth(parent) >= DEPTH) {
+				return new Object[0];
+			}
+			Object[] children = new Object[NUM_CHILDREN];
+			for (int i = 0; i < NUM_CHILDREN; i++) {
+				children[i] = parent + "-" + i;
+			}
+			return children;
+		}
+
+		@Override
+		public Object getParent(Object element) {
+			String string = (String) element;
+			return string.substring(0, string.lastIndexOf('-'));
+		}
+
+		@Override
+		public boolean hasChildren(Object element) {
+			return depth((String) element) < DEPTH;
+		}
+
+		private int depth(String element) {
+			return element.split("-").length - 1;
+		}
+	}
+
+	public TreeViewer getTreeViewer() {
+		return (TreeViewer) fViewer;
+	}
+
+	@Override
+	protected StructuredViewer createViewer(Composite parent) {
+		TreeViewer treeViewer = new TreeViewer(parent);
+		treeViewer.setContentProvider(new StringTreeContentProvider());
+		return treeViewer;
+	}
+
+	@Override
+	protected void setInput() {
+		getTreeViewer().setInput("R");
+	}
+
+	@After
+	public void shutdownExecutor() {
+		executor.shutdownNow();
+	}
+
+	/**
+	 * Processes events until the given future is done.
+	 */
+	private void waitFor(CompletableFuture<Void> future) {
+		Display display = fShell.getDisplay();
+		long end = System.currentTimeMillis() + 10000;
+		while (!future.isDone() && System.currentTimeMillis() < end) {
+			if (!display.readAndDispatch()) {
+				display.sleep();
+			}
+		}
+		assertTrue("expansion did not complete", future.isDone());
+	}
+
+	@Test
+	public void testExpandAll() {
+		fetchThreads.clear();
+		CompletableFuture<Void> future = getTreeViewer().expandAllInBackground(executor);
+		waitFor(future);
+		assertFalse(future.isCompletedExceptionally());
+
+		// all elements but the leaves are expanded
+		int expandable = 0;
+		for (int depth = 1, count = NUM_CHILDREN; depth < DEPTH; depth++, count *= NUM_CHILDREN) {
+			expandable += count;
+		}
+		assertEquals(expandable, getTreeViewer().getExpandedElements().length);
+		assertTrue(getTreeViewer().getExpandedState("R-3-2-1"));
+		// the children are fetched in the executor's threads
+		assertFalse(fetchThreads.contains(Thread.currentThread()));
+		// but not the ones of the leaves
+		assertFalse(fetchedParents.contains("R-3-2-1-0"));
+		assertEquals(1 + expandable, fetchedParents.size());
+	}
+
+	@Test
+	public void testExpandToLevel() {
+		CompletableFuture<Void> future = getTreeViewer().expandToLevelInBackground("R-1", 2, executor);
+		waitFor(future);
+
+		assertTrue(getTreeViewer().getExpandedState("R-1"));
+		assertTrue(getTreeViewer().getExpandedState("R-1-0"));
+		assertFalse(getTreeViewer().getExpandedState("R-1-0-0"));
+		assertFalse(getTreeViewer().getExpandedState("R-2"));
+	}
+
+	@Test
+	public void testCancel() {
+		CompletableFuture<Void> future = getTreeViewer().expandAllInBackground(executor);
+		future.cancel(false);
+		processEvents();
+		assertTrue(future.isCancelled());
+		assertEquals(0, getTreeViewer().getExpandedElements().length);
+	}
+
+	@Test
+	public void testSetInputCancels() {
+		CompletableFuture<Void> future = getTreeViewer().expandAllInBackground(executor);
+		getTreeViewer().setInput("S");
+		processEvents();
+		assertTrue(future.isCancelled());
+	}
+}
@@ -0,0 +1,146 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jface.tests.viewers;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.eclipse.jface.viewers.ArrayContentProvider;
+import org.eclipse.jface.viewers.TableViewer;
+import org.eclipse.jface.viewers.Viewer;
+import org.eclipse.jface.viewers.ViewerFilter;
+import org.eclipse.swt.widgets.Shell;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests caching of the results of a {@link ViewerFilter}.
+ */
+public class ViewerFilterCacheTest {
+
+	private static final String[] ELEMENTS = { "a", "ab", "abc", "b", "bc" };
+
+	private Shell shell;
+	private TableViewer viewer;
+
+	/**
+	 * Accepts the elements starting with a prefix, and records the tested
+	 * elements.
+	 */
+	private static class PrefixFilter extends ViewerFilter {
+
+		final List<Object> tested = new ArrayList<>();
+
+		private String prefix = "";
+
+		PrefixFilter() {
+			setCacheResults(true);
+		}
+
+		void setPrefix(String prefix) {
+			boolean narrowing = prefix.startsWith(this.prefix);
+			this.prefix = prefix;
+			filterChanged(narrowing);
+		}
+
+		@Override
+		public boolean select(Viewer viewer, Object parentElement, Object element) {
+			tested.add(element);
+			return ((String) element).startsWith(prefix);
+		}
+	}
+
+	@BeforeEach
+	public void setUp() {
+		shell = new Shell();
+		viewer = new TableViewer(shell);
+		viewer.setContentProvider(ArrayContentProvider.getInstance());
+		viewer.setInput(ELEMENTS);
+	}
+
+	@AfterEach
+	public void tearDown() {
+		shell.dispose();
+	}
+
+	@Test
+	public void testResultsAreCached() {
+		PrefixFilter filter = new PrefixFilter();
+		filter.setPrefix("a");
+		viewer.addFilter(filter);
+		assertEquals(3, viewer.getTable().getItemCount());
+		assertEquals(ELEMENTS.length, filter.tested.size());
+
+		filter.tested.clear();
+		assertEquals(3, filter.filter(viewer, ELEMENTS, ELEMENTS).length);
+		assertEquals(0, filter.tested.size());
+	}
+
+	@Test
+	public void testNarrowingRetestsAcceptedElements() {
+		PrefixFilter filter = new PrefixFilter();
+		filter.setPrefix("a");
+		viewer.addFilter(filter);
+
+		filter.tested.clear();
+		filter.setPrefix("ab");
+		assertEquals(2, filter.filter(viewer, ELEMENTS, ELEMENTS).length);
+		assertEquals(List.of("a", "ab", "abc"), filter.tested);
+	}
+
+	@Test
+	public void testBroadeningRetestsAllElements() {
+		PrefixFilter filter = new PrefixFilter();
+		filter.setPrefix("ab");
+		viewer.addFilter(filter);
+
+		filter.tested.clear();
+		filter.setPrefix("b");
+		assertEquals(2, filter.filter(viewer, ELEMENTS, ELEMENTS).length);
+		assertEquals(ELEMENTS.length, filter.tested.size());
+	}
+
+	@Test
+	public void testUpdateDiscardsResult() {
+		PrefixFilter filter = new PrefixFilter();
+		filter.setPrefix("a");
+		viewer.addFilter(filter);
+
+		filter.tested.clear();
+		viewer.update("b", null);
+		filter.filter(viewer, ELEMENTS, ELEMENTS);
+		assertEquals(List.of("b"), filter.tested);
+	}
+
+	@Test
+	public void testRefreshDiscardsResults() {
+		PrefixFilter filter = new PrefixFilter();
+		filter.setPrefix("a");
+		viewer.addFilter(filter);
+
+		filter.tested.clear();
+		viewer.refresh("b");
+		filter.filter(viewer, ELEMENTS, ELEMENTS);
+		assertEquals(List.of("b"), filter.tested);
+
+		// refreshing the root discards all results
+		filter.tested.clear();
+		viewer.refresh();
+		assertEquals(3, viewer.getTable().getItemCount());
+		assertEquals(ELEMENTS.length, filter.tested.size());
+	}
+}
@@ -15,6 +15,9 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
+import java.util.ArrayList;
+import java.util.List;
+
 import org.junit.jupiter.api.Test;
 
 import org.eclipse.swt.SWT;
@@ -38,6 +41,7 @@ import org.eclipse.jface.text.source.IOverviewRuler;
 import org.eclipse.jface.text.source.IVerticalRuler;
 import org.eclipse.jface.text.source.projection.IProjectionPosition;
 import org.eclipse.jface.text.source.projection.ProjectionAnnotation;
+import org.eclipse.jface.text.source.projection.ProjectionAnnotationModel;
 import org.eclipse.jface.text.source.projection.ProjectionViewer;
 
 public class ProjectionViewerTest {
@@ -503,6 +507,50 @@ public class ProjectionViewerTest {
 		}
 	}
 
+	@Test
+	public void testProjectionTransaction() throws BadLocationException {
+		Shell shell= new Shell();
+		shell.setLayout(new FillLayout());
+		TestProjectionViewer viewer= new TestProjectionViewer(shell, null, null, false, SWT.NONE);
+		StringBuilder content= new StringBuilder();
+		StringBuilder collapsedContent= new StringBuilder();
+		for (int i= 0; i < 300; i++) {
+			content.append("block ").append(i).append("\n\tbody ").append(i).append('\n');
+			collapsedContent.append("block ").append(i).append('\n');
+		}
+		Document document= new Document(content.toString());
+		viewer.setDocument(document, new AnnotationModel());
+		viewer.enableProjection();
+		ProjectionAnnotationModel model= viewer.getProjectionAnnotationModel();
+		List<ProjectionAnnotation> annotations= new ArrayList<>();
+		for (int i= 0; i < 300; i++) {
+			ProjectionAnnotation annotation= new ProjectionAnnotation();
+			int offset= document.getLineOffset(2 * i);
+			model.addAnnotation(annotation, new Position(offset, document.getLineOffset(2 * i + 2) - offset));
+			annotations.add(annotation);
+		}
+		shell.setVisible(true);
+		try {
+			viewer.runInProjectionTransaction(() -> {
+				for (ProjectionAnnotation annotation : annotations) {
+					model.collapse(annotation);
+				}
+				// changes are applied when the transaction ends
+				assertEquals(document.get(), viewer.getVisibleDocument().get());
+			});
+			assertEquals(collapsedContent.toString(), viewer.getVisibleDocument().get());
+
+			viewer.runInProjectionTransaction(() -> {
+				model.expand(annotations.get(0));
+				viewer.runInProjectionTransaction(() -> model.expand(annotations.get(1)));
+				assertEquals(collapsedContent.toString(), viewer.getVisibleDocument().get());
+			});
+			assertEquals(document.get(0, document.getLineOffset(4)) + collapsedContent.substring(collapsedContent.indexOf("block 2")), viewer.getVisibleDocument().get());
+		} finally {
+			shell.dispose();
+		}
+	}
+
 	private ProjectionAnnotation addVisibleRegionAndProjection(TestProjectionViewer viewer, String documentContent) {
 		int visibleRegionStart= documentContent.indexOf("visible_region_start");
 		int visibleRegionEnd= documentContent.indexOf("\n", documentContent.indexOf("visible_region_end")) + 1;
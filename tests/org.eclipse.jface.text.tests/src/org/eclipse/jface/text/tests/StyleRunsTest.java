@@ -0,0 +1,189 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jface.text.tests;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import org.eclipse.swt.SWT;
+import org.eclipse.swt.custom.StyleRange;
+import org.eclipse.swt.custom.StyledText;
+import org.eclipse.swt.widgets.Display;
+import org.eclipse.swt.widgets.Shell;
+
+import org.eclipse.jface.text.Document;
+import org.eclipse.jface.text.StyleRuns;
+import org.eclipse.jface.text.TextPresentation;
+import org.eclipse.jface.text.TextViewer;
+
+public class StyleRunsTest {
+
+	private Shell fShell;
+
+	@BeforeEach
+	public void setUp() {
+		fShell= new Shell(Display.getDefault());
+	}
+
+	@AfterEach
+	public void tearDown() {
+		fShell.dispose();
+	}
+
+	private static StyleRange createStyleRange(int start, int length, int fontStyle) {
+		return new StyleRange(start, length, null, null, fontStyle);
+	}
+
+	@Test
+	public void testEqualStylesAreShared() {
+		StyleRuns runs= new StyleRuns();
+		runs.add(0, 2, createStyleRange(0, 2, SWT.BOLD));
+		runs.add(3, 2, createStyleRange(3, 2, SWT.NORMAL));
+		runs.add(6, 2, createStyleRange(6, 2, SWT.BOLD));
+
+		assertEquals(3, runs.getRunCount());
+		assertEquals(2, runs.getStyleCount());
+		assertSame(runs.getStyle(0), runs.getStyle(2));
+		assertNotSame(runs.getStyle(0), runs.getStyle(1));
+		assertEquals(6, runs.getStart(2));
+		assertEquals(2, runs.getLength(2));
+		assertEquals(0, runs.getStyle(2).start);
+		assertEquals(0, runs.getStyle(2).length);
+	}
+
+	@Test
+	public void testAdjacentRunsAreMerged() {
+		StyleRuns runs= new StyleRuns();
+		runs.add(0, 2, createStyleRange(0, 2, SWT.BOLD));
+		runs.add(2, 3, createStyleRange(2, 3, SWT.BOLD));
+		runs.add(6, 1, createStyleRange(6, 1, SWT.BOLD));
+
+		assertEquals(2, runs.getRunCount());
+		assertEquals(0, runs.getStart(0));
+		assertEquals(5, runs.getLength(0));
+		assertEquals(6, runs.getStart(1));
+	}
+
+	@Test
+	public void testAdjacentRunsAreNotMerged() {
+		StyleRuns runs= new StyleRuns(false);
+		runs.add(0, 2, createStyleRange(0, 2, SWT.BOLD));
+		runs.add(2, 3, createStyleRange(2, 3, SWT.BOLD));
+
+		assertEquals(2, runs.getRunCount());
+		assertEquals(1, runs.getStyleCount());
+		assertEquals(2, runs.getStart(1));
+		assertEquals(3, runs.getLength(1));
+	}
+
+	@Test
+	public void testStyleIsCopied() {
+		StyleRuns runs= new StyleRuns();
+		StyleRange style= createStyleRange(0, 2, SWT.BOLD);
+		runs.add(0, 2, style);
+		style.fontStyle= SWT.ITALIC;
+
+		assertEquals(SWT.BOLD, runs.getStyle(0).fontStyle);
+	}
+
+	@Test
+	public void testClear() {
+		StyleRuns runs= new StyleRuns();
+		runs.add(0, 2, createStyleRange(0, 2, SWT.BOLD));
+		runs.clear();
+
+		assertEquals(0, runs.getRunCount());
+		assertEquals(0, runs.getStyleCount());
+		runs.add(0, 1, createStyleRange(0, 1, SWT.ITALIC));
+		assertEquals(SWT.ITALIC, runs.getStyle(0).fontStyle);
+	}
+
+	@Test
+	public void testOverlappingRunsAreRejected() {
+		StyleRuns runs= new StyleRuns();
+		runs.add(4, 2, createStyleRange(4, 2, SWT.BOLD));
+		assertThrows(IllegalArgumentException.class, () -> runs.add(5, 2, createStyleRange(5, 2, SWT.ITALIC)));
+	}
+
+	@Test
+	public void testReplaceStyleRanges() {
+		StyledText text= new StyledText(fShell, SWT.NONE);
+		text.setText("0123456789");
+		text.setStyleRange(createStyleRange(0, 10, SWT.ITALIC));
+
+		StyleRuns runs= new StyleRuns();
+		runs.add(2, 2, createStyleRange(2, 2, SWT.BOLD));
+		runs.add(5, 1, createStyleRange(5, 1, SWT.BOLD));
+		runs.replaceStyleRanges(text, 1, 6);
+
+		StyleRange[] ranges= text.getStyleRanges();
+		assertEquals(4, ranges.length);
+		assertEquals(createStyleRange(0, 1, SWT.ITALIC), ranges[0]);
+		assertEquals(createStyleRange(2, 2, SWT.BOLD), ranges[1]);
+		assertEquals(createStyleRange(5, 1, SWT.BOLD), ranges[2]);
+		assertEquals(createStyleRange(7, 3, SWT.ITALIC), ranges[3]);
+	}
+
+	@Test
+	public void testTextViewerPresentation() {
+		TextViewer viewer= new TextViewer(fShell, SWT.NONE);
+		viewer.setDocument(new Document("0123456789"));
+
+		TextPresentation presentation= new TextPresentation();
+		presentation.addStyleRange(createStyleRange(1, 2, SWT.BOLD));
+		presentation.addStyleRange(createStyleRange(3, 2, SWT.BOLD));
+		presentation.addStyleRange(createStyleRange(6, 3, SWT.ITALIC));
+		viewer.changeTextPresentation(presentation, false);
+
+		// the widget has the same ranges as the presentation
+		StyleRange[] ranges= viewer.getTextWidget().getStyleRanges();
+		assertEquals(3, ranges.length);
+		assertEquals(createStyleRange(1, 2, SWT.BOLD), ranges[0]);
+		assertEquals(createStyleRange(3, 2, SWT.BOLD), ranges[1]);
+		assertEquals(createStyleRange(6, 3, SWT.ITALIC), ranges[2]);
+	}
+
+	@Test
+	public void testTextViewerStyleRangeTranslation() {
+		TextViewer viewer= new TextViewer(fShell, SWT.NONE) {
+			@Override
+			protected StyleRange modelStyleRange2WidgetStyleRange(StyleRange range) {
+				StyleRange result= super.modelStyleRange2WidgetStyleRange(range);
+				if (result != null) {
+					result.underline= true;
+				}
+				return result;
+			}
+		};
+		viewer.setDocument(new Document("0123456789"));
+
+		TextPresentation presentation= new TextPresentation();
+		presentation.addStyleRange(createStyleRange(1, 2, SWT.BOLD));
+		presentation.addStyleRange(createStyleRange(6, 3, SWT.ITALIC));
+		viewer.changeTextPresentation(presentation, false);
+
+		StyleRange[] ranges= viewer.getTextWidget().getStyleRanges();
+		assertEquals(2, ranges.length);
+		assertTrue(ranges[0].underline);
+		assertTrue(ranges[1].underline);
+		assertEquals(6, ranges[1].start);
+	}
+}
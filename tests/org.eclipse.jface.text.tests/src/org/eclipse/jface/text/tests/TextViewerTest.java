@@ -17,6 +17,7 @@
 package org.eclipse.jface.text.tests;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
 import static org.junit.Assume.assumeNotNull;
@@ -279,6 +280,40 @@ public class TextViewerTest {
 		assertEquals("Wrong offset for line.", 0, content.getOffsetAtLine(0));
 	}
 
+	/**
+	 * Test that the lines returned by {@link TextViewer}s default {@link IDocumentAdapter} reflect
+	 * document changes.
+	 */
+	@Test
+	public void testDefaultContentLineCache() throws Exception {
+		TextViewer textViewer= new TextViewer(fShell, SWT.NONE);
+		Document document= new Document();
+		StringBuilder text= new StringBuilder();
+		for (int i= 0; i < 1000; i++) {
+			text.append("line ").append(i).append('\n');
+		}
+		document.set(text.toString());
+		textViewer.setDocument(document);
+		StyledTextContent content= textViewer.getTextWidget().getContent();
+
+		assertEquals("line 5", content.getLine(5));
+		assertSame(content.getLine(5), content.getLine(5));
+		// lines sharing a cache slot
+		assertEquals("line 261", content.getLine(261));
+		assertEquals("line 5", content.getLine(5));
+
+		document.replace(document.getLineOffset(5), 4, "LINE");
+		assertEquals("LINE 5", content.getLine(5));
+
+		document.replace(0, 0, "new line\n");
+		assertEquals("new line", content.getLine(0));
+		assertEquals("LINE 5", content.getLine(6));
+		assertEquals("line 999", content.getLine(1000));
+
+		document.set("a\nb");
+		assertEquals("b", content.getLine(1));
+	}
+
 	public static void ctrlEnd(ITextViewer viewer) {
 		postKeyEvent(viewer.getTextWidget(), SWT.END, SWT.CTRL, SWT.KeyDown);
 	}
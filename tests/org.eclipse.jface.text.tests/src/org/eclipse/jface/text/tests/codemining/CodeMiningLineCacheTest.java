@@ -0,0 +1,197 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jface.text.tests.codemining;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import org.eclipse.core.runtime.IProgressMonitor;
+
+import org.eclipse.jface.internal.text.codemining.CodeMiningLineCache;
+
+import org.eclipse.jface.text.BadLocationException;
+import org.eclipse.jface.text.Document;
+import org.eclipse.jface.text.IDocument;
+import org.eclipse.jface.text.IRegion;
+import org.eclipse.jface.text.ITextViewer;
+import org.eclipse.jface.text.Position;
+import org.eclipse.jface.text.codemining.AbstractCodeMiningProvider;
+import org.eclipse.jface.text.codemining.ICodeMining;
+import org.eclipse.jface.text.codemining.ICodeMiningProviderExtension;
+import org.eclipse.jface.text.codemining.LineHeaderCodeMining;
+
+public class CodeMiningLineCacheTest {
+
+	private static final class RangedProvider extends AbstractCodeMiningProvider implements ICodeMiningProviderExtension {
+
+		@Override
+		public CompletableFuture<List<? extends ICodeMining>> provideCodeMinings(ITextViewer viewer, IProgressMonitor monitor) {
+			return CompletableFuture.completedFuture(Collections.emptyList());
+		}
+
+		@Override
+		public CompletableFuture<List<? extends ICodeMining>> provideCodeMinings(ITextViewer viewer, IRegion region, IProgressMonitor monitor) {
+			return CompletableFuture.completedFuture(Collections.emptyList());
+		}
+	}
+
+	private static final class TestMining extends LineHeaderCodeMining {
+
+		int disposeCount;
+
+		TestMining(int line, IDocument document) throws BadLocationException {
+			super(line, document, new RangedProvider());
+		}
+
+		@Override
+		public void dispose() {
+			disposeCount++;
+			super.dispose();
+		}
+	}
+
+	private IDocument document;
+
+	private CodeMiningLineCache cache;
+
+	@BeforeEach
+	public void setUp() {
+		document= new Document("line 0\nline 1\nline 2\nline 3\nline 4\nline 5\n");
+		cache= new CodeMiningLineCache();
+		cache.connect(document);
+	}
+
+	@AfterEach
+	public void tearDown() {
+		cache.disconnect();
+	}
+
+	private TestMining[] putAllLines() throws BadLocationException {
+		TestMining[] minings= new TestMining[6];
+		for (int line= 0; line < minings.length; line++) {
+			minings[line]= new TestMining(line, document);
+		}
+		cache.put(0, 5, List.of(minings));
+		return minings;
+	}
+
+	private static Set<ICodeMining> none() {
+		return Collections.emptySet();
+	}
+
+	@Test
+	public void testShiftCopiesPositions() throws BadLocationException {
+		TestMining[] minings= putAllLines();
+		document.replace(document.getLineOffset(1), 0, "new line\n");
+
+		Map<ICodeMining, Position> positions= cache.getAll();
+		assertEquals(5, positions.size());
+		// the lines after the change are moved, the providers' positions are not modified
+		assertEquals(document.getLineOffset(4), positions.get(minings[3]).getOffset());
+		assertEquals(document.getLineOffset(0), positions.get(minings[0]).getOffset());
+		assertEquals(21, minings[3].getPosition().getOffset());
+		assertFalse(positions.containsKey(minings[1]));
+	}
+
+	@Test
+	public void testEvictedMiningsAreDisposedOnceNotRendered() throws BadLocationException {
+		TestMining[] minings= putAllLines();
+		document.replace(document.getLineOffset(2), 1, "L");
+		assertFalse(cache.getAll().containsKey(minings[2]));
+		assertEquals(0, minings[2].disposeCount);
+
+		// an annotation still renders the evicted mining
+		Set<ICodeMining> rendered= Collections.newSetFromMap(new IdentityHashMap<>());
+		rendered.add(minings[2]);
+		cache.disposeEvicted(rendered);
+		assertEquals(0, minings[2].disposeCount);
+
+		cache.disposeEvicted(none());
+		assertEquals(1, minings[2].disposeCount);
+		cache.disposeEvicted(none());
+		assertEquals(1, minings[2].disposeCount);
+		for (TestMining mining : minings) {
+			if (mining != minings[2]) {
+				assertEquals(0, mining.disposeCount);
+			}
+		}
+	}
+
+	@Test
+	public void testSupersededMiningsAreDisposed() throws BadLocationException {
+		TestMining[] minings= putAllLines();
+		TestMining newer= new TestMining(1, document);
+		// the result for line 1 is replaced, the mining for line 2 is handed in again
+		cache.put(1, 2, List.of(newer, minings[2]));
+		cache.disposeEvicted(none());
+
+		assertEquals(1, minings[1].disposeCount);
+		assertEquals(0, minings[2].disposeCount);
+		Map<ICodeMining, Position> positions= cache.getAll();
+		assertTrue(positions.containsKey(newer));
+		assertTrue(positions.containsKey(minings[2]));
+	}
+
+	@Test
+	public void testRetain() throws BadLocationException {
+		TestMining[] minings= putAllLines();
+		cache.retain(1, 3);
+		cache.disposeEvicted(none());
+		assertEquals(3, cache.getAll().size());
+		assertEquals(1, minings[0].disposeCount);
+		assertEquals(1, minings[5].disposeCount);
+
+		// results for lines outside of the retained ones are not cached
+		TestMining outside= new TestMining(5, document);
+		cache.put(4, 5, List.of(outside));
+		cache.disposeEvicted(none());
+		assertFalse(cache.getAll().containsKey(outside));
+		assertEquals(1, outside.disposeCount);
+	}
+
+	@Test
+	public void testClear() throws BadLocationException {
+		TestMining[] minings= putAllLines();
+		cache.clear();
+		assertTrue(cache.getAll().isEmpty());
+		cache.disposeEvicted(none());
+		for (TestMining mining : minings) {
+			assertEquals(1, mining.disposeCount);
+		}
+	}
+
+	@Test
+	public void testPositionIsCopiedWhenCached() throws BadLocationException {
+		TestMining mining= new TestMining(2, document);
+		cache.put(0, 5, List.of(mining));
+		Position position= cache.getAll().get(mining);
+		assertEquals(mining.getPosition(), position);
+		assertNotSame(mining.getPosition(), position);
+		assertSame(mining, cache.getAll().keySet().iterator().next());
+	}
+}
@@ -54,10 +54,12 @@ import org.eclipse.jface.text.IDocument;
 import org.eclipse.jface.text.IRegion;
 import org.eclipse.jface.text.ITextViewer;
 import org.eclipse.jface.text.Position;
+import org.eclipse.jface.text.Region;
 import org.eclipse.jface.text.codemining.AbstractCodeMiningProvider;
 import org.eclipse.jface.text.codemining.DocumentFooterCodeMining;
 import org.eclipse.jface.text.codemining.ICodeMining;
 import org.eclipse.jface.text.codemining.ICodeMiningProvider;
+import org.eclipse.jface.text.codemining.ICodeMiningProviderExtension;
 import org.eclipse.jface.text.codemining.LineContentCodeMining;
 import org.eclipse.jface.text.codemining.LineHeaderCodeMining;
 import org.eclipse.jface.text.reconciler.DirtyRegion;
@@ -230,6 +232,86 @@ public class CodeMiningTest {
 		}.waitForCondition(fViewer.getControl().getDisplay(), 3000));
 	}
 
+	@Test
+	public void testRangedCodeMiningProviderOnlyComputesVisibleLines() throws BadLocationException {
+		RangedEchoCodeMiningProvider provider= new RangedEchoCodeMiningProvider();
+		fViewer.getDocument().set(TextViewerTest.generate5000Lines());
+		fViewer.setCodeMiningProviders(new ICodeMiningProvider[] { provider });
+		Assert.assertTrue(new DisplayHelper() {
+			@Override
+			protected boolean condition() {
+				return fViewer.getTextWidget().getLineVerticalIndent(0) > 0;
+			}
+		}.waitForCondition(fViewer.getControl().getDisplay(), 3000));
+		IRegion requested= provider.lastRegion.get();
+		Assert.assertEquals(0, requested.getOffset());
+		Assert.assertTrue(requested.getLength() < fViewer.getDocument().getLength() / 2);
+
+		Assume.assumeFalse("See bug 541415. For whatever reason, this shortcut doesn't work on Mac", Util.isMac());
+		TextViewerTest.ctrlEnd(fViewer);
+		final int lastLine= fViewer.getDocument().getNumberOfLines() - 1;
+		Assert.assertTrue(new DisplayHelper() {
+			@Override
+			protected boolean condition() {
+				return fViewer.getTextWidget().getLineVerticalIndent(lastLine) > 0;
+			}
+		}.waitForCondition(fViewer.getControl().getDisplay(), 3000));
+		Assert.assertEquals(fViewer.getDocument().getLength(), provider.lastRegion.get().getOffset() + provider.lastRegion.get().getLength());
+	}
+
+	@Test
+	public void testScrollingOnlyRequestsExposedLines() throws BadLocationException {
+		RangedEchoCodeMiningProvider ranged= new RangedEchoCodeMiningProvider();
+		CountingCodeMiningProvider full= new CountingCodeMiningProvider();
+		fViewer.getDocument().set(TextViewerTest.generate5000Lines());
+		fViewer.setCodeMiningProviders(new ICodeMiningProvider[] { ranged, full });
+		Assert.assertTrue(new DisplayHelper() {
+			@Override
+			protected boolean condition() {
+				return fViewer.getTextWidget().getLineVerticalIndent(0) > 0;
+			}
+		}.waitForCondition(fViewer.getControl().getDisplay(), 3000));
+		int fullRequests= full.requests.get();
+		IRegion first= ranged.lastRegion.get();
+
+		// scroll by less than the requested margin below the visible lines
+		int visibleLines= fViewer.getBottomIndex() - fViewer.getTopIndex() + 1;
+		fViewer.setTopIndex(visibleLines + visibleLines / 2);
+		Assert.assertTrue(new DisplayHelper() {
+			@Override
+			protected boolean condition() {
+				return ranged.lastRegion.get() != first;
+			}
+		}.waitForCondition(fViewer.getControl().getDisplay(), 3000));
+		// only the lines below the requested ones are requested and the other provider is not asked again
+		Assert.assertEquals(first.getOffset() + first.getLength() + 1, ranged.lastRegion.get().getOffset());
+		Assert.assertEquals(fullRequests, full.requests.get());
+	}
+
+	@Test
+	public void testSupersededRequestsAreCancelled() {
+		CountingCodeMiningProvider provider= new CountingCodeMiningProvider();
+		CompletableFuture<List<? extends ICodeMining>> pending= new CompletableFuture<>();
+		provider.result= pending;
+		fViewer.setCodeMiningProviders(new ICodeMiningProvider[] { provider });
+		fViewer.updateCodeMinings();
+		Assert.assertTrue(new DisplayHelper() {
+			@Override
+			protected boolean condition() {
+				return provider.requests.get() > 0;
+			}
+		}.waitForCondition(fViewer.getControl().getDisplay(), 3000));
+
+		provider.result= null;
+		fViewer.updateCodeMinings();
+		Assert.assertTrue(new DisplayHelper() {
+			@Override
+			protected boolean condition() {
+				return pending.isCancelled();
+			}
+		}.waitForCondition(fViewer.getControl().getDisplay(), 3000));
+	}
+
 	@Test
 	public void testCodeMiningEmptyLine() {
 		fViewer.getDocument().set("\n");
@@ -703,4 +785,46 @@ public class CodeMiningTest {
 		}
 
 	}
+	private static class CountingCodeMiningProvider extends AbstractCodeMiningProvider {
+
+		final AtomicInteger requests= new AtomicInteger();
+
+		volatile CompletableFuture<List<? extends ICodeMining>> result;
+
+		@Override
+		public CompletableFuture<List<? extends ICodeMining>> provideCodeMinings(ITextViewer viewer, IProgressMonitor monitor) {
+			requests.incrementAndGet();
+			CompletableFuture<List<? extends ICodeMining>> future= result;
+			return future != null ? future : CompletableFuture.completedFuture(Collections.emptyList());
+		}
+	}
+
+	private static class RangedEchoCodeMiningProvider extends AbstractCodeMiningProvider implements ICodeMiningProviderExtension {
+
+		final AtomicReference<IRegion> lastRegion= new AtomicReference<>();
+
+		@Override
+		public CompletableFuture<List<? extends ICodeMining>> provideCodeMinings(ITextViewer viewer, IProgressMonitor monitor) {
+			return provideCodeMinings(viewer, new Region(0, viewer.getDocument().getLength()), monitor);
+		}
+
+		@Override
+		public CompletableFuture<List<? extends ICodeMining>> provideCodeMinings(ITextViewer viewer, IRegion region, IProgressMonitor monitor) {
+			lastRegion.set(region);
+			IDocument document= viewer.getDocument();
+			return CompletableFuture.supplyAsync(() -> {
+				List<ICodeMining> minings= new ArrayList<>();
+				try {
+					int firstLine= document.getLineOfOffset(region.getOffset());
+					int lastLine= document.getLineOfOffset(region.getOffset() + region.getLength());
+					for (int line= firstLine; line <= lastLine; line++) {
+						minings.add(new ReferenceLineHeaderCodeMining("line " + line, line, 0, document, this));
+					}
+				} catch (BadLocationException e) {
+					e.printStackTrace();
+				}
+				return minings;
+			});
+		}
+	}
 }
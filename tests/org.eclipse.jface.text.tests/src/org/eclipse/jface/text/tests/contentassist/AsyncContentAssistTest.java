@@ -21,6 +21,7 @@ import static org.junit.Assume.assumeFalse;
 
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.List;
 
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
@@ -173,6 +174,76 @@ public class AsyncContentAssistTest {
 		}.waitForCondition(display, 4000), "Completion item not shown");
 	}
 
+	@Test
+	public void testStreamingProcessorIsTimeBoxed() {
+		shell.setLayout(new FillLayout());
+		shell.setSize(500, 300);
+		SourceViewer viewer= new SourceViewer(shell, null, SWT.NONE);
+		Document document= new Document("");
+		viewer.setDocument(document);
+		ContentAssistant contentAssistant= new ContentAssistant(true);
+		StreamingContentAssistProcessor processor= new StreamingContentAssistProcessor();
+		contentAssistant.addContentAssistProcessor(processor, IDocument.DEFAULT_CONTENT_TYPE);
+		contentAssistant.setProcessorTimeout(500);
+		contentAssistant.install(viewer);
+		shell.open();
+		DisplayHelper.runEventLoop(shell.getDisplay(), 0);
+		Display display= shell.getDisplay();
+		final Collection<Shell> beforeShells= AbstractContentAssistTest.getCurrentShells();
+		contentAssistant.showPossibleCompletions();
+		Shell newShell= AbstractContentAssistTest.findNewShell(beforeShells);
+		assertTrue(new DisplayHelper() {
+			@Override
+			protected boolean condition() {
+				Table completionTable= findCompletionSelectionControl(newShell);
+				return Arrays.stream(completionTable.getItems()).map(TableItem::getText).anyMatch(StreamingContentAssistProcessor.FIRST_PROPOSAL::equals);
+			}
+		}.waitForCondition(display, 2000), "Streamed proposal not shown");
+		assertTrue(new DisplayHelper() {
+			@Override
+			protected boolean condition() {
+				ContentAssistant.ProcessorLatency latency= contentAssistant.getProcessorLatencies().get(processor);
+				return latency != null && latency.getTimeoutCount() == 1;
+			}
+		}.waitForCondition(display, 3000), "Processor was not timed out");
+		Table completionTable= findCompletionSelectionControl(newShell);
+		assertTrue(Arrays.stream(completionTable.getItems()).map(TableItem::getText).noneMatch(StreamingContentAssistProcessor.LATE_PROPOSAL::equals));
+	}
+
+	@Test
+	public void testComputingProposalShowsProgress() {
+		shell.setLayout(new FillLayout());
+		shell.setSize(500, 300);
+		SourceViewer viewer= new SourceViewer(shell, null, SWT.NONE);
+		Document document= new Document("");
+		viewer.setDocument(document);
+		ContentAssistant contentAssistant= new ContentAssistant(true);
+		contentAssistant.addContentAssistProcessor(new FilteringAsyncContentAssistTests.DelayedContentAssistProcessor(List.of("xx"), 300, false), IDocument.DEFAULT_CONTENT_TYPE);
+		contentAssistant.addContentAssistProcessor(new FilteringAsyncContentAssistTests.DelayedContentAssistProcessor(List.of("yy"), 3000, false), IDocument.DEFAULT_CONTENT_TYPE);
+		contentAssistant.install(viewer);
+		shell.open();
+		DisplayHelper.runEventLoop(shell.getDisplay(), 0);
+		Display display= shell.getDisplay();
+		final Collection<Shell> beforeShells= AbstractContentAssistTest.getCurrentShells();
+		contentAssistant.showPossibleCompletions();
+		Shell newShell= AbstractContentAssistTest.findNewShell(beforeShells);
+		assertTrue(new DisplayHelper() {
+			@Override
+			protected boolean condition() {
+				Table completionTable= findCompletionSelectionControl(newShell);
+				return completionTable.getItemCount() > 0 && completionTable.getItem(0).getText().contains("(0%)");
+			}
+		}.waitForCondition(display, 1000), "Computing proposal not shown");
+		// the label of the computing proposal is updated once the first processor is done
+		assertTrue(new DisplayHelper() {
+			@Override
+			protected boolean condition() {
+				Table completionTable= findCompletionSelectionControl(newShell);
+				return completionTable.getItemCount() > 1 && completionTable.getItem(0).getText().contains("(50%)");
+			}
+		}.waitForCondition(display, 2000), "Progress of computing proposal not updated");
+	}
+
 	private static Table findCompletionSelectionControl(Widget control) {
 		if (control instanceof Table) {
 			return (Table) control;
@@ -32,6 +32,7 @@ import org.eclipse.swt.graphics.Image;
 import org.eclipse.swt.graphics.Point;
 import org.eclipse.swt.widgets.Shell;
 
+import org.eclipse.text.edits.DeleteEdit;
 import org.eclipse.text.edits.InsertEdit;
 
 import org.eclipse.jface.text.BadLocationException;
@@ -197,6 +198,53 @@ public class FilteringAsyncContentAssistTests {
 		assertTrue(filteredProposals == null || filteredProposals.isEmpty());
 	}
 
+	/**
+	 * CA with 1 immediate CA processor. Empty text initially. Invoke CA, type 'x'
+	 * and 'a', verify 1 proposal, delete 'a', verify the proposals matching 'x'
+	 * are shown again
+	 *
+	 * @throws Exception exception
+	 */
+	@Test
+	public void testFilteredCa_DeletedCharacter() throws Exception {
+		IDocument document = viewer.getDocument();
+
+		ca.addContentAssistProcessor(new ImmediateContentAssistProcessor("xa", "xb", "yy"), IDocument.DEFAULT_CONTENT_TYPE);
+
+		ca.install(viewer);
+
+		viewer.setSelectedRange(0, 0);
+
+		ca.showPossibleCompletions();
+
+		DisplayHelper.sleep(shell.getDisplay(), 300);
+
+		new InsertEdit(0, "x").apply(document);
+		viewer.setSelectedRange(1, 0);
+
+		DisplayHelper.sleep(shell.getDisplay(), 300);
+
+		assertEquals(2, getFilteredProposals(ca).size());
+
+		new InsertEdit(1, "a").apply(document);
+		viewer.setSelectedRange(2, 0);
+
+		DisplayHelper.sleep(shell.getDisplay(), 300);
+
+		List<ICompletionProposal> filteredProposals = getFilteredProposals(ca);
+		assertEquals(1, filteredProposals.size());
+		assertEquals("xa", filteredProposals.get(0).getDisplayString());
+
+		new DeleteEdit(1, 1).apply(document);
+		viewer.setSelectedRange(1, 0);
+
+		DisplayHelper.sleep(shell.getDisplay(), 300);
+
+		filteredProposals = getFilteredProposals(ca);
+		assertEquals(2, filteredProposals.size());
+		assertEquals(List.of("xa", "xb"), filteredProposals.stream().map(ICompletionProposal::getDisplayString).toList());
+	}
+
 	/**
 	 * CA with 1 immediate and 1 delayed CA processors. Empty text initially. Invoke
 	 * CA, verify 1 proposal shows right away, and then another added later after
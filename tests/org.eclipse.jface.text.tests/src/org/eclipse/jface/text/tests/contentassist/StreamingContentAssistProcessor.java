@@ -0,0 +1,72 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jface.text.tests.contentassist;
+
+import java.util.List;
+import java.util.function.Consumer;
+
+import org.eclipse.jface.text.ITextViewer;
+import org.eclipse.jface.text.contentassist.CompletionProposal;
+import org.eclipse.jface.text.contentassist.ICompletionProposal;
+import org.eclipse.jface.text.contentassist.IContentAssistProcessorExtension2;
+import org.eclipse.jface.text.contentassist.IContextInformation;
+import org.eclipse.jface.text.contentassist.IContextInformationValidator;
+
+/**
+ * Reports {@link #FIRST_PROPOSAL} immediately, then blocks until it is interrupted.
+ */
+public class StreamingContentAssistProcessor implements IContentAssistProcessorExtension2 {
+
+	public static final String FIRST_PROPOSAL= "streamed";
+
+	public static final String LATE_PROPOSAL= "late";
+
+	@Override
+	public void computeCompletionProposals(ITextViewer viewer, int offset, Consumer<List<ICompletionProposal>> collector) {
+		collector.accept(List.of(new CompletionProposal(FIRST_PROPOSAL, offset, 0, FIRST_PROPOSAL.length())));
+		try {
+			Thread.sleep(10_000);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			return;
+		}
+		collector.accept(List.of(new CompletionProposal(LATE_PROPOSAL, offset, 0, LATE_PROPOSAL.length())));
+	}
+
+	@Override
+	public IContextInformation[] computeContextInformation(ITextViewer viewer, int offset) {
+		return null;
+	}
+
+	@Override
+	public char[] getCompletionProposalAutoActivationCharacters() {
+		return null;
+	}
+
+	@Override
+	public char[] getContextInformationAutoActivationCharacters() {
+		return null;
+	}
+
+	@Override
+	public String getErrorMessage() {
+		return null;
+	}
+
+	@Override
+	public IContextInformationValidator getContextInformationValidator() {
+		return null;
+	}
+
+}
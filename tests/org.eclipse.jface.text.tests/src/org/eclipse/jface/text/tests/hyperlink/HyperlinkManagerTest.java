@@ -0,0 +1,301 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jface.text.tests.hyperlink;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import org.eclipse.swt.SWT;
+import org.eclipse.swt.events.MouseEvent;
+import org.eclipse.swt.widgets.Display;
+import org.eclipse.swt.widgets.Event;
+import org.eclipse.swt.widgets.Shell;
+
+import org.eclipse.jface.text.BadLocationException;
+import org.eclipse.jface.text.Document;
+import org.eclipse.jface.text.IDocument;
+import org.eclipse.jface.text.IRegion;
+import org.eclipse.jface.text.ITextViewer;
+import org.eclipse.jface.text.Region;
+import org.eclipse.jface.text.TextViewer;
+import org.eclipse.jface.text.hyperlink.HyperlinkManager;
+import org.eclipse.jface.text.hyperlink.IHyperlink;
+import org.eclipse.jface.text.hyperlink.IHyperlinkDetector;
+import org.eclipse.jface.text.hyperlink.IHyperlinkDetectorExtension3;
+import org.eclipse.jface.text.hyperlink.IHyperlinkPresenter;
+
+import org.eclipse.ui.tests.harness.util.DisplayHelper;
+
+public class HyperlinkManagerTest {
+
+	/**
+	 * Detects a hyperlink on every word "link" and records the threads it is called in.
+	 */
+	private static final class LinkDetector implements IHyperlinkDetector, IHyperlinkDetectorExtension3 {
+
+		final AtomicInteger fDetectionCount= new AtomicInteger();
+
+		volatile Thread fDetectionThread;
+
+		final CountDownLatch fStarted= new CountDownLatch(1);
+
+		/** Lets the detection return once released, <code>null</code> to return at once. */
+		volatile CountDownLatch fRelease;
+
+		private final boolean fCanDetectInBackground;
+
+		LinkDetector(boolean canDetectInBackground) {
+			fCanDetectInBackground= canDetectInBackground;
+		}
+
+		@Override
+		public IHyperlink[] detectHyperlinks(ITextViewer textViewer, IRegion region, boolean canShowMultipleHyperlinks) {
+			fDetectionCount.incrementAndGet();
+			fDetectionThread= Thread.currentThread();
+			fStarted.countDown();
+			CountDownLatch release= fRelease;
+			if (release != null) {
+				try {
+					release.await(10, TimeUnit.SECONDS);
+				} catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+				}
+			}
+			String text= textViewer.getDocument().get();
+			int start= text.lastIndexOf(' ', region.getOffset()) + 1;
+			if (!text.startsWith("link", start) || region.getOffset() >= start + 4) {
+				return null;
+			}
+			return new IHyperlink[] { new TestHyperlink(new Region(start, 4)) };
+		}
+
+		@Override
+		public boolean canDetectInBackground() {
+			return fCanDetectInBackground;
+		}
+	}
+
+	private static final class TestHyperlink implements IHyperlink {
+
+		private final IRegion fRegion;
+
+		TestHyperlink(IRegion region) {
+			fRegion= region;
+		}
+
+		@Override
+		public IRegion getHyperlinkRegion() {
+			return fRegion;
+		}
+
+		@Override
+		public String getTypeLabel() {
+			return null;
+		}
+
+		@Override
+		public String getHyperlinkText() {
+			return null;
+		}
+
+		@Override
+		public void open() {
+		}
+	}
+
+	private static final class TestPresenter implements IHyperlinkPresenter {
+
+		volatile IHyperlink[] fHyperlinks;
+
+		@Override
+		public boolean canShowMultipleHyperlinks() {
+			return false;
+		}
+
+		@Override
+		public void showHyperlinks(IHyperlink[] hyperlinks) {
+			fHyperlinks= hyperlinks;
+		}
+
+		@Override
+		public void hideHyperlinks() {
+			fHyperlinks= null;
+		}
+
+		@Override
+		public void install(ITextViewer textViewer) {
+		}
+
+		@Override
+		public void uninstall() {
+		}
+	}
+
+	/**
+	 * A hyperlink manager with a fixed mouse offset.
+	 */
+	private static final class TestHyperlinkManager extends HyperlinkManager {
+
+		int fOffset;
+
+		final AtomicInteger fFindCount= new AtomicInteger();
+
+		TestHyperlinkManager() {
+			super(FIRST);
+		}
+
+		@Override
+		protected int getCurrentTextOffset() {
+			return fOffset;
+		}
+
+		@Override
+		protected IHyperlink[] findHyperlinks() {
+			fFindCount.incrementAndGet();
+			return super.findHyperlinks();
+		}
+	}
+
+	private Shell fShell;
+
+	private TextViewer fViewer;
+
+	private TestHyperlinkManager fManager;
+
+	private TestPresenter fPresenter;
+
+	@BeforeEach
+	public void setUp() {
+		fShell= new Shell();
+		fViewer= new TextViewer(fShell, SWT.NONE);
+		fViewer.setDocument(new Document("some link and another link"));
+		fPresenter= new TestPresenter();
+		fManager= new TestHyperlinkManager();
+	}
+
+	@AfterEach
+	public void tearDown() {
+		fManager.uninstall();
+		fShell.dispose();
+	}
+
+	private MouseEvent createMouseEvent(int button) {
+		Event event= new Event();
+		event.widget= fViewer.getTextWidget();
+		event.button= button;
+		event.stateMask= SWT.MOD1;
+		return new MouseEvent(event);
+	}
+
+	@Test
+	public void testDetectionResultsAreCached() throws BadLocationException {
+		LinkDetector detector= new LinkDetector(false);
+		fManager.install(fViewer, fPresenter, new IHyperlinkDetector[] { detector }, SWT.MOD1);
+
+		fManager.fOffset= 6;
+		fManager.mouseDown(createMouseEvent(1));
+		assertEquals(1, detector.fDetectionCount.get());
+		assertEquals(new Region(5, 4), fPresenter.fHyperlinks[0].getHyperlinkRegion());
+
+		// another offset inside the same hyperlink
+		fManager.fOffset= 8;
+		fManager.mouseDown(createMouseEvent(1));
+		assertEquals(1, detector.fDetectionCount.get());
+		assertEquals(new Region(5, 4), fPresenter.fHyperlinks[0].getHyperlinkRegion());
+
+		// the cache is discarded when the document changes
+		IDocument document= fViewer.getDocument();
+		document.replace(0, 0, "x");
+		fManager.mouseDown(createMouseEvent(1));
+		assertEquals(2, detector.fDetectionCount.get());
+		assertEquals(new Region(6, 4), fPresenter.fHyperlinks[0].getHyperlinkRegion());
+
+		// and when the detectors or the state mask change
+		LinkDetector otherDetector= new LinkDetector(false);
+		fManager.setHyperlinkDetectors(new IHyperlinkDetector[] { otherDetector });
+		fManager.mouseDown(createMouseEvent(1));
+		assertEquals(1, otherDetector.fDetectionCount.get());
+		fManager.setHyperlinkStateMask(SWT.MOD1);
+		fManager.mouseDown(createMouseEvent(1));
+		assertEquals(2, otherDetector.fDetectionCount.get());
+	}
+
+	@Test
+	public void testBackgroundDetection() {
+		LinkDetector detector= new LinkDetector(true);
+		fManager.install(fViewer, fPresenter, new IHyperlinkDetector[] { detector }, SWT.MOD1);
+		Display display= fShell.getDisplay();
+
+		fManager.fOffset= 23;
+		fManager.mouseMove(createMouseEvent(0));
+		fManager.fOffset= 24;
+		fManager.mouseMove(createMouseEvent(0));
+		assertTrue(new DisplayHelper() {
+			@Override
+			protected boolean condition() {
+				return fPresenter.fHyperlinks != null;
+			}
+		}.waitForCondition(display, 5000));
+		assertEquals(new Region(22, 4), fPresenter.fHyperlinks[0].getHyperlinkRegion());
+		assertNotEquals(display.getThread(), detector.fDetectionThread);
+		// the first mouse move has been debounced
+		assertEquals(1, detector.fDetectionCount.get());
+		// the background detection goes through the overridable method
+		assertEquals(1, fManager.fFindCount.get());
+
+		// moving out of the hyperlink hides it before the new detection is done
+		fManager.fOffset= 15;
+		fManager.mouseMove(createMouseEvent(0));
+		assertNull(fPresenter.fHyperlinks);
+	}
+
+	@Test
+	public void testBackgroundDetectionDoesNotBlockTheUIThread() throws InterruptedException {
+		LinkDetector detector= new LinkDetector(true);
+		CountDownLatch release= new CountDownLatch(1);
+		detector.fRelease= release;
+		fManager.install(fViewer, fPresenter, new IHyperlinkDetector[] { detector }, SWT.MOD1);
+		Display display= fShell.getDisplay();
+		try {
+			fManager.fOffset= 24;
+			fManager.mouseMove(createMouseEvent(0));
+			assertTrue(new DisplayHelper() {
+				@Override
+				protected boolean condition() {
+					return detector.fStarted.getCount() == 0;
+				}
+			}.waitForCondition(display, 5000));
+
+			// the mouse moves on while the detector is still busy
+			fManager.fOffset= 15;
+			fManager.mouseMove(createMouseEvent(0));
+			MouseEvent otherStateMask= createMouseEvent(0);
+			otherStateMask.stateMask= SWT.MOD2;
+			fManager.mouseMove(otherStateMask);
+			assertEquals(1, release.getCount());
+		} finally {
+			release.countDown();
+		}
+	}
+}
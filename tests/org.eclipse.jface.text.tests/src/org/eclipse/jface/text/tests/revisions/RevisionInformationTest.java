@@ -0,0 +1,152 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jface.text.tests.revisions;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import org.eclipse.swt.graphics.RGB;
+
+import org.eclipse.jface.internal.text.revisions.Hunk;
+
+import org.eclipse.jface.text.revisions.IRevisionRangeProvider;
+import org.eclipse.jface.text.revisions.Revision;
+import org.eclipse.jface.text.revisions.RevisionInformation;
+import org.eclipse.jface.text.revisions.RevisionRange;
+import org.eclipse.jface.text.source.LineRange;
+
+public class RevisionInformationTest {
+
+	private static final class TestRevision extends Revision {
+
+		private final String fId;
+
+		TestRevision(String id) {
+			fId= id;
+		}
+
+		@Override
+		public Object getHoverInfo() {
+			return fId;
+		}
+
+		@Override
+		public RGB getColor() {
+			return new RGB(0, 0, 0);
+		}
+
+		@Override
+		public String getId() {
+			return fId;
+		}
+
+		@Override
+		public Date getDate() {
+			return new Date(0);
+		}
+	}
+
+	/**
+	 * Provides one revision per block of 10 lines and records the requested lines.
+	 */
+	private static final class BlockProvider implements IRevisionRangeProvider {
+
+		final List<int[]> fRequests= new ArrayList<>();
+
+		@Override
+		public void addRanges(RevisionInformation info, int startLine, int endLine) {
+			fRequests.add(new int[] { startLine, endLine });
+			for (int block= startLine / 10 * 10; block < endLine; block+= 10) {
+				if (block >= startLine) {
+					Revision revision= new TestRevision("r" + block);
+					revision.addRange(new LineRange(block, 10));
+					info.addRevision(revision);
+				}
+			}
+		}
+	}
+
+	@Test
+	public void testLoadRanges() {
+		RevisionInformation info= new RevisionInformation();
+		BlockProvider provider= new BlockProvider();
+		info.setRangeProvider(provider);
+		assertTrue(info.getRanges().isEmpty());
+
+		assertTrue(info.loadRanges(300, 310));
+		assertEquals(1, provider.fRequests.size());
+		assertEquals(256, provider.fRequests.get(0)[0]);
+		assertEquals(512, provider.fRequests.get(0)[1]);
+
+		// the lines have been requested already
+		assertFalse(info.loadRanges(260, 500));
+		assertEquals(1, provider.fRequests.size());
+
+		// only the lines which have not been requested yet are requested
+		assertTrue(info.loadRanges(0, 600));
+		assertEquals(3, provider.fRequests.size());
+		assertEquals(0, provider.fRequests.get(1)[0]);
+		assertEquals(256, provider.fRequests.get(1)[1]);
+		assertEquals(512, provider.fRequests.get(2)[0]);
+		assertEquals(768, provider.fRequests.get(2)[1]);
+
+		info.applyDiff(new Hunk[0]);
+		List<RevisionRange> ranges= info.getRanges();
+		assertEquals(77, ranges.size());
+		for (int i= 0; i < ranges.size(); i++) {
+			assertEquals(i * 10, ranges.get(i).getStartLine());
+			assertEquals("r" + i * 10, ranges.get(i).getRevision().getId());
+		}
+	}
+
+	@Test
+	public void testLoadedRangesAreAdjustedAndMerged() {
+		RevisionInformation info= new RevisionInformation();
+		info.setRangeProvider(new BlockProvider());
+		assertTrue(info.loadRanges(300, 310));
+		// three lines have been added at the start of the document
+		info.applyDiff(new Hunk[] { new Hunk(0, 3, 0) });
+		List<RevisionRange> loaded= info.getRanges();
+		assertEquals(26, loaded.size());
+		assertEquals(263, loaded.get(0).getStartLine());
+
+		assertTrue(info.loadRanges(0, 10));
+		List<RevisionRange> ranges= info.getRanges();
+		assertEquals(52, ranges.size());
+		for (int i= 0; i < ranges.size(); i++) {
+			assertEquals(i * 10 + 3, ranges.get(i).getStartLine());
+			assertEquals("r" + i * 10, ranges.get(i).getRevision().getId());
+		}
+		// the ranges loaded before are merged, not computed again
+		assertSame(loaded.get(0), ranges.get(26));
+	}
+
+	@Test
+	public void testNoRangeProvider() {
+		RevisionInformation info= new RevisionInformation();
+		Revision revision= new TestRevision("r");
+		revision.addRange(new LineRange(0, 5));
+		info.addRevision(revision);
+		assertFalse(info.loadRanges(0, 100));
+		assertEquals(1, info.getRanges().size());
+	}
+}
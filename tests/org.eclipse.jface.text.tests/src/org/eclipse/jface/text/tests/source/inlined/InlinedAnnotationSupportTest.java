@@ -0,0 +1,136 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jface.text.tests.source.inlined;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import org.eclipse.swt.SWT;
+import org.eclipse.swt.custom.StyledText;
+import org.eclipse.swt.layout.FillLayout;
+import org.eclipse.swt.widgets.Shell;
+
+import org.eclipse.jface.text.BadLocationException;
+import org.eclipse.jface.text.Document;
+import org.eclipse.jface.text.IDocument;
+import org.eclipse.jface.text.ITextViewerExtension2;
+import org.eclipse.jface.text.Position;
+import org.eclipse.jface.text.source.AnnotationModel;
+import org.eclipse.jface.text.source.ISourceViewer;
+import org.eclipse.jface.text.source.SourceViewer;
+import org.eclipse.jface.text.source.inlined.AbstractInlinedAnnotation;
+import org.eclipse.jface.text.source.inlined.InlinedAnnotationSupport;
+import org.eclipse.jface.text.source.inlined.LineContentAnnotation;
+import org.eclipse.jface.text.tests.source.inlined.LineContentBoundsDrawingTest.AccessAllAnnoations;
+import org.eclipse.jface.text.tests.source.inlined.LineContentBoundsDrawingTest.TestAnnotationPainter;
+
+import org.eclipse.ui.tests.harness.util.DisplayHelper;
+
+public class InlinedAnnotationSupportTest {
+
+	private static final int LINE_COUNT= 2000;
+
+	private Shell fParent;
+
+	private ISourceViewer fViewer;
+
+	private InlinedAnnotationSupport fSupport;
+
+	private TestAnnotationPainter fPainter;
+
+	private final List<LineContentAnnotation> fAnnotations= new ArrayList<>();
+
+	@BeforeEach
+	public void setUp() throws BadLocationException {
+		fParent= new Shell();
+		fParent.setLayout(new FillLayout());
+		fParent.setSize(400, 300);
+		fViewer= new SourceViewer(fParent, null, SWT.V_SCROLL | SWT.BORDER);
+		StringBuilder content= new StringBuilder();
+		for (int i= 0; i < LINE_COUNT; i++) {
+			content.append("line ").append(i).append('\n');
+		}
+		IDocument document= new Document(content.toString());
+		fViewer.setDocument(document, new AnnotationModel());
+		fSupport= new InlinedAnnotationSupport();
+		fPainter= new TestAnnotationPainter(fViewer, new AccessAllAnnoations());
+		((ITextViewerExtension2) fViewer).addPainter(fPainter);
+		fSupport.install(fViewer, fPainter);
+
+		Set<AbstractInlinedAnnotation> annotations= new HashSet<>();
+		for (int i= 0; i < LINE_COUNT; i++) {
+			LineContentAnnotation annotation= new LineContentAnnotation(new Position(document.getLineOffset(i) + 4, 1), fViewer);
+			annotation.setText("hint" + i);
+			annotations.add(annotation);
+			fAnnotations.add(annotation);
+		}
+		fSupport.updateAnnotations(annotations);
+	}
+
+	@AfterEach
+	public void tearDown() {
+		fParent.dispose();
+		fParent= null;
+		fAnnotations.clear();
+	}
+
+	@Test
+	public void testOnlyVisibleAnnotationsArePainted() {
+		fParent.open();
+		StyledText textWidget= fViewer.getTextWidget();
+		assertTrue(new DisplayHelper() {
+			@Override
+			protected boolean condition() {
+				return textWidget.isVisible() && fPainter.wasPainted() && fSupport.getPaintCount() > 0;
+			}
+		}.waitForCondition(textWidget.getDisplay(), 2000));
+		DisplayHelper.sleep(textWidget.getDisplay(), 500);
+		int paintCount= fSupport.getPaintCount();
+		assertTrue(paintCount < LINE_COUNT / 4, "Painted " + paintCount + " of " + LINE_COUNT + " annotations");
+		assertTrue(fSupport.getPaintTime() > 0);
+
+		fSupport.resetPaintStatistics();
+		assertEquals(0, fSupport.getPaintCount());
+		assertEquals(0, fSupport.getPaintTime());
+	}
+
+	@Test
+	public void testFindExistingAnnotation() throws BadLocationException {
+		IDocument document= fViewer.getDocument();
+		LineContentAnnotation annotation= fAnnotations.get(1000);
+		int offset= document.getLineOffset(1000) + 4;
+		assertSame(annotation, fSupport.findExistingAnnotation(new Position(offset, 1)));
+
+		// the positions move with the document
+		document.replace(0, 0, "x");
+		assertNull(fSupport.findExistingAnnotation(new Position(offset, 1)));
+		assertSame(annotation, fSupport.findExistingAnnotation(new Position(offset + 1, 1)));
+
+		// removed annotations are not found anymore
+		fSupport.updateAnnotations(new HashSet<>(fAnnotations.subList(0, 1000)));
+		assertNull(fSupport.findExistingAnnotation(new Position(offset + 1, 1)));
+		assertSame(fAnnotations.get(999), fSupport.findExistingAnnotation(new Position(document.getLineOffset(999) + 4, 1)));
+	}
+}
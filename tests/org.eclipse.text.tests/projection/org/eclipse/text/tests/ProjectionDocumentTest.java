@@ -2688,4 +2688,41 @@ public class ProjectionDocumentTest {
 		Assertions.assertEquals(1, fragments.length);
 		Assertions.assertEquals(new Position(fMasterDocument.getLength() - 10, 10), fragments[0]);
 	}
+
+	@Test
+	public void testManyFoldedRegions() throws BadLocationException {
+		StringBuilder content= new StringBuilder();
+		for (int i= 0; i < 2000; i++) {
+			content.append("line ").append(i).append('\n');
+		}
+		fMasterDocument.set(content.toString());
+		fSlaveDocument.addMasterDocumentRange(0, fMasterDocument.getLength());
+
+		// fold every second line
+		for (int line= fMasterDocument.getNumberOfLines() - 2; line >= 1; line-= 2) {
+			IRegion region= fMasterDocument.getLineInformation(line);
+			fSlaveDocument.removeMasterDocumentRange(region.getOffset(), region.getLength() + 1);
+		}
+		assertSlaveContents(expectedSlaveContents());
+
+		// edit inside, between and at the end of the projected lines
+		fMasterDocument.replace(fMasterDocument.getLineOffset(10), 4, "LINE");
+		fMasterDocument.replace(fMasterDocument.getLineOffset(11), 0, "hidden");
+		fMasterDocument.replace(fMasterDocument.getLength(), 0, "end");
+		assertSlaveContents(expectedSlaveContents());
+		Assertions.assertEquals(fSlaveDocument.get().length(), fSlaveDocument.getLength());
+		Assertions.assertEquals(fMasterDocument.getLineOffset(1000), fSlaveDocument.getProjectionMapping().toOriginOffset(fSlaveDocument.getLineOffset(500)));
+	}
+
+	private String expectedSlaveContents() throws BadLocationException {
+		StringBuilder expected= new StringBuilder();
+		for (int line= 0; line < fMasterDocument.getNumberOfLines(); line+= 2) {
+			IRegion region= fMasterDocument.getLineInformation(line);
+			expected.append(fMasterDocument.get(region.getOffset(), region.getLength()));
+			if (line < fMasterDocument.getNumberOfLines() - 1) {
+				expected.append('\n');
+			}
+		}
+		return expected.toString();
+	}
 }
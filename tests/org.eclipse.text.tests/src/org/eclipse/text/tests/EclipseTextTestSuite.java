@@ -47,6 +47,7 @@ import org.eclipse.text.tests.templates.TemplatesTestSuite;
 		TextUtilitiesTest.class,
 		AnnotationModelStressTest.class,
 		AnnotationModelExtension2Test.class,
+		RangeIndexedAnnotationModelTest.class,
 		TemplatesTestSuite.class
 })
 public class EclipseTextTestSuite {
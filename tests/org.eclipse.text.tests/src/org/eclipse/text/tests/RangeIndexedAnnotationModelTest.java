@@ -0,0 +1,239 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.text.tests;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import org.eclipse.jface.text.BadLocationException;
+import org.eclipse.jface.text.Document;
+import org.eclipse.jface.text.DocumentEvent;
+import org.eclipse.jface.text.IDocumentListener;
+import org.eclipse.jface.text.Position;
+import org.eclipse.jface.text.source.Annotation;
+import org.eclipse.jface.text.source.AnnotationModelEvent;
+import org.eclipse.jface.text.source.IAnnotationModel;
+import org.eclipse.jface.text.source.IAnnotationModelListener;
+import org.eclipse.jface.text.source.IAnnotationModelListenerExtension;
+import org.eclipse.jface.text.source.RangeIndexedAnnotationModel;
+
+/**
+ * Tests {@link RangeIndexedAnnotationModel}.
+ *
+ * @since 3.15
+ */
+public class RangeIndexedAnnotationModelTest {
+
+	private static class EventCounter implements IAnnotationModelListener, IAnnotationModelListenerExtension {
+
+		int fEvents;
+		AnnotationModelEvent fLastEvent;
+
+		@Override
+		public void modelChanged(IAnnotationModel model) {
+		}
+
+		@Override
+		public void modelChanged(AnnotationModelEvent event) {
+			fEvents++;
+			fLastEvent= event;
+		}
+	}
+
+	private Document fDocument;
+	private RangeIndexedAnnotationModel fModel;
+
+	@BeforeEach
+	public void setUp() {
+		StringBuilder content= new StringBuilder();
+		for (int i= 0; i < 500; i++) {
+			content.append("line ").append(i).append('\n');
+		}
+		fDocument= new Document(content.toString());
+		fModel= new RangeIndexedAnnotationModel();
+		fModel.connect(fDocument);
+	}
+
+	@AfterEach
+	public void tearDown() {
+		fModel.disconnect(fDocument);
+	}
+
+	@Test
+	public void testRegionQueryIsOrderedByOffset() {
+		Annotation a1= new Annotation(false);
+		Annotation a2= new Annotation(false);
+		Annotation a3= new Annotation(false);
+		fModel.addAnnotation(a3, new Position(30, 5));
+		fModel.addAnnotation(a1, new Position(10, 5));
+		fModel.addAnnotation(a2, new Position(20, 5));
+
+		assertEquals(List.of(a1, a2, a3), toList(fModel.getAnnotationIterator(0, 100, true, true)));
+		assertEquals(List.of(a2), toList(fModel.getAnnotationIterator(18, 10, false, false)));
+		assertEquals(List.of(a1, a2), toList(fModel.getAnnotationIterator(12, 10, true, true)));
+	}
+
+	@Test
+	public void testIndexFollowsDocumentChanges() throws BadLocationException {
+		Annotation annotation= new Annotation(false);
+		fModel.addAnnotation(annotation, new Position(100, 5));
+
+		fDocument.replace(0, 0, "0123456789");
+
+		assertTrue(toList(fModel.getAnnotationIterator(100, 5, false, false)).isEmpty());
+		assertEquals(List.of(annotation), toList(fModel.getAnnotationIterator(110, 5, false, false)));
+	}
+
+	@Test
+	public void testQueriesOfEarlierDocumentListenersSeeTheChange() throws BadLocationException {
+		fModel.disconnect(fDocument);
+		Annotation annotation= new Annotation(false);
+		List<List<Annotation>> results= new ArrayList<>();
+		IDocumentListener listener= new IDocumentListener() {
+			@Override
+			public void documentAboutToBeChanged(DocumentEvent event) {
+				results.add(toList(fModel.getAnnotationIterator(100, 5, false, false)));
+			}
+
+			@Override
+			public void documentChanged(DocumentEvent event) {
+				results.add(toList(fModel.getAnnotationIterator(110, 5, false, false)));
+			}
+		};
+		// notified before the model
+		fDocument.addDocumentListener(listener);
+		fModel.connect(fDocument);
+		fModel.addAnnotation(annotation, new Position(100, 5));
+		assertEquals(List.of(annotation), toList(fModel.getAnnotationIterator(100, 5, false, false)));
+
+		fDocument.replace(0, 0, "0123456789");
+		fDocument.removeDocumentListener(listener);
+
+		assertEquals(List.of(List.of(annotation), List.of(annotation)), results);
+	}
+
+	@Test
+	public void testModifyAnnotationPosition() {
+		Annotation annotation= new Annotation(false);
+		fModel.addAnnotation(annotation, new Position(100, 5));
+		fModel.modifyAnnotationPosition(annotation, new Position(200, 5));
+
+		assertTrue(toList(fModel.getAnnotationIterator(100, 5, true, true)).isEmpty());
+		assertEquals(List.of(annotation), toList(fModel.getAnnotationIterator(200, 5, true, true)));
+	}
+
+	@Test
+	public void testBatchSendsSingleEvent() {
+		EventCounter counter= new EventCounter();
+		fModel.addAnnotationModelListener(counter);
+		counter.fEvents= 0;
+
+		Annotation a1= new Annotation(false);
+		Annotation a2= new Annotation(false);
+		fModel.startBatch();
+		fModel.addAnnotation(a1, new Position(10, 5));
+		fModel.startBatch();
+		fModel.addAnnotation(a2, new Position(20, 5));
+		fModel.stopBatch();
+		fModel.removeAnnotation(a1);
+		assertTrue(fModel.isInBatch());
+		assertEquals(0, counter.fEvents);
+		fModel.stopBatch();
+
+		assertFalse(fModel.isInBatch());
+		assertEquals(1, counter.fEvents);
+		assertEquals(2, counter.fLastEvent.getAddedAnnotations().length);
+		assertEquals(1, counter.fLastEvent.getRemovedAnnotations().length);
+		fModel.removeAnnotationModelListener(counter);
+	}
+
+	@Test
+	public void testRandomOperationsMatchRegionSemantics() throws BadLocationException {
+		Random random= new Random(42);
+		List<Annotation> annotations= new ArrayList<>();
+		for (int i= 0; i < 2000; i++) {
+			int length= fDocument.getLength();
+			int operation= random.nextInt(10);
+			if (operation < 5) {
+				int offset= random.nextInt(length);
+				Annotation annotation= new Annotation(false);
+				fModel.addAnnotation(annotation, new Position(offset, random.nextInt(Math.min(50, length - offset) + 1)));
+				annotations.add(annotation);
+			} else if (operation < 6 && !annotations.isEmpty()) {
+				fModel.removeAnnotation(annotations.remove(random.nextInt(annotations.size())));
+			} else if (operation < 8) {
+				int offset= random.nextInt(length);
+				fDocument.replace(offset, random.nextInt(Math.min(20, length - offset) + 1), random.nextBoolean() ? "" : "xy");
+			} else if (!annotations.isEmpty()) {
+				Map<Annotation, Position> added= new HashMap<>();
+				Annotation annotation= new Annotation(false);
+				added.put(annotation, new Position(random.nextInt(length), 1));
+				fModel.replaceAnnotations(new Annotation[] { annotations.remove(random.nextInt(annotations.size())) }, added);
+				annotations.add(annotation);
+			}
+
+			int offset= random.nextInt(fDocument.getLength());
+			int length2= random.nextInt(200);
+			boolean canStartBefore= random.nextBoolean();
+			boolean canEndAfter= random.nextBoolean();
+			assertEquals(expected(offset, length2, canStartBefore, canEndAfter), new HashSet<>(toList(fModel.getAnnotationIterator(offset, length2, canStartBefore, canEndAfter))));
+		}
+	}
+
+	private Set<Annotation> expected(int offset, int length, boolean canStartBefore, boolean canEndAfter) {
+		Position region= new Position(offset, length);
+		Set<Annotation> expected= new HashSet<>();
+		Iterator<Annotation> iterator= fModel.getAnnotationIterator();
+		while (iterator.hasNext()) {
+			Annotation annotation= iterator.next();
+			Position position= fModel.getPosition(annotation);
+			int start= position.getOffset();
+			int last= start + position.getLength() - (position.getLength() > 0 ? 1 : 0);
+			boolean inside;
+			if (canStartBefore && canEndAfter) {
+				inside= region.overlapsWith(start, position.getLength());
+			} else if (canStartBefore) {
+				inside= region.includes(last);
+			} else if (canEndAfter) {
+				inside= region.includes(start);
+			} else {
+				inside= region.includes(start) && region.includes(last);
+			}
+			if (inside) {
+				expected.add(annotation);
+			}
+		}
+		return expected;
+	}
+
+	private static List<Annotation> toList(Iterator<Annotation> iterator) {
+		List<Annotation> list= new ArrayList<>();
+		iterator.forEachRemaining(list::add);
+		return list;
+	}
+}
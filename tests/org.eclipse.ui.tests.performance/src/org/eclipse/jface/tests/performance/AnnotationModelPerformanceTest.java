@@ -0,0 +1,120 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+
+package org.eclipse.jface.tests.performance;
+
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+
+import org.eclipse.jface.text.Document;
+import org.eclipse.jface.text.Position;
+import org.eclipse.jface.text.source.Annotation;
+import org.eclipse.jface.text.source.AnnotationModel;
+import org.eclipse.jface.text.source.RangeIndexedAnnotationModel;
+import org.eclipse.test.performance.PerformanceTestCaseJunit4;
+import org.eclipse.ui.tests.performance.UIPerformanceTestRule;
+import org.junit.ClassRule;
+import org.junit.Test;
+
+/**
+ * Compares region queries and bulk replacement of {@link AnnotationModel}
+ * and {@link RangeIndexedAnnotationModel} with 200k annotations.
+ */
+public class AnnotationModelPerformanceTest extends PerformanceTestCaseJunit4 {
+
+	@ClassRule
+	public static final UIPerformanceTestRule uiPerformanceTestRule = new UIPerformanceTestRule();
+
+	private static final int ANNOTATION_COUNT = 200000;
+	private static final int LINE_LENGTH = 10;
+	private static final int QUERY_COUNT = 2000;
+	private static final int REPLACE_COUNT = 1000;
+
+	private static String fContent;
+
+	@Test
+	public void testAnnotationModelRegionQueries() {
+		measureRegionQueries(new AnnotationModel());
+	}
+
+	@Test
+	public void testRangeIndexedAnnotationModelRegionQueries() {
+		measureRegionQueries(new RangeIndexedAnnotationModel());
+	}
+
+	@Test
+	public void testAnnotationModelReplaceAnnotations() {
+		measureReplaceAnnotations(new AnnotationModel());
+	}
+
+	@Test
+	public void testRangeIndexedAnnotationModelReplaceAnnotations() {
+		measureReplaceAnnotations(new RangeIndexedAnnotationModel());
+	}
+
+	private void measureRegionQueries(AnnotationModel model) {
+		Document document = createDocument(model);
+		for (int i = 0; i < 10; i++) {
+			startMeasuring();
+			for (int q = 0; q < QUERY_COUNT; q++) {
+				int offset = (q * 997) % document.getLength();
+				Iterator<Annotation> iterator = model.getAnnotationIterator(offset, 800, true, true);
+				while (iterator.hasNext()) {
+					iterator.next();
+				}
+			}
+			stopMeasuring();
+		}
+		model.disconnect(document);
+		commitMeasurements();
+		assertPerformance();
+	}
+
+	private void measureReplaceAnnotations(AnnotationModel model) {
+		Document document = createDocument(model);
+		Annotation[] previous = new Annotation[0];
+		for (int i = 0; i < 10; i++) {
+			Map<Annotation, Position> added = new HashMap<>();
+			for (int j = 0; j < REPLACE_COUNT; j++) {
+				added.put(new Annotation(false), new Position(((i * REPLACE_COUNT + j) * 37 % ANNOTATION_COUNT) * LINE_LENGTH, 3));
+			}
+			startMeasuring();
+			model.replaceAnnotations(previous, added);
+			stopMeasuring();
+			previous = added.keySet().toArray(new Annotation[added.size()]);
+		}
+		model.disconnect(document);
+		commitMeasurements();
+		assertPerformance();
+	}
+
+	private static Document createDocument(AnnotationModel model) {
+		if (fContent == null) {
+			StringBuilder content = new StringBuilder(ANNOTATION_COUNT * LINE_LENGTH);
+			for (int i = 0; i < ANNOTATION_COUNT; i++) {
+				content.append("abcdefghi\n");
+			}
+			fContent = content.toString();
+		}
+		Document document = new Document(fContent);
+		model.connect(document);
+		Map<Annotation, Position> annotations = new HashMap<>();
+		for (int i = 0; i < ANNOTATION_COUNT; i++) {
+			annotations.put(new Annotation(false), new Position(i * LINE_LENGTH, 5));
+		}
+		model.replaceAnnotations(null, annotations);
+		return document;
+	}
+}
@@ -29,6 +29,12 @@ import org.junit.platform.suite.api.SelectClasses;
 		ProgressMonitorDialogPerformanceTest.class, //
 		ShrinkingTreeTest.class, //
 		CollatorPerformanceTest.class, //
+		AnnotationModelPerformanceTest.class, //
+		ProjectionViewerPerformanceTest.class, //
+		TextViewerScrollingPerformanceTest.class, //
+		TextPresentationPerformanceTest.class, //
+		ViewerComparatorSortTest.class, //
+		LazySortedCollectionPerformanceTest.class, //
 })
 public class JFacePerformanceSuite {
 	//Specify the minimum number of iterations
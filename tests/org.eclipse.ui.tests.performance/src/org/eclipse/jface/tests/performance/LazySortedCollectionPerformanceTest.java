@@ -0,0 +1,115 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+
+package org.eclipse.jface.tests.performance;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.Comparator;
+
+import org.eclipse.jface.viewers.deferred.LazySortedCollection;
+import org.eclipse.test.performance.PerformanceTestCaseJunit4;
+import org.eclipse.ui.tests.performance.UIPerformanceTestRule;
+import org.junit.ClassRule;
+import org.junit.Test;
+
+/**
+ * Measures the throughput of inserting, removing and sorting a million rows in
+ * the {@link LazySortedCollection} used by the deferred content provider.
+ */
+public class LazySortedCollectionPerformanceTest extends PerformanceTestCaseJunit4 {
+
+	@ClassRule
+	public static final UIPerformanceTestRule uiPerformanceTestRule = new UIPerformanceTestRule();
+
+	private static final int ROW_COUNT = 1000000;
+
+	private static final int ITERATIONS = 5;
+
+	/**
+	 * The number of rows of a visible range of a virtual table
+	 */
+	private static final int VISIBLE_ROWS = 100;
+
+	private static final Comparator<Object> COMPARATOR = (o1, o2) -> Integer.compare((Integer) o1,
+			(Integer) o2);
+
+	private static Integer[] rows;
+
+	public LazySortedCollectionPerformanceTest() {
+		if (rows == null) {
+			rows = new Integer[ROW_COUNT];
+			for (int i = 0; i < ROW_COUNT; i++) {
+				// spread the rows, so that they are not presorted
+				rows[i] = Integer.valueOf((int) ((i * 7919L) % ROW_COUNT));
+			}
+		}
+	}
+
+	/**
+	 * Inserts all rows and sorts the first visible range.
+	 */
+	@Test
+	public void testInsert() {
+		for (int i = 0; i < ITERATIONS; i++) {
+			LazySortedCollection collection = new LazySortedCollection(COMPARATOR);
+			startMeasuring();
+			collection.addAll(rows);
+			collection.getFirst(new Object[VISIBLE_ROWS], true);
+			stopMeasuring();
+			assertEquals(ROW_COUNT, collection.size());
+		}
+		commitMeasurements();
+		assertPerformance();
+	}
+
+	/**
+	 * Removes every other row from a partially sorted collection.
+	 */
+	@Test
+	public void testRemove() {
+		Object[] toRemove = new Object[ROW_COUNT / 2];
+		for (int i = 0; i < toRemove.length; i++) {
+			toRemove[i] = rows[i * 2];
+		}
+		for (int i = 0; i < ITERATIONS; i++) {
+			LazySortedCollection collection = new LazySortedCollection(COMPARATOR);
+			collection.addAll(rows);
+			collection.getFirst(new Object[VISIBLE_ROWS], true);
+			startMeasuring();
+			collection.removeAll(toRemove);
+			stopMeasuring();
+			assertEquals(ROW_COUNT - toRemove.length, collection.size());
+		}
+		commitMeasurements();
+		assertPerformance();
+	}
+
+	/**
+	 * Sorts all rows, as when the table is scrolled to the end.
+	 */
+	@Test
+	public void testSort() {
+		for (int i = 0; i < ITERATIONS; i++) {
+			LazySortedCollection collection = new LazySortedCollection(COMPARATOR);
+			collection.addAll(rows);
+			startMeasuring();
+			Object[] sorted = collection.getItems(true);
+			stopMeasuring();
+			assertEquals(Integer.valueOf(ROW_COUNT - 1), sorted[sorted.length - 1]);
+		}
+		commitMeasurements();
+		assertPerformance();
+	}
+}
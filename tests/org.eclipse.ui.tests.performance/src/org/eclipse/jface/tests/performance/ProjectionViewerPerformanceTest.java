@@ -0,0 +1,128 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+
+package org.eclipse.jface.tests.performance;
+
+import static org.eclipse.ui.tests.harness.util.UITestUtil.processEvents;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.eclipse.jface.text.BadLocationException;
+import org.eclipse.jface.text.Document;
+import org.eclipse.jface.text.Position;
+import org.eclipse.jface.text.source.AnnotationModel;
+import org.eclipse.jface.text.source.projection.ProjectionAnnotation;
+import org.eclipse.jface.text.source.projection.ProjectionAnnotationModel;
+import org.eclipse.jface.text.source.projection.ProjectionViewer;
+import org.eclipse.swt.SWT;
+import org.eclipse.swt.layout.FillLayout;
+import org.eclipse.swt.widgets.Shell;
+import org.eclipse.test.performance.PerformanceTestCaseJunit4;
+import org.eclipse.ui.tests.harness.util.CloseTestWindowsRule;
+import org.eclipse.ui.tests.performance.UIPerformanceTestRule;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.ClassRule;
+import org.junit.Rule;
+import org.junit.Test;
+
+/**
+ * Measures collapsing all folding regions of a 30k-line document in a
+ * {@link ProjectionViewer}.
+ */
+public class ProjectionViewerPerformanceTest extends PerformanceTestCaseJunit4 {
+
+	@ClassRule
+	public static final UIPerformanceTestRule uiPerformanceTestRule = new UIPerformanceTestRule();
+
+	@Rule
+	public final CloseTestWindowsRule closeTestWindows = new CloseTestWindowsRule();
+
+	private static final int LINE_COUNT = 30000;
+	private static final int LINES_PER_REGION = 5;
+
+	private Shell fShell;
+	private ProjectionViewer fViewer;
+	private final List<ProjectionAnnotation> fAnnotations = new ArrayList<>();
+
+	@Before
+	public void setUp() throws BadLocationException {
+		fShell = new Shell();
+		fShell.setLayout(new FillLayout());
+		fViewer = new ProjectionViewer(fShell, null, null, false, SWT.V_SCROLL | SWT.H_SCROLL);
+		StringBuilder content = new StringBuilder();
+		for (int i = 0; i < LINE_COUNT; i++) {
+			content.append(i % LINES_PER_REGION == 0 ? "method" : "\tstatement").append(i).append('\n');
+		}
+		Document document = new Document(content.toString());
+		fViewer.setDocument(document, new AnnotationModel());
+		fViewer.enableProjection();
+		ProjectionAnnotationModel model = fViewer.getProjectionAnnotationModel();
+		for (int line = 0; line + LINES_PER_REGION <= LINE_COUNT; line += LINES_PER_REGION) {
+			int offset = document.getLineOffset(line);
+			ProjectionAnnotation annotation = new ProjectionAnnotation();
+			model.addAnnotation(annotation, new Position(offset, document.getLineOffset(line + LINES_PER_REGION) - offset));
+			fAnnotations.add(annotation);
+		}
+		fShell.setSize(800, 600);
+		fShell.open();
+		processEvents();
+	}
+
+	@After
+	public void tearDown() {
+		fShell.dispose();
+		fAnnotations.clear();
+	}
+
+	/**
+	 * Collapses all regions with the collapse all operation.
+	 */
+	@Test
+	public void testCollapseAll() {
+		for (int i = 0; i < 10; i++) {
+			startMeasuring();
+			fViewer.doOperation(ProjectionViewer.COLLAPSE_ALL);
+			processEvents();
+			stopMeasuring();
+			fViewer.doOperation(ProjectionViewer.EXPAND_ALL);
+			processEvents();
+		}
+		commitMeasurements();
+		assertPerformance();
+	}
+
+	/**
+	 * Collapses all regions one by one in a projection transaction.
+	 */
+	@Test
+	public void testCollapseAllInTransaction() {
+		ProjectionAnnotationModel model = fViewer.getProjectionAnnotationModel();
+		for (int i = 0; i < 10; i++) {
+			startMeasuring();
+			fViewer.runInProjectionTransaction(() -> {
+				for (ProjectionAnnotation annotation : fAnnotations) {
+					model.collapse(annotation);
+				}
+			});
+			processEvents();
+			stopMeasuring();
+			fViewer.doOperation(ProjectionViewer.EXPAND_ALL);
+			processEvents();
+		}
+		commitMeasurements();
+		assertPerformance();
+	}
+}
@@ -0,0 +1,202 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+
+package org.eclipse.jface.tests.performance;
+
+import static org.eclipse.ui.tests.harness.util.UITestUtil.processEvents;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.lang.management.ManagementFactory;
+
+import org.eclipse.jface.text.Document;
+import org.eclipse.jface.text.StyleRuns;
+import org.eclipse.jface.text.TextPresentation;
+import org.eclipse.jface.text.TextViewer;
+import org.eclipse.swt.SWT;
+import org.eclipse.swt.custom.StyleRange;
+import org.eclipse.swt.layout.FillLayout;
+import org.eclipse.swt.widgets.Shell;
+import org.eclipse.test.performance.PerformanceTestCaseJunit4;
+import org.eclipse.ui.tests.harness.util.CloseTestWindowsRule;
+import org.eclipse.ui.tests.performance.UIPerformanceTestRule;
+import org.junit.After;
+import org.junit.Assume;
+import org.junit.Before;
+import org.junit.ClassRule;
+import org.junit.Rule;
+import org.junit.Test;
+
+/**
+ * Measures applying text presentations with many style ranges but few distinct styles to a
+ * {@link TextViewer}, as done by the presentation reconciler while typing and scrolling.
+ */
+public class TextPresentationPerformanceTest extends PerformanceTestCaseJunit4 {
+
+	@ClassRule
+	public static final UIPerformanceTestRule uiPerformanceTestRule = new UIPerformanceTestRule();
+
+	@Rule
+	public final CloseTestWindowsRule closeTestWindows = new CloseTestWindowsRule();
+
+	private static final int LINE_COUNT = 20000;
+
+	private static final int[] FONT_STYLES = { SWT.NORMAL, SWT.BOLD, SWT.ITALIC, SWT.BOLD | SWT.ITALIC };
+
+	private Shell fShell;
+	private TextViewer fViewer;
+
+	@Before
+	public void setUp() {
+		fShell = new Shell();
+		fShell.setLayout(new FillLayout());
+		fViewer = new TextViewer(fShell, SWT.V_SCROLL | SWT.H_SCROLL);
+		StringBuilder content = new StringBuilder(LINE_COUNT * 40);
+		for (int i = 0; i < LINE_COUNT; i++) {
+			content.append("\tline ").append(i).append(" of the presentation test document\n");
+		}
+		fViewer.setDocument(new Document(content.toString()));
+		fShell.setSize(800, 600);
+		fShell.open();
+		processEvents();
+	}
+
+	@After
+	public void tearDown() {
+		fShell.dispose();
+	}
+
+	/**
+	 * Creates a presentation with one style range per word of the given part of the document.
+	 */
+	private TextPresentation createPresentation(int offset, int length) {
+		String text = fViewer.getDocument().get();
+		TextPresentation presentation = new TextPresentation();
+		int end = offset + length;
+		int word = 0;
+		for (int start = offset; start < end;) {
+			int next = text.indexOf(' ', start);
+			next = next == -1 || next >= end ? end : next + 1;
+			presentation.addStyleRange(new StyleRange(start, next - start, null, null, FONT_STYLES[word++ % FONT_STYLES.length]));
+			start = next;
+		}
+		return presentation;
+	}
+
+	/**
+	 * Applies presentations of the whole document.
+	 */
+	@Test
+	public void testApplyDocumentPresentation() {
+		TextPresentation presentation = createPresentation(0, fViewer.getDocument().getLength());
+		for (int i = 0; i < 10; i++) {
+			startMeasuring();
+			for (int j = 0; j < 5; j++) {
+				fViewer.changeTextPresentation(presentation, true);
+			}
+			stopMeasuring();
+			processEvents();
+		}
+		commitMeasurements();
+		assertPerformance();
+
+		StyleRange[] ranges = fViewer.getTextWidget().getStyleRanges();
+		assertEquals(presentation.getDenumerableRanges(), ranges.length);
+	}
+
+	/**
+	 * Applies many small presentations, one per line, as the presentation reconciler does for
+	 * single line damages while typing.
+	 */
+	@Test
+	public void testApplyLinePresentations() throws Exception {
+		int lineCount = 2000;
+		TextPresentation[] presentations = new TextPresentation[lineCount];
+		for (int line = 0; line < lineCount; line++) {
+			int lineOffset = fViewer.getDocument().getLineOffset(line);
+			presentations[line] = createPresentation(lineOffset, fViewer.getDocument().getLineLength(line));
+		}
+		for (int i = 0; i < 10; i++) {
+			startMeasuring();
+			for (TextPresentation presentation : presentations) {
+				fViewer.changeTextPresentation(presentation, false);
+			}
+			stopMeasuring();
+			processEvents();
+		}
+		commitMeasurements();
+		assertPerformance();
+	}
+
+	/**
+	 * Measures the bytes allocated in the UI thread to apply a whole document presentation,
+	 * compared with a viewer which translates each style range into a copy, as all viewers did
+	 * before the styles were shared.
+	 */
+	@Test
+	public void testAllocations() {
+		Assume.assumeTrue(ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean);
+		TextViewer copyingViewer = new TextViewer(fShell, SWT.V_SCROLL | SWT.H_SCROLL) {
+			@Override
+			protected StyleRange modelStyleRange2WidgetStyleRange(StyleRange range) {
+				return super.modelStyleRange2WidgetStyleRange(range);
+			}
+		};
+		copyingViewer.setDocument(fViewer.getDocument());
+		TextPresentation presentation = createPresentation(0, fViewer.getDocument().getLength());
+
+		long sharedBytes = measureAllocations(fViewer, presentation);
+		long copiedBytes = measureAllocations(copyingViewer, presentation);
+		int rangeCount = presentation.getDenumerableRanges();
+		System.out.println(getClass().getSimpleName() + ": bytes allocated per style range: "
+				+ sharedBytes / rangeCount + " with shared styles, " + copiedBytes / rangeCount + " with copied ranges");
+		assertTrue(sharedBytes < copiedBytes);
+	}
+
+	/**
+	 * Returns the bytes allocated in the current thread to apply the given presentation to the
+	 * given viewer, the minimum of several runs.
+	 */
+	private static long measureAllocations(TextViewer viewer, TextPresentation presentation) {
+		com.sun.management.ThreadMXBean threadBean = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+		long min = Long.MAX_VALUE;
+		for (int i = 0; i < 5; i++) {
+			long before = threadBean.getCurrentThreadAllocatedBytes();
+			viewer.changeTextPresentation(presentation, true);
+			min = Math.min(min, threadBean.getCurrentThreadAllocatedBytes() - before);
+			processEvents();
+		}
+		return min;
+	}
+
+	/**
+	 * Checks that the style runs share the styles of a whole document presentation.
+	 */
+	@Test
+	public void testStyleRunsShareStyles() {
+		TextPresentation presentation = createPresentation(0, fViewer.getDocument().getLength());
+		StyleRuns runs = new StyleRuns();
+		for (int i = 0; i < 10; i++) {
+			startMeasuring();
+			runs.clear();
+			presentation.getAllStyleRangeIterator().forEachRemaining(range -> runs.add(range.start, range.length, range));
+			stopMeasuring();
+		}
+		commitMeasurements();
+		assertPerformance();
+
+		assertEquals(presentation.getDenumerableRanges(), runs.getRunCount());
+		assertEquals(FONT_STYLES.length, runs.getStyleCount());
+	}
+}
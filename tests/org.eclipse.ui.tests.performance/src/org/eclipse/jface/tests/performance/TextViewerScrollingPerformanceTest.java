@@ -0,0 +1,109 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+
+package org.eclipse.jface.tests.performance;
+
+import static org.eclipse.ui.tests.harness.util.UITestUtil.processEvents;
+
+import org.eclipse.jface.text.Document;
+import org.eclipse.jface.text.TextViewer;
+import org.eclipse.swt.SWT;
+import org.eclipse.swt.custom.StyledText;
+import org.eclipse.swt.layout.FillLayout;
+import org.eclipse.swt.widgets.Shell;
+import org.eclipse.test.performance.PerformanceTestCaseJunit4;
+import org.eclipse.ui.tests.harness.util.CloseTestWindowsRule;
+import org.eclipse.ui.tests.performance.UIPerformanceTestRule;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.ClassRule;
+import org.junit.Rule;
+import org.junit.Test;
+
+/**
+ * Measures scrolling through a 1M-line document in a {@link TextViewer}.
+ */
+public class TextViewerScrollingPerformanceTest extends PerformanceTestCaseJunit4 {
+
+	@ClassRule
+	public static final UIPerformanceTestRule uiPerformanceTestRule = new UIPerformanceTestRule();
+
+	@Rule
+	public final CloseTestWindowsRule closeTestWindows = new CloseTestWindowsRule();
+
+	private static final int LINE_COUNT = 1000000;
+
+	private Shell fShell;
+	private TextViewer fViewer;
+
+	@Before
+	public void setUp() {
+		fShell = new Shell();
+		fShell.setLayout(new FillLayout());
+		fViewer = new TextViewer(fShell, SWT.V_SCROLL | SWT.H_SCROLL);
+		StringBuilder content = new StringBuilder(LINE_COUNT * 40);
+		for (int i = 0; i < LINE_COUNT; i++) {
+			content.append("\tline ").append(i).append(" of the scrolling test document\n");
+		}
+		fViewer.setDocument(new Document(content.toString()));
+		fShell.setSize(800, 600);
+		fShell.open();
+		processEvents();
+	}
+
+	@After
+	public void tearDown() {
+		fShell.dispose();
+	}
+
+	/**
+	 * Scrolls line by line, painting each step.
+	 */
+	@Test
+	public void testScrollByLine() {
+		StyledText textWidget = fViewer.getTextWidget();
+		for (int i = 0; i < 10; i++) {
+			fViewer.setTopIndex(i * 50000);
+			processEvents();
+			startMeasuring();
+			for (int line = 0; line < 200; line++) {
+				textWidget.setTopIndex(textWidget.getTopIndex() + 1);
+				textWidget.update();
+			}
+			stopMeasuring();
+		}
+		commitMeasurements();
+		assertPerformance();
+	}
+
+	/**
+	 * Jumps through the whole document in 500 steps, painting each step.
+	 */
+	@Test
+	public void testScrollThroughDocument() {
+		StyledText textWidget = fViewer.getTextWidget();
+		for (int i = 0; i < 10; i++) {
+			fViewer.setTopIndex(0);
+			processEvents();
+			startMeasuring();
+			for (int line = 0; line < LINE_COUNT; line += LINE_COUNT / 500) {
+				textWidget.setTopIndex(line);
+				textWidget.update();
+			}
+			stopMeasuring();
+		}
+		commitMeasurements();
+		assertPerformance();
+	}
+}
@@ -0,0 +1,97 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+
+package org.eclipse.jface.tests.performance;
+
+import static org.junit.Assert.assertTrue;
+
+import java.text.Collator;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.eclipse.jface.viewers.LabelProvider;
+import org.eclipse.jface.viewers.TableViewer;
+import org.eclipse.jface.viewers.ViewerComparator;
+import org.eclipse.swt.widgets.Shell;
+import org.eclipse.test.performance.PerformanceTestCaseJunit4;
+import org.eclipse.ui.tests.harness.util.CloseTestWindowsRule;
+import org.eclipse.ui.tests.performance.UIPerformanceTestRule;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.ClassRule;
+import org.junit.Rule;
+import org.junit.Test;
+
+/**
+ * Measures sorting many table elements by label with a collator, as done when
+ * the input of a sorted table viewer is refreshed.
+ */
+public class ViewerComparatorSortTest extends PerformanceTestCaseJunit4 {
+
+	@ClassRule
+	public static final UIPerformanceTestRule uiPerformanceTestRule = new UIPerformanceTestRule();
+
+	@Rule
+	public final CloseTestWindowsRule closeTestWindows = new CloseTestWindowsRule();
+
+	private static final int ELEMENT_COUNT = 200000;
+
+	private final AtomicInteger labelCount = new AtomicInteger();
+
+	private Shell shell;
+	private TableViewer viewer;
+	private TestElement[] elements;
+
+	@Before
+	public void setUp() {
+		shell = new Shell();
+		viewer = new TableViewer(shell);
+		viewer.setLabelProvider(new LabelProvider() {
+			@Override
+			public String getText(Object element) {
+				labelCount.incrementAndGet();
+				return ((TestElement) element).getText();
+			}
+		});
+		elements = new TestElement[ELEMENT_COUNT];
+		for (int i = 0; i < ELEMENT_COUNT; i++) {
+			// spread the elements, so that the array is not presorted
+			elements[i] = new TestElement((int) ((i * 7919L) % ELEMENT_COUNT));
+		}
+	}
+
+	@After
+	public void tearDown() {
+		shell.dispose();
+	}
+
+	/**
+	 * Sorts the elements with a comparator which compares the labels with a
+	 * collator.
+	 */
+	@Test
+	public void testSortWithCollator() {
+		ViewerComparator comparator = new ViewerComparator(Collator.getInstance());
+		for (int i = 0; i < 10; i++) {
+			Object[] toSort = elements.clone();
+			startMeasuring();
+			comparator.sort(viewer, toSort);
+			stopMeasuring();
+		}
+		commitMeasurements();
+		assertPerformance();
+
+		// the labels are obtained once per element and kept between sorts
+		assertTrue(labelCount.get() <= ELEMENT_COUNT);
+	}
+}
@@ -0,0 +1,123 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.ui.tests.decorators;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import org.eclipse.jface.viewers.ArrayContentProvider;
+import org.eclipse.jface.viewers.DecoratingLabelProvider;
+import org.eclipse.jface.viewers.ILabelProviderListener;
+import org.eclipse.jface.viewers.LabelProvider;
+import org.eclipse.jface.viewers.LabelProviderChangedEvent;
+import org.eclipse.jface.viewers.TableViewer;
+import org.eclipse.swt.layout.FillLayout;
+import org.eclipse.swt.widgets.Display;
+import org.eclipse.swt.widgets.Shell;
+import org.eclipse.swt.widgets.TableItem;
+import org.eclipse.ui.IDecoratorManager;
+import org.eclipse.ui.PlatformUI;
+import org.eclipse.ui.tests.harness.util.DisplayHelper;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Tests that the decoration updates of many elements are delivered in several
+ * batches.
+ */
+public class DecorationBatchTest implements ILabelProviderListener {
+
+	/**
+	 * More elements than the decoration scheduler delivers in its first batch.
+	 */
+	private static final int ELEMENT_COUNT = 2000;
+
+	private Shell shell;
+
+	private int eventCount;
+
+	private final Set<Object> updatedElements = new HashSet<>();
+
+	private IDecoratorManager getDecoratorManager() {
+		return PlatformUI.getWorkbench().getDecoratorManager();
+	}
+
+	@Before
+	public void setUp() throws Exception {
+		BackgroundColorDecorator.setUpColor();
+		getDecoratorManager().setEnabled(BackgroundColorDecorator.ID, true);
+		getDecoratorManager().addListener(this);
+		shell = new Shell(Display.getCurrent());
+		shell.setLayout(new FillLayout());
+	}
+
+	@After
+	public void tearDown() throws Exception {
+		shell.dispose();
+		getDecoratorManager().removeListener(this);
+		getDecoratorManager().setEnabled(BackgroundColorDecorator.ID, false);
+	}
+
+	@Override
+	public void labelProviderChanged(LabelProviderChangedEvent event) {
+		Object[] elements = event.getElements();
+		if (elements != null) {
+			eventCount++;
+			for (Object element : elements) {
+				updatedElements.add(element);
+			}
+		}
+	}
+
+	@Test
+	public void testUpdatesAreBatched() {
+		String[] elements = new String[ELEMENT_COUNT];
+		for (int i = 0; i < ELEMENT_COUNT; i++) {
+			elements[i] = "batched element " + i;
+		}
+		TableViewer viewer = new TableViewer(shell);
+		viewer.setContentProvider(ArrayContentProvider.getInstance());
+		viewer.setLabelProvider(new DecoratingLabelProvider(new LabelProvider(), getDecoratorManager()));
+		viewer.setInput(elements);
+		shell.open();
+
+		boolean allUpdated = DisplayHelper.waitForCondition(shell.getDisplay(), 30000, () -> {
+			for (String element : elements) {
+				if (!updatedElements.contains(element)) {
+					return false;
+				}
+			}
+			return true;
+		});
+		assertTrue("Not all elements have been updated", allUpdated);
+		assertTrue("The updates have not been split into batches: " + eventCount, eventCount > 1);
+
+		// the viewer may get the last batch after this listener
+		TableItem[] items = viewer.getTable().getItems();
+		assertEquals(ELEMENT_COUNT, items.length);
+		boolean allDecorated = DisplayHelper.waitForCondition(shell.getDisplay(), 5000, () -> {
+			for (TableItem item : items) {
+				if (!BackgroundColorDecorator.color.equals(item.getBackground())) {
+					return false;
+				}
+			}
+			return true;
+		});
+		assertTrue("Not all elements have been decorated", allDecorated);
+	}
+}
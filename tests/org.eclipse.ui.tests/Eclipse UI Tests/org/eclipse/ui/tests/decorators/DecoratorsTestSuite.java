@@ -27,6 +27,7 @@ import org.junit.platform.suite.api.Suite;
 	DecoratorTableTest.class,
 	DecoratorAdaptableTests.class,
 	DecoratorCacheTest.class,
+	DecorationBatchTest.class,
 })
 public class DecoratorsTestSuite {
 }
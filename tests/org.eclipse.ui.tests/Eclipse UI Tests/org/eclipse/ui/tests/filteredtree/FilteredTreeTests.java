@@ -26,8 +26,10 @@ import org.eclipse.swt.layout.GridLayout;
 import org.eclipse.swt.widgets.Composite;
 import org.eclipse.swt.widgets.Control;
 import org.eclipse.swt.widgets.Shell;
+import org.eclipse.swt.widgets.Tree;
 import org.eclipse.ui.dialogs.FilteredTree;
 import org.eclipse.ui.dialogs.PatternFilter;
+import org.eclipse.ui.tests.harness.util.DisplayHelper;
 import org.junit.After;
 import org.junit.Test;
 
@@ -132,6 +134,30 @@ public class FilteredTreeTests {
 		dialog.close();
 	}
 
+	@Test
+	public void testBackgroundMatching() {
+		Dialog dialog = createFilteredTreeDialog();
+		fTreeViewer.setBackgroundMatching(true);
+		Tree tree = fTreeViewer.getViewer().getTree();
+
+		fTreeViewer.getFilterControl().setText("0-0-0-0 name-*");
+		boolean expanded = DisplayHelper.waitForCondition(tree.getDisplay(), 5000,
+				() -> tree.getItemCount() == 1 && tree.getItem(0).getExpanded()
+						&& tree.getItem(0).getItemCount() == 1);
+		Assert.isTrue(expanded, "matching elements were not shown");
+
+		fTreeViewer.getFilterControl().setText("0-0-0-0 name unknownWord");
+		boolean empty = DisplayHelper.waitForCondition(tree.getDisplay(), 5000, () -> tree.getItemCount() == 0);
+		Assert.isTrue(empty, "tree item count " + tree.getItemCount() + " does not match expected: 0");
+
+		fTreeViewer.getFilterControl().setText("");
+		boolean all = DisplayHelper.waitForCondition(tree.getDisplay(), 5000,
+				() -> tree.getItemCount() == NUM_ITEMS);
+		Assert.isTrue(all, "tree item count " + tree.getItemCount() + " does not match expected: " + NUM_ITEMS);
+
+		dialog.close();
+	}
+
 	private void runFilteredTreeTest(final int treeStyle){
 		Dialog dialog = createFilteredTreeDialog(treeStyle);
 
@@ -158,4 +158,21 @@ public class PatternFilterTest {
 		filter.setPattern("**c*e*i");
 		assertTrue(filter.select(viewer, null, "AbCdEfGi"));
 	}
+
+	@Test
+	public void testNarrowingPattern() {
+		class TestPatternFilter extends PatternFilter {
+			boolean narrowing(String oldPattern, String newPattern) {
+				return isNarrowing(oldPattern, newPattern);
+			}
+		}
+		TestPatternFilter filter = new TestPatternFilter();
+		assertTrue(filter.narrowing(null, "a"));
+		assertTrue(filter.narrowing("a", "ab"));
+		assertTrue(filter.narrowing("a", "a b"));
+		assertFalse(filter.narrowing("ab", "a"));
+		assertFalse(filter.narrowing("a", "b"));
+		assertFalse(filter.narrowing("a ", "a b"));
+		assertFalse(filter.narrowing("a", null));
+	}
 }
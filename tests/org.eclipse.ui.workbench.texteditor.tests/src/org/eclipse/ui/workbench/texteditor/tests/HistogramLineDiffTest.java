@@ -0,0 +1,189 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.ui.workbench.texteditor.tests;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.List;
+import java.util.Random;
+
+import org.junit.Test;
+
+import org.eclipse.ui.internal.texteditor.quickdiff.HistogramLineDiff;
+import org.eclipse.ui.internal.texteditor.quickdiff.QuickDiffRangeDifference;
+import org.eclipse.ui.internal.texteditor.quickdiff.compare.equivalence.DJBHashFunction;
+import org.eclipse.ui.internal.texteditor.quickdiff.compare.equivalence.Hash;
+import org.eclipse.ui.internal.texteditor.quickdiff.compare.equivalence.IHashFunction;
+
+import org.eclipse.compare.rangedifferencer.RangeDifference;
+
+/**
+ * Tests for the {@link HistogramLineDiff}.
+ */
+public class HistogramLineDiffTest {
+
+	private final IHashFunction fHashFunction= new DJBHashFunction();
+
+	@Test
+	public void testEqual() {
+		List<QuickDiffRangeDifference> diffs= diff("a b c", "a b c");
+		assertEquals(1, diffs.size());
+		assertRange(diffs.get(0), RangeDifference.NOCHANGE, 0, 3, 0, 3);
+	}
+
+	@Test
+	public void testEmpty() {
+		assertTrue(diff("", "").isEmpty());
+		List<QuickDiffRangeDifference> diffs= diff("", "a b");
+		assertEquals(1, diffs.size());
+		assertRange(diffs.get(0), RangeDifference.CHANGE, 0, 0, 0, 2);
+	}
+
+	@Test
+	public void testInsertion() {
+		List<QuickDiffRangeDifference> diffs= diff("a b c", "a b x y c");
+		assertEquals(3, diffs.size());
+		assertRange(diffs.get(0), RangeDifference.NOCHANGE, 0, 2, 0, 2);
+		assertRange(diffs.get(1), RangeDifference.CHANGE, 2, 0, 2, 2);
+		assertRange(diffs.get(2), RangeDifference.NOCHANGE, 2, 1, 4, 1);
+	}
+
+	@Test
+	public void testDeletion() {
+		List<QuickDiffRangeDifference> diffs= diff("a b c d", "b c d");
+		assertEquals(2, diffs.size());
+		assertRange(diffs.get(0), RangeDifference.CHANGE, 0, 1, 0, 0);
+		assertRange(diffs.get(1), RangeDifference.NOCHANGE, 1, 3, 0, 3);
+	}
+
+	@Test
+	public void testUniqueLinesAreAligned() {
+		// the unique line "u" is used as anchor, although aligning the two "x" lines would keep more
+		// lines unchanged
+		List<QuickDiffRangeDifference> diffs= diff("x x u y", "u x x y");
+		assertValid(diffs, 4, 4);
+		assertRange(diffs.get(0), RangeDifference.CHANGE, 0, 2, 0, 0);
+		assertRange(diffs.get(1), RangeDifference.NOCHANGE, 2, 1, 0, 1);
+	}
+
+	@Test
+	public void testRandomEdits() {
+		Random random= new Random(4711);
+		for (int run= 0; run < 500; run++) {
+			Hash[] left= randomLines(random, random.nextInt(60));
+			Hash[] right= edit(random, left);
+			List<QuickDiffRangeDifference> diffs= HistogramLineDiff.diff(left, right, null);
+			assertValid(diffs, left.length, right.length);
+			for (QuickDiffRangeDifference d : diffs) {
+				if (d.kind() == RangeDifference.NOCHANGE) {
+					for (int i= 0; i < d.leftLength(); i++) {
+						assertEquals(left[d.leftStart() + i], right[d.rightStart() + i]);
+					}
+				}
+			}
+		}
+	}
+
+	@Test
+	public void testLargeInputWithFewChanges() {
+		Random random= new Random(17);
+		Hash[] left= new Hash[100000];
+		for (int i= 0; i < left.length; i++) {
+			left[i]= fHashFunction.computeHash("line " + i + " " + random.nextInt(10));
+		}
+		Hash[] right= left.clone();
+		right[500]= fHashFunction.computeHash("changed");
+		right[70000]= fHashFunction.computeHash("changed");
+
+		List<QuickDiffRangeDifference> diffs= HistogramLineDiff.diff(left, right, null);
+		assertValid(diffs, left.length, right.length);
+		assertEquals(5, diffs.size());
+		assertRange(diffs.get(1), RangeDifference.CHANGE, 500, 1, 500, 1);
+		assertRange(diffs.get(3), RangeDifference.CHANGE, 70000, 1, 70000, 1);
+	}
+
+	private List<QuickDiffRangeDifference> diff(String left, String right) {
+		return HistogramLineDiff.diff(toHashes(left), toHashes(right), null);
+	}
+
+	private Hash[] toHashes(String lines) {
+		if (lines.isEmpty()) {
+			return new Hash[0];
+		}
+		String[] split= lines.split(" ");
+		Hash[] hashes= new Hash[split.length];
+		for (int i= 0; i < split.length; i++) {
+			hashes[i]= fHashFunction.computeHash(split[i]);
+		}
+		return hashes;
+	}
+
+	private Hash[] randomLines(Random random, int count) {
+		Hash[] hashes= new Hash[count];
+		for (int i= 0; i < count; i++) {
+			hashes[i]= fHashFunction.computeHash(String.valueOf((char) ('a' + random.nextInt(6))));
+		}
+		return hashes;
+	}
+
+	private Hash[] edit(Random random, Hash[] lines) {
+		Hash[] result= lines.clone();
+		int edits= random.nextInt(5);
+		for (int i= 0; i < edits; i++) {
+			int at= random.nextInt(result.length + 1);
+			int removed= Math.min(result.length - at, random.nextInt(4));
+			Hash[] inserted= randomLines(random, random.nextInt(4));
+			Hash[] edited= new Hash[result.length - removed + inserted.length];
+			System.arraycopy(result, 0, edited, 0, at);
+			System.arraycopy(inserted, 0, edited, at, inserted.length);
+			System.arraycopy(result, at + removed, edited, at + inserted.length, result.length - at - removed);
+			result= edited;
+		}
+		return result;
+	}
+
+	/**
+	 * Asserts that the differences alternate between unchanged and changed ranges and cover both
+	 * sides without gaps.
+	 */
+	private static void assertValid(List<QuickDiffRangeDifference> diffs, int leftLength, int rightLength) {
+		int left= 0;
+		int right= 0;
+		int previousKind= -1;
+		for (QuickDiffRangeDifference d : diffs) {
+			assertEquals(left, d.leftStart());
+			assertEquals(right, d.rightStart());
+			assertTrue(d.kind() != previousKind);
+			if (d.kind() == RangeDifference.NOCHANGE) {
+				assertEquals(d.leftLength(), d.rightLength());
+			} else {
+				assertTrue(d.leftLength() > 0 || d.rightLength() > 0);
+			}
+			left= d.leftEnd();
+			right= d.rightEnd();
+			previousKind= d.kind();
+		}
+		assertEquals(leftLength, left);
+		assertEquals(rightLength, right);
+	}
+
+	private static void assertRange(QuickDiffRangeDifference d, int kind, int leftStart, int leftLength, int rightStart, int rightLength) {
+		assertEquals(kind, d.kind());
+		assertEquals(leftStart, d.leftStart());
+		assertEquals(leftLength, d.leftLength());
+		assertEquals(rightStart, d.rightStart());
+		assertEquals(rightLength, d.rightLength());
+	}
+}
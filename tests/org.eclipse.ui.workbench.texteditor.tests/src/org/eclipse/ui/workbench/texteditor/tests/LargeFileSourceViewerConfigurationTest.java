@@ -0,0 +1,97 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.ui.workbench.texteditor.tests;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+
+import org.junit.Test;
+
+import org.eclipse.jface.text.IDocument;
+import org.eclipse.jface.text.codemining.ICodeMiningProvider;
+import org.eclipse.jface.text.hyperlink.IHyperlinkDetector;
+import org.eclipse.jface.text.hyperlink.URLHyperlinkDetector;
+import org.eclipse.jface.text.presentation.IPresentationReconciler;
+import org.eclipse.jface.text.presentation.PresentationReconciler;
+import org.eclipse.jface.text.reconciler.IReconciler;
+import org.eclipse.jface.text.reconciler.MonoReconciler;
+import org.eclipse.jface.text.source.ISourceViewer;
+import org.eclipse.jface.text.source.SourceViewerConfiguration;
+
+import org.eclipse.ui.internal.texteditor.LargeFileSourceViewerConfiguration;
+
+/**
+ * Tests for the {@link LargeFileSourceViewerConfiguration}.
+ */
+public class LargeFileSourceViewerConfigurationTest {
+
+	private static class FullConfiguration extends SourceViewerConfiguration {
+
+		@Override
+		public int getTabWidth(ISourceViewer sourceViewer) {
+			return 7;
+		}
+
+		@Override
+		public String[] getConfiguredContentTypes(ISourceViewer sourceViewer) {
+			return new String[] { IDocument.DEFAULT_CONTENT_TYPE, "comment" };
+		}
+
+		@Override
+		public IReconciler getReconciler(ISourceViewer sourceViewer) {
+			return new MonoReconciler(null, false);
+		}
+
+		@Override
+		public IPresentationReconciler getPresentationReconciler(ISourceViewer sourceViewer) {
+			return new PresentationReconciler();
+		}
+
+		@Override
+		public IHyperlinkDetector[] getHyperlinkDetectors(ISourceViewer sourceViewer) {
+			return new IHyperlinkDetector[] { new URLHyperlinkDetector() };
+		}
+
+		@Override
+		public ICodeMiningProvider[] getCodeMiningProviders(ISourceViewer sourceViewer) {
+			return new ICodeMiningProvider[0];
+		}
+	}
+
+	@Test
+	public void testDisabledFeatures() {
+		FullConfiguration full= new FullConfiguration();
+		assertNotNull(full.getReconciler(null));
+		assertNotNull(full.getPresentationReconciler(null));
+
+		LargeFileSourceViewerConfiguration configuration= new LargeFileSourceViewerConfiguration(full);
+		assertNull(configuration.getReconciler(null));
+		assertNull(configuration.getPresentationReconciler(null));
+		assertNull(configuration.getHyperlinkDetectors(null));
+		assertNull(configuration.getCodeMiningProviders(null));
+	}
+
+	@Test
+	public void testDelegation() {
+		FullConfiguration full= new FullConfiguration();
+		LargeFileSourceViewerConfiguration configuration= new LargeFileSourceViewerConfiguration(full);
+		assertSame(full, configuration.getDelegate());
+		assertEquals(7, configuration.getTabWidth(null));
+		assertArrayEquals(full.getConfiguredContentTypes(null), configuration.getConfiguredContentTypes(null));
+		assertEquals(full.getHyperlinkStateMask(null), configuration.getHyperlinkStateMask(null));
+	}
+}
@@ -0,0 +1,222 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.ui.workbench.texteditor.tests;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import org.eclipse.core.runtime.IProgressMonitor;
+
+import org.eclipse.jface.preference.PreferenceStore;
+
+import org.eclipse.jface.text.BadLocationException;
+import org.eclipse.jface.text.Document;
+import org.eclipse.jface.text.IDocument;
+import org.eclipse.jface.text.IRegion;
+import org.eclipse.jface.text.contentassist.ICompletionProposal;
+import org.eclipse.jface.text.reconciler.DirtyRegion;
+import org.eclipse.jface.text.source.Annotation;
+import org.eclipse.jface.text.source.AnnotationModel;
+import org.eclipse.jface.text.source.ISourceViewer;
+
+import org.eclipse.ui.texteditor.spelling.ISpellingProblemCollector;
+import org.eclipse.ui.texteditor.spelling.SpellingAnnotation;
+import org.eclipse.ui.texteditor.spelling.SpellingContext;
+import org.eclipse.ui.texteditor.spelling.SpellingProblem;
+import org.eclipse.ui.texteditor.spelling.SpellingReconcileStrategy;
+import org.eclipse.ui.texteditor.spelling.SpellingService;
+
+/**
+ * Tests the incremental spell checking of the {@link SpellingReconcileStrategy}.
+ */
+public class SpellingReconcileStrategyTest {
+
+	private static final Pattern MISSPELLED= Pattern.compile("teh");
+
+	/**
+	 * Reports each occurrence of "teh" and records the checked text.
+	 */
+	private static class TestSpellingService extends SpellingService {
+
+		final List<String> fChecked= new ArrayList<>();
+
+		TestSpellingService() {
+			super(new PreferenceStore());
+		}
+
+		@Override
+		public void check(IDocument document, IRegion[] regions, SpellingContext context, ISpellingProblemCollector collector, IProgressMonitor monitor) {
+			collector.beginCollecting();
+			try {
+				for (IRegion region : regions) {
+					String text= document.get(region.getOffset(), region.getLength());
+					fChecked.add(text);
+					Matcher matcher= MISSPELLED.matcher(text);
+					while (matcher.find()) {
+						collector.accept(new TestProblem(region.getOffset() + matcher.start(), matcher.end() - matcher.start()));
+					}
+				}
+			} catch (BadLocationException e) {
+				throw new IllegalStateException(e);
+			} finally {
+				collector.endCollecting();
+			}
+		}
+	}
+
+	private static class TestProblem extends SpellingProblem {
+
+		private final int fOffset;
+
+		private final int fLength;
+
+		TestProblem(int offset, int length) {
+			fOffset= offset;
+			fLength= length;
+		}
+
+		@Override
+		public int getOffset() {
+			return fOffset;
+		}
+
+		@Override
+		public int getLength() {
+			return fLength;
+		}
+
+		@Override
+		public String getMessage() {
+			return "misspelled";
+		}
+
+		@Override
+		public ICompletionProposal[] getProposals() {
+			return new ICompletionProposal[0];
+		}
+	}
+
+	private IDocument fDocument;
+
+	private AnnotationModel fModel;
+
+	private TestSpellingService fService;
+
+	private SpellingReconcileStrategy fStrategy;
+
+	@Before
+	public void setUp() {
+		fDocument= new Document("a teh b\nclean line\nteh\nlast line");
+		fModel= new AnnotationModel();
+		fModel.connect(fDocument);
+		ISourceViewer viewer= mock(ISourceViewer.class);
+		when(viewer.getAnnotationModel()).thenReturn(fModel);
+		fService= new TestSpellingService();
+		fStrategy= new SpellingReconcileStrategy(viewer, fService);
+		fStrategy.setDocument(fDocument);
+		fStrategy.initialReconcile();
+	}
+
+	@Test
+	public void testInitialReconcile() {
+		assertEquals(List.of(fDocument.get()), fService.fChecked);
+		assertEquals(List.of(2, 19), getAnnotationOffsets());
+	}
+
+	@Test
+	public void testOnlyChangedLinesAreChecked() throws BadLocationException {
+		Annotation first= getAnnotation(2);
+		Annotation last= getAnnotation(19);
+		fService.fChecked.clear();
+
+		int offset= fDocument.getLineOffset(1);
+		fDocument.replace(offset, 0, "teh ");
+		fStrategy.reconcile(new DirtyRegion(offset, 4, DirtyRegion.INSERT, "teh "), new DirtyRegion(offset, 4, DirtyRegion.INSERT, "teh "));
+
+		// only the changed line is checked, the annotation of the next line moves with the text
+		assertEquals(List.of("teh clean line"), fService.fChecked);
+		assertEquals(List.of(2, 8, 23), getAnnotationOffsets());
+		// the annotations of the unchanged lines are kept
+		assertSame(first, getAnnotation(2));
+		assertSame(last, getAnnotation(23));
+		SpellingProblem moved= ((SpellingAnnotation) last).getSpellingProblem();
+		assertEquals(23, moved.getOffset());
+		assertEquals(3, moved.getLength());
+
+		// the proposals of the shifted problem are computed for its line
+		fService.fChecked.clear();
+		moved.getProposals();
+		assertEquals(List.of("teh"), fService.fChecked);
+
+		// the proposals of a problem which has not moved are the reported ones
+		fService.fChecked.clear();
+		((SpellingAnnotation) first).getSpellingProblem().getProposals();
+		assertEquals(List.of(), fService.fChecked);
+	}
+
+	@Test
+	public void testRemovedProblem() throws BadLocationException {
+		fService.fChecked.clear();
+
+		fDocument.replace(2, 3, "the");
+		fStrategy.reconcile(new DirtyRegion(2, 3, DirtyRegion.INSERT, "the"), new DirtyRegion(2, 3, DirtyRegion.INSERT, "the"));
+
+		assertEquals(List.of("a the b"), fService.fChecked);
+		assertEquals(List.of(19), getAnnotationOffsets());
+	}
+
+	@Test
+	public void testCorrectLinesAreNotCheckedAgain() throws BadLocationException {
+		fService.fChecked.clear();
+
+		int offset= fDocument.getLineOffset(3);
+		fDocument.replace(offset, 0, "x");
+		fStrategy.reconcile(new DirtyRegion(0, fDocument.getLength() - 1, DirtyRegion.INSERT, ""), new DirtyRegion(0, fDocument.getLength() - 1, DirtyRegion.INSERT, ""));
+
+		// "clean line" is known to be correct, "xlast line" is new
+		assertEquals(List.of("a teh b", "teh\nxlast line"), fService.fChecked);
+		assertEquals(List.of(2, 19), getAnnotationOffsets());
+	}
+
+	private Annotation getAnnotation(int offset) {
+		return getAnnotations().stream().filter(a -> fModel.getPosition(a).getOffset() == offset).findFirst().orElseThrow();
+	}
+
+	private List<Annotation> getAnnotations() {
+		List<Annotation> annotations= new ArrayList<>();
+		Iterator<Annotation> iter= fModel.getAnnotationIterator();
+		while (iter.hasNext()) {
+			Annotation annotation= iter.next();
+			if (annotation instanceof SpellingAnnotation) {
+				annotations.add(annotation);
+			}
+		}
+		return annotations;
+	}
+
+	private List<Integer> getAnnotationOffsets() {
+		return getAnnotations().stream().map(a -> Integer.valueOf(fModel.getPosition(a).getOffset())).sorted().toList();
+	}
+}
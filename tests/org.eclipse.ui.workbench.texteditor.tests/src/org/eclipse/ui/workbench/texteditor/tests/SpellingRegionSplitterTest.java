@@ -0,0 +1,114 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.ui.workbench.texteditor.tests;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.List;
+
+import org.junit.Test;
+
+import org.eclipse.jface.text.BadLocationException;
+import org.eclipse.jface.text.Document;
+import org.eclipse.jface.text.IDocument;
+import org.eclipse.jface.text.IRegion;
+import org.eclipse.jface.text.Region;
+
+import org.eclipse.ui.internal.texteditor.spelling.SpellingRegionSplitter;
+
+/**
+ * Tests the splitting of the regions of a parallel spelling check.
+ */
+public class SpellingRegionSplitterTest {
+
+	private static IDocument createDocument(int lineCount) {
+		StringBuilder builder= new StringBuilder();
+		for (int i= 0; i < lineCount; i++) {
+			builder.append("line number ").append(i).append('\n');
+		}
+		return new Document(builder.toString());
+	}
+
+	@Test
+	public void testSmallRegionsAreNotSplit() {
+		IDocument document= createDocument(100);
+		IRegion[] regions= { new Region(0, document.getLength()) };
+		List<IRegion[]> chunks= SpellingRegionSplitter.split(document, regions, 4);
+		assertEquals(1, chunks.size());
+		assertSame(regions, chunks.get(0));
+	}
+
+	@Test
+	public void testNoParallelism() {
+		IDocument document= createDocument(50000);
+		IRegion[] regions= { new Region(0, document.getLength()) };
+		List<IRegion[]> chunks= SpellingRegionSplitter.split(document, regions, 1);
+		assertEquals(1, chunks.size());
+		assertSame(regions, chunks.get(0));
+	}
+
+	@Test
+	public void testSplitAtLineStarts() throws BadLocationException {
+		IDocument document= createDocument(50000);
+		IRegion[] regions= { new Region(0, document.getLength()) };
+		List<IRegion[]> chunks= SpellingRegionSplitter.split(document, regions, 4);
+		assertEquals(4, chunks.size());
+		assertCovers(document, regions, chunks);
+	}
+
+	@Test
+	public void testSplitSeveralRegions() throws BadLocationException {
+		IDocument document= createDocument(50000);
+		int length= document.getLength();
+		IRegion[] regions= { new Region(5, length / 3), new Region(length / 2, 100), new Region(length / 2 + 1000, length / 2 - 1000) };
+		List<IRegion[]> chunks= SpellingRegionSplitter.split(document, regions, 3);
+		assertTrue(chunks.size() > 1);
+		assertTrue(chunks.size() <= 3);
+		assertCovers(document, regions, chunks);
+	}
+
+	/**
+	 * Asserts that the chunks cover the given regions in order, are split at line starts only
+	 * and are long enough.
+	 */
+	private static void assertCovers(IDocument document, IRegion[] regions, List<IRegion[]> chunks) throws BadLocationException {
+		int region= 0;
+		int offset= regions[0].getOffset();
+		for (int i= 0; i < chunks.size(); i++) {
+			int chunkLength= 0;
+			for (IRegion part : chunks.get(i)) {
+				assertEquals(offset, part.getOffset());
+				if (offset != regions[region].getOffset()) {
+					// a region is only split at a line start
+					assertEquals(offset, document.getLineOffset(document.getLineOfOffset(offset)));
+				}
+				offset+= part.getLength();
+				chunkLength+= part.getLength();
+				int end= regions[region].getOffset() + regions[region].getLength();
+				assertTrue(offset <= end);
+				if (offset == end && region + 1 < regions.length) {
+					region++;
+					offset= regions[region].getOffset();
+				}
+			}
+			if (i < chunks.size() - 1) {
+				assertTrue(chunkLength >= SpellingRegionSplitter.MIN_CHUNK_LENGTH);
+			}
+		}
+		assertEquals(regions.length - 1, region);
+		assertEquals(regions[region].getOffset() + regions[region].getLength(), offset);
+	}
+}
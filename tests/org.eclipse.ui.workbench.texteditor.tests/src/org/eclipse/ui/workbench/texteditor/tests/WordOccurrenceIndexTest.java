@@ -0,0 +1,127 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.ui.workbench.texteditor.tests;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.regex.Matcher;
+
+import org.junit.Test;
+
+import org.eclipse.jface.text.BadLocationException;
+import org.eclipse.jface.text.Document;
+import org.eclipse.jface.text.IDocument;
+import org.eclipse.jface.text.IRegion;
+
+import org.eclipse.ui.texteditor.WordOccurrenceIndex;
+
+/**
+ * Tests for the {@link WordOccurrenceIndex}.
+ */
+public class WordOccurrenceIndexTest {
+
+	private static final String[] WORDS= { "the", "dog", "in", "bog", "th", "e", "\n", " ", ".", "\r\n" };
+
+	@Test
+	public void testOccurrences() {
+		IDocument document= new Document("the dog in the bog\nthe_end the");
+		WordOccurrenceIndex index= new WordOccurrenceIndex();
+		index.install(document);
+		assertArrayEquals(new int[] { 0, 11, 27 }, index.getOccurrences("the"));
+		assertArrayEquals(new int[] { 19 }, index.getOccurrences("the_end"));
+		assertArrayEquals(new int[0], index.getOccurrences("cat"));
+	}
+
+	@Test
+	public void testWordAt() {
+		IDocument document= new Document("the dog\n in");
+		WordOccurrenceIndex index= new WordOccurrenceIndex();
+		index.install(document);
+		assertRegion(0, 3, index.getWordAt(0));
+		assertRegion(0, 3, index.getWordAt(2));
+		assertRegion(0, 3, index.getWordAt(3));
+		assertRegion(4, 3, index.getWordAt(5));
+		assertRegion(4, 3, index.getWordAt(7));
+		assertNull(index.getWordAt(8));
+		assertRegion(9, 2, index.getWordAt(11));
+		assertNull(index.getWordAt(12));
+	}
+
+	@Test
+	public void testIncrementalUpdate() throws BadLocationException {
+		IDocument document= new Document("the dog\nthe bog\nin the");
+		WordOccurrenceIndex index= new WordOccurrenceIndex();
+		index.install(document);
+		assertArrayEquals(new int[] { 0, 8, 19 }, index.getOccurrences("the"));
+
+		document.replace(4, 3, "cat the");
+		assertArrayEquals(new int[] { 0, 8, 12, 23 }, index.getOccurrences("the"));
+		assertArrayEquals(new int[0], index.getOccurrences("dog"));
+
+		document.replace(0, 12, "");
+		assertArrayEquals(new int[] { 0, 11 }, index.getOccurrences("the"));
+		assertArrayEquals(new int[] { 4 }, index.getOccurrences("bog"));
+
+		index.uninstall();
+		document.replace(0, 0, "the ");
+		assertArrayEquals(new int[0], index.getOccurrences("the"));
+	}
+
+	@Test
+	public void testRandomEdits() throws BadLocationException {
+		Random random= new Random(4711);
+		IDocument document= new Document(randomText(random, 200));
+		WordOccurrenceIndex index= new WordOccurrenceIndex();
+		index.install(document);
+		for (int i= 0; i < 3000; i++) {
+			int offset= random.nextInt(document.getLength() + 1);
+			int length= random.nextInt(Math.min(10, document.getLength() - offset) + 1);
+			document.replace(offset, length, randomText(random, random.nextInt(4)));
+			if (i % 7 == 0) {
+				for (String word : new String[] { "the", "dog", "th", "e", "bog", "in" }) {
+					assertArrayEquals("after edit " + i, bruteForce(document.get(), word), index.getOccurrences(word));
+				}
+			}
+		}
+	}
+
+	private static String randomText(Random random, int words) {
+		StringBuilder text= new StringBuilder();
+		for (int i= 0; i < words; i++) {
+			text.append(WORDS[random.nextInt(WORDS.length)]);
+		}
+		return text.toString();
+	}
+
+	private static int[] bruteForce(String text, String word) {
+		List<Integer> offsets= new ArrayList<>();
+		Matcher matcher= WordOccurrenceIndex.DEFAULT_WORD_PATTERN.matcher(text);
+		while (matcher.find()) {
+			if (matcher.group().equals(word)) {
+				offsets.add(Integer.valueOf(matcher.start()));
+			}
+		}
+		return offsets.stream().mapToInt(Integer::intValue).toArray();
+	}
+
+	private static void assertRegion(int offset, int length, IRegion region) {
+		assertEquals(offset, region.getOffset());
+		assertEquals(length, region.getLength());
+	}
+}
@@ -41,6 +41,11 @@ import org.eclipse.ui.workbench.texteditor.tests.rulers.RulerTestSuite;
 		ScreenshotTest.class,
 		AbstractTextZoomHandlerTest.class,
 		DocumentLineDifferTest.class,
+		HistogramLineDiffTest.class,
+		LargeFileSourceViewerConfigurationTest.class,
+		SpellingReconcileStrategyTest.class,
+		SpellingRegionSplitterTest.class,
+		WordOccurrenceIndexTest.class,
 		MinimapPageTest.class,
 		MinimapWidgetTest.class,
 		TextEditorPluginTest.class,